@@ -1,6 +1,7 @@
 package br.com.grupo99.executionservice.application.dto;
 
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -35,7 +36,9 @@ public record ExecucaoOSResponseDTO(
 
         @Schema(description = "Data de criação") Instant createdAt,
 
-        @Schema(description = "Data de atualização") Instant updatedAt) {
+        @Schema(description = "Data de atualização") Instant updatedAt,
+
+        @Schema(description = "Versão da execução; muda a cada alteração (base do ETag)") Long version) {
     /**
      * Mapeia um ExecucaoOS de domínio para um DTO de resposta.
      *
@@ -56,6 +59,32 @@ public record ExecucaoOSResponseDTO(
                 execucaoOS.getTarefas().size(),
                 execucaoOS.getPecas().size(),
                 execucaoOS.getCreatedAt(),
-                execucaoOS.getUpdatedAt());
+                execucaoOS.getUpdatedAt(),
+                execucaoOS.getVersion());
+    }
+
+    /**
+     * Mapeia um resumo de ExecucaoOS (contagens já agregadas) para um DTO de
+     * resposta.
+     *
+     * @param resumo resumo da execução
+     * @return DTO de resposta
+     */
+    public static ExecucaoOSResponseDTO fromResumo(ExecucaoOSResumo resumo) {
+        return new ExecucaoOSResponseDTO(
+                resumo.id(),
+                resumo.osId(),
+                resumo.orcamentoId(),
+                resumo.status(),
+                resumo.mecanico(),
+                resumo.dataInicio(),
+                resumo.dataFinalizacao(),
+                resumo.observacoes(),
+                resumo.totalDiagnosticos(),
+                resumo.totalTarefas(),
+                resumo.totalPecas(),
+                resumo.createdAt(),
+                resumo.updatedAt(),
+                resumo.version());
     }
 }
@@ -0,0 +1,28 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * DTO com o resultado de um item da criação de execuções em lote.
+ */
+public record ItemLoteResponseDTO(
+        @Schema(description = "Posição do item na requisição (a partir de 0)") int indice,
+
+        @Schema(description = "ID da Ordem de Serviço informada") UUID osId,
+
+        @Schema(description = "Se a execução foi criada") boolean criado,
+
+        @Schema(description = "Execução criada; nula em caso de falha") ExecucaoOSResponseDTO execucao,
+
+        @Schema(description = "Motivo da falha; nulo quando a execução foi criada") String erro) {
+
+    public static ItemLoteResponseDTO criado(int indice, ExecucaoOSResponseDTO execucao) {
+        return new ItemLoteResponseDTO(indice, execucao.osId(), true, execucao, null);
+    }
+
+    public static ItemLoteResponseDTO falha(int indice, UUID osId, String erro) {
+        return new ItemLoteResponseDTO(indice, osId, false, null, erro);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO para resposta da criação de execuções em lote.
+ */
+public record LoteExecucoesResponseDTO(
+        @Schema(description = "Quantidade de itens recebidos") int total,
+
+        @Schema(description = "Quantidade de execuções criadas") int criadas,
+
+        @Schema(description = "Quantidade de itens recusados") int falhas,
+
+        @Schema(description = "Resultado de cada item, na ordem da requisição") List<ItemLoteResponseDTO> itens) {
+}
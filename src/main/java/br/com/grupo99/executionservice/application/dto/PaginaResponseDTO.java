@@ -0,0 +1,18 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO para resposta paginada por cursor (keyset).
+ *
+ * @param <T> tipo dos itens da página
+ */
+public record PaginaResponseDTO<T>(
+        @Schema(description = "Itens da página") List<T> itens,
+
+        @Schema(description = "Quantidade de itens na página") int tamanho,
+
+        @Schema(description = "Token opaco para buscar a próxima página; nulo quando não há mais itens") String proximoCursor) {
+}
@@ -0,0 +1,35 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import br.com.grupo99.executionservice.domain.model.ConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO para o consumo estimado de uma peça no top de peças.
+ */
+public record PecaConsumidaResponseDTO(
+        @Schema(description = "ID da peça") UUID pecaId,
+
+        @Schema(description = "Consumo estimado (limite superior do real)") BigDecimal estimativa,
+
+        @Schema(description = "Consumo mínimo garantido (limite inferior do real)") BigDecimal minimo,
+
+        @Schema(description = "Se a peça certamente está no top real, apesar da aproximação") boolean garantida) {
+    /**
+     * Mapeia o consumo de domínio para um DTO de resposta.
+     *
+     * @param consumo consumo estimado da peça
+     * @param metrica métrica do ranking
+     * @return DTO de resposta
+     */
+    public static PecaConsumidaResponseDTO fromDomain(ConsumoPeca consumo, MetricaConsumoPeca metrica) {
+        return new PecaConsumidaResponseDTO(
+                consumo.pecaId(),
+                metrica.emUnidades(consumo.estimativa()),
+                metrica.emUnidades(consumo.minimo()),
+                consumo.garantida());
+    }
+}
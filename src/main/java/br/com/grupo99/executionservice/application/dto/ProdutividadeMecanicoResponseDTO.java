@@ -0,0 +1,49 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import br.com.grupo99.executionservice.domain.model.ProdutividadeMecanico;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO para a produtividade de um mecânico no período do relatório.
+ */
+public record ProdutividadeMecanicoResponseDTO(
+        @Schema(description = "Nome do mecânico") String mecanico,
+
+        @Schema(description = "Tarefas concluídas no período") long tarefasConcluidas,
+
+        @Schema(description = "Média de tarefas concluídas por dia do período") double tarefasPorDia,
+
+        @Schema(description = "Tarefas concluídas com tempo estimado e real preenchidos") long tarefasComTempos,
+
+        @Schema(description = "Tempo estimado médio em minutos") Double mediaEstimadoMinutos,
+
+        @Schema(description = "Tempo real médio em minutos") Double mediaRealMinutos,
+
+        @Schema(description = "Desvio padrão do tempo real em minutos") Double desvioPadraoRealMinutos,
+
+        @Schema(description = "Erro médio de estimativa (real - estimado) em minutos") Double erroMedioMinutos,
+
+        @Schema(description = "Desvio padrão do erro de estimativa em minutos") Double desvioPadraoErroMinutos,
+
+        @Schema(description = "Tempo real total sobre o estimado total") Double razaoRealEstimado) {
+    /**
+     * Mapeia a produtividade de domínio para um DTO de resposta.
+     *
+     * @param produtividade produtividade do mecânico no período
+     * @param dias          quantidade de dias do período
+     * @return DTO de resposta
+     */
+    public static ProdutividadeMecanicoResponseDTO fromDomain(ProdutividadeMecanico produtividade, long dias) {
+        return new ProdutividadeMecanicoResponseDTO(
+                produtividade.mecanico(),
+                produtividade.tarefasConcluidas(),
+                (double) produtividade.tarefasConcluidas() / dias,
+                produtividade.tarefasComTempos(),
+                produtividade.mediaEstimado(),
+                produtividade.mediaReal(),
+                produtividade.desvioPadraoReal(),
+                produtividade.erroMedio(),
+                produtividade.desvioPadraoErro(),
+                produtividade.razaoRealEstimado());
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO para o relatório de produtividade dos mecânicos em um período.
+ */
+public record RelatorioMecanicosResponseDTO(
+        @Schema(description = "Primeiro dia do período (inclusive)") LocalDate de,
+
+        @Schema(description = "Último dia do período (inclusive)") LocalDate ate,
+
+        @Schema(description = "Produtividade de cada mecânico com tarefas concluídas no período, por nome") List<ProdutividadeMecanicoResponseDTO> mecanicos) {
+}
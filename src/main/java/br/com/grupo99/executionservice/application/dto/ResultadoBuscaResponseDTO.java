@@ -0,0 +1,43 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import br.com.grupo99.executionservice.domain.model.ResultadoBusca;
+import br.com.grupo99.executionservice.domain.model.TipoResultadoBusca;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO para um resultado da busca textual.
+ */
+public record ResultadoBuscaResponseDTO(
+        @Schema(description = "Origem do resultado: DIAGNOSTICO ou TAREFA") TipoResultadoBusca tipo,
+
+        @Schema(description = "ID do diagnóstico ou da tarefa") UUID id,
+
+        @Schema(description = "ID da execução") UUID execucaoId,
+
+        @Schema(description = "Descrição encontrada") String descricao,
+
+        @Schema(description = "Nome do mecânico") String mecanico,
+
+        @Schema(description = "Data de criação") Instant createdAt,
+
+        @Schema(description = "Relevância para os termos buscados (maior é mais relevante)") float relevancia) {
+    /**
+     * Mapeia o resultado de domínio para um DTO de resposta.
+     *
+     * @param resultado resultado da busca
+     * @return DTO de resposta
+     */
+    public static ResultadoBuscaResponseDTO fromDomain(ResultadoBusca resultado) {
+        return new ResultadoBuscaResponseDTO(
+                resultado.tipo(),
+                resultado.id(),
+                resultado.execucaoId(),
+                resultado.descricao(),
+                resultado.mecanico(),
+                resultado.createdAt(),
+                resultado.relevancia());
+    }
+}
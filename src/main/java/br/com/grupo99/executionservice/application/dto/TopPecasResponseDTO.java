@@ -0,0 +1,39 @@
+package br.com.grupo99.executionservice.application.dto;
+
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.RankingPecas;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO para o top aproximado de peças por consumo nos últimos dias.
+ */
+public record TopPecasResponseDTO(
+        @Schema(description = "Métrica do ranking: QUANTIDADE (unidades) ou VALOR (reais)") MetricaConsumoPeca metrica,
+
+        @Schema(description = "Dias da janela, incluindo hoje (UTC)") int dias,
+
+        @Schema(description = "Consumo total de todas as peças na janela (exato)") BigDecimal total,
+
+        @Schema(description = "Margem de erro: maior diferença entre estimativa e consumo real e maior consumo de uma peça fora da lista; no máximo total / capacidade") BigDecimal erroMaximo,
+
+        @Schema(description = "Peças em ordem decrescente de consumo estimado") List<PecaConsumidaResponseDTO> pecas) {
+    /**
+     * Mapeia o ranking de domínio para um DTO de resposta.
+     *
+     * @param ranking ranking aproximado
+     * @return DTO de resposta
+     */
+    public static TopPecasResponseDTO fromDomain(RankingPecas ranking) {
+        return new TopPecasResponseDTO(
+                ranking.metrica(),
+                ranking.dias(),
+                ranking.metrica().emUnidades(ranking.total()),
+                ranking.metrica().emUnidades(ranking.erroMaximo()),
+                ranking.pecas().stream()
+                        .map(consumo -> PecaConsumidaResponseDTO.fromDomain(consumo, ranking.metrica()))
+                        .toList());
+    }
+}
@@ -3,6 +3,7 @@ package br.com.grupo99.executionservice.application.mapper;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSRequestDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
 import org.springframework.stereotype.Component;
 
 /**
@@ -41,4 +42,18 @@ public class ExecucaoOSMapper {
 
         return ExecucaoOSResponseDTO.fromDomain(domain);
     }
+
+    /**
+     * Converte um resumo de ExecucaoOS para um DTO de resposta.
+     *
+     * @param resumo resumo da execução
+     * @return DTO de resposta
+     */
+    public ExecucaoOSResponseDTO toResponseDTO(ExecucaoOSResumo resumo) {
+        if (resumo == null) {
+            return null;
+        }
+
+        return ExecucaoOSResponseDTO.fromResumo(resumo);
+    }
 }
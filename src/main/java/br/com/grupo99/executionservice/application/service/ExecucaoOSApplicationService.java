@@ -1,16 +1,54 @@
 package br.com.grupo99.executionservice.application.service;
 
+import br.com.grupo99.executionservice.application.dto.DiagnosticoRequestDTO;
+import br.com.grupo99.executionservice.application.dto.DiagnosticoResponseDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSRequestDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ItemLoteResponseDTO;
+import br.com.grupo99.executionservice.application.dto.LoteExecucoesResponseDTO;
+import br.com.grupo99.executionservice.application.dto.PaginaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ProdutividadeMecanicoResponseDTO;
+import br.com.grupo99.executionservice.application.dto.RelatorioMecanicosResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ResultadoBuscaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TopPecasResponseDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaResponseDTO;
 import br.com.grupo99.executionservice.application.mapper.ExecucaoOSMapper;
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.ResultadoBusca;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.domain.model.TransicaoTarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
+import br.com.grupo99.executionservice.domain.repository.BuscaCursor;
+import br.com.grupo99.executionservice.domain.repository.BuscaTextualRepository;
+import br.com.grupo99.executionservice.domain.repository.ConsumoPecasRepository;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSArquivadaRepository;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSCursor;
 import br.com.grupo99.executionservice.domain.repository.ExecucaoOSRepository;
+import br.com.grupo99.executionservice.domain.repository.ProdutividadeMecanicoRepository;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -24,29 +62,146 @@ import java.util.stream.Collectors;
 @Service
 public class ExecucaoOSApplicationService {
 
+    /**
+     * Tamanho de página usado quando o cliente não informa um.
+     */
+    public static final int TAMANHO_PAGINA_PADRAO = 50;
+
+    /**
+     * Limite superior do tamanho de página, para manter cada resposta limitada.
+     */
+    public static final int TAMANHO_PAGINA_MAXIMO = 500;
+
+    /**
+     * Maior quantidade de execuções criadas por requisição em lote.
+     */
+    public static final int TAMANHO_LOTE_MAXIMO = 500;
+
+    /**
+     * Maior quantidade de caracteres dos termos da busca textual.
+     */
+    public static final int TAMANHO_TERMOS_MAXIMO = 200;
+
+    /**
+     * Período do relatório de mecânicos quando o cliente não informa o início.
+     */
+    public static final int DIAS_RELATORIO_PADRAO = 30;
+
+    /**
+     * Maior período do relatório de mecânicos, para manter a consulta limitada.
+     */
+    public static final int DIAS_RELATORIO_MAXIMO = 366;
+
+    /**
+     * Janela do top de peças quando o cliente não a informa.
+     */
+    public static final int DIAS_TOP_PECAS_PADRAO = 7;
+
+    /**
+     * Tamanho do top de peças quando o cliente não o informa.
+     */
+    public static final int LIMITE_TOP_PECAS_PADRAO = 10;
+
     private final ExecucaoOSRepository repository;
     private final ExecucaoOSMapper mapper;
+    private final ProdutividadeMecanicoRepository produtividadeRepository;
+    private final ConsumoPecasRepository consumoPecasRepository;
+    private final BuscaTextualRepository buscaTextualRepository;
+    private final ExecucaoOSArquivadaRepository arquivadaRepository;
 
-    public ExecucaoOSApplicationService(ExecucaoOSRepository repository, ExecucaoOSMapper mapper) {
+    public ExecucaoOSApplicationService(ExecucaoOSRepository repository, ExecucaoOSMapper mapper,
+            ProdutividadeMecanicoRepository produtividadeRepository, ConsumoPecasRepository consumoPecasRepository,
+            BuscaTextualRepository buscaTextualRepository, ExecucaoOSArquivadaRepository arquivadaRepository) {
         this.repository = repository;
         this.mapper = mapper;
+        this.produtividadeRepository = produtividadeRepository;
+        this.consumoPecasRepository = consumoPecasRepository;
+        this.buscaTextualRepository = buscaTextualRepository;
+        this.arquivadaRepository = arquivadaRepository;
     }
 
     /**
      * Cria uma nova execução de OS.
      *
+     * A gravação é o INSERT condicional de
+     * {@link ExecucaoOSRepository#insertIfAbsent(ExecucaoOS)}: a verificação
+     * da OS e a inserção são um único statement, e uma requisição concorrente
+     * para a mesma OS recebe a duplicidade, não um conflito de versão.
+     *
      * @param request DTO de requisição
      * @return DTO de resposta
+     * @throws DuplicateKeyException se a OS já tem execução, ativa ou
+     *                               arquivada
      */
     @Transactional
     public ExecucaoOSResponseDTO criar(ExecucaoOSRequestDTO request) {
         ExecucaoOS execucaoOS = mapper.toDomain(request);
-        ExecucaoOS salvo = repository.save(execucaoOS);
-        return mapper.toResponseDTO(salvo);
+        if (!repository.insertIfAbsent(execucaoOS)) {
+            throw new DuplicateKeyException("Já existe execução para a OS: " + execucaoOS.getOsId());
+        }
+        return mapper.toResponseDTO(execucaoOS);
     }
 
     /**
-     * Busca uma execução por ID.
+     * Cria várias execuções de OS em uma única transação.
+     *
+     * Cada item é validado por {@link ExecucaoOS#criar}; itens inválidos, com
+     * OS repetida no lote ou cuja OS já tem execução são recusados
+     * individualmente, sem impedir os demais. As execuções válidas são
+     * gravadas em um único batch JDBC. Se outra requisição criar execução
+     * para uma das OS entre a verificação e a gravação, o lote inteiro é
+     * desfeito.
+     *
+     * @param requests itens do lote; até {@link #TAMANHO_LOTE_MAXIMO}
+     * @return resultado de cada item, na ordem da requisição
+     * @throws DuplicateKeyException se outra requisição criou execução para
+     *                               uma OS do lote durante a gravação
+     */
+    @Transactional
+    public LoteExecucoesResponseDTO criarEmLote(List<ExecucaoOSRequestDTO> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > TAMANHO_LOTE_MAXIMO) {
+            throw new IllegalArgumentException("Lote deve ter entre 1 e " + TAMANHO_LOTE_MAXIMO + " execuções");
+        }
+        ItemLoteResponseDTO[] itens = new ItemLoteResponseDTO[requests.size()];
+        Map<UUID, Integer> indicePorOs = new HashMap<>();
+        Map<Integer, ExecucaoOS> validas = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ExecucaoOSRequestDTO request = requests.get(i);
+            UUID osId = request == null ? null : request.osId();
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("Item do lote é obrigatório");
+                }
+                ExecucaoOS execucao = mapper.toDomain(request);
+                if (indicePorOs.putIfAbsent(osId, i) != null) {
+                    throw new IllegalArgumentException("OS repetida no lote: " + osId);
+                }
+                validas.put(i, execucao);
+            } catch (IllegalArgumentException e) {
+                itens[i] = ItemLoteResponseDTO.falha(i, osId, e.getMessage());
+            }
+        }
+
+        Set<UUID> existentes = repository.findExistingOsIds(indicePorOs.keySet());
+        List<ExecucaoOS> novas = validas.values().stream()
+                .filter(execucao -> !existentes.contains(execucao.getOsId()))
+                .toList();
+        if (repository.insertNew(novas) != novas.size()) {
+            throw new DuplicateKeyException(
+                    "Outra requisição criou execução para uma OS do lote; nenhuma execução foi criada");
+        }
+
+        validas.forEach((indice, execucao) -> itens[indice] = existentes.contains(execucao.getOsId())
+                ? ItemLoteResponseDTO.falha(indice, execucao.getOsId(),
+                        "Já existe execução para a OS: " + execucao.getOsId())
+                : ItemLoteResponseDTO.criado(indice, mapper.toResponseDTO(execucao)));
+        return new LoteExecucoesResponseDTO(itens.length, novas.size(), itens.length - novas.size(),
+                Arrays.asList(itens));
+    }
+
+    /**
+     * Busca uma execução por ID. Se ela já tiver sido arquivada, é lida do
+     * arquivo.
      *
      * @param id ID da execução
      * @return DTO de resposta
@@ -54,12 +209,13 @@ public class ExecucaoOSApplicationService {
     @Transactional(readOnly = true)
     public ExecucaoOSResponseDTO buscarPorId(UUID id) {
         ExecucaoOS execucaoOS = repository.findById(id)
+                .or(() -> arquivadaRepository.findById(id))
                 .orElseThrow(() -> new IllegalArgumentException("Execução não encontrada: " + id));
         return mapper.toResponseDTO(execucaoOS);
     }
 
     /**
-     * Busca uma execução por ID da OS.
+     * Busca uma execução por ID da OS, no arquivo se já tiver sido arquivada.
      *
      * @param osId ID da OS
      * @return DTO de resposta
@@ -67,20 +223,110 @@ public class ExecucaoOSApplicationService {
     @Transactional(readOnly = true)
     public ExecucaoOSResponseDTO buscarPorOsId(UUID osId) {
         ExecucaoOS execucaoOS = repository.findByOsId(osId)
+                .or(() -> arquivadaRepository.findByOsId(osId))
                 .orElseThrow(() -> new IllegalArgumentException("Execução não encontrada para OS: " + osId));
         return mapper.toResponseDTO(execucaoOS);
     }
 
     /**
-     * Busca todas as execuções.
+     * Lê só a versão atual de uma execução, sem carregar o agregado: basta
+     * para responder a uma requisição condicional cuja representação não
+     * mudou.
      *
-     * @return lista de DTOs de resposta
+     * @param id ID da execução
+     * @return ID e versão; vazio se a execução não existir
      */
     @Transactional(readOnly = true)
-    public List<ExecucaoOSResponseDTO> listarTodas() {
-        return repository.findAll().stream()
+    public Optional<VersaoExecucao> buscarVersao(UUID id) {
+        return repository.findVersionById(id);
+    }
+
+    /**
+     * Lê só ID e versão atual da execução de uma OS, como em
+     * {@link #buscarVersao(UUID)}.
+     *
+     * @param osId ID da OS
+     * @return ID e versão; vazio se a OS não tiver execução
+     */
+    @Transactional(readOnly = true)
+    public Optional<VersaoExecucao> buscarVersaoPorOsId(UUID osId) {
+        return repository.findVersionByOsId(osId);
+    }
+
+    /**
+     * Lista execuções por página, usando cursor opaco sobre (createdAt, id).
+     *
+     * @param cursor  token da página anterior; nulo para a primeira página
+     * @param tamanho tamanho desejado; limitado a {@link #TAMANHO_PAGINA_MAXIMO}
+     * @return página de DTOs de resposta com o cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<ExecucaoOSResponseDTO> listarPagina(String cursor, Integer tamanho) {
+        int limite = tamanho == null ? TAMANHO_PAGINA_PADRAO : tamanho;
+        if (limite < 1 || limite > TAMANHO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "Tamanho de página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO);
+        }
+        ExecucaoOSCursor after = cursor == null || cursor.isBlank() ? null : ExecucaoOSCursor.decode(cursor);
+
+        List<ExecucaoOSResumo> execucoes = repository.findPage(after, limite);
+
+        String proximoCursor = null;
+        if (execucoes.size() == limite) {
+            ExecucaoOSResumo ultima = execucoes.get(execucoes.size() - 1);
+            proximoCursor = new ExecucaoOSCursor(ultima.createdAt(), ultima.id()).encode();
+        }
+        List<ExecucaoOSResponseDTO> itens = execucoes.stream()
                 .map(mapper::toResponseDTO)
                 .collect(Collectors.toList());
+        return new PaginaResponseDTO<>(itens, itens.size(), proximoCursor);
+    }
+
+    /**
+     * Busca textual em diagnósticos e tarefas, por relevância, paginada por
+     * cursor opaco sobre (relevância, id).
+     *
+     * @param termos  termos em texto livre
+     * @param cursor  token da página anterior (mesmos termos); nulo para a
+     *                primeira página
+     * @param tamanho tamanho desejado; limitado a {@link #TAMANHO_PAGINA_MAXIMO}
+     * @return página de resultados com o cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<ResultadoBuscaResponseDTO> buscar(String termos, String cursor, Integer tamanho) {
+        if (termos == null || termos.isBlank() || termos.length() > TAMANHO_TERMOS_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "Termos da busca devem ter entre 1 e " + TAMANHO_TERMOS_MAXIMO + " caracteres");
+        }
+        int limite = tamanho == null ? TAMANHO_PAGINA_PADRAO : tamanho;
+        if (limite < 1 || limite > TAMANHO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "Tamanho de página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO);
+        }
+        BuscaCursor apos = cursor == null || cursor.isBlank() ? null : BuscaCursor.decode(cursor);
+
+        List<ResultadoBusca> resultados = buscaTextualRepository.buscar(termos, apos, limite);
+
+        String proximoCursor = null;
+        if (resultados.size() == limite) {
+            ResultadoBusca ultimo = resultados.get(resultados.size() - 1);
+            proximoCursor = new BuscaCursor(ultimo.relevancia(), ultimo.id()).encode();
+        }
+        List<ResultadoBuscaResponseDTO> itens = resultados.stream()
+                .map(ResultadoBuscaResponseDTO::fromDomain)
+                .collect(Collectors.toList());
+        return new PaginaResponseDTO<>(itens, itens.size(), proximoCursor);
+    }
+
+    /**
+     * Percorre todas as execuções em streaming, entregando cada DTO ao
+     * consumidor à medida que é lido do cursor do banco.
+     *
+     * @param consumer consumidor de cada DTO de resposta
+     */
+    @Transactional(readOnly = true)
+    public void exportarTodas(Consumer<ExecucaoOSResponseDTO> consumer) {
+        repository.streamAll(resumo -> consumer.accept(mapper.toResponseDTO(resumo)));
     }
 
     /**
@@ -91,7 +337,7 @@ public class ExecucaoOSApplicationService {
      */
     @Transactional(readOnly = true)
     public List<ExecucaoOSResponseDTO> buscarPorStatus(StatusExecucao status) {
-        return repository.findByStatus(status).stream()
+        return repository.findResumosByStatus(status).stream()
                 .map(mapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
@@ -104,61 +350,188 @@ public class ExecucaoOSApplicationService {
      */
     @Transactional(readOnly = true)
     public List<ExecucaoOSResponseDTO> buscarPorMecanico(String mecanico) {
-        return repository.findByMecanico(mecanico).stream()
+        return repository.findResumosByMecanico(mecanico).stream()
                 .map(mapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Relatório de produtividade dos mecânicos, lido do rollup diário: o custo
+     * depende só da quantidade de dias e de mecânicos, não da de tarefas.
+     *
+     * @param de  primeiro dia (inclusive); padrão: {@link #DIAS_RELATORIO_PADRAO}
+     *            dias até {@code ate}
+     * @param ate último dia (inclusive); padrão: hoje
+     * @return produtividade de cada mecânico no período
+     */
+    @Transactional(readOnly = true)
+    public RelatorioMecanicosResponseDTO relatorioMecanicos(LocalDate de, LocalDate ate) {
+        LocalDate fim = ate == null ? LocalDate.now() : ate;
+        LocalDate inicio = de == null ? fim.minusDays(DIAS_RELATORIO_PADRAO - 1L) : de;
+        long dias = ChronoUnit.DAYS.between(inicio, fim) + 1;
+        if (dias < 1 || dias > DIAS_RELATORIO_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "Período do relatório deve ter entre 1 e " + DIAS_RELATORIO_MAXIMO + " dias");
+        }
+
+        List<ProdutividadeMecanicoResponseDTO> mecanicos = produtividadeRepository.somarPorMecanico(inicio, fim)
+                .stream()
+                .map(produtividade -> ProdutividadeMecanicoResponseDTO.fromDomain(produtividade, dias))
+                .collect(Collectors.toList());
+        return new RelatorioMecanicosResponseDTO(inicio, fim, mecanicos);
+    }
+
+    /**
+     * Top aproximado de peças por consumo, mantido em memória (não consulta
+     * uso_pecas).
+     *
+     * @param metrica quantidade ou valor; padrão: quantidade
+     * @param dias    janela em dias, incluindo hoje; padrão:
+     *                {@link #DIAS_TOP_PECAS_PADRAO}
+     * @param limite  quantidade de peças; padrão: {@link #LIMITE_TOP_PECAS_PADRAO}
+     * @return peças mais consumidas, com a margem de erro
+     */
+    public TopPecasResponseDTO topPecas(MetricaConsumoPeca metrica, Integer dias, Integer limite) {
+        return TopPecasResponseDTO.fromDomain(consumoPecasRepository.topPecas(
+                metrica == null ? MetricaConsumoPeca.QUANTIDADE : metrica,
+                dias == null ? DIAS_TOP_PECAS_PADRAO : dias,
+                limite == null ? LIMITE_TOP_PECAS_PADRAO : limite));
+    }
+
     /**
      * Inicia uma execução de OS.
      *
-     * @param id ID da execução
+     * Transições de status não carregam o agregado: o repositório aplica um
+     * UPDATE condicional ao status atual e devolve o resumo atualizado. Com
+     * uma versão esperada diferente da atual, nada é alterado e a exceção de
+     * concorrência otimista do repositório é propagada.
+     *
+     * @param id             ID da execução
+     * @param versaoEsperada versão que o cliente viu; nulo para não verificar
      * @return DTO de resposta
      */
     @Transactional
-    public ExecucaoOSResponseDTO iniciar(UUID id) {
-        ExecucaoOS execucaoOS = repository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Execução não encontrada: " + id));
-
-        execucaoOS.iniciar();
-        ExecucaoOS atualizado = repository.save(execucaoOS);
+    public ExecucaoOSResponseDTO iniciar(UUID id, Long versaoEsperada) {
+        ExecucaoOSResumo atualizado = repository.transitionStatus(id, TransicaoStatus.iniciar(), versaoEsperada);
         return mapper.toResponseDTO(atualizado);
     }
 
     /**
      * Finaliza uma execução de OS.
      *
-     * @param id          ID da execução
-     * @param observacoes observações finais
+     * @param id             ID da execução
+     * @param observacoes    observações finais
+     * @param versaoEsperada versão que o cliente viu; nulo para não verificar
      * @return DTO de resposta
      */
     @Transactional
-    public ExecucaoOSResponseDTO finalizar(UUID id, String observacoes) {
-        ExecucaoOS execucaoOS = repository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Execução não encontrada: " + id));
-
-        execucaoOS.finalizar(observacoes);
-        ExecucaoOS atualizado = repository.save(execucaoOS);
+    public ExecucaoOSResponseDTO finalizar(UUID id, String observacoes, Long versaoEsperada) {
+        ExecucaoOSResumo atualizado = repository.transitionStatus(id, TransicaoStatus.finalizar(observacoes),
+                versaoEsperada);
         return mapper.toResponseDTO(atualizado);
     }
 
     /**
      * Cancela uma execução de OS.
      *
-     * @param id     ID da execução
-     * @param motivo motivo do cancelamento
+     * @param id             ID da execução
+     * @param motivo         motivo do cancelamento
+     * @param versaoEsperada versão que o cliente viu; nulo para não verificar
      * @return DTO de resposta
      */
     @Transactional
-    public ExecucaoOSResponseDTO cancelar(UUID id, String motivo) {
-        ExecucaoOS execucaoOS = repository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Execução não encontrada: " + id));
-
-        execucaoOS.cancelar(motivo);
-        ExecucaoOS atualizado = repository.save(execucaoOS);
+    public ExecucaoOSResponseDTO cancelar(UUID id, String motivo, Long versaoEsperada) {
+        ExecucaoOSResumo atualizado = repository.transitionStatus(id, TransicaoStatus.cancelar(motivo),
+                versaoEsperada);
         return mapper.toResponseDTO(atualizado);
     }
 
+    /**
+     * Acrescenta um diagnóstico à execução.
+     *
+     * Como as transições de status, não carrega o agregado: o repositório
+     * grava só a linha nova e incrementa a versão da execução.
+     *
+     * @param id             ID da execução
+     * @param request        DTO do diagnóstico
+     * @param versaoEsperada versão da execução que o cliente viu; nulo para não verificar
+     * @return DTO do diagnóstico criado
+     */
+    @Transactional
+    public DiagnosticoResponseDTO adicionarDiagnostico(UUID id, DiagnosticoRequestDTO request,
+            Long versaoEsperada) {
+        Diagnostico diagnostico = Diagnostico.criar(request.descricao(), request.mecanico(), request.observacoes());
+        repository.addDiagnostico(id, diagnostico, versaoEsperada);
+        return DiagnosticoResponseDTO.fromDomain(diagnostico);
+    }
+
+    /**
+     * Acrescenta uma tarefa à execução, sem carregar o agregado.
+     *
+     * @param id             ID da execução
+     * @param request        DTO da tarefa
+     * @param versaoEsperada versão da execução que o cliente viu; nulo para não verificar
+     * @return DTO da tarefa criada
+     */
+    @Transactional
+    public TarefaResponseDTO adicionarTarefa(UUID id, TarefaRequestDTO request, Long versaoEsperada) {
+        Tarefa tarefa = Tarefa.criar(request.descricao(), request.mecanico(), request.tempoEstimadoMinutos());
+        repository.addTarefa(id, tarefa, versaoEsperada);
+        return TarefaResponseDTO.fromDomain(tarefa);
+    }
+
+    /**
+     * Acrescenta um uso de peça à execução, sem carregar o agregado.
+     *
+     * @param id             ID da execução
+     * @param request        DTO do uso de peça
+     * @param versaoEsperada versão da execução que o cliente viu; nulo para não verificar
+     * @return DTO do uso de peça criado
+     */
+    @Transactional
+    public UsoPecaResponseDTO adicionarUsoPeca(UUID id, UsoPecaRequestDTO request, Long versaoEsperada) {
+        UsoPeca usoPeca = UsoPeca.criar(request.pecaId(), request.descricao(), request.quantidade(),
+                request.valorUnitario());
+        repository.addUsoPeca(id, usoPeca, versaoEsperada);
+        return UsoPecaResponseDTO.fromDomain(usoPeca);
+    }
+
+    /**
+     * Inicia uma tarefa da execução.
+     *
+     * Como as transições da execução, não carrega o agregado: o repositório
+     * aplica um UPDATE condicional ao status atual da tarefa.
+     *
+     * @param id             ID da execução
+     * @param tarefaId       ID da tarefa
+     * @param versaoEsperada versão da execução que o cliente viu; nulo para não verificar
+     * @return DTO da tarefa atualizada
+     */
+    @Transactional
+    public TarefaResponseDTO iniciarTarefa(UUID id, UUID tarefaId, Long versaoEsperada) {
+        Tarefa tarefa = repository.transitionTarefa(id, tarefaId, TransicaoTarefa.iniciar(), versaoEsperada);
+        return TarefaResponseDTO.fromDomain(tarefa);
+    }
+
+    /**
+     * Finaliza uma tarefa da execução, sem carregar o agregado, e soma a
+     * conclusão ao rollup de produtividade na mesma transação.
+     *
+     * @param id               ID da execução
+     * @param tarefaId         ID da tarefa
+     * @param tempoRealMinutos tempo real gasto; opcional
+     * @param versaoEsperada   versão da execução que o cliente viu; nulo para não verificar
+     * @return DTO da tarefa atualizada
+     */
+    @Transactional
+    public TarefaResponseDTO finalizarTarefa(UUID id, UUID tarefaId, Integer tempoRealMinutos,
+            Long versaoEsperada) {
+        Tarefa tarefa = repository.transitionTarefa(id, tarefaId, TransicaoTarefa.finalizar(tempoRealMinutos),
+                versaoEsperada);
+        produtividadeRepository.registrarConclusao(tarefa);
+        return TarefaResponseDTO.fromDomain(tarefa);
+    }
+
     /**
      * Deleta uma execução.
      *
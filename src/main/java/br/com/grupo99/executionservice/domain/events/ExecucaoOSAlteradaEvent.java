@@ -0,0 +1,50 @@
+package br.com.grupo99.executionservice.domain.events;
+
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Evento in-process publicado em cada réplica quando uma execução é gravada
+ * por qualquer réplica (change feed via LISTEN/NOTIFY do PostgreSQL).
+ *
+ * Operações:
+ * - INSERT, UPDATE, DELETE: escrita na execução ou em um de seus filhos;
+ *   a versão é a da execução após a escrita (a atual, se só os filhos
+ *   mudaram)
+ * - RESYNC: a conexão do feed foi restabelecida e notificações podem ter se
+ *   perdido; consumidores devem descartar todo estado derivado
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecucaoOSAlteradaEvent {
+
+    public static final String INSERT = "INSERT";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+    public static final String RESYNC = "RESYNC";
+
+    private String operacao;
+    private UUID execucaoId;
+    private UUID osId;
+    private Long version;
+    private StatusExecucao status;
+
+    public static ExecucaoOSAlteradaEvent resync() {
+        return ExecucaoOSAlteradaEvent.builder().operacao(RESYNC).build();
+    }
+
+    public boolean isResync() {
+        return RESYNC.equals(operacao);
+    }
+
+    public boolean isDelete() {
+        return DELETE.equals(operacao);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Consumo estimado de uma peça em um ranking aproximado.
+ *
+ * O consumo real fica entre {@code estimativa - erro} e {@code estimativa};
+ * {@code garantida} indica que a peça está no top-K real, qualquer que seja
+ * o erro das demais.
+ *
+ * Princípios de Clean Architecture:
+ * - Sem dependências de Spring ou framework de persistência
+ */
+public record ConsumoPeca(UUID pecaId, long estimativa, long erro, boolean garantida) {
+
+    /**
+     * Menor consumo real possível da peça.
+     */
+    public long minimo() {
+        return estimativa - erro;
+    }
+}
@@ -17,7 +17,7 @@ import java.util.UUID;
  * - Lógica de negócio pura e independente
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Diagnostico {
@@ -50,7 +50,7 @@ public class Diagnostico {
             throw new IllegalArgumentException("Mecânico não pode ser vazio");
         }
 
-        this.id = UUID.randomUUID();
+        this.id = Identificadores.novo();
         this.descricao = descricao;
         this.mecanico = mecanico;
         this.dataDiagnostico = Instant.now();
@@ -81,7 +81,7 @@ public class Diagnostico {
         }
 
         return Diagnostico.builder()
-                .id(UUID.randomUUID())
+                .id(Identificadores.novo())
                 .descricao(descricao)
                 .mecanico(mecanico)
                 .dataDiagnostico(Instant.now())
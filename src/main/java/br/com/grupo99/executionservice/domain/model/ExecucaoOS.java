@@ -18,10 +18,10 @@ import java.util.UUID;
  * Princípios de Clean Architecture:
  * - Sem dependências de Spring ou framework de persistência
  * - Lógica de negócio pura e independente
- * - IDs utilizados como UUID para identificação tecnológica
+ * - IDs utilizados como UUID para identificação tecnológica (UUIDv7, ver Identificadores)
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ExecucaoOS {
@@ -72,7 +72,7 @@ public class ExecucaoOS {
         }
 
         return ExecucaoOS.builder()
-                .id(UUID.randomUUID())
+                .id(Identificadores.novo())
                 .osId(osId)
                 .orcamentoId(orcamentoId)
                 .status(StatusExecucao.AGUARDANDO_INICIO)
@@ -88,14 +88,15 @@ public class ExecucaoOS {
     }
 
     /**
-     * Factory method para criar nova execução (sobrecarga para testes - apenas osId
-     * e mecânico).
+     * Factory method para a execução criada a partir de OS_CRIADA, antes da
+     * aprovação do orçamento: o ID do orçamento fica nulo até
+     * ORCAMENTO_APROVADO.
      *
      * @param osId     ID da OS
      * @param mecanico mecânico responsável
-     * @return nova ExecucaoOS
+     * @return nova ExecucaoOS, sem orçamento
      */
-    public static ExecucaoOS criar(UUID osId, String mecanico) {
+    public static ExecucaoOS criarAguardandoOrcamento(UUID osId, String mecanico) {
         if (osId == null) {
             throw new IllegalArgumentException("ID da OS é obrigatório");
         }
@@ -108,9 +109,8 @@ public class ExecucaoOS {
         }
 
         return ExecucaoOS.builder()
-                .id(UUID.randomUUID())
+                .id(Identificadores.novo())
                 .osId(osId)
-                .orcamentoId(UUID.randomUUID())
                 .status(StatusExecucao.AGUARDANDO_INICIO)
                 .mecanico(mecanico)
                 .dataInicio(Instant.now())
@@ -123,6 +123,21 @@ public class ExecucaoOS {
                 .build();
     }
 
+    /**
+     * Factory method para criar nova execução (sobrecarga para testes - apenas osId
+     * e mecânico). O ID do orçamento é aleatório; fora dos testes, use
+     * {@link #criarAguardandoOrcamento(UUID, String)}.
+     *
+     * @param osId     ID da OS
+     * @param mecanico mecânico responsável
+     * @return nova ExecucaoOS
+     */
+    public static ExecucaoOS criar(UUID osId, String mecanico) {
+        ExecucaoOS execucao = criarAguardandoOrcamento(osId, mecanico);
+        execucao.setOrcamentoId(UUID.randomUUID());
+        return execucao;
+    }
+
     /**
      * Inicia a execução.
      *
@@ -0,0 +1,30 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Visão resumida (somente leitura) de uma Execução de OS.
+ *
+ * Contém as colunas do agregado raiz e apenas as contagens de diagnósticos,
+ * tarefas e peças, permitindo listagens sem hidratar as coleções filhas.
+ *
+ * Princípios de Clean Architecture:
+ * - Sem dependências de Spring ou framework de persistência
+ */
+public record ExecucaoOSResumo(
+        UUID id,
+        UUID osId,
+        UUID orcamentoId,
+        StatusExecucao status,
+        String mecanico,
+        Instant dataInicio,
+        Instant dataFinalizacao,
+        String observacoes,
+        Long version,
+        int totalDiagnosticos,
+        int totalTarefas,
+        int totalPecas,
+        Instant createdAt,
+        Instant updatedAt) {
+}
@@ -0,0 +1,19 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Estratégia de geração das chaves primárias do agregado e dos filhos.
+ *
+ * A implementação em uso é definida em {@link Identificadores}.
+ */
+@FunctionalInterface
+public interface GeradorDeIdentificador {
+
+    /**
+     * Gera um novo identificador.
+     *
+     * @return identificador novo e único
+     */
+    UUID gerar();
+}
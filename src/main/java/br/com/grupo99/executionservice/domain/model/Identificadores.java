@@ -0,0 +1,47 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Ponto único de geração das chaves primárias usado pelas factories do
+ * domínio (ExecucaoOS, Tarefa, Diagnostico e UsoPeca).
+ *
+ * O padrão é {@link UuidV7}, ordenado no tempo. A infraestrutura pode trocar
+ * o gerador na inicialização (execution.ids.generator) sem que o domínio
+ * dependa de Spring.
+ */
+public final class Identificadores {
+
+    private static final GeradorDeIdentificador PADRAO = new UuidV7();
+
+    private static volatile GeradorDeIdentificador gerador = PADRAO;
+
+    private Identificadores() {
+    }
+
+    /**
+     * Gera uma nova chave com o gerador configurado.
+     *
+     * @return identificador novo
+     */
+    public static UUID novo() {
+        return gerador.gerar();
+    }
+
+    /**
+     * Substitui o gerador usado pelas factories.
+     *
+     * @param novoGerador gerador a usar
+     */
+    public static void usar(GeradorDeIdentificador novoGerador) {
+        gerador = Objects.requireNonNull(novoGerador, "Gerador de identificador é obrigatório");
+    }
+
+    /**
+     * Volta ao gerador padrão (UUIDv7).
+     */
+    public static void restaurarPadrao() {
+        gerador = PADRAO;
+    }
+}
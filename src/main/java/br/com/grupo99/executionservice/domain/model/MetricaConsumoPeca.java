@@ -0,0 +1,20 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Métrica do ranking de consumo de peças: quantidade de unidades usadas ou
+ * valor total gasto (contabilizado em centavos).
+ */
+public enum MetricaConsumoPeca {
+    QUANTIDADE,
+    VALOR;
+
+    /**
+     * Converte um consumo da métrica para unidades (quantidade) ou reais com
+     * duas casas (valor).
+     */
+    public BigDecimal emUnidades(long consumo) {
+        return this == VALOR ? BigDecimal.valueOf(consumo, 2) : BigDecimal.valueOf(consumo);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.grupo99.executionservice.domain.model;
+
+/**
+ * Produtividade de um mecânico em um período, a partir das somas do rollup
+ * diário de tarefas concluídas.
+ *
+ * As somas de tempos (em minutos) consideram só as tarefas com tempo
+ * estimado e real preenchidos ({@code tarefasComTempos}); médias e desvios
+ * padrão são populacionais e ficam nulos sem nenhuma dessas tarefas.
+ *
+ * Princípios de Clean Architecture:
+ * - Sem dependências de Spring ou framework de persistência
+ */
+public record ProdutividadeMecanico(
+        String mecanico,
+        long tarefasConcluidas,
+        long tarefasComTempos,
+        long somaEstimado,
+        long somaReal,
+        long somaQuadradosEstimado,
+        long somaQuadradosReal,
+        long somaProdutos) {
+
+    public Double mediaEstimado() {
+        return media(somaEstimado);
+    }
+
+    public Double mediaReal() {
+        return media(somaReal);
+    }
+
+    public Double desvioPadraoReal() {
+        return desvioPadrao(somaReal, somaQuadradosReal);
+    }
+
+    /**
+     * Erro médio de estimativa (real - estimado); positivo quando as tarefas
+     * demoram mais que o estimado.
+     */
+    public Double erroMedio() {
+        return media(somaReal - somaEstimado);
+    }
+
+    /**
+     * Desvio padrão do erro de estimativa: Σ(r - e)² = Σr² - 2Σre + Σe².
+     */
+    public Double desvioPadraoErro() {
+        return desvioPadrao(somaReal - somaEstimado,
+                somaQuadradosReal - 2 * somaProdutos + somaQuadradosEstimado);
+    }
+
+    /**
+     * Tempo real total sobre o estimado total; acima de 1 indica subestimativa.
+     */
+    public Double razaoRealEstimado() {
+        return somaEstimado == 0 ? null : (double) somaReal / somaEstimado;
+    }
+
+    private Double media(long soma) {
+        return tarefasComTempos == 0 ? null : (double) soma / tarefasComTempos;
+    }
+
+    private Double desvioPadrao(long soma, long somaQuadrados) {
+        if (tarefasComTempos == 0) {
+            return null;
+        }
+        double media = (double) soma / tarefasComTempos;
+        double variancia = (double) somaQuadrados / tarefasComTempos - media * media;
+        return Math.sqrt(Math.max(variancia, 0));
+    }
+}
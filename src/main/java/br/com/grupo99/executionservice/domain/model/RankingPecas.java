@@ -0,0 +1,21 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.util.List;
+
+/**
+ * Top-K aproximado de peças por consumo nos últimos {@code dias} dias.
+ *
+ * {@code total} é o consumo exato de todas as peças no período;
+ * {@code erroMaximo} limita o erro de qualquer estimativa e é também o maior
+ * consumo possível de uma peça fora da lista.
+ *
+ * Princípios de Clean Architecture:
+ * - Sem dependências de Spring ou framework de persistência
+ */
+public record RankingPecas(
+        MetricaConsumoPeca metrica,
+        int dias,
+        long total,
+        long erroMaximo,
+        List<ConsumoPeca> pecas) {
+}
@@ -0,0 +1,21 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Diagnóstico ou tarefa encontrado pela busca textual, com a relevância
+ * para os termos buscados (maior é mais relevante).
+ *
+ * Princípios de Clean Architecture:
+ * - Sem dependências de Spring ou framework de persistência
+ */
+public record ResultadoBusca(
+        TipoResultadoBusca tipo,
+        UUID id,
+        UUID execucaoId,
+        String descricao,
+        String mecanico,
+        Instant createdAt,
+        float relevancia) {
+}
@@ -3,7 +3,10 @@ package br.com.grupo99.executionservice.domain.model;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Enum representando os possíveis status de uma Execução.
@@ -49,6 +52,19 @@ public enum StatusExecucao {
         };
     }
 
+    /**
+     * Retorna os status a partir dos quais é permitido chegar ao destino,
+     * segundo as mesmas regras de {@link #podeTransicionarPara}.
+     *
+     * @param destino status destino
+     * @return conjunto de status de origem válidos (vazio se nenhum)
+     */
+    public static Set<StatusExecucao> origensPermitidas(StatusExecucao destino) {
+        return Arrays.stream(values())
+                .filter(origem -> origem.podeTransicionarPara(destino))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(StatusExecucao.class)));
+    }
+
     /**
      * Verifica se o status é final.
      *
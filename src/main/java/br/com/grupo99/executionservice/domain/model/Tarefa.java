@@ -17,7 +17,7 @@ import java.util.UUID;
  * - Lógica de negócio pura e independente
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Tarefa {
@@ -57,7 +57,7 @@ public class Tarefa {
             throw new IllegalArgumentException("Tempo estimado deve ser maior que zero");
         }
 
-        this.id = UUID.randomUUID();
+        this.id = Identificadores.novo();
         this.descricao = descricao;
         this.mecanico = mecanico;
         this.tempoEstimadoMinutos = tempoEstimadoMinutos;
@@ -93,7 +93,7 @@ public class Tarefa {
         }
 
         return Tarefa.builder()
-                .id(UUID.randomUUID())
+                .id(Identificadores.novo())
                 .descricao(descricao)
                 .mecanico(mecanico)
                 .tempoEstimadoMinutos(tempoEstimadoMinutos)
@@ -0,0 +1,9 @@
+package br.com.grupo99.executionservice.domain.model;
+
+/**
+ * Origem de um resultado da busca textual.
+ */
+public enum TipoResultadoBusca {
+    DIAGNOSTICO,
+    TAREFA
+}
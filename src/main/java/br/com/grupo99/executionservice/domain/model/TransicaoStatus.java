@@ -0,0 +1,83 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Descreve uma transição de status de uma Execução de OS que pode ser
+ * aplicada diretamente no repositório, sem carregar o agregado.
+ *
+ * Reproduz os efeitos de {@link ExecucaoOS#iniciar()},
+ * {@link ExecucaoOS#finalizar(String)} e {@link ExecucaoOS#cancelar(String)}:
+ * o repositório só aplica a transição se o status atual estiver em
+ * {@link #origens()}.
+ *
+ * @param destino             status de destino
+ * @param momento             instante da transição (vira updatedAt)
+ * @param registraFinalizacao se true, dataFinalizacao recebe {@code momento}
+ * @param alteraObservacoes   se true, observacoes recebe {@code observacoes}
+ * @param observacoes         novas observações (quando alteradas)
+ */
+public record TransicaoStatus(
+        StatusExecucao destino,
+        Instant momento,
+        boolean registraFinalizacao,
+        boolean alteraObservacoes,
+        String observacoes) {
+
+    public TransicaoStatus {
+        Objects.requireNonNull(destino, "Status de destino é obrigatório");
+        Objects.requireNonNull(momento, "Momento da transição é obrigatório");
+    }
+
+    /**
+     * Transição equivalente a {@link ExecucaoOS#iniciar()}.
+     *
+     * @return transição para EM_ANDAMENTO
+     */
+    public static TransicaoStatus iniciar() {
+        return new TransicaoStatus(StatusExecucao.EM_ANDAMENTO, Instant.now(), false, false, null);
+    }
+
+    /**
+     * Transição equivalente a {@link ExecucaoOS#finalizar(String)}.
+     *
+     * @param observacoes observações finais
+     * @return transição para CONCLUIDA
+     */
+    public static TransicaoStatus finalizar(String observacoes) {
+        return new TransicaoStatus(StatusExecucao.CONCLUIDA, Instant.now(), true, true, observacoes);
+    }
+
+    /**
+     * Transição equivalente a {@link ExecucaoOS#cancelar(String)}.
+     *
+     * @param motivo motivo do cancelamento
+     * @return transição para CANCELADA
+     */
+    public static TransicaoStatus cancelar(String motivo) {
+        return new TransicaoStatus(StatusExecucao.CANCELADA, Instant.now(), false, true, motivo);
+    }
+
+    /**
+     * Status de origem a partir dos quais a transição é válida.
+     *
+     * @return conjunto não vazio de status de origem
+     */
+    public Set<StatusExecucao> origens() {
+        return StatusExecucao.origensPermitidas(destino);
+    }
+
+    /**
+     * Exceção lançada quando o status atual não permite a transição, com a
+     * mesma mensagem usada pelo agregado.
+     *
+     * @param atual status atual da execução
+     * @return exceção a ser lançada
+     */
+    public IllegalStateException transicaoInvalida(StatusExecucao atual) {
+        return new IllegalStateException(
+                String.format("Transição inválida de %s para %s", atual, destino));
+    }
+}
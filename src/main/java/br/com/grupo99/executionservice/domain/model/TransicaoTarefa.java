@@ -0,0 +1,84 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Descreve uma transição de status de uma Tarefa que pode ser aplicada
+ * diretamente no repositório, sem carregar o agregado.
+ *
+ * Reproduz as regras de {@link Tarefa#iniciar()} e
+ * {@link Tarefa#finalizar(Integer)}: o repositório só aplica a transição se
+ * o status atual da tarefa estiver em {@link #origens()}.
+ *
+ * @param destino             status de destino
+ * @param momento             instante da transição
+ * @param registraFinalizacao se true, dataFinalizacao recebe {@code momento} e
+ *                            tempoRealMinutos recebe {@code tempoRealMinutos}
+ * @param tempoRealMinutos    tempo real gasto (quando finaliza)
+ */
+public record TransicaoTarefa(
+        StatusTarefa destino,
+        Instant momento,
+        boolean registraFinalizacao,
+        Integer tempoRealMinutos) {
+
+    public TransicaoTarefa {
+        Objects.requireNonNull(destino, "Status de destino é obrigatório");
+        Objects.requireNonNull(momento, "Momento da transição é obrigatório");
+    }
+
+    /**
+     * Transição equivalente a {@link Tarefa#iniciar()}.
+     *
+     * @return transição para EM_ANDAMENTO
+     */
+    public static TransicaoTarefa iniciar() {
+        return new TransicaoTarefa(StatusTarefa.EM_ANDAMENTO, Instant.now(), false, null);
+    }
+
+    /**
+     * Transição equivalente a {@link Tarefa#finalizar(Integer)}.
+     *
+     * @param tempoRealMinutos tempo real gasto; nulo se não informado
+     * @return transição para CONCLUIDA
+     * @throws IllegalArgumentException se o tempo real não for positivo
+     */
+    public static TransicaoTarefa finalizar(Integer tempoRealMinutos) {
+        if (tempoRealMinutos != null && tempoRealMinutos <= 0) {
+            throw new IllegalArgumentException("Tempo real deve ser maior que zero");
+        }
+        return new TransicaoTarefa(StatusTarefa.CONCLUIDA, Instant.now(), true, tempoRealMinutos);
+    }
+
+    /**
+     * Status de origem a partir dos quais a transição é válida.
+     *
+     * @return PENDENTE para iniciar; EM_ANDAMENTO para finalizar
+     */
+    public Set<StatusTarefa> origens() {
+        return destino == StatusTarefa.EM_ANDAMENTO
+                ? Set.of(StatusTarefa.PENDENTE)
+                : Set.of(StatusTarefa.EM_ANDAMENTO);
+    }
+
+    /**
+     * Exceção lançada quando o status atual não permite a transição, com a
+     * mesma mensagem usada por {@link Tarefa}.
+     *
+     * @param atual status atual da tarefa
+     * @return exceção a ser lançada
+     */
+    public IllegalStateException transicaoInvalida(StatusTarefa atual) {
+        if (destino != StatusTarefa.EM_ANDAMENTO) {
+            return new IllegalStateException("Tarefa não está em andamento");
+        }
+        return new IllegalStateException(switch (atual) {
+            case EM_ANDAMENTO -> "Tarefa já está em andamento";
+            case CONCLUIDA -> "Tarefa já foi concluída";
+            case CANCELADA -> "Tarefa foi cancelada";
+            case PENDENTE -> "Transição inválida de PENDENTE para " + destino;
+        });
+    }
+}
@@ -18,7 +18,7 @@ import java.util.UUID;
  * - Lógica de negócio pura e independente
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UsoPeca {
@@ -57,7 +57,7 @@ public class UsoPeca {
             throw new IllegalArgumentException("Valor unitário deve ser maior que zero");
         }
 
-        this.id = UUID.randomUUID();
+        this.id = Identificadores.novo();
         this.pecaId = pecaId;
         this.descricao = "Peça " + pecaId;
         this.quantidade = quantidade;
@@ -103,7 +103,7 @@ public class UsoPeca {
         BigDecimal valorTotal = valorUnitario.multiply(BigDecimal.valueOf(quantidade));
 
         return UsoPeca.builder()
-                .id(UUID.randomUUID())
+                .id(Identificadores.novo())
                 .pecaId(pecaId)
                 .descricao(descricao)
                 .quantidade(quantidade)
@@ -0,0 +1,72 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de UUIDv7 (RFC 9562) monotônico.
+ *
+ * Os 48 bits mais altos são o instante em milissegundos, então chaves
+ * geradas em sequência caem no fim do índice B-tree em vez de espalhadas
+ * por todas as páginas, como acontece com o UUID aleatório (v4).
+ *
+ * Os 12 bits de rand_a são um contador dentro do milissegundo (método 1 da
+ * RFC): instante e contador ficam juntos em um único long, avançado com um
+ * compare-and-set, sem lock. Cada chave é estritamente maior que a anterior
+ * da instância, mesmo com várias threads criando ao mesmo tempo ou com o
+ * relógio voltando. Se o contador estoura dentro do milissegundo, o
+ * instante avança um milissegundo adiante do relógio.
+ *
+ * Os 62 bits de rand_b vêm do ThreadLocalRandom, que não disputa estado
+ * entre threads como o SecureRandom do UUID.randomUUID(). As chaves não são
+ * imprevisíveis e não devem ser usadas como segredo.
+ */
+public final class UuidV7 implements GeradorDeIdentificador {
+
+    private static final int BITS_CONTADOR = 12;
+    private static final long VERSAO = 0x7000L;
+    private static final long VARIANTE = 0x8000000000000000L;
+    private static final long MASCARA_CONTADOR = (1L << BITS_CONTADOR) - 1;
+    private static final long MASCARA_RAND_B = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier relogio;
+    private final AtomicLong ultimo = new AtomicLong();
+
+    public UuidV7() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param relogio fonte do instante em milissegundos desde a época Unix
+     */
+    public UuidV7(LongSupplier relogio) {
+        this.relogio = relogio;
+    }
+
+    @Override
+    public UUID gerar() {
+        long inicioDoMilissegundo = relogio.getAsLong() << BITS_CONTADOR;
+        long estado = ultimo.updateAndGet(anterior -> Math.max(inicioDoMilissegundo, anterior + 1));
+        long instante = estado >>> BITS_CONTADOR;
+        long contador = estado & MASCARA_CONTADOR;
+        long maisSignificativos = (instante << 16) | VERSAO | contador;
+        long menosSignificativos = VARIANTE | (ThreadLocalRandom.current().nextLong() & MASCARA_RAND_B);
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+
+    /**
+     * Instante embutido em um UUIDv7, em milissegundos desde a época Unix.
+     *
+     * @param uuid identificador versão 7
+     * @return instante de geração
+     * @throws IllegalArgumentException se o UUID não for da versão 7
+     */
+    public static long instante(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID não é da versão 7: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
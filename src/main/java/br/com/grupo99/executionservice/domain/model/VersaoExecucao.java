@@ -0,0 +1,15 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Identidade e versão atual de uma execução, sem o restante do agregado.
+ *
+ * A versão muda a cada escrita na execução ou em um de seus filhos; basta
+ * para saber se uma representação já entregue ao cliente continua atual.
+ *
+ * Princípios de Clean Architecture:
+ * - Sem dependências de Spring ou framework de persistência
+ */
+public record VersaoExecucao(UUID id, long version) {
+}
@@ -0,0 +1,55 @@
+package br.com.grupo99.executionservice.domain.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Posição de continuação para paginação por chave (keyset) sobre os
+ * resultados da busca textual, ordenados por {@code (relevancia DESC, id)}.
+ *
+ * Como {@link ExecucaoOSCursor}, é exposto aos clientes como um token opaco
+ * (Base64 URL-safe). Só é válido para os mesmos termos de busca.
+ */
+public record BuscaCursor(float relevancia, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    public BuscaCursor {
+        Objects.requireNonNull(id, "id do cursor é obrigatório");
+    }
+
+    /**
+     * Codifica o cursor em um token opaco.
+     *
+     * @return token Base64 URL-safe
+     */
+    public String encode() {
+        String raw = Float.toString(relevancia) + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token opaco gerado por {@link #encode()}.
+     *
+     * @param token token recebido do cliente
+     * @return cursor correspondente
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static BuscaCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = raw.indexOf(SEPARADOR);
+            return new BuscaCursor(
+                    Float.parseFloat(raw.substring(0, separador)),
+                    UUID.fromString(raw.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+    }
+}
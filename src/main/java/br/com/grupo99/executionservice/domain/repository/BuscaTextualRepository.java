@@ -0,0 +1,22 @@
+package br.com.grupo99.executionservice.domain.repository;
+
+import br.com.grupo99.executionservice.domain.model.ResultadoBusca;
+
+import java.util.List;
+
+/**
+ * Port da busca textual nas descrições de diagnósticos e tarefas.
+ */
+public interface BuscaTextualRepository {
+
+    /**
+     * Busca diagnósticos e tarefas pelos termos, do mais para o menos
+     * relevante.
+     *
+     * @param termos termos em texto livre; aceita "frase exata", OR e -termo
+     * @param apos   posição da página anterior; nulo para a primeira página
+     * @param limite quantidade máxima de resultados
+     * @return resultados da página, em ordem de relevância
+     */
+    List<ResultadoBusca> buscar(String termos, BuscaCursor apos, int limite);
+}
@@ -0,0 +1,26 @@
+package br.com.grupo99.executionservice.domain.repository;
+
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.RankingPecas;
+
+/**
+ * Port do ranking de consumo de peças.
+ *
+ * O ranking é aproximado e mantido em memória a cada uso de peça gravado;
+ * consultá-lo não acessa o banco.
+ */
+public interface ConsumoPecasRepository {
+
+    /**
+     * Peças mais consumidas nos últimos dias, em ordem decrescente de
+     * estimativa.
+     *
+     * @param metrica quantidade ou valor
+     * @param dias    tamanho da janela, incluindo hoje
+     * @param limite  quantidade máxima de peças
+     * @return ranking aproximado, com a margem de erro
+     * @throws IllegalArgumentException se a janela ou o limite excederem o
+     *                                  que é mantido em memória
+     */
+    RankingPecas topPecas(MetricaConsumoPeca metrica, int dias, int limite);
+}
@@ -0,0 +1,32 @@
+package br.com.grupo99.executionservice.domain.repository;
+
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port de leitura das execuções arquivadas.
+ *
+ * O job de arquivamento move para o arquivo os agregados finalizados
+ * antigos; eles deixam de ser alteráveis, mas continuam consultáveis por ID
+ * e por OS.
+ */
+public interface ExecucaoOSArquivadaRepository {
+
+    /**
+     * Busca uma execução arquivada, com os filhos.
+     *
+     * @param id ID da execução
+     * @return execução arquivada; vazio se não estiver no arquivo
+     */
+    Optional<ExecucaoOS> findById(UUID id);
+
+    /**
+     * Busca a execução arquivada de uma OS, com os filhos.
+     *
+     * @param osId ID da OS
+     * @return execução arquivada; vazio se a OS não tiver execução no arquivo
+     */
+    Optional<ExecucaoOS> findByOsId(UUID osId);
+}
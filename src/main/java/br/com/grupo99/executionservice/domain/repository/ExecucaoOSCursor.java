@@ -0,0 +1,58 @@
+package br.com.grupo99.executionservice.domain.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Posição de continuação para paginação por chave (keyset) sobre
+ * execuções de OS, ordenadas por {@code (createdAt, id)}.
+ *
+ * O cursor é exposto aos clientes como um token opaco (Base64 URL-safe),
+ * de modo que o formato interno possa evoluir sem quebrar contratos.
+ */
+public record ExecucaoOSCursor(Instant createdAt, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    public ExecucaoOSCursor {
+        Objects.requireNonNull(createdAt, "createdAt do cursor é obrigatório");
+        Objects.requireNonNull(id, "id do cursor é obrigatório");
+    }
+
+    /**
+     * Codifica o cursor em um token opaco.
+     *
+     * @return token Base64 URL-safe
+     */
+    public String encode() {
+        String raw = createdAt + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token opaco gerado por {@link #encode()}.
+     *
+     * @param token token recebido do cliente
+     * @return cursor correspondente
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static ExecucaoOSCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = raw.indexOf(SEPARADOR);
+            return new ExecucaoOSCursor(
+                    Instant.parse(raw.substring(0, separador)),
+                    UUID.fromString(raw.substring(separador + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+    }
+}
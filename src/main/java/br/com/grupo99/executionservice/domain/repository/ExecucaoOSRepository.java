@@ -1,11 +1,21 @@
 package br.com.grupo99.executionservice.domain.repository;
 
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.domain.model.TransicaoTarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Pure Java interface para persistência do agregado ExecucaoOS.
@@ -24,6 +34,103 @@ public interface ExecucaoOSRepository {
      */
     ExecucaoOS save(ExecucaoOS execucaoOS);
 
+    /**
+     * Insere uma execução recém-criada (somente a raiz, sem filhos) se ainda
+     * não houver execução para a mesma OS, ativa ou arquivada. A verificação
+     * e a escrita são uma única operação atômica: consumidores concorrentes
+     * não geram violação de unicidade.
+     *
+     * @param execucao execução nova
+     * @return true se a execução foi criada; false se a OS já tinha execução
+     */
+    boolean insertIfAbsent(ExecucaoOS execucao);
+
+    /**
+     * Insere em lote execuções recém-criadas (somente a raiz, sem filhos),
+     * sem passar pelo contexto de persistência. Execuções cuja OS já possui
+     * execução são ignoradas, como em {@link #insertIfAbsent(ExecucaoOS)}.
+     *
+     * @param execucoes execuções novas
+     * @return quantidade de execuções efetivamente inseridas
+     */
+    int insertNew(List<ExecucaoOS> execucoes);
+
+    /**
+     * Aplica uma transição de status com uma única escrita condicional
+     * (compare-and-set), sem carregar o agregado.
+     *
+     * Se {@code expectedVersion} for informado e a versão atual for outra, a
+     * implementação lança a exceção de concorrência otimista da infraestrutura.
+     *
+     * @param id              ID da execução
+     * @param transicao       transição desejada
+     * @param expectedVersion versão esperada; nulo para não verificar
+     * @return resumo da execução já com o novo status e a nova versão
+     * @throws IllegalArgumentException se a execução não existir
+     * @throws IllegalStateException    se o status atual não permitir a transição
+     */
+    ExecucaoOSResumo transitionStatus(UUID id, TransicaoStatus transicao, Long expectedVersion);
+
+    /**
+     * Acrescenta um diagnóstico a uma execução existente sem carregar o
+     * agregado: grava somente a linha do diagnóstico e incrementa a versão
+     * da raiz na mesma transação. O custo não depende de quantos filhos a
+     * execução já tem.
+     *
+     * Se {@code expectedVersion} for informado e a versão atual for outra, a
+     * implementação lança a exceção de concorrência otimista da infraestrutura.
+     *
+     * @param id              ID da execução
+     * @param diagnostico     diagnóstico novo
+     * @param expectedVersion versão esperada; nulo para não verificar
+     * @return nova versão da execução
+     * @throws IllegalArgumentException se a execução não existir
+     */
+    long addDiagnostico(UUID id, Diagnostico diagnostico, Long expectedVersion);
+
+    /**
+     * Acrescenta uma tarefa a uma execução existente, como em
+     * {@link #addDiagnostico(UUID, Diagnostico, Long)}.
+     *
+     * @param id              ID da execução
+     * @param tarefa          tarefa nova
+     * @param expectedVersion versão esperada; nulo para não verificar
+     * @return nova versão da execução
+     * @throws IllegalArgumentException se a execução não existir
+     */
+    long addTarefa(UUID id, Tarefa tarefa, Long expectedVersion);
+
+    /**
+     * Acrescenta um uso de peça a uma execução existente, como em
+     * {@link #addDiagnostico(UUID, Diagnostico, Long)}.
+     *
+     * @param id              ID da execução
+     * @param usoPeca         uso de peça novo
+     * @param expectedVersion versão esperada; nulo para não verificar
+     * @return nova versão da execução
+     * @throws IllegalArgumentException se a execução não existir
+     */
+    long addUsoPeca(UUID id, UsoPeca usoPeca, Long expectedVersion);
+
+    /**
+     * Aplica uma transição de status a uma tarefa com uma escrita condicional
+     * sobre a linha da tarefa, sem carregar o agregado, e incrementa a versão
+     * da execução na mesma transação.
+     *
+     * Se {@code expectedVersion} for informado e a versão atual da execução
+     * for outra, a implementação lança a exceção de concorrência otimista da
+     * infraestrutura.
+     *
+     * @param id              ID da execução
+     * @param tarefaId        ID da tarefa
+     * @param transicao       transição desejada
+     * @param expectedVersion versão esperada da execução; nulo para não verificar
+     * @return tarefa já com o novo status
+     * @throws IllegalArgumentException se a execução ou a tarefa não existir
+     * @throws IllegalStateException    se o status atual da tarefa não permitir a transição
+     */
+    Tarefa transitionTarefa(UUID id, UUID tarefaId, TransicaoTarefa transicao, Long expectedVersion);
+
     /**
      * Encontra uma execução por ID.
      *
@@ -40,6 +147,25 @@ public interface ExecucaoOSRepository {
      */
     Optional<ExecucaoOS> findByOsId(UUID osId);
 
+    /**
+     * Lê somente a versão atual de uma execução, sem carregar o agregado nem
+     * consultar os filhos. Serve para validar uma representação já entregue
+     * (requisições condicionais).
+     *
+     * @param id ID da execução
+     * @return Optional contendo ID e versão, se encontrada
+     */
+    Optional<VersaoExecucao> findVersionById(UUID id);
+
+    /**
+     * Lê somente ID e versão atual da execução de uma OS, como em
+     * {@link #findVersionById(UUID)}.
+     *
+     * @param osId ID da ordem de serviço
+     * @return Optional contendo ID e versão, se encontrada
+     */
+    Optional<VersaoExecucao> findVersionByOsId(UUID osId);
+
     /**
      * Busca execuções por status.
      *
@@ -63,6 +189,45 @@ public interface ExecucaoOSRepository {
      */
     List<ExecucaoOS> findAll();
 
+    /**
+     * Busca o resumo (colunas da raiz + contagens dos filhos) das execuções
+     * com o status informado, em uma única consulta.
+     *
+     * @param status status da execução
+     * @return lista de resumos
+     */
+    List<ExecucaoOSResumo> findResumosByStatus(StatusExecucao status);
+
+    /**
+     * Busca o resumo das execuções de um mecânico, em uma única consulta.
+     *
+     * @param mecanico nome do mecânico
+     * @return lista de resumos
+     */
+    List<ExecucaoOSResumo> findResumosByMecanico(String mecanico);
+
+    /**
+     * Busca uma página de resumos ordenados por {@code (createdAt, id)},
+     * iniciando imediatamente após o cursor informado (keyset pagination).
+     *
+     * @param after  posição de continuação; {@code null} para a primeira página
+     * @param limite quantidade máxima de execuções retornadas
+     * @return resumos da página, na ordem do cursor
+     */
+    List<ExecucaoOSResumo> findPage(ExecucaoOSCursor after, int limite);
+
+    /**
+     * Percorre o resumo de todas as execuções ordenadas por
+     * {@code (createdAt, id)}, entregando cada um ao consumidor à medida que é
+     * lido, sem materializar a tabela inteira em memória.
+     *
+     * Deve ser chamado dentro de uma transação para que o driver mantenha
+     * o cursor aberto no servidor.
+     *
+     * @param consumer consumidor de cada resumo lido
+     */
+    void streamAll(Consumer<ExecucaoOSResumo> consumer);
+
     /**
      * Deleta uma execução por ID.
      *
@@ -78,6 +243,15 @@ public interface ExecucaoOSRepository {
      */
     boolean existsByOsId(UUID osId);
 
+    /**
+     * Verifica, em uma única consulta, quais OS já possuem execução, ativa ou
+     * arquivada.
+     *
+     * @param osIds IDs das ordens de serviço
+     * @return subconjunto de {@code osIds} que já possui execução
+     */
+    Set<UUID> findExistingOsIds(Collection<UUID> osIds);
+
     /**
      * Verifica se existe execução com um ID específico.
      *
@@ -0,0 +1,42 @@
+package br.com.grupo99.executionservice.domain.repository;
+
+import br.com.grupo99.executionservice.domain.model.ProdutividadeMecanico;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Port do rollup diário de produtividade por mecânico.
+ *
+ * O rollup é incrementado pelo serviço, na transação que conclui a tarefa,
+ * consultado por período e reconstruído a partir do histórico de tarefas.
+ */
+public interface ProdutividadeMecanicoRepository {
+
+    /**
+     * Soma ao rollup uma tarefa concluída, no dia da sua finalização.
+     *
+     * @param tarefa tarefa concluída
+     */
+    void registrarConclusao(Tarefa tarefa);
+
+    /**
+     * Soma o rollup dos dias do período, por mecânico, ordenado por nome.
+     *
+     * @param de  primeiro dia (inclusive)
+     * @param ate último dia (inclusive)
+     * @return produtividade de cada mecânico com tarefas concluídas no período
+     */
+    List<ProdutividadeMecanico> somarPorMecanico(LocalDate de, LocalDate ate);
+
+    /**
+     * Recalcula o rollup dos dias do período a partir das tarefas concluídas
+     * (tabelas quentes e de arquivo), substituindo o que houver.
+     *
+     * @param de  primeiro dia (inclusive)
+     * @param ate último dia (exclusive)
+     * @return quantidade de linhas (mecânico, dia) gravadas
+     */
+    int reconstruir(LocalDate de, LocalDate ate);
+}
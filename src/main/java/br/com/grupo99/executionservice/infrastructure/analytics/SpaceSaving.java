@@ -0,0 +1,157 @@
+package br.com.grupo99.executionservice.infrastructure.analytics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Resumo Space-Saving ponderado (Metwally, Agrawal e El Abbadi): top-K
+ * aproximado de um fluxo com no máximo {@code capacidade} contadores.
+ *
+ * Um item novo com o resumo cheio assume o contador de menor valor, somando
+ * seu peso a esse valor; o valor herdado vira o erro do item. Para um peso
+ * total N:
+ * - o peso real de um item no resumo fica entre {@code valor - erro} e
+ *   {@code valor};
+ * - nenhum erro passa de N / capacidade, e todo item com peso real maior que
+ *   isso está no resumo.
+ *
+ * Não é thread-safe.
+ */
+public class SpaceSaving<K> {
+
+    private static final Comparator<Contador<?>> POR_VALOR = Comparator
+            .<Contador<?>>comparingLong(contador -> contador.valor)
+            .thenComparingLong(contador -> contador.sequencia);
+
+    private final int capacidade;
+    private final Map<K, Contador<K>> contadores;
+    private final TreeSet<Contador<K>> porValor = new TreeSet<>(POR_VALOR);
+    private long total;
+    private long sequencia;
+
+    public SpaceSaving(int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do resumo deve ser positiva");
+        }
+        this.capacidade = capacidade;
+        this.contadores = HashMap.newHashMap(capacidade);
+    }
+
+    /**
+     * Soma o peso de uma ocorrência do item.
+     *
+     * @param item item observado
+     * @param peso peso da ocorrência; deve ser positivo
+     */
+    public void registrar(K item, long peso) {
+        if (peso <= 0) {
+            throw new IllegalArgumentException("Peso deve ser positivo");
+        }
+        total += peso;
+        Contador<K> contador = contadores.get(item);
+        if (contador != null) {
+            porValor.remove(contador);
+            contador.valor += peso;
+        } else if (contadores.size() < capacidade) {
+            contador = new Contador<>(item, peso, 0, sequencia++);
+            contadores.put(item, contador);
+        } else {
+            Contador<K> minimo = porValor.pollFirst();
+            contadores.remove(minimo.item);
+            contador = new Contador<>(item, minimo.valor + peso, minimo.valor, sequencia++);
+            contadores.put(item, contador);
+        }
+        porValor.add(contador);
+    }
+
+    /**
+     * Peso total registrado (exato).
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Maior erro possível de uma estimativa e maior peso real possível de um
+     * item fora do resumo: o menor valor, com o resumo cheio; zero, enquanto
+     * houver contadores livres (todas as estimativas são exatas).
+     */
+    public long erroMaximo() {
+        return contadores.size() < capacidade ? 0 : porValor.first().valor;
+    }
+
+    /**
+     * Estimativas dos itens no resumo, em ordem decrescente de valor.
+     */
+    public List<Estimativa<K>> estimativas() {
+        List<Estimativa<K>> estimativas = new ArrayList<>(contadores.size());
+        for (Contador<K> contador : porValor.descendingSet()) {
+            estimativas.add(new Estimativa<>(contador.item, contador.valor, contador.erro));
+        }
+        return estimativas;
+    }
+
+    /**
+     * Combina resumos de partes disjuntas do fluxo (ex.: um por dia). Um item
+     * ausente de um resumo recebe, nele, o erro máximo daquele resumo como
+     * valor e como erro; assim os limites continuam válidos para a união, com
+     * erro máximo igual à soma dos erros máximos (até N / capacidade).
+     *
+     * @return todas as estimativas da união, em ordem decrescente de valor
+     */
+    public static <K> Combinacao<K> combinar(Collection<SpaceSaving<K>> resumos) {
+        long total = 0;
+        long erroMaximo = 0;
+        Map<K, long[]> somas = new HashMap<>();
+        for (SpaceSaving<K> resumo : resumos) {
+            total += resumo.total;
+            erroMaximo += resumo.erroMaximo();
+        }
+        long ausenteDeTodos = erroMaximo;
+        for (SpaceSaving<K> resumo : resumos) {
+            long ausente = resumo.erroMaximo();
+            for (Contador<K> contador : resumo.contadores.values()) {
+                long[] soma = somas.computeIfAbsent(contador.item,
+                        item -> new long[] { ausenteDeTodos, ausenteDeTodos });
+                soma[0] += contador.valor - ausente;
+                soma[1] += contador.erro - ausente;
+            }
+        }
+        List<Estimativa<K>> estimativas = new ArrayList<>(somas.size());
+        somas.forEach((item, soma) -> estimativas.add(new Estimativa<>(item, soma[0], soma[1])));
+        estimativas.sort(Comparator.comparingLong(Estimativa<K>::valor).reversed());
+        return new Combinacao<>(total, erroMaximo, estimativas);
+    }
+
+    /**
+     * Peso estimado de um item: o real fica entre {@code valor - erro} e
+     * {@code valor}.
+     */
+    public record Estimativa<K>(K item, long valor, long erro) {
+    }
+
+    /**
+     * Resultado de {@link #combinar(Collection)}.
+     */
+    public record Combinacao<K>(long total, long erroMaximo, List<Estimativa<K>> estimativas) {
+    }
+
+    private static final class Contador<K> {
+        private final K item;
+        private final long erro;
+        private final long sequencia;
+        private long valor;
+
+        private Contador(K item, long valor, long erro, long sequencia) {
+            this.item = item;
+            this.valor = valor;
+            this.erro = erro;
+            this.sequencia = sequencia;
+        }
+    }
+}
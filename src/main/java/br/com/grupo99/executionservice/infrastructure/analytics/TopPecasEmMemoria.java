@@ -0,0 +1,178 @@
+package br.com.grupo99.executionservice.infrastructure.analytics;
+
+import br.com.grupo99.executionservice.domain.model.ConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.RankingPecas;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.repository.ConsumoPecasRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranking de consumo de peças em memória, sem consultas ao banco.
+ *
+ * Mantém, para cada um dos últimos {@code execution.analytics.top-pecas.window-days}
+ * dias (UTC, pela data de uso), dois resumos {@link SpaceSaving} de até
+ * {@code capacity} peças: quantidade e valor total em centavos. A memória
+ * fica limitada a janela × 2 × capacidade contadores, qualquer que seja o
+ * volume de uso_pecas. Uma consulta combina os dias da janela pedida; o erro
+ * de cada estimativa é no máximo o consumo total do período / capacidade.
+ *
+ * Alimentado por cada uso de peça commitado nesta instância e reconstruído a
+ * partir das tabelas pelo {@code TopPecasReconstrucaoJob}, que também
+ * incorpora os usos gravados por outras réplicas. Usos removidos ou
+ * alterados só deixam o ranking na reconstrução seguinte.
+ */
+@Component
+public class TopPecasEmMemoria implements ConsumoPecasRepository {
+
+    private final int capacidade;
+    private final int janelaDias;
+    private Janela atual;
+    private Janela emReconstrucao;
+    private Instant inicioReconstrucao;
+
+    public TopPecasEmMemoria(
+            @Value("${execution.analytics.top-pecas.capacity:200}") int capacidade,
+            @Value("${execution.analytics.top-pecas.window-days:30}") int janelaDias) {
+        if (capacidade <= 0 || janelaDias <= 0) {
+            throw new IllegalArgumentException("Capacidade e janela do top de peças devem ser positivas");
+        }
+        this.capacidade = capacidade;
+        this.janelaDias = janelaDias;
+        this.atual = new Janela();
+    }
+
+    /**
+     * Registra um uso de peça recém-gravado. Durante uma reconstrução, usos
+     * criados a partir do início dela também entram na janela reconstruída,
+     * pois a leitura das tabelas não os inclui.
+     */
+    public synchronized void registrar(UsoPeca uso) {
+        atual.registrar(uso);
+        if (emReconstrucao != null
+                && (uso.getCreatedAt() == null || !uso.getCreatedAt().isBefore(inicioReconstrucao))) {
+            emReconstrucao.registrar(uso);
+        }
+    }
+
+    /**
+     * Inicia a reconstrução: os usos criados antes do instante retornado
+     * devem ser lidos das tabelas e passados a {@link #reconstruir(UsoPeca)}.
+     */
+    public synchronized Instant iniciarReconstrucao() {
+        emReconstrucao = new Janela();
+        inicioReconstrucao = Instant.now();
+        return inicioReconstrucao;
+    }
+
+    public synchronized void reconstruir(UsoPeca uso) {
+        if (emReconstrucao == null) {
+            throw new IllegalStateException("Nenhuma reconstrução do top de peças em andamento");
+        }
+        emReconstrucao.registrar(uso);
+    }
+
+    public synchronized void concluirReconstrucao() {
+        if (emReconstrucao == null) {
+            throw new IllegalStateException("Nenhuma reconstrução do top de peças em andamento");
+        }
+        atual = emReconstrucao;
+        emReconstrucao = null;
+    }
+
+    public synchronized void cancelarReconstrucao() {
+        emReconstrucao = null;
+    }
+
+    /**
+     * Início do primeiro dia da janela mantida (UTC).
+     */
+    public Instant inicioDaJanela() {
+        return hoje().minusDays(janelaDias - 1L).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    @Override
+    public synchronized RankingPecas topPecas(MetricaConsumoPeca metrica, int dias, int limite) {
+        if (dias < 1 || dias > janelaDias) {
+            throw new IllegalArgumentException("Janela deve ter entre 1 e " + janelaDias + " dias");
+        }
+        if (limite < 1 || limite > capacidade) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + capacidade);
+        }
+        long ultimoDia = hoje().toEpochDay();
+        List<SpaceSaving<UUID>> resumos = new ArrayList<>(dias);
+        for (Balde balde : atual.baldes) {
+            if (balde != null && balde.dia > ultimoDia - dias && balde.dia <= ultimoDia) {
+                resumos.add(metrica == MetricaConsumoPeca.VALOR ? balde.valor : balde.quantidade);
+            }
+        }
+
+        SpaceSaving.Combinacao<UUID> combinacao = SpaceSaving.combinar(resumos);
+        List<SpaceSaving.Estimativa<UUID>> estimativas = combinacao.estimativas();
+        // Uma peça está no top-K real se nem a próxima da lista nem uma peça
+        // fora dela podem ter consumido mais do que o mínimo dela
+        long limiar = Math.max(combinacao.erroMaximo(),
+                estimativas.size() > limite ? estimativas.get(limite).valor() : 0);
+        List<ConsumoPeca> pecas = estimativas.stream()
+                .limit(limite)
+                .map(estimativa -> new ConsumoPeca(estimativa.item(), estimativa.valor(), estimativa.erro(),
+                        estimativa.valor() - estimativa.erro() >= limiar))
+                .toList();
+        return new RankingPecas(metrica, dias, combinacao.total(), combinacao.erroMaximo(), pecas);
+    }
+
+    private static LocalDate hoje() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * Resumos dos últimos dias, em um buffer circular indexado pelo dia.
+     */
+    private final class Janela {
+
+        private final Balde[] baldes = new Balde[janelaDias];
+
+        void registrar(UsoPeca uso) {
+            long ultimoDia = hoje().toEpochDay();
+            long dia = Math.min(LocalDate.ofInstant(uso.getDataUso(), ZoneOffset.UTC).toEpochDay(), ultimoDia);
+            if (dia <= ultimoDia - janelaDias) {
+                return;
+            }
+            int posicao = (int) Math.floorMod(dia, (long) janelaDias);
+            Balde balde = baldes[posicao];
+            if (balde == null || balde.dia < dia) {
+                balde = new Balde(dia, capacidade);
+                baldes[posicao] = balde;
+            } else if (balde.dia > dia) {
+                return;
+            }
+            balde.quantidade.registrar(uso.getPecaId(), uso.getQuantidade());
+            long centavos = uso.getValorTotal().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+            if (centavos > 0) {
+                balde.valor.registrar(uso.getPecaId(), centavos);
+            }
+        }
+    }
+
+    private static final class Balde {
+
+        private final long dia;
+        private final SpaceSaving<UUID> quantidade;
+        private final SpaceSaving<UUID> valor;
+
+        Balde(long dia, int capacidade) {
+            this.dia = dia;
+            this.quantidade = new SpaceSaving<>(capacidade);
+            this.valor = new SpaceSaving<>(capacidade);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.grupo99.executionservice.infrastructure.config;
 
+import br.com.grupo99.executionservice.infrastructure.controller.ExecucaoOSController;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
@@ -21,6 +22,7 @@ public class CorsConfig {
                         .allowedOriginPatterns("*")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(ExecucaoOSController.CABECALHO_PROXIMO_CURSOR)
                         .allowCredentials(true);
             }
         };
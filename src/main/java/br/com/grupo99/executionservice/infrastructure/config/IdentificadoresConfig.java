@@ -0,0 +1,34 @@
+package br.com.grupo99.executionservice.infrastructure.config;
+
+import br.com.grupo99.executionservice.domain.model.GeradorDeIdentificador;
+import br.com.grupo99.executionservice.domain.model.Identificadores;
+import br.com.grupo99.executionservice.domain.model.UuidV7;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * Escolhe o gerador de chaves primárias das factories do domínio
+ * (execution.ids.generator):
+ * - uuid-v7 (padrão): ordenado no tempo, insere no fim dos índices;
+ * - random: UUID v4, o comportamento anterior.
+ */
+@Slf4j
+@Configuration
+public class IdentificadoresConfig {
+
+    public IdentificadoresConfig(@Value("${execution.ids.generator:uuid-v7}") String gerador) {
+        Identificadores.usar(gerador(gerador));
+        log.info("Gerador de identificadores: {}", gerador);
+    }
+
+    static GeradorDeIdentificador gerador(String nome) {
+        return switch (nome) {
+            case "uuid-v7" -> new UuidV7();
+            case "random" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException("Gerador de identificadores desconhecido: " + nome);
+        };
+    }
+}
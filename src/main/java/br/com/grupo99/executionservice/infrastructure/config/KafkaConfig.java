@@ -9,6 +9,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
@@ -52,12 +53,21 @@ public class KafkaConfig {
     public static final String DLT_BILLING_EVENTS = "billing-events.DLT";
     public static final String DLT_EXECUTION_EVENTS = "execution-events.DLT";
 
+    // Container factory do modo em lote
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${execution.kafka.os-events.max-poll-records:500}")
+    private int batchMaxPollRecords;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     // ===================== PRODUCER CONFIGURATION =====================
 
     @Bean
@@ -106,6 +116,7 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setConcurrency(3);
+        configurarThreadsDosConsumidores(factory);
 
         // Manual Acknowledgment para garantir processamento
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
@@ -116,6 +127,45 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Factory para listeners em lote: cada invocação recebe um poll inteiro
+     * (até max.poll.records) e confirma o lote de uma vez.
+     *
+     * O mesmo error handler trata {@link org.springframework.kafka.listener.BatchListenerFailedException}:
+     * commita os offsets anteriores ao registro com falha, aplica o backoff
+     * somente a ele e o envia ao DLT ao esgotar as tentativas.
+     */
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        configurarThreadsDosConsumidores(factory);
+
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().getKafkaConsumerProperties()
+                .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchMaxPollRecords));
+
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+
+        return factory;
+    }
+
+    /**
+     * No modo virtual threads cada consumidor do container roda em uma
+     * virtual thread: o poll e o processamento (JDBC, publicação síncrona)
+     * bloqueiam sem ocupar uma thread de plataforma.
+     */
+    private void configurarThreadsDosConsumidores(ConcurrentKafkaListenerContainerFactory<String, Object> factory) {
+        if (!virtualThreads) {
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-consumer-");
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
+
     /**
      * Error Handler com Dead Letter Topic e Exponential Backoff
      */
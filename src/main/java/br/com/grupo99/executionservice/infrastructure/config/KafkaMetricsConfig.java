@@ -16,6 +16,7 @@ import org.springframework.context.annotation.Configuration;
  * - kafka.publisher.events.failed: Total de falhas por tipo de evento
  * - kafka.publisher.latency: Latência de publicação
  * - kafka.circuitbreaker.state: Estado do Circuit Breaker
+ * - kafka.consumer.events.duplicated: Eventos OS_CRIADA de OS que já tinha execução
  */
 @Slf4j
 @Configuration
@@ -152,6 +153,16 @@ public class KafkaMetricsConfig {
                 .register(meterRegistry);
     }
 
+    @Bean
+    public Counter osCriadaDuplicadaCounter() {
+        return Counter.builder("kafka.consumer.events.duplicated")
+                .description("Eventos OS_CRIADA ignorados por já existir execução para a OS")
+                .tag("service", "execution-service")
+                .tag("topic", KafkaConfig.TOPIC_OS_EVENTS)
+                .tag("event_type", "OS_CRIADA")
+                .register(meterRegistry);
+    }
+
     @Bean
     public Timer executionKafkaConsumeLatency() {
         return Timer.builder("kafka.consumer.latency")
@@ -0,0 +1,73 @@
+package br.com.grupo99.executionservice.infrastructure.config;
+
+import br.com.grupo99.executionservice.infrastructure.persistence.routing.ReadReplicaRoutingDataSource;
+import br.com.grupo99.executionservice.infrastructure.persistence.routing.ReadYourWritesTracker;
+import br.com.grupo99.executionservice.infrastructure.persistence.routing.ReplicaLagMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuração da réplica de leitura (habilitada por
+ * execution.datasource.replica.enabled).
+ *
+ * O primário continua configurado por spring.datasource; a réplica por
+ * execution.datasource.replica (propriedades do Hikari). O DataSource
+ * principal da aplicação passa a ser o roteador, que envia as transações
+ * readOnly à réplica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "execution.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("execution.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${execution.datasource.read-your-writes-window:5s}") Duration janela) {
+        return new ReadYourWritesTracker(janela);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primario,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReadYourWritesTracker readYourWritesTracker) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primario, replica, readYourWritesTracker));
+    }
+
+    @Bean
+    public ReplicaLagMetrics replicaLagMetrics(@Qualifier("replicaDataSource") DataSource replica) {
+        return new ReplicaLagMetrics(new JdbcTemplate(replica));
+    }
+}
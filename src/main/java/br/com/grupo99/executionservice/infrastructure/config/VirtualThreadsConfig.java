@@ -0,0 +1,86 @@
+package br.com.grupo99.executionservice.infrastructure.config;
+
+import br.com.grupo99.executionservice.infrastructure.monitoring.VirtualThreadPinningMonitor;
+import br.com.grupo99.executionservice.infrastructure.persistence.datasource.LimitedConcurrencyDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Complementos do modo virtual threads (spring.threads.virtual.enabled).
+ *
+ * O próprio Spring Boot passa o Tomcat e os executores de @Async/@Scheduled
+ * para virtual threads; os containers Kafka são ajustados em KafkaConfig.
+ * Aqui ficam:
+ * - o limitador de conexões concorrentes na frente de cada pool Hikari;
+ * - o monitor de pinning de carrier threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    // maximumPoolSize fica -1 até o Hikari validar a configuração, que então assume 10
+    private static final int TAMANHO_PADRAO_DO_HIKARI = 10;
+
+    @Bean
+    public static BeanPostProcessor limitadorDeConexoesPostProcessor(Environment environment) {
+        int maximoConfigurado = environment.getProperty(
+                "execution.virtual-threads.db.max-concurrent-connections", Integer.class, 0);
+        Duration esperaMaxima = environment.getProperty(
+                "execution.virtual-threads.db.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                // Sem limite explícito, acompanha o tamanho do pool
+                int tamanhoDoPool = pool.getMaximumPoolSize() > 0
+                        ? pool.getMaximumPoolSize()
+                        : TAMANHO_PADRAO_DO_HIKARI;
+                int maximo = maximoConfigurado > 0 ? maximoConfigurado : tamanhoDoPool;
+                return new LimitedConcurrencyDataSource(beanName, pool, maximo, esperaMaxima);
+            }
+        };
+    }
+
+    /**
+     * Conexões em uso e virtual threads aguardando em cada limitador.
+     */
+    @Bean
+    public MeterBinder limitadorDeConexoesMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.stream()
+                .filter(LimitedConcurrencyDataSource.class::isInstance)
+                .map(LimitedConcurrencyDataSource.class::cast)
+                .forEach(limitador -> registrar(registry, limitador));
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${execution.virtual-threads.pinning-threshold:20ms}") Duration limite,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(limite, meterRegistry);
+    }
+
+    private static void registrar(MeterRegistry registry, LimitedConcurrencyDataSource limitador) {
+        Gauge.builder("execution.datasource.limiter.active", limitador, LimitedConcurrencyDataSource::getEmUso)
+                .description("Conexões em uso sob o limitador")
+                .tag("pool", limitador.getNome())
+                .register(registry);
+        Gauge.builder("execution.datasource.limiter.waiting", limitador, LimitedConcurrencyDataSource::getAguardando)
+                .description("Threads aguardando permissão para obter conexão")
+                .tag("pool", limitador.getNome())
+                .register(registry);
+    }
+}
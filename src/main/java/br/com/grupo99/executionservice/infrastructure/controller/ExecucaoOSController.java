@@ -1,17 +1,47 @@
 package br.com.grupo99.executionservice.infrastructure.controller;
 
+import br.com.grupo99.executionservice.application.dto.DiagnosticoRequestDTO;
+import br.com.grupo99.executionservice.application.dto.DiagnosticoResponseDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSRequestDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
+import br.com.grupo99.executionservice.application.dto.LoteExecucoesResponseDTO;
+import br.com.grupo99.executionservice.application.dto.PaginaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.RelatorioMecanicosResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ResultadoBuscaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TopPecasResponseDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaResponseDTO;
 import br.com.grupo99.executionservice.application.service.ExecucaoOSApplicationService;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * REST Controller para gerenciar Execuções de Ordem de Serviço.
@@ -28,10 +58,23 @@ import java.util.UUID;
 @Tag(name = "Execução de OS", description = "Endpoints para gerenciar execução de ordens de serviço")
 public class ExecucaoOSController {
 
+    private static final int NDJSON_SEPARADOR = '\n';
+
+    /**
+     * Cursor da página seguinte na listagem sem paginação explícita; ausente
+     * na última página.
+     */
+    public static final String CABECALHO_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
     private final ExecucaoOSApplicationService applicationService;
+    private final ObjectMapper objectMapper;
+    private final Optional<ExecucaoOSJsonCache> jsonCache;
 
-    public ExecucaoOSController(ExecucaoOSApplicationService applicationService) {
+    public ExecucaoOSController(ExecucaoOSApplicationService applicationService, ObjectMapper objectMapper,
+            Optional<ExecucaoOSJsonCache> jsonCache) {
         this.applicationService = applicationService;
+        this.objectMapper = objectMapper;
+        this.jsonCache = jsonCache;
     }
 
     @PostMapping
@@ -41,27 +84,107 @@ public class ExecucaoOSController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/lote")
+    @Operation(summary = "Criar execuções de OS em lote, com resultado por item")
+    public ResponseEntity<LoteExecucoesResponseDTO> criarEmLote(@RequestBody List<ExecucaoOSRequestDTO> requests) {
+        LoteExecucoesResponseDTO response = applicationService.criarEmLote(requests);
+        HttpStatus status = response.falhas() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Com If-None-Match, a versão atual é lida antes (uma linha, sem filhos):
+     * se o cliente já tem essa versão, a resposta é 304 sem carregar o
+     * agregado nem serializar o corpo. Com o {@link ExecucaoOSJsonCache}
+     * habilitado, a versão é sempre lida antes e, havendo o JSON dessa versão
+     * em cache, os bytes vão direto para a resposta.
+     */
     @GetMapping("/{id}")
     @Operation(summary = "Buscar execução por ID")
-    public ResponseEntity<ExecucaoOSResponseDTO> buscarPorId(@PathVariable UUID id) {
-        ExecucaoOSResponseDTO response = applicationService.buscarPorId(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ExecucaoOSResponseDTO> buscarPorId(@PathVariable UUID id, WebRequest request,
+            HttpServletResponse response) throws IOException {
+        if (jsonCache.isPresent()) {
+            responderViaJsonCache(applicationService.buscarVersao(id), () -> applicationService.buscarPorId(id),
+                    request, response);
+            return null;
+        }
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && naoModificada(applicationService.buscarVersao(id), request)) {
+            return null;
+        }
+        return comETag(applicationService.buscarPorId(id));
     }
 
     @GetMapping("/os/{osId}")
     @Operation(summary = "Buscar execução por ID da OS")
-    public ResponseEntity<ExecucaoOSResponseDTO> buscarPorOsId(@PathVariable UUID osId) {
-        ExecucaoOSResponseDTO response = applicationService.buscarPorOsId(osId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ExecucaoOSResponseDTO> buscarPorOsId(@PathVariable UUID osId, WebRequest request,
+            HttpServletResponse response) throws IOException {
+        if (jsonCache.isPresent()) {
+            responderViaJsonCache(applicationService.buscarVersaoPorOsId(osId),
+                    () -> applicationService.buscarPorOsId(osId), request, response);
+            return null;
+        }
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && naoModificada(applicationService.buscarVersaoPorOsId(osId), request)) {
+            return null;
+        }
+        return comETag(applicationService.buscarPorOsId(osId));
     }
 
+    /**
+     * Devolve só a primeira página da listagem keyset, com o maior tamanho
+     * permitido. As seguintes vêm de /pagina, a partir do cursor em
+     * {@value #CABECALHO_PROXIMO_CURSOR}; a exportação completa é /stream.
+     */
     @GetMapping
-    @Operation(summary = "Listar todas as execuções")
+    @Operation(summary = "Listar a primeira página de execuções",
+            description = "Próximas páginas em /pagina, com o cursor do header X-Proximo-Cursor; "
+                    + "todas as execuções em /stream")
     public ResponseEntity<List<ExecucaoOSResponseDTO>> listarTodas() {
-        List<ExecucaoOSResponseDTO> response = applicationService.listarTodas();
+        PaginaResponseDTO<ExecucaoOSResponseDTO> pagina = applicationService.listarPagina(null,
+                ExecucaoOSApplicationService.TAMANHO_PAGINA_MAXIMO);
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.proximoCursor() != null) {
+            resposta.header(CABECALHO_PROXIMO_CURSOR, pagina.proximoCursor());
+        }
+        return resposta.body(pagina.itens());
+    }
+
+    @GetMapping("/pagina")
+    @Operation(summary = "Listar execuções paginadas por cursor")
+    public ResponseEntity<PaginaResponseDTO<ExecucaoOSResponseDTO>> listarPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        PaginaResponseDTO<ExecucaoOSResponseDTO> response = applicationService.listarPagina(cursor, tamanho);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/busca")
+    @Operation(summary = "Buscar diagnósticos e tarefas por texto, em ordem de relevância")
+    public ResponseEntity<PaginaResponseDTO<ResultadoBuscaResponseDTO>> buscar(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        PaginaResponseDTO<ResultadoBuscaResponseDTO> response = applicationService.buscar(q, cursor, tamanho);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar todas as execuções em NDJSON (streaming)")
+    public ResponseEntity<StreamingResponseBody> exportarTodas() {
+        StreamingResponseBody body = output -> applicationService.exportarTodas(dto -> {
+            try {
+                output.write(objectMapper.writeValueAsBytes(dto));
+                output.write(NDJSON_SEPARADOR);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Buscar execuções por status")
     public ResponseEntity<List<ExecucaoOSResponseDTO>> buscarPorStatus(@PathVariable StatusExecucao status) {
@@ -76,35 +199,185 @@ public class ExecucaoOSController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/relatorios/mecanicos")
+    @Operation(summary = "Relatório de produtividade dos mecânicos por período")
+    public ResponseEntity<RelatorioMecanicosResponseDTO> relatorioMecanicos(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        RelatorioMecanicosResponseDTO response = applicationService.relatorioMecanicos(de, ate);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/relatorios/pecas/top")
+    @Operation(summary = "Top aproximado de peças por quantidade ou valor nos últimos dias")
+    public ResponseEntity<TopPecasResponseDTO> topPecas(
+            @RequestParam(required = false) MetricaConsumoPeca metrica,
+            @RequestParam(required = false) Integer dias,
+            @RequestParam(required = false) Integer limite) {
+        TopPecasResponseDTO response = applicationService.topPecas(metrica, dias, limite);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/iniciar")
     @Operation(summary = "Iniciar execução de OS")
-    public ResponseEntity<ExecucaoOSResponseDTO> iniciar(@PathVariable UUID id) {
-        ExecucaoOSResponseDTO response = applicationService.iniciar(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ExecucaoOSResponseDTO> iniciar(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ExecucaoOSResponseDTO response = applicationService.iniciar(id, ExecucaoOSETags.versaoEsperada(id, ifMatch));
+        return comETag(response);
     }
 
     @PutMapping("/{id}/finalizar")
     @Operation(summary = "Finalizar execução de OS")
     public ResponseEntity<ExecucaoOSResponseDTO> finalizar(
             @PathVariable UUID id,
-            @RequestParam(required = false) String observacoes) {
-        ExecucaoOSResponseDTO response = applicationService.finalizar(id, observacoes);
-        return ResponseEntity.ok(response);
+            @RequestParam(required = false) String observacoes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ExecucaoOSResponseDTO response = applicationService.finalizar(id, observacoes,
+                ExecucaoOSETags.versaoEsperada(id, ifMatch));
+        return comETag(response);
     }
 
     @PutMapping("/{id}/cancelar")
     @Operation(summary = "Cancelar execução de OS")
     public ResponseEntity<ExecucaoOSResponseDTO> cancelar(
             @PathVariable UUID id,
-            @RequestParam(required = false) String motivo) {
-        ExecucaoOSResponseDTO response = applicationService.cancelar(id, motivo);
+            @RequestParam(required = false) String motivo,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ExecucaoOSResponseDTO response = applicationService.cancelar(id, motivo,
+                ExecucaoOSETags.versaoEsperada(id, ifMatch));
+        return comETag(response);
+    }
+
+    @PutMapping("/{id}/tarefas/{tarefaId}/iniciar")
+    @Operation(summary = "Iniciar tarefa da execução")
+    public ResponseEntity<TarefaResponseDTO> iniciarTarefa(
+            @PathVariable UUID id,
+            @PathVariable UUID tarefaId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TarefaResponseDTO response = applicationService.iniciarTarefa(id, tarefaId,
+                ExecucaoOSETags.versaoEsperada(id, ifMatch));
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/{id}/tarefas/{tarefaId}/finalizar")
+    @Operation(summary = "Finalizar tarefa da execução")
+    public ResponseEntity<TarefaResponseDTO> finalizarTarefa(
+            @PathVariable UUID id,
+            @PathVariable UUID tarefaId,
+            @RequestParam(required = false) Integer tempoRealMinutos,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TarefaResponseDTO response = applicationService.finalizarTarefa(id, tarefaId, tempoRealMinutos,
+                ExecucaoOSETags.versaoEsperada(id, ifMatch));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/diagnosticos")
+    @Operation(summary = "Adicionar diagnóstico à execução")
+    public ResponseEntity<DiagnosticoResponseDTO> adicionarDiagnostico(
+            @PathVariable UUID id,
+            @RequestBody DiagnosticoRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        DiagnosticoResponseDTO response = applicationService.adicionarDiagnostico(id, request,
+                ExecucaoOSETags.versaoEsperada(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/{id}/tarefas")
+    @Operation(summary = "Adicionar tarefa à execução")
+    public ResponseEntity<TarefaResponseDTO> adicionarTarefa(
+            @PathVariable UUID id,
+            @RequestBody TarefaRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TarefaResponseDTO response = applicationService.adicionarTarefa(id, request,
+                ExecucaoOSETags.versaoEsperada(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/{id}/pecas")
+    @Operation(summary = "Adicionar uso de peça à execução")
+    public ResponseEntity<UsoPecaResponseDTO> adicionarUsoPeca(
+            @PathVariable UUID id,
+            @RequestBody UsoPecaRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UsoPecaResponseDTO response = applicationService.adicionarUsoPeca(id, request,
+                ExecucaoOSETags.versaoEsperada(id, ifMatch));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Deletar execução de OS")
     public ResponseEntity<Void> deletar(@PathVariable UUID id) {
         applicationService.deletar(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Conflito de versão na escrita: 412 quando o cliente condicionou a
+     * escrita a uma versão (If-Match ou If-Unmodified-Since); 409 quando a
+     * escrita concorrente aconteceu sem pré-condição.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Void> versaoDesatualizada(WebRequest request) {
+        boolean condicional = request.getHeader(HttpHeaders.IF_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_UNMODIFIED_SINCE) != null;
+        return ResponseEntity.status(condicional ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
+    }
+
+    /**
+     * Criação concorrente: outra requisição criou execução para a mesma OS
+     * entre a verificação e a gravação. Repetir a requisição recebe a
+     * recusa por item.
+     */
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<String> criacaoConcorrente(DuplicateKeyException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    /**
+     * Resposta pelo cache de JSON: 304 se o cliente já tem a versão atual;
+     * senão, os bytes em cache dessa versão ou, na falta deles, o DTO
+     * carregado e serializado uma vez (e guardado pela versão que ele
+     * contém).
+     */
+    private void responderViaJsonCache(Optional<VersaoExecucao> versao, Supplier<ExecucaoOSResponseDTO> carregar,
+            WebRequest request, HttpServletResponse response) throws IOException {
+        ExecucaoOSJsonCache cache = jsonCache.orElseThrow();
+        if (versao.isPresent()) {
+            if (naoModificada(versao, request)) {
+                return;
+            }
+            Optional<ByteBuffer> emCache = cache.buscar(versao.get().id(), versao.get().version());
+            if (emCache.isPresent()) {
+                escreverJson(versao.get().id(), versao.get().version(), emCache.get(), response);
+                return;
+            }
+        }
+        ExecucaoOSResponseDTO dto = carregar.get();
+        ByteBuffer json = cache.armazenar(dto.id(), dto.version(), objectMapper.writeValueAsBytes(dto));
+        escreverJson(dto.id(), dto.version(), json, response);
+    }
+
+    private static void escreverJson(UUID id, long versao, ByteBuffer json, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(json.remaining());
+        response.setHeader(HttpHeaders.ETAG, ExecucaoOSETags.de(id, versao));
+        WritableByteChannel saida = Channels.newChannel(response.getOutputStream());
+        while (json.hasRemaining()) {
+            saida.write(json);
+        }
+    }
+
+    private static boolean naoModificada(Optional<VersaoExecucao> versao, WebRequest request) {
+        return versao.isPresent()
+                && request.checkNotModified(ExecucaoOSETags.de(versao.get().id(), versao.get().version()));
+    }
+
+    private static ResponseEntity<ExecucaoOSResponseDTO> comETag(ExecucaoOSResponseDTO response) {
+        return ResponseEntity.ok()
+                .eTag(ExecucaoOSETags.de(response.id(), response.version()))
+                .body(response);
+    }
 }
@@ -0,0 +1,59 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+
+/**
+ * ETags das representações de uma execução, derivados de ID e versão.
+ *
+ * Os ETags são fracos ({@code W/"<id>-<versão>"}): identificam o estado da
+ * execução, não os bytes da resposta. A mesma versão pode ser montada a
+ * partir do agregado ou do resumo, e as duas formas não precisam coincidir
+ * byte a byte.
+ */
+final class ExecucaoOSETags {
+
+    private ExecucaoOSETags() {
+    }
+
+    static String de(UUID id, long versao) {
+        return "W/\"" + id + "-" + versao + "\"";
+    }
+
+    /**
+     * Versão esperada por um cabeçalho If-Match, para a escrita condicional.
+     *
+     * A comparação considera só ID e versão, ignorando o prefixo {@code W/}:
+     * a comparação forte da RFC 9110 nunca casaria com os ETags fracos
+     * emitidos aqui.
+     *
+     * @param id      ID da execução alvo
+     * @param ifMatch valor do cabeçalho; pode ser nulo
+     * @return versão do primeiro ETag da execução; nulo se não houver
+     *         cabeçalho ou se for {@code *}
+     * @throws ResponseStatusException 412 se nenhum ETag for desta execução
+     */
+    static Long versaoEsperada(UUID id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String prefixo = id + "-";
+        for (ETag etag : ETag.parse(ifMatch)) {
+            if (etag.isWildcard()) {
+                return null;
+            }
+            if (etag.tag().startsWith(prefixo)) {
+                try {
+                    return Long.valueOf(etag.tag().substring(prefixo.length()));
+                } catch (NumberFormatException e) {
+                    // ETag de outro formato: não casa
+                }
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                "If-Match não corresponde à execução: " + id);
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import br.com.grupo99.executionservice.domain.events.ExecucaoOSAlteradaEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache do JSON já serializado (UTF-8) das respostas de execução por ID e
+ * por OS, indexado por {@code (id, versão)}.
+ *
+ * Com o cache habilitado, uma leitura repetida custa a consulta da versão
+ * atual e a cópia dos bytes para a resposta, sem carregar o agregado nem
+ * passar pelo Jackson. Só a versão mais recente de cada execução é mantida;
+ * uma entrada de outra versão é tratada como ausente.
+ *
+ * Regras:
+ * - O total de bytes guardados é limitado por
+ *   {@code execution.cache.json.maximum-bytes}; ao passar do limite, as
+ *   entradas menos usadas saem.
+ * - Com {@code execution.cache.json.off-heap}, os bytes ficam em buffers
+ *   diretos, fora do heap (contam para -XX:MaxDirectMemorySize e são
+ *   liberados pelo GC depois que a entrada sai).
+ * - Alterações recebidas pelo change feed ({@link ExecucaoOSAlteradaEvent})
+ *   descartam as entradas até a versão alterada, inclusive ela: alterações
+ *   só nos filhos podem não incrementar a versão da raiz. Um RESYNC esvazia
+ *   o cache.
+ *
+ * Expõe hit, miss e eviction (cache=execucoes_os.json) e o total de bytes
+ * em cache (execucoes_os.json.bytes) no registry do Micrometer.
+ */
+@Component
+@ConditionalOnProperty(name = "execution.cache.json.enabled", havingValue = "true")
+public class ExecucaoOSJsonCache implements MeterBinder {
+
+    static final String CACHE = "execucoes_os.json";
+
+    private final Cache<UUID, Entrada> porId;
+    private final StatsCounter estatisticas = new ConcurrentStatsCounter();
+    private final boolean foraDoHeap;
+
+    public ExecucaoOSJsonCache(
+            @Value("${execution.cache.json.maximum-bytes:64MB}") DataSize tamanhoMaximo,
+            @Value("${execution.cache.json.off-heap:false}") boolean foraDoHeap) {
+        if (tamanhoMaximo.toBytes() <= 0) {
+            throw new IllegalArgumentException("Tamanho máximo do cache de JSON deve ser positivo");
+        }
+        this.porId = Caffeine.newBuilder()
+                .maximumWeight(tamanhoMaximo.toBytes())
+                .weigher((UUID id, Entrada entrada) -> entrada.json().capacity())
+                .recordStats(() -> estatisticas)
+                .build();
+        this.foraDoHeap = foraDoHeap;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porId, CACHE, "service", "execution-service");
+        Gauge.builder(CACHE + ".bytes", porId,
+                        cache -> cache.policy().eviction().orElseThrow().weightedSize().orElse(0))
+                .tag("service", "execution-service")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * JSON da execução na versão informada.
+     *
+     * @param id     ID da execução
+     * @param versao versão atual da execução
+     * @return bytes prontos para a resposta (buffer somente leitura e
+     *         independente a cada chamada); vazio se a versão em cache for
+     *         outra ou não houver entrada
+     */
+    public Optional<ByteBuffer> buscar(UUID id, long versao) {
+        // Leitura pela visão de mapa, que não conta hit/miss: entrada de
+        // outra versão é miss
+        Entrada entrada = porId.asMap().get(id);
+        if (entrada == null || entrada.versao() != versao) {
+            estatisticas.recordMisses(1);
+            return Optional.empty();
+        }
+        estatisticas.recordHits(1);
+        return Optional.of(entrada.json().asReadOnlyBuffer());
+    }
+
+    /**
+     * Guarda o JSON de uma versão da execução. Uma entrada de versão mais
+     * recente já em cache é mantida.
+     *
+     * @param id     ID da execução
+     * @param versao versão serializada
+     * @param json   JSON em UTF-8
+     * @return os mesmos bytes, prontos para a resposta
+     */
+    public ByteBuffer armazenar(UUID id, long versao, byte[] json) {
+        ByteBuffer bytes = foraDoHeap
+                ? ByteBuffer.allocateDirect(json.length).put(json).flip()
+                : ByteBuffer.wrap(json);
+        porId.asMap().merge(id, new Entrada(versao, bytes),
+                (atual, nova) -> atual.versao() > nova.versao() ? atual : nova);
+        return bytes.asReadOnlyBuffer();
+    }
+
+    /**
+     * Aplica uma alteração recebida pelo change feed.
+     *
+     * @param evento alteração commitada no banco
+     */
+    @EventListener
+    public void aoAlterarExecucao(ExecucaoOSAlteradaEvent evento) {
+        if (evento.isResync()) {
+            porId.invalidateAll();
+            return;
+        }
+        long versao = evento.isDelete() ? Long.MAX_VALUE : evento.getVersion();
+        porId.asMap().computeIfPresent(evento.getExecucaoId(),
+                (id, atual) -> atual.versao() > versao ? atual : null);
+    }
+
+    private record Entrada(long versao, ByteBuffer json) {
+    }
+}
@@ -4,17 +4,26 @@ import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
 import br.com.grupo99.executionservice.domain.repository.ExecucaoOSRepository;
 import br.com.grupo99.executionservice.infrastructure.config.KafkaConfig;
+import io.micrometer.core.instrument.Counter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,24 +33,36 @@ import java.util.UUID;
  * - os-events: OS_CRIADA → Cria registro de execução
  * - billing-events: ORCAMENTO_APROVADO → Inicia execução
  * 
+ * O os-events pode ser consumido registro a registro (padrão) ou em lote
+ * ({@code execution.kafka.os-events.batch-enabled=true}); apenas um dos dois
+ * listeners é iniciado.
+ * 
  * Padrão: Saga Coreografada com Manual Acknowledgment
  */
 @Slf4j
 @Service
 public class KafkaExecutionEventListener {
 
+    private static final String MECANICO_A_DEFINIR = "A definir";
+
     private final ExecucaoOSRepository execucaoOSRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter osCriadaDuplicadaCounter;
 
     public KafkaExecutionEventListener(
-            ExecucaoOSRepository execucaoOSRepository) {
+            ExecucaoOSRepository execucaoOSRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("osCriadaDuplicadaCounter") Counter osCriadaDuplicadaCounter) {
         this.execucaoOSRepository = execucaoOSRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.osCriadaDuplicadaCounter = osCriadaDuplicadaCounter;
     }
 
     /**
      * Consome eventos do tópico os-events
      * Saga Step 2.1: OS_CRIADA → Criar registro de execução
      */
-    @KafkaListener(topics = KafkaConfig.TOPIC_OS_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaListenerContainerFactory", concurrency = "3")
+    @KafkaListener(topics = KafkaConfig.TOPIC_OS_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "kafkaListenerContainerFactory", concurrency = "3", autoStartup = "#{!${execution.kafka.os-events.batch-enabled:false}}")
     public void consumeOSEvents(
             ConsumerRecord<String, Object> record,
             Acknowledgment acknowledgment,
@@ -73,6 +94,57 @@ public class KafkaExecutionEventListener {
         }
     }
 
+    /**
+     * Consome o os-events em lote (um poll por partição atribuída).
+     *
+     * Os OS_CRIADA consecutivos são acumulados e gravados de uma vez: uma
+     * consulta IN resolve as OS que já têm execução e as novas entram em um
+     * único INSERT em batch. Antes de qualquer outro tipo de evento os
+     * pendentes são gravados, preservando a ordem por chave. O lote inteiro
+     * roda em uma transação e só é confirmado após o commit.
+     *
+     * Se um registro falhar, o prefixo anterior a ele é regravado em nova
+     * transação e {@link BatchListenerFailedException} indica o registro ao
+     * error handler, que commita os offsets anteriores e leva apenas esse
+     * registro ao retry/DLT. Uma falha no INSERT em batch não diz qual OS a
+     * causou: o lote é então refeito registro a registro, em nova transação,
+     * e a falha (se persistir) é atribuída ao registro que a provocou.
+     */
+    @KafkaListener(topics = KafkaConfig.TOPIC_OS_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY, concurrency = "3", autoStartup = "${execution.kafka.os-events.batch-enabled:false}")
+    public void consumeOSEventsBatch(
+            List<ConsumerRecord<String, Object>> records,
+            Acknowledgment acknowledgment) {
+
+        log.info("📥 Recebido lote de {} eventos do os-service", records.size());
+
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> processarLote(records, true));
+            } catch (FalhaNoLote falha) {
+                if (falha.indice != FalhaNoLote.INDICE_DESCONHECIDO) {
+                    throw falha;
+                }
+                log.warn("⚠️ Falha no INSERT em batch do os-events; refazendo o lote registro a registro. Erro: {}",
+                        falha.getCause().getMessage());
+                transactionTemplate.executeWithoutResult(status -> processarLote(records, false));
+            }
+        } catch (FalhaNoLote falha) {
+            ConsumerRecord<String, Object> record = records.get(falha.indice);
+            log.error("❌ Erro ao processar lote do os-events. Partition: {}, Offset: {}, Key: {}, Erro: {}",
+                    record.partition(), record.offset(), record.key(), falha.getCause().getMessage(),
+                    falha.getCause());
+            if (falha.indice > 0) {
+                transactionTemplate.executeWithoutResult(
+                        status -> processarLote(records.subList(0, falha.indice), true));
+            }
+            throw new BatchListenerFailedException(
+                    "Falha no evento do os-events. Offset: " + record.offset(), falha.getCause(), falha.indice);
+        }
+
+        acknowledgment.acknowledge();
+        log.debug("✅ Lote de {} eventos do os-events commitado", records.size());
+    }
+
     /**
      * Consome eventos do tópico billing-events
      * Saga Step 5: ORCAMENTO_APROVADO → Iniciar execução
@@ -109,6 +181,95 @@ public class KafkaExecutionEventListener {
         }
     }
 
+    // ===================== LOTE =====================
+
+    /**
+     * Processa os registros na transação corrente.
+     *
+     * @param records        registros do lote
+     * @param agruparCriadas acumula os OS_CRIADA consecutivos em um único
+     *                       INSERT em batch; sem agrupamento, cada um é
+     *                       gravado ao ser lido
+     */
+    private void processarLote(List<ConsumerRecord<String, Object>> records, boolean agruparCriadas) {
+        // osId → índice do primeiro OS_CRIADA ainda não gravado
+        Map<UUID, Integer> pendentes = new LinkedHashMap<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, Object> record = records.get(i);
+            String eventType = extractHeader(record, "eventType");
+            try {
+                switch (eventType) {
+                    case "OS_CRIADA" -> {
+                        if (pendentes.putIfAbsent(UUID.fromString(record.key()), i) != null) {
+                            osCriadaDuplicadaCounter.increment();
+                        }
+                        if (!agruparCriadas) {
+                            criarPendentes(pendentes);
+                        }
+                    }
+                    case "STATUS_MUDADO" -> log.debug("Evento STATUS_MUDADO ignorado pelo execution-service");
+                    case "OS_CANCELADA" -> {
+                        criarPendentes(pendentes);
+                        handleOSCancelada(record);
+                    }
+                    default -> log.warn("⚠️ Tipo de evento desconhecido do os-events: {}", eventType);
+                }
+            } catch (FalhaNoLote e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new FalhaNoLote(i, e);
+            }
+        }
+
+        criarPendentes(pendentes);
+    }
+
+    /**
+     * Saga Step 2.1 em lote: uma consulta IN + um INSERT em batch.
+     */
+    private void criarPendentes(Map<UUID, Integer> pendentes) {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        try {
+            Set<UUID> existentes = execucaoOSRepository.findExistingOsIds(List.copyOf(pendentes.keySet()));
+            List<ExecucaoOS> novas = pendentes.keySet().stream()
+                    .filter(osId -> !existentes.contains(osId))
+                    .map(osId -> ExecucaoOS.criarAguardandoOrcamento(osId, MECANICO_A_DEFINIR))
+                    .toList();
+
+            // insertNew também ignora as OS criadas por outro consumidor após a consulta
+            int criadas = execucaoOSRepository.insertNew(novas);
+            int duplicadas = pendentes.size() - criadas;
+            osCriadaDuplicadaCounter.increment(duplicadas);
+            log.info("✅ {} registros de execução criados em lote. {} OS já possuíam execução.",
+                    criadas, duplicadas);
+        } catch (RuntimeException e) {
+            // Com mais de uma OS no batch, não se sabe qual provocou a falha
+            throw new FalhaNoLote(pendentes.size() == 1
+                    ? pendentes.values().iterator().next()
+                    : FalhaNoLote.INDICE_DESCONHECIDO, e);
+        }
+        pendentes.clear();
+    }
+
+    /**
+     * Falha de um registro do lote, identificado pela posição; ou de um
+     * INSERT em batch, sem posição conhecida.
+     */
+    private static class FalhaNoLote extends RuntimeException {
+
+        static final int INDICE_DESCONHECIDO = -1;
+
+        private final int indice;
+
+        FalhaNoLote(int indice, Throwable causa) {
+            super(causa);
+            this.indice = indice;
+        }
+    }
+
     // ===================== HANDLERS =====================
 
     /**
@@ -119,23 +280,15 @@ public class KafkaExecutionEventListener {
             UUID osId = UUID.fromString(record.key());
             log.info("🔧 Processando OS_CRIADA. OS ID: {}", osId);
 
-            // Idempotência: verificar se execução já existe
-            if (execucaoOSRepository.findByOsId(osId).isPresent()) {
+            // Idempotência: INSERT condicional resolvido pela constraint única de os_id
+            ExecucaoOS execucaoOS = ExecucaoOS.criarAguardandoOrcamento(osId, MECANICO_A_DEFINIR);
+
+            if (!execucaoOSRepository.insertIfAbsent(execucaoOS)) {
+                osCriadaDuplicadaCounter.increment();
                 log.warn("⚠️ Execução já existe para OS: {}. Evento duplicado ignorado.", osId);
                 return;
             }
 
-            // Criar registro de execução
-            ExecucaoOS execucaoOS = ExecucaoOS.builder()
-                    .id(UUID.randomUUID())
-                    .osId(osId)
-                    .status(StatusExecucao.AGUARDANDO_INICIO)
-                    .mecanico("A definir")
-                    .dataInicio(Instant.now())
-                    .createdAt(Instant.now())
-                    .build();
-
-            execucaoOSRepository.save(execucaoOS);
             log.info("✅ Registro de execução criado. Execução ID: {}, OS ID: {}",
                     execucaoOS.getId(), osId);
 
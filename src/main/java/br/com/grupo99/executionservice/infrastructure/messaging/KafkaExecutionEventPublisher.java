@@ -10,6 +10,7 @@ import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -17,7 +18,9 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Publicador de eventos Kafka para o Execution Service
@@ -29,6 +32,9 @@ import java.time.LocalDateTime;
  * Resiliência:
  * - Circuit Breaker para proteção contra falhas do broker
  * - Retry com backoff exponencial
+ * - Envio síncrono com espera limitada (execution.kafka.publisher.send-timeout):
+ *   no modo virtual threads a espera só estaciona a virtual thread, e o limite
+ *   impede que milhares delas se acumulem aguardando um broker lento
  */
 @Slf4j
 @Service
@@ -38,9 +44,13 @@ public class KafkaExecutionEventPublisher implements ExecutionEventPublisherPort
     private static final String CIRCUIT_BREAKER_NAME = "kafkaPublisher";
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Duration sendTimeout;
 
-    public KafkaExecutionEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+    public KafkaExecutionEventPublisher(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${execution.kafka.publisher.send-timeout:10s}") Duration sendTimeout) {
         this.kafkaTemplate = kafkaTemplate;
+        this.sendTimeout = sendTimeout;
     }
 
     @Override
@@ -172,11 +182,15 @@ public class KafkaExecutionEventPublisher implements ExecutionEventPublisherPort
     @SuppressWarnings("null")
     private void sendSync(ProducerRecord<String, Object> record, String eventType, String id) {
         try {
-            SendResult<String, Object> result = kafkaTemplate.send(record).get();
+            SendResult<String, Object> result = kafkaTemplate.send(record)
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
             log.info("✅ Evento {} publicado (síncrono). ID: {}, Partition: {}, Offset: {}",
                     eventType, id,
                     result.getRecordMetadata().partition(),
                     result.getRecordMetadata().offset());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido ao publicar evento " + eventType, e);
         } catch (Exception e) {
             log.error("❌ ERRO CRÍTICO ao publicar evento {}: {}", eventType, e.getMessage(), e);
             throw new RuntimeException("Falha ao publicar evento " + eventType, e);
@@ -0,0 +1,87 @@
+package br.com.grupo99.executionservice.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reporta virtual threads que prenderam (pinned) a carrier thread por mais
+ * que o limite configurado, tipicamente um bloqueio dentro de
+ * {@code synchronized} em driver JDBC, Hibernate ou cliente Kafka.
+ *
+ * Usa o evento JFR {@code jdk.VirtualThreadPinned} em streaming no próprio
+ * processo: cada ocorrência vira um WARN com o topo da pilha e incrementa
+ * {@code jvm.threads.virtual.pinned}.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENTO = "jdk.VirtualThreadPinned";
+
+    private static final int FRAMES_NO_LOG = 8;
+
+    private final Duration limite;
+    private final Counter ocorrencias;
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration limite, MeterRegistry meterRegistry) {
+        this.limite = limite;
+        this.ocorrencias = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads que prenderam a carrier thread acima do limite")
+                .tag("service", "execution-service")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream novo = new RecordingStream();
+        novo.enable(EVENTO).withThreshold(limite).withStackTrace();
+        novo.onEvent(EVENTO, this::registrar);
+        novo.startAsync();
+        stream = novo;
+        log.info("📌 Monitor de pinning de virtual threads ativo (limite {})", limite);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void registrar(RecordedEvent evento) {
+        ocorrencias.increment();
+        log.warn("📌 Virtual thread presa à carrier por {} ms em:\n{}",
+                evento.getDuration().toMillis(), pilha(evento));
+    }
+
+    private static String pilha(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return "\t(pilha indisponível)";
+        }
+        List<RecordedFrame> frames = evento.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(FRAMES_NO_LOG)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "."
+                        + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -1,17 +1,43 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.adapter;
 
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.domain.model.TransicaoTarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSCursor;
 import br.com.grupo99.executionservice.domain.repository.ExecucaoOSRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.ExecucaoOSNearCache;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
 import br.com.grupo99.executionservice.infrastructure.persistence.mapper.ExecucaoOSEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcReadRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcReadRepository.Consulta;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcRepository;
 import br.com.grupo99.executionservice.infrastructure.persistence.repository.PostgresExecucaoOSRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter Repository que implementa a interface de domínio
@@ -24,51 +50,241 @@ import java.util.stream.Collectors;
  * - Converter ExecucaoOS (domínio) ↔ ExecucaoOSEntity (persistência)
  * - Delegar operações SQL para PostgresExecucaoOSRepository
  * - Manter o domínio independente de tecnologia de persistência
+ *
+ * O save funciona como unit of work: reaproveita a entidade já gerenciada
+ * na transação corrente (carregada por findById/findByOsId) e aplica sobre
+ * ela apenas as diferenças do domínio, em vez de fazer merge de uma entidade
+ * destacada reconstruída do zero.
+ *
+ * As leituras por ID e por OS passam pelo {@link ExecucaoOSNearCache}; toda
+ * escrita (save, transição, remoção) registra a nova versão no cache após o
+ * commit.
+ *
+ * findById, findByOsId e existsByOsId podem ser servidas, cada uma, pelo
+ * {@link ExecucaoOSJdbcReadRepository} (execution.persistence.jdbc-reads).
+ * Dentro de uma transação de escrita seguem sempre pelo JPA: o save depende
+ * da entidade gerenciada carregada na leitura e as consultas JPA enxergam o
+ * que ainda não foi descarregado no banco.
+ *
+ * O mecânico é gravado como chave do {@link MecanicoDicionario}, resolvida
+ * pelos mappers antes do flush; as buscas por mecânico resolvem o nome antes
+ * e, se ele nunca foi gravado, devolvem vazio sem consultar (e sem inserir o
+ * nome no dicionário).
  */
 @Repository
 public class ExecucaoOSRepositoryAdapter implements ExecucaoOSRepository {
 
     private final PostgresExecucaoOSRepository postgresRepository;
     private final ExecucaoOSEntityMapper mapper;
+    private final EntityManager entityManager;
+    private final ExecucaoOSJdbcRepository jdbcRepository;
+    private final ExecucaoOSJdbcReadRepository leituraJdbc;
+    private final ExecucaoOSNearCache cache;
+    private final MecanicoDicionario mecanicos;
 
     public ExecucaoOSRepositoryAdapter(
             PostgresExecucaoOSRepository postgresRepository,
-            ExecucaoOSEntityMapper mapper) {
+            ExecucaoOSEntityMapper mapper,
+            EntityManager entityManager,
+            ExecucaoOSJdbcRepository jdbcRepository,
+            ExecucaoOSJdbcReadRepository leituraJdbc,
+            ExecucaoOSNearCache cache,
+            MecanicoDicionario mecanicos) {
         this.postgresRepository = postgresRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jdbcRepository = jdbcRepository;
+        this.leituraJdbc = leituraJdbc;
+        this.cache = cache;
+        this.mecanicos = mecanicos;
     }
 
+    /**
+     * Persiste o agregado aplicando somente o que mudou.
+     *
+     * - Agregado novo: persist (INSERT da raiz e dos filhos, sem SELECT prévio
+     *   por filho como faria o merge)
+     * - Agregado existente: reaproveita a entidade gerenciada (ou a carrega com
+     *   o entity graph do agregado) e aplica o diff; no flush só as linhas
+     *   alteradas são escritas
+     *
+     * O flush é feito aqui para que a versão e as datas devolvidas já sejam as
+     * persistidas.
+     *
+     * @throws ObjectOptimisticLockingFailureException se a versão do domínio
+     *                                                 não for a atual
+     */
     @Override
-    @SuppressWarnings("null")
+    @Transactional
     public ExecucaoOS save(ExecucaoOS execucaoOS) {
-        ExecucaoOSEntity entity = mapper.toEntity(execucaoOS);
-        ExecucaoOSEntity saved = postgresRepository.save(entity);
-        return mapper.toDomain(saved);
+        ExecucaoOSEntity managed = entityManager.find(ExecucaoOSEntity.class, execucaoOS.getId(),
+                Map.of("jakarta.persistence.fetchgraph",
+                        entityManager.getEntityGraph(ExecucaoOSEntity.GRAFO_AGREGADO)));
+
+        if (managed == null) {
+            managed = mapper.toEntity(execucaoOS);
+            entityManager.persist(managed);
+        } else {
+            if (!Objects.equals(execucaoOS.getVersion(), managed.getVersion())) {
+                cache.invalidar(execucaoOS.getId());
+                throw new ObjectOptimisticLockingFailureException(ExecucaoOSEntity.class, execucaoOS.getId());
+            }
+            mapper.atualizarEntity(execucaoOS, managed);
+        }
+
+        entityManager.flush();
+        ExecucaoOS salva = mapper.toDomain(managed);
+        cache.registrarEscrita(salva.getId(), salva.getVersion());
+        return salva;
+    }
+
+    /**
+     * INSERT condicional em um único statement, sem hidratar entidades.
+     */
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(ExecucaoOS execucao) {
+        return jdbcRepository.inserirSeAusente(execucao);
+    }
+
+    /**
+     * INSERT condicional em batch JDBC das raízes, sem hidratar entidades.
+     */
+    @Override
+    @Transactional
+    public int insertNew(List<ExecucaoOS> execucoes) {
+        return jdbcRepository.inserirNovas(execucoes);
+    }
+
+    /**
+     * Transição de status em um único statement. Só quando nenhuma linha é
+     * afetada o estado atual é lido, para devolver o erro adequado.
+     */
+    @Override
+    @Transactional
+    public ExecucaoOSResumo transitionStatus(UUID id, TransicaoStatus transicao, Long expectedVersion) {
+        ExecucaoOSResumo resumo = jdbcRepository.transicionarStatus(id, transicao, expectedVersion)
+                .orElseThrow(() -> falhaDeTransicao(id, transicao, expectedVersion));
+        cache.registrarEscrita(id, resumo.version());
+        return resumo;
+    }
+
+    private RuntimeException falhaDeTransicao(UUID id, TransicaoStatus transicao, Long expectedVersion) {
+        ExecucaoOSJdbcRepository.EstadoAtual atual = jdbcRepository.findEstadoAtual(id).orElse(null);
+        if (atual == null) {
+            return new IllegalArgumentException("Execução não encontrada: " + id);
+        }
+        if (!transicao.origens().contains(atual.status())) {
+            return transicao.transicaoInvalida(atual.status());
+        }
+        if (expectedVersion != null && !expectedVersion.equals(atual.version())) {
+            cache.invalidar(id);
+            return new ObjectOptimisticLockingFailureException(ExecucaoOSEntity.class, id);
+        }
+        return new IllegalStateException("Transição não aplicada para a execução: " + id);
+    }
+
+    @Override
+    @Transactional
+    public long addDiagnostico(UUID id, Diagnostico diagnostico, Long expectedVersion) {
+        return acrescentar(id, expectedVersion, raiz -> mapper.novoDiagnostico(diagnostico, raiz));
+    }
+
+    @Override
+    @Transactional
+    public long addTarefa(UUID id, Tarefa tarefa, Long expectedVersion) {
+        return acrescentar(id, expectedVersion, raiz -> mapper.novaTarefa(tarefa, raiz));
+    }
+
+    @Override
+    @Transactional
+    public long addUsoPeca(UUID id, UsoPeca usoPeca, Long expectedVersion) {
+        return acrescentar(id, expectedVersion, raiz -> mapper.novoUsoPeca(usoPeca, raiz));
+    }
+
+    /**
+     * Acréscimo de filho sem hidratar o agregado: um UPDATE de versão na raiz
+     * via JDBC e o persist só do filho, ligado a uma referência não carregada
+     * da raiz. As coleções da raiz não são lidas nem reescritas, e os
+     * listeners do Hibernate continuam vendo o INSERT do filho.
+     */
+    private long acrescentar(UUID id, Long expectedVersion, Function<ExecucaoOSEntity, Object> filho) {
+        long versao = jdbcRepository.incrementarVersao(id, expectedVersion, Instant.now())
+                .orElseThrow(() -> falhaAoIncrementarVersao(id));
+        entityManager.persist(filho.apply(entityManager.getReference(ExecucaoOSEntity.class, id)));
+        entityManager.flush();
+        cache.registrarEscrita(id, versao);
+        return versao;
+    }
+
+    private RuntimeException falhaAoIncrementarVersao(UUID id) {
+        if (jdbcRepository.findEstadoAtual(id).isEmpty()) {
+            return new IllegalArgumentException("Execução não encontrada: " + id);
+        }
+        cache.invalidar(id);
+        return new ObjectOptimisticLockingFailureException(ExecucaoOSEntity.class, id);
+    }
+
+    /**
+     * Transição de tarefa sem hidratar o agregado: o UPDATE de versão na raiz
+     * (que também trava a execução, na mesma ordem do acréscimo de filhos) e
+     * um UPDATE condicional na linha da tarefa.
+     */
+    @Override
+    @Transactional
+    public Tarefa transitionTarefa(UUID id, UUID tarefaId, TransicaoTarefa transicao, Long expectedVersion) {
+        long versao = jdbcRepository.incrementarVersao(id, expectedVersion, transicao.momento())
+                .orElseThrow(() -> falhaAoIncrementarVersao(id));
+        Tarefa tarefa = jdbcRepository.transicionarTarefa(id, tarefaId, transicao)
+                .orElseThrow(() -> jdbcRepository.findStatusTarefa(id, tarefaId)
+                        .<RuntimeException>map(transicao::transicaoInvalida)
+                        .orElseGet(() -> new IllegalArgumentException("Tarefa não encontrada: " + tarefaId)));
+        cache.registrarEscrita(id, versao);
+        return tarefa;
     }
 
     @Override
     @SuppressWarnings("null")
     public Optional<ExecucaoOS> findById(UUID id) {
-        return postgresRepository.findById(id)
-                .map(mapper::toDomain);
+        return cache.buscarPorId(id, chave -> viaJdbc(Consulta.FIND_BY_ID)
+                ? leituraJdbc.findById(chave)
+                : postgresRepository.findById(chave).map(mapper::toDomain));
     }
 
     @Override
     public Optional<ExecucaoOS> findByOsId(UUID osId) {
-        return postgresRepository.findByOsId(osId)
-                .map(mapper::toDomain);
+        return cache.buscarPorOsId(osId, chave -> viaJdbc(Consulta.FIND_BY_OS_ID)
+                ? leituraJdbc.findByOsId(chave)
+                : postgresRepository.findByOsId(chave).map(mapper::toDomain));
+    }
+
+    /**
+     * Sempre no banco, sem passar pelo cache de agregados: uma única linha
+     * lida pela chave, sem tocar nos filhos.
+     */
+    @Override
+    public Optional<VersaoExecucao> findVersionById(UUID id) {
+        return jdbcRepository.findVersao(id);
+    }
+
+    @Override
+    public Optional<VersaoExecucao> findVersionByOsId(UUID osId) {
+        return jdbcRepository.findVersaoPorOsId(osId);
     }
 
     @Override
     public List<ExecucaoOS> findByStatus(StatusExecucao status) {
-        return postgresRepository.findByStatus(status.name()).stream()
+        return postgresRepository.findByStatus(status).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<ExecucaoOS> findByMecanico(String mecanico) {
-        return postgresRepository.findByMecanico(mecanico).stream()
+        return mecanicos.buscarId(mecanico)
+                .map(postgresRepository::findByMecanicoId)
+                .orElseGet(List::of)
+                .stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -80,15 +296,50 @@ public class ExecucaoOSRepositoryAdapter implements ExecucaoOSRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ExecucaoOSResumo> findResumosByStatus(StatusExecucao status) {
+        return postgresRepository.findResumosByStatus(status);
+    }
+
+    @Override
+    public List<ExecucaoOSResumo> findResumosByMecanico(String mecanico) {
+        return mecanicos.buscarId(mecanico)
+                .map(postgresRepository::findResumosByMecanicoId)
+                .orElseGet(List::of);
+    }
+
+    @Override
+    public List<ExecucaoOSResumo> findPage(ExecucaoOSCursor after, int limite) {
+        PageRequest pagina = PageRequest.ofSize(limite);
+        return after == null
+                ? postgresRepository.findFirstPage(pagina)
+                : postgresRepository.findPageAfter(after.createdAt(), after.id(), pagina);
+    }
+
+    @Override
+    public void streamAll(Consumer<ExecucaoOSResumo> consumer) {
+        try (Stream<ExecucaoOSResumo> resumos = postgresRepository.streamAllResumos()) {
+            resumos.forEach(consumer);
+        }
+    }
+
     @Override
     @SuppressWarnings("null")
     public void deleteById(UUID id) {
         postgresRepository.deleteById(id);
+        cache.registrarRemocao(id);
     }
 
     @Override
     public boolean existsByOsId(UUID osId) {
-        return postgresRepository.existsByOsId(osId);
+        return viaJdbc(Consulta.EXISTS_BY_OS_ID)
+                ? leituraJdbc.existsByOsId(osId)
+                : postgresRepository.existsByOsId(osId);
+    }
+
+    @Override
+    public Set<UUID> findExistingOsIds(Collection<UUID> osIds) {
+        return jdbcRepository.findExistingOsIds(osIds);
     }
 
     @Override
@@ -96,4 +347,10 @@ public class ExecucaoOSRepositoryAdapter implements ExecucaoOSRepository {
     public boolean existsById(UUID id) {
         return postgresRepository.existsById(id);
     }
+
+    private boolean viaJdbc(Consulta consulta) {
+        return leituraJdbc.habilitada(consulta)
+                && (!TransactionSynchronizationManager.isActualTransactionActive()
+                        || TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
 }
@@ -0,0 +1,238 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.cache;
+
+import br.com.grupo99.executionservice.domain.events.ExecucaoOSAlteradaEvent;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Near-cache local do agregado ExecucaoOS para as leituras por ID e por OS.
+ *
+ * Regras:
+ * - Guarda cópias e devolve cópias: quem lê pode alterar o agregado
+ *   retornado sem afetar o que está em cache.
+ * - Só é consultado e populado fora de transação ou em transação
+ *   somente-leitura; em transações de escrita a leitura vai ao banco, o que
+ *   garante leitura das próprias escritas e evita cachear estado não
+ *   commitado.
+ * - Escritas registram, após o commit, a nova versão como versão mínima do
+ *   ID: entradas até essa versão são descartadas e cargas concorrentes que
+ *   leram uma versão anterior não conseguem repopular o cache. Entradas da
+ *   mesma versão também saem, pois alterações só nos filhos não incrementam
+ *   a versão da raiz.
+ * - Escritas de outras réplicas chegam pelo change feed
+ *   ({@link ExecucaoOSAlteradaEvent}, opt-in) e têm o mesmo efeito; um
+ *   RESYNC esvazia o cache. Sem o feed, elas só aparecem quando a entrada
+ *   expira ({@code execution.cache.execucoes.expire-after-write}).
+ *
+ * Expõe hit, miss e eviction no registry do Micrometer (cache.gets,
+ * cache.evictions etc., com cache=execucoes_os.por_id / execucoes_os.por_os_id).
+ */
+@Component
+public class ExecucaoOSNearCache implements MeterBinder {
+
+    static final String CACHE_POR_ID = "execucoes_os.por_id";
+    static final String CACHE_POR_OS_ID = "execucoes_os.por_os_id";
+
+    private final Cache<UUID, ExecucaoOS> porId;
+    private final Cache<UUID, UUID> idPorOsId;
+    private final Cache<UUID, Long> versoesMinimas;
+
+    public ExecucaoOSNearCache(
+            @Value("${execution.cache.execucoes.maximum-size:10000}") long tamanhoMaximo,
+            @Value("${execution.cache.execucoes.expire-after-write:30s}") Duration expiracao) {
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(expiracao)
+                .recordStats()
+                .build();
+        this.idPorOsId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(expiracao)
+                .recordStats()
+                .build();
+        this.versoesMinimas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(expiracao)
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porId, CACHE_POR_ID, "service", "execution-service");
+        CaffeineCacheMetrics.monitor(registry, idPorOsId, CACHE_POR_OS_ID, "service", "execution-service");
+    }
+
+    /**
+     * Busca por ID, carregando do banco em caso de miss.
+     *
+     * @param id      ID da execução
+     * @param carregar carga a partir do banco
+     * @return execução (cópia independente do cache), se existir
+     */
+    public Optional<ExecucaoOS> buscarPorId(UUID id, Function<UUID, Optional<ExecucaoOS>> carregar) {
+        if (!utilizavel()) {
+            return carregar.apply(id);
+        }
+        ExecucaoOS emCache = porId.getIfPresent(id);
+        if (emCache != null) {
+            return Optional.of(copiar(emCache));
+        }
+        Optional<ExecucaoOS> carregada = carregar.apply(id);
+        carregada.ifPresent(this::armazenar);
+        return carregada;
+    }
+
+    /**
+     * Busca por ID da OS, carregando do banco em caso de miss.
+     *
+     * @param osId     ID da ordem de serviço
+     * @param carregar carga a partir do banco
+     * @return execução (cópia independente do cache), se existir
+     */
+    public Optional<ExecucaoOS> buscarPorOsId(UUID osId, Function<UUID, Optional<ExecucaoOS>> carregar) {
+        if (!utilizavel()) {
+            return carregar.apply(osId);
+        }
+        UUID id = idPorOsId.getIfPresent(osId);
+        if (id != null) {
+            ExecucaoOS emCache = porId.getIfPresent(id);
+            if (emCache != null && osId.equals(emCache.getOsId())) {
+                return Optional.of(copiar(emCache));
+            }
+        }
+        Optional<ExecucaoOS> carregada = carregar.apply(osId);
+        carregada.ifPresent(this::armazenar);
+        return carregada;
+    }
+
+    /**
+     * Registra que a execução foi gravada com a versão informada. Aplicado
+     * após o commit da transação corrente (ou imediatamente, sem transação).
+     *
+     * @param id         ID da execução
+     * @param novaVersao versão resultante da escrita
+     */
+    public void registrarEscrita(UUID id, Long novaVersao) {
+        if (novaVersao == null) {
+            aposCommit(() -> invalidar(id));
+            return;
+        }
+        aposCommit(() -> descartarAnterioresA(id, novaVersao));
+    }
+
+    /**
+     * Registra a remoção da execução, após o commit.
+     *
+     * @param id ID da execução
+     */
+    public void registrarRemocao(UUID id) {
+        aposCommit(() -> descartarAnterioresA(id, Long.MAX_VALUE));
+    }
+
+    /**
+     * Descarta imediatamente a entrada do ID (ex.: conflito de versão
+     * detectado em uma escrita feita a partir de uma leitura em cache).
+     *
+     * @param id ID da execução
+     */
+    public void invalidar(UUID id) {
+        porId.invalidate(id);
+    }
+
+    /**
+     * Aplica uma alteração recebida pelo change feed (inclusive as desta
+     * réplica, o que é inofensivo).
+     *
+     * @param evento alteração commitada no banco
+     */
+    @EventListener
+    public void aoAlterarExecucao(ExecucaoOSAlteradaEvent evento) {
+        if (evento.isResync()) {
+            porId.invalidateAll();
+            idPorOsId.invalidateAll();
+            return;
+        }
+        if (evento.isDelete()) {
+            descartarAnterioresA(evento.getExecucaoId(), Long.MAX_VALUE);
+            return;
+        }
+        descartarAnterioresA(evento.getExecucaoId(), evento.getVersion());
+    }
+
+    private void armazenar(ExecucaoOS execucao) {
+        ExecucaoOS copia = copiar(execucao);
+        long versao = versao(copia);
+        porId.asMap().compute(copia.getId(), (id, atual) -> {
+            Long minima = versoesMinimas.getIfPresent(id);
+            if (minima != null && versao < minima) {
+                return atual;
+            }
+            if (atual != null && versao(atual) > versao) {
+                return atual;
+            }
+            return copia;
+        });
+        idPorOsId.put(copia.getOsId(), copia.getId());
+    }
+
+    private void descartarAnterioresA(UUID id, long versao) {
+        // Mesmo lock de chave usado em armazenar: uma carga concorrente vê a
+        // versão mínima já registrada ou tem sua entrada descartada aqui
+        porId.asMap().compute(id, (chave, atual) -> {
+            versoesMinimas.asMap().merge(chave, versao, Math::max);
+            return atual != null && versao(atual) > versao ? atual : null;
+        });
+    }
+
+    private static boolean utilizavel() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    private static long versao(ExecucaoOS execucao) {
+        return execucao.getVersion() != null ? execucao.getVersion() : 0L;
+    }
+
+    private static ExecucaoOS copiar(ExecucaoOS execucao) {
+        return execucao.toBuilder()
+                .diagnosticos(execucao.getDiagnosticos().stream()
+                        .map(d -> d.toBuilder().build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .tarefas(execucao.getTarefas().stream()
+                        .map(t -> t.toBuilder().build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .pecas(execucao.getPecas().stream()
+                        .map(p -> p.toBuilder().build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.cache;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionário de mecânicos: traduz nome ↔ chave inteira da tabela mecanicos,
+ * com cache bidirecional em memória.
+ *
+ * As entradas do dicionário nunca mudam (um nome novo ganha uma chave nova e
+ * nenhuma é renomeada ou removida), então o cache não expira: cada nome custa
+ * uma consulta por instância da aplicação. A quantidade de mecânicos é
+ * pequena e o cache não tem limite de tamanho.
+ *
+ * Um nome desconhecido só é inserido em {@link #idDe(String)}, usado nas
+ * escritas; as buscas usam {@link #buscarId(String)}, que não cria nada. A
+ * inserção acontece na transação corrente e só entra no cache após o commit,
+ * para que um rollback não deixe no cache uma chave que não existe.
+ */
+@Component
+public class MecanicoDicionario {
+
+    private static final String INSERT_SE_AUSENTE =
+            "INSERT INTO mecanicos (nome) VALUES (:nome) ON CONFLICT DO NOTHING";
+
+    private final JdbcClient jdbcClient;
+    private final Map<String, Integer> idPorNome = new ConcurrentHashMap<>();
+    private final Map<Integer, String> nomePorId = new ConcurrentHashMap<>();
+
+    public MecanicoDicionario(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+    }
+
+    /**
+     * Chave do mecânico, inserindo o nome no dicionário se ainda não existir.
+     *
+     * @param nome nome do mecânico
+     * @return chave do mecânico
+     */
+    public Integer idDe(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        Integer emCache = idPorNome.get(nome);
+        if (emCache != null) {
+            return emCache;
+        }
+        Optional<Integer> existente = consultarId(nome);
+        if (existente.isPresent()) {
+            return existente.get();
+        }
+        jdbcClient.sql(INSERT_SE_AUSENTE)
+                .param("nome", nome)
+                .update();
+        return consultarId(nome)
+                .orElseThrow(() -> new IllegalStateException("Mecânico não registrado no dicionário: " + nome));
+    }
+
+    /**
+     * Chave do mecânico, sem inserir nomes desconhecidos.
+     *
+     * @param nome nome do mecânico
+     * @return chave do mecânico; vazio se o nome nunca foi gravado
+     */
+    public Optional<Integer> buscarId(String nome) {
+        if (nome == null) {
+            return Optional.empty();
+        }
+        Integer emCache = idPorNome.get(nome);
+        return emCache != null ? Optional.of(emCache) : consultarId(nome);
+    }
+
+    /**
+     * Nome do mecânico pela chave.
+     *
+     * @param id chave do mecânico
+     * @return nome do mecânico
+     * @throws IllegalStateException se a chave não existir no dicionário
+     */
+    public String nomeDe(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        String emCache = nomePorId.get(id);
+        if (emCache != null) {
+            return emCache;
+        }
+        String nome = jdbcClient.sql("SELECT nome FROM mecanicos WHERE id = :id")
+                .param("id", id)
+                .query(String.class)
+                .optional()
+                .orElseThrow(() -> new IllegalStateException("Mecânico não encontrado no dicionário: " + id));
+        registrar(id, nome);
+        return nome;
+    }
+
+    private Optional<Integer> consultarId(String nome) {
+        Optional<Integer> id = jdbcClient.sql("SELECT id FROM mecanicos WHERE nome = :nome")
+                .param("nome", nome)
+                .query(Integer.class)
+                .optional();
+        id.ifPresent(chave -> registrar(chave, nome));
+        return id;
+    }
+
+    private void registrar(Integer id, String nome) {
+        Runnable cachear = () -> {
+            idPorNome.put(nome, id);
+            nomePorId.put(id, nome);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cachear.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cachear.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.changefeed;
+
+import br.com.grupo99.executionservice.domain.events.ExecucaoOSAlteradaEvent;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change feed de execucoes_os entre réplicas, via LISTEN/NOTIFY do PostgreSQL.
+ *
+ * Os triggers por statement da migração V15 emitem NOTIFY no canal
+ * {@value #CANAL} a cada escrita commitada (de qualquer réplica), com a
+ * operação e um bloco de execuções alteradas, cada uma com
+ * {@code (id, os_id, version, status)}. Cada réplica mantém uma conexão
+ * dedicada, fora do pool, escutando o canal e republica cada execução do
+ * bloco como {@link ExecucaoOSAlteradaEvent} no contexto Spring.
+ *
+ * Desligado por padrão ({@code execution.change-feed.enabled}): sem ele, as
+ * escritas de outras réplicas só saem do near-cache pela expiração.
+ *
+ * Se a conexão cair, reconecta após {@code execution.change-feed.reconnect-delay}
+ * e publica um evento RESYNC, pois notificações do intervalo se perderam.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "execution.change-feed.enabled", havingValue = "true")
+public class ExecucaoOSChangeFeed implements SmartLifecycle {
+
+    public static final String CANAL = "execucoes_os_alteradas";
+
+    /**
+     * Abre a conexão dedicada ao LISTEN.
+     */
+    @FunctionalInterface
+    interface FabricaDeConexao {
+        Connection abrir() throws SQLException;
+    }
+
+    private final FabricaDeConexao fabricaDeConexao;
+    private final ApplicationEventPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final Counter notificacoesRecebidas;
+    private final Duration esperaPorNotificacao;
+    private final Duration esperaReconexao;
+
+    private volatile boolean ativo;
+    private Thread thread;
+
+    @Autowired
+    public ExecucaoOSChangeFeed(
+            DataSourceProperties dataSourceProperties,
+            ApplicationEventPublisher publisher,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${execution.change-feed.poll-timeout:1s}") Duration esperaPorNotificacao,
+            @Value("${execution.change-feed.reconnect-delay:5s}") Duration esperaReconexao) {
+        this(() -> DriverManager.getConnection(
+                        dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(),
+                        dataSourceProperties.determinePassword()),
+                publisher, objectMapper, meterRegistry, esperaPorNotificacao, esperaReconexao);
+    }
+
+    ExecucaoOSChangeFeed(
+            FabricaDeConexao fabricaDeConexao,
+            ApplicationEventPublisher publisher,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Duration esperaPorNotificacao,
+            Duration esperaReconexao) {
+        this.fabricaDeConexao = fabricaDeConexao;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.esperaPorNotificacao = esperaPorNotificacao;
+        this.esperaReconexao = esperaReconexao;
+        this.notificacoesRecebidas = Counter.builder("execucoes_os.change_feed.notifications")
+                .description("Notificações de alteração de execução recebidas via LISTEN/NOTIFY")
+                .tag("service", "execution-service")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (ativo) {
+            return;
+        }
+        ativo = true;
+        thread = Thread.ofPlatform()
+                .name("execucoes-os-change-feed")
+                .daemon(true)
+                .start(this::escutar);
+    }
+
+    @Override
+    public synchronized void stop() {
+        ativo = false;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(esperaPorNotificacao.multipliedBy(2).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ativo;
+    }
+
+    private void escutar() {
+        boolean primeiraConexao = true;
+        while (ativo) {
+            try (Connection conexao = fabricaDeConexao.abrir()) {
+                PGConnection pgConnection = conexao.unwrap(PGConnection.class);
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("LISTEN " + CANAL);
+                }
+                log.info("📡 Change feed escutando o canal {}", CANAL);
+
+                if (!primeiraConexao) {
+                    publicar(ExecucaoOSAlteradaEvent.resync());
+                }
+                primeiraConexao = false;
+
+                while (ativo) {
+                    PGNotification[] notificacoes = pgConnection.getNotifications(
+                            (int) esperaPorNotificacao.toMillis());
+                    if (notificacoes == null) {
+                        continue;
+                    }
+                    for (PGNotification notificacao : notificacoes) {
+                        receber(notificacao.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                primeiraConexao = false;
+                if (!ativo) {
+                    return;
+                }
+                log.warn("⚠️ Change feed desconectado: {}. Nova tentativa em {}", e.getMessage(), esperaReconexao);
+                aguardarReconexao();
+            }
+        }
+    }
+
+    void receber(String payload) {
+        List<ExecucaoOSAlteradaEvent> eventos;
+        try {
+            eventos = converter(payload);
+        } catch (JsonProcessingException | IllegalArgumentException | NullPointerException e) {
+            log.warn("⚠️ Notificação inválida no canal {}: {}", CANAL, payload);
+            return;
+        }
+        notificacoesRecebidas.increment();
+        eventos.forEach(this::publicar);
+    }
+
+    private List<ExecucaoOSAlteradaEvent> converter(String payload) throws JsonProcessingException {
+        JsonNode json = objectMapper.readTree(payload);
+        String operacao = json.get("op").asText();
+        List<ExecucaoOSAlteradaEvent> eventos = new ArrayList<>();
+        for (JsonNode execucao : json.get("execucoes")) {
+            eventos.add(ExecucaoOSAlteradaEvent.builder()
+                    .operacao(operacao)
+                    .execucaoId(UUID.fromString(execucao.get("id").asText()))
+                    .osId(UUID.fromString(execucao.get("os_id").asText()))
+                    .version(execucao.get("version").asLong())
+                    .status(StatusExecucao.valueOf(execucao.get("status").asText()))
+                    .build());
+        }
+        return eventos;
+    }
+
+    private void publicar(ExecucaoOSAlteradaEvent evento) {
+        try {
+            publisher.publishEvent(evento);
+        } catch (RuntimeException e) {
+            // Falha de um consumidor não pode derrubar o feed
+            log.error("❌ Erro ao publicar alteração da execução {}: {}",
+                    evento.getExecucaoId(), e.getMessage(), e);
+        }
+    }
+
+    private void aguardarReconexao() {
+        try {
+            Thread.sleep(esperaReconexao);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita quantas conexões do pool podem estar em uso ao mesmo tempo.
+ *
+ * Com virtual threads, milhares de requisições podem pedir conexão ao mesmo
+ * tempo; elas esperam aqui, em fila justa (FIFO) e estacionando só a virtual
+ * thread, e falham após {@code esperaMaxima} em vez de se acumularem na
+ * fila interna do Hikari. A permissão é devolvida no close() da conexão.
+ */
+public class LimitedConcurrencyDataSource extends DelegatingDataSource {
+
+    private final String nome;
+    private final Semaphore permissoes;
+    private final int maximo;
+    private final Duration esperaMaxima;
+
+    public LimitedConcurrencyDataSource(String nome, DataSource alvo, int maximo, Duration esperaMaxima) {
+        super(alvo);
+        if (maximo <= 0) {
+            throw new IllegalArgumentException("Limite de conexões concorrentes deve ser positivo");
+        }
+        this.nome = nome;
+        this.maximo = maximo;
+        this.permissoes = new Semaphore(maximo, true);
+        this.esperaMaxima = esperaMaxima;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberandoNoClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberandoNoClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getMaximo() {
+        return maximo;
+    }
+
+    public int getEmUso() {
+        return maximo - permissoes.availablePermits();
+    }
+
+    public int getAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaxima.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Limite de " + maximo + " conexões concorrentes em " + nome
+                                + " atingido; espera de " + esperaMaxima + " esgotada");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão de " + nome, e);
+        }
+    }
+
+    private Connection liberandoNoClose(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    if ("close".equals(metodo.getName())) {
+                        if (!liberada.compareAndSet(false, true)) {
+                            return null;
+                        }
+                        try {
+                            conexao.close();
+                        } finally {
+                            permissoes.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return metodo.invoke(conexao, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -19,6 +21,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "diagnosticos")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,18 +29,24 @@ import java.util.UUID;
 public class DiagnosticoEntity {
 
     @Id
+    @EqualsAndHashCode.Include
     @Column(columnDefinition = "UUID")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "execucao_id", nullable = false)
+    @ToString.Exclude
     private ExecucaoOSEntity execucaoOSEntity;
 
     @Column(nullable = false, columnDefinition = "TEXT")
     private String descricao;
 
-    @Column(nullable = false, length = 100)
-    private String mecanico;
+    /**
+     * Chave do mecânico no dicionário (tabela mecanicos), resolvida pelos
+     * mappers via MecanicoDicionario antes do flush.
+     */
+    @Column(name = "mecanico_id", nullable = false)
+    private Integer mecanicoId;
 
     @Column(name = "data_diagnostico", nullable = false)
     private Instant dataDiagnostico;
@@ -5,14 +5,18 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,24 +24,47 @@ import java.util.UUID;
  * 
  * Esta entidade é responsável apenas por persistência.
  * O mapeamento entre domínio ↔ entidade é feito pela camada de infraestrutura.
+ *
+ * Estratégia de carga do agregado:
+ * - As coleções filhas são {@link Set}s ordenados, o que permite ao Hibernate
+ *   buscar mais de uma delas com JOIN FETCH na mesma consulta (bags não)
+ * - {@code findById}/{@code findByOsId} usam o entity graph
+ *   {@link #GRAFO_AGREGADO} (raiz + diagnósticos + tarefas em um SELECT)
+ * - Demais coleções usam {@link FetchMode#SUBSELECT}: ao carregar N raízes,
+ *   cada coleção é inicializada para todas elas em um único SELECT
+ * - equals/hashCode usam apenas o id (atribuído pelo domínio), evitando
+ *   recursão entre pai e filhos dentro dos Sets
  */
 @Entity
 @Table(name = "execucoes_os")
+@NamedEntityGraph(name = ExecucaoOSEntity.GRAFO_AGREGADO, attributeNodes = {
+        @NamedAttributeNode("diagnosticos"),
+        @NamedAttributeNode("tarefas")
+})
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class ExecucaoOSEntity {
 
+    /**
+     * Entity graph do agregado completo. Peças ficam fora do JOIN para não
+     * multiplicar o produto cartesiano (diagnósticos × tarefas × peças) e
+     * são inicializadas no segundo SELECT.
+     */
+    public static final String GRAFO_AGREGADO = "ExecucaoOSEntity.agregado";
+
     @Id
+    @EqualsAndHashCode.Include
     @Column(columnDefinition = "UUID")
     private UUID id;
 
     @Column(name = "os_id", nullable = false, unique = true, columnDefinition = "UUID")
     private UUID osId;
 
-    @Column(name = "orcamento_id", nullable = false, columnDefinition = "UUID")
+    @Column(name = "orcamento_id", columnDefinition = "UUID")
     private UUID orcamentoId;
 
     @Enumerated(EnumType.STRING)
@@ -45,8 +72,12 @@ public class ExecucaoOSEntity {
     @Builder.Default
     private StatusExecucao status = StatusExecucao.AGUARDANDO_INICIO;
 
-    @Column(nullable = false, length = 100)
-    private String mecanico;
+    /**
+     * Chave do mecânico no dicionário (tabela mecanicos), resolvida pelos
+     * mappers via MecanicoDicionario antes do flush.
+     */
+    @Column(name = "mecanico_id", nullable = false)
+    private Integer mecanicoId;
 
     @Column(name = "data_inicio", nullable = false)
     private Instant dataInicio;
@@ -62,16 +93,25 @@ public class ExecucaoOSEntity {
     private Long version = 0L;
 
     @OneToMany(mappedBy = "execucaoOSEntity", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @OrderBy("createdAt ASC, id ASC")
+    @ToString.Exclude
     @Builder.Default
-    private List<DiagnosticoEntity> diagnosticos = new ArrayList<>();
+    private Set<DiagnosticoEntity> diagnosticos = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "execucaoOSEntity", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @OrderBy("createdAt ASC, id ASC")
+    @ToString.Exclude
     @Builder.Default
-    private List<TarefaEntity> tarefas = new ArrayList<>();
+    private Set<TarefaEntity> tarefas = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "execucaoOSEntity", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @OrderBy("createdAt ASC, id ASC")
+    @ToString.Exclude
     @Builder.Default
-    private List<UsoPecaEntity> pecas = new ArrayList<>();
+    private Set<UsoPecaEntity> pecas = new LinkedHashSet<>();
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -0,0 +1,30 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA Entity do dicionário de mecânicos (persistência PostgreSQL).
+ *
+ * execucoes_os, tarefas e diagnosticos referenciam o mecânico pela chave
+ * inteira; o nome existe só aqui. As linhas são gravadas e lidas pelo
+ * MecanicoDicionario, nunca alteradas nem removidas.
+ */
+@Entity
+@Table(name = "mecanicos")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MecanicoEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 100, unique = true)
+    private String nome;
+}
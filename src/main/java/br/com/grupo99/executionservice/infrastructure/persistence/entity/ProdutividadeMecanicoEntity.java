@@ -0,0 +1,67 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * JPA Entity do rollup diário de produtividade por mecânico (persistência
+ * PostgreSQL).
+ *
+ * As linhas são incrementadas e reconstruídas pelo
+ * ProdutividadeMecanicosJdbcRepository, nunca pelo Hibernate; o mapeamento
+ * existe para o schema de testes.
+ */
+@Entity
+@Table(name = "produtividade_mecanicos")
+@IdClass(ProdutividadeMecanicoEntity.Chave.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProdutividadeMecanicoEntity {
+
+    @Id
+    private LocalDate dia;
+
+    @Id
+    @Column(name = "mecanico_id")
+    private Integer mecanicoId;
+
+    @Column(name = "tarefas_concluidas", nullable = false)
+    private Long tarefasConcluidas;
+
+    @Column(name = "tarefas_com_tempos", nullable = false)
+    private Long tarefasComTempos;
+
+    @Column(name = "soma_estimado", nullable = false)
+    private Long somaEstimado;
+
+    @Column(name = "soma_real", nullable = false)
+    private Long somaReal;
+
+    @Column(name = "soma_quadrados_estimado", nullable = false)
+    private Long somaQuadradosEstimado;
+
+    @Column(name = "soma_quadrados_real", nullable = false)
+    private Long somaQuadradosReal;
+
+    @Column(name = "soma_produtos", nullable = false)
+    private Long somaProdutos;
+
+    /**
+     * Chave composta (dia, mecânico).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private LocalDate dia;
+        private Integer mecanicoId;
+    }
+}
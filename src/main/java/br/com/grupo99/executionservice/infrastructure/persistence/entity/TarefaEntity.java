@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -20,6 +22,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "tarefas")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,18 +30,24 @@ import java.util.UUID;
 public class TarefaEntity {
 
     @Id
+    @EqualsAndHashCode.Include
     @Column(columnDefinition = "UUID")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "execucao_id", nullable = false)
+    @ToString.Exclude
     private ExecucaoOSEntity execucaoOSEntity;
 
     @Column(nullable = false, length = 200)
     private String descricao;
 
-    @Column(nullable = false, length = 100)
-    private String mecanico;
+    /**
+     * Chave do mecânico no dicionário (tabela mecanicos), resolvida pelos
+     * mappers via MecanicoDicionario antes do flush.
+     */
+    @Column(name = "mecanico_id", nullable = false)
+    private Integer mecanicoId;
 
     @Column(name = "tempo_estimado_minutos")
     private Integer tempoEstimadoMinutos;
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -20,6 +22,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "uso_pecas")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,11 +30,13 @@ import java.util.UUID;
 public class UsoPecaEntity {
 
     @Id
+    @EqualsAndHashCode.Include
     @Column(columnDefinition = "UUID")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "execucao_id", nullable = false)
+    @ToString.Exclude
     private ExecucaoOSEntity execucaoOSEntity;
 
     @Column(name = "peca_id", nullable = false, columnDefinition = "UUID")
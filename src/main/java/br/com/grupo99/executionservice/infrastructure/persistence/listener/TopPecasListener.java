@@ -0,0 +1,61 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.listener;
+
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.infrastructure.analytics.TopPecasEmMemoria;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Alimenta o ranking de consumo de peças com cada uso de peça inserido pelo
+ * Hibernate, depois do commit: transações desfeitas não entram no ranking.
+ */
+@Component
+public class TopPecasListener implements PostCommitInsertEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TopPecasEmMemoria topPecas;
+
+    public TopPecasListener(EntityManagerFactory entityManagerFactory, TopPecasEmMemoria topPecas) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.topPecas = topPecas;
+    }
+
+    @PostConstruct
+    void registrar() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_COMMIT_INSERT, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof UsoPecaEntity uso) {
+            topPecas.registrar(UsoPeca.builder()
+                    .pecaId(uso.getPecaId())
+                    .quantidade(uso.getQuantidade())
+                    .valorTotal(uso.getValorTotal())
+                    .dataUso(uso.getDataUso())
+                    .createdAt(uso.getCreatedAt())
+                    .build());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nada a desfazer: o ranking só é alimentado após o commit
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return UsoPecaEntity.class.equals(persister.getMappedClass());
+    }
+}
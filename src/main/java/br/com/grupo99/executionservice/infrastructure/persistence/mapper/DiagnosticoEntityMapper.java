@@ -1,6 +1,7 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.mapper;
 
 import br.com.grupo99.executionservice.domain.model.Diagnostico;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.DiagnosticoEntity;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +12,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class DiagnosticoEntityMapper {
 
+    private final MecanicoDicionario mecanicos;
+
+    public DiagnosticoEntityMapper(MecanicoDicionario mecanicos) {
+        this.mecanicos = mecanicos;
+    }
+
     /**
      * Converte DiagnosticoEntity (persistência) → Diagnostico (domínio).
      *
@@ -25,7 +32,7 @@ public class DiagnosticoEntityMapper {
         return Diagnostico.builder()
                 .id(entity.getId())
                 .descricao(entity.getDescricao())
-                .mecanico(entity.getMecanico())
+                .mecanico(mecanicos.nomeDe(entity.getMecanicoId()))
                 .dataDiagnostico(entity.getDataDiagnostico())
                 .observacoes(entity.getObservacoes())
                 .createdAt(entity.getCreatedAt())
@@ -46,10 +53,23 @@ public class DiagnosticoEntityMapper {
         return DiagnosticoEntity.builder()
                 .id(domain.getId())
                 .descricao(domain.getDescricao())
-                .mecanico(domain.getMecanico())
+                .mecanicoId(mecanicos.idDe(domain.getMecanico()))
                 .dataDiagnostico(domain.getDataDiagnostico())
                 .observacoes(domain.getObservacoes())
                 .createdAt(domain.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Atualiza uma DiagnosticoEntity gerenciada com os campos de Diagnostico (domínio).
+     *
+     * @param domain modelo de domínio
+     * @param entity entidade JPA gerenciada
+     */
+    public void atualizarEntity(Diagnostico domain, DiagnosticoEntity entity) {
+        entity.setDescricao(domain.getDescricao());
+        entity.setMecanicoId(mecanicos.idDe(domain.getMecanico()));
+        entity.setDataDiagnostico(domain.getDataDiagnostico());
+        entity.setObservacoes(domain.getObservacoes());
+    }
 }
@@ -1,9 +1,24 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.mapper;
 
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.DiagnosticoEntity;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -11,7 +26,8 @@ import java.util.stream.Collectors;
  * (persistência).
  * 
  * Coordena a conversão bidirecional, delegando conversões de sub-entidades aos
- * seus mappers.
+ * seus mappers. O mecânico é traduzido nome ↔ chave pelo
+ * {@link MecanicoDicionario} aqui, antes do flush, e não pelo Hibernate.
  */
 @Component
 public class ExecucaoOSEntityMapper {
@@ -19,14 +35,17 @@ public class ExecucaoOSEntityMapper {
         private final TarefaEntityMapper tarefaMapper;
         private final DiagnosticoEntityMapper diagnosticoMapper;
         private final UsoPecaEntityMapper usoPecaMapper;
+        private final MecanicoDicionario mecanicos;
 
         public ExecucaoOSEntityMapper(
                         TarefaEntityMapper tarefaMapper,
                         DiagnosticoEntityMapper diagnosticoMapper,
-                        UsoPecaEntityMapper usoPecaMapper) {
+                        UsoPecaEntityMapper usoPecaMapper,
+                        MecanicoDicionario mecanicos) {
                 this.tarefaMapper = tarefaMapper;
                 this.diagnosticoMapper = diagnosticoMapper;
                 this.usoPecaMapper = usoPecaMapper;
+                this.mecanicos = mecanicos;
         }
 
         /**
@@ -45,7 +64,7 @@ public class ExecucaoOSEntityMapper {
                                 .osId(entity.getOsId())
                                 .orcamentoId(entity.getOrcamentoId())
                                 .status(entity.getStatus())
-                                .mecanico(entity.getMecanico())
+                                .mecanico(mecanicos.nomeDe(entity.getMecanicoId()))
                                 .dataInicio(entity.getDataInicio())
                                 .dataFinalizacao(entity.getDataFinalizacao())
                                 .observacoes(entity.getObservacoes())
@@ -65,7 +84,8 @@ public class ExecucaoOSEntityMapper {
         }
 
         /**
-         * Converte ExecucaoOS (domínio) → ExecucaoOSEntity (persistência).
+         * Converte ExecucaoOS (domínio) → ExecucaoOSEntity (persistência),
+         * já com a referência de cada filho para a raiz preenchida.
          *
          * @param domain modelo de domínio
          * @return entidade JPA
@@ -75,27 +95,132 @@ public class ExecucaoOSEntityMapper {
                         return null;
                 }
 
-                return ExecucaoOSEntity.builder()
+                ExecucaoOSEntity entity = ExecucaoOSEntity.builder()
                                 .id(domain.getId())
                                 .osId(domain.getOsId())
                                 .orcamentoId(domain.getOrcamentoId())
                                 .status(domain.getStatus())
-                                .mecanico(domain.getMecanico())
+                                .mecanicoId(mecanicos.idDe(domain.getMecanico()))
                                 .dataInicio(domain.getDataInicio())
                                 .dataFinalizacao(domain.getDataFinalizacao())
                                 .observacoes(domain.getObservacoes())
                                 .version(domain.getVersion())
                                 .diagnosticos(domain.getDiagnosticos().stream()
                                                 .map(diagnosticoMapper::toEntity)
-                                                .collect(Collectors.toList()))
+                                                .collect(Collectors.toCollection(LinkedHashSet::new)))
                                 .tarefas(domain.getTarefas().stream()
                                                 .map(tarefaMapper::toEntity)
-                                                .collect(Collectors.toList()))
+                                                .collect(Collectors.toCollection(LinkedHashSet::new)))
                                 .pecas(domain.getPecas().stream()
                                                 .map(usoPecaMapper::toEntity)
-                                                .collect(Collectors.toList()))
+                                                .collect(Collectors.toCollection(LinkedHashSet::new)))
                                 .createdAt(domain.getCreatedAt())
                                 .updatedAt(domain.getUpdatedAt())
                                 .build();
+                entity.getDiagnosticos().forEach(d -> d.setExecucaoOSEntity(entity));
+                entity.getTarefas().forEach(t -> t.setExecucaoOSEntity(entity));
+                entity.getPecas().forEach(p -> p.setExecucaoOSEntity(entity));
+                return entity;
+        }
+
+        /**
+         * Aplica o estado de ExecucaoOS (domínio) sobre uma ExecucaoOSEntity
+         * gerenciada, sem reconstruí-la.
+         *
+         * Campos da raiz são copiados via setter (o dirty checking do Hibernate
+         * ignora valores iguais). Filhos são reconciliados por id: novos são
+         * adicionados com a referência para a raiz, existentes são atualizados
+         * no lugar e ausentes são removidos (orphanRemoval). Assim, no flush,
+         * só as linhas que mudaram geram INSERT/UPDATE/DELETE.
+         *
+         * @param domain modelo de domínio
+         * @param entity entidade JPA gerenciada
+         */
+        public void atualizarEntity(ExecucaoOS domain, ExecucaoOSEntity entity) {
+                entity.setOsId(domain.getOsId());
+                entity.setOrcamentoId(domain.getOrcamentoId());
+                entity.setStatus(domain.getStatus());
+                entity.setMecanicoId(mecanicos.idDe(domain.getMecanico()));
+                entity.setDataInicio(domain.getDataInicio());
+                entity.setDataFinalizacao(domain.getDataFinalizacao());
+                entity.setObservacoes(domain.getObservacoes());
+                entity.setUpdatedAt(domain.getUpdatedAt());
+
+                sincronizar(domain.getDiagnosticos(), entity.getDiagnosticos(),
+                                Diagnostico::getId, DiagnosticoEntity::getId,
+                                d -> novoDiagnostico(d, entity),
+                                diagnosticoMapper::atualizarEntity);
+                sincronizar(domain.getTarefas(), entity.getTarefas(),
+                                Tarefa::getId, TarefaEntity::getId,
+                                t -> novaTarefa(t, entity),
+                                tarefaMapper::atualizarEntity);
+                sincronizar(domain.getPecas(), entity.getPecas(),
+                                UsoPeca::getId, UsoPecaEntity::getId,
+                                p -> novoUsoPeca(p, entity),
+                                usoPecaMapper::atualizarEntity);
+        }
+
+        /**
+         * Converte um Diagnostico novo em entidade já ligada à raiz (que pode
+         * ser uma referência não carregada).
+         *
+         * @param domain diagnóstico de domínio
+         * @param raiz   entidade da execução
+         * @return entidade JPA
+         */
+        public DiagnosticoEntity novoDiagnostico(Diagnostico domain, ExecucaoOSEntity raiz) {
+                DiagnosticoEntity entity = diagnosticoMapper.toEntity(domain);
+                entity.setExecucaoOSEntity(raiz);
+                return entity;
+        }
+
+        /**
+         * Converte uma Tarefa nova em entidade já ligada à raiz.
+         *
+         * @param domain tarefa de domínio
+         * @param raiz   entidade da execução
+         * @return entidade JPA
+         */
+        public TarefaEntity novaTarefa(Tarefa domain, ExecucaoOSEntity raiz) {
+                TarefaEntity entity = tarefaMapper.toEntity(domain);
+                entity.setExecucaoOSEntity(raiz);
+                return entity;
+        }
+
+        /**
+         * Converte um UsoPeca novo em entidade já ligada à raiz.
+         *
+         * @param domain uso de peça de domínio
+         * @param raiz   entidade da execução
+         * @return entidade JPA
+         */
+        public UsoPecaEntity novoUsoPeca(UsoPeca domain, ExecucaoOSEntity raiz) {
+                UsoPecaEntity entity = usoPecaMapper.toEntity(domain);
+                entity.setExecucaoOSEntity(raiz);
+                return entity;
+        }
+
+        private <D, E> void sincronizar(
+                        List<D> origem,
+                        Set<E> destino,
+                        Function<D, UUID> idOrigem,
+                        Function<E, UUID> idDestino,
+                        Function<D, E> criar,
+                        BiConsumer<D, E> atualizar) {
+                Map<UUID, D> porId = origem.stream()
+                                .collect(Collectors.toMap(idOrigem, Function.identity(),
+                                                (a, b) -> b, LinkedHashMap::new));
+                destino.removeIf(e -> !porId.containsKey(idDestino.apply(e)));
+
+                Map<UUID, E> existentes = destino.stream()
+                                .collect(Collectors.toMap(idDestino, Function.identity()));
+                porId.forEach((id, d) -> {
+                        E existente = existentes.get(id);
+                        if (existente == null) {
+                                destino.add(criar.apply(d));
+                        } else {
+                                atualizar.accept(d, existente);
+                        }
+                });
         }
 }
@@ -1,6 +1,7 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.mapper;
 
 import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +11,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class TarefaEntityMapper {
 
+    private final MecanicoDicionario mecanicos;
+
+    public TarefaEntityMapper(MecanicoDicionario mecanicos) {
+        this.mecanicos = mecanicos;
+    }
+
     /**
      * Converte TarefaEntity (persistência) → Tarefa (domínio).
      *
@@ -24,7 +31,7 @@ public class TarefaEntityMapper {
         return Tarefa.builder()
                 .id(entity.getId())
                 .descricao(entity.getDescricao())
-                .mecanico(entity.getMecanico())
+                .mecanico(mecanicos.nomeDe(entity.getMecanicoId()))
                 .tempoEstimadoMinutos(entity.getTempoEstimadoMinutos())
                 .tempoRealMinutos(entity.getTempoRealMinutos())
                 .status(entity.getStatus())
@@ -48,7 +55,7 @@ public class TarefaEntityMapper {
         return TarefaEntity.builder()
                 .id(domain.getId())
                 .descricao(domain.getDescricao())
-                .mecanico(domain.getMecanico())
+                .mecanicoId(mecanicos.idDe(domain.getMecanico()))
                 .tempoEstimadoMinutos(domain.getTempoEstimadoMinutos())
                 .tempoRealMinutos(domain.getTempoRealMinutos())
                 .status(domain.getStatus())
@@ -57,4 +64,20 @@ public class TarefaEntityMapper {
                 .createdAt(domain.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Atualiza uma TarefaEntity gerenciada com os campos de Tarefa (domínio).
+     *
+     * @param domain modelo de domínio
+     * @param entity entidade JPA gerenciada
+     */
+    public void atualizarEntity(Tarefa domain, TarefaEntity entity) {
+        entity.setDescricao(domain.getDescricao());
+        entity.setMecanicoId(mecanicos.idDe(domain.getMecanico()));
+        entity.setTempoEstimadoMinutos(domain.getTempoEstimadoMinutos());
+        entity.setTempoRealMinutos(domain.getTempoRealMinutos());
+        entity.setStatus(domain.getStatus());
+        entity.setDataInicio(domain.getDataInicio());
+        entity.setDataFinalizacao(domain.getDataFinalizacao());
+    }
 }
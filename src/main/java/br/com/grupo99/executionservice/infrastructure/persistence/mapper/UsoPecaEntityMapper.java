@@ -55,4 +55,19 @@ public class UsoPecaEntityMapper {
                 .createdAt(domain.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Atualiza uma UsoPecaEntity gerenciada com os campos de UsoPeca (domínio).
+     *
+     * @param domain modelo de domínio
+     * @param entity entidade JPA gerenciada
+     */
+    public void atualizarEntity(UsoPeca domain, UsoPecaEntity entity) {
+        entity.setPecaId(domain.getPecaId());
+        entity.setDescricao(domain.getDescricao());
+        entity.setQuantidade(domain.getQuantidade());
+        entity.setValorUnitario(domain.getValorUnitario());
+        entity.setValorTotal(domain.getValorTotal());
+        entity.setDataUso(domain.getDataUso());
+    }
 }
@@ -0,0 +1,88 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.ResultadoBusca;
+import br.com.grupo99.executionservice.domain.model.TipoResultadoBusca;
+import br.com.grupo99.executionservice.domain.repository.BuscaCursor;
+import br.com.grupo99.executionservice.domain.repository.BuscaTextualRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca textual em diagnósticos e tarefas sobre as colunas tsvector
+ * {@code busca} (migração V11, configuração busca_pt: português sem
+ * acentos), com os termos interpretados por websearch_to_tsquery.
+ *
+ * Os candidatos vêm dos índices GIN e são ordenados por ts_rank; o custo
+ * acompanha a quantidade de linhas que casam com os termos, não o tamanho
+ * das tabelas. As páginas seguintes continuam por chave
+ * {@code (relevancia, id)}, sem OFFSET. Execuções arquivadas não entram na
+ * busca. A relevância do cursor volta ao banco convertida para real, a
+ * precisão de ts_rank: o driver pode enviá-la como FLOAT8 a partir do texto
+ * do float, e o empate com a última linha da página não seria reconhecido.
+ *
+ * Exclusivo do PostgreSQL: no H2 dos testes as tabelas não têm as colunas
+ * de busca.
+ */
+@Repository
+public class BuscaTextualJdbcRepository implements BuscaTextualRepository {
+
+    private static final String CONSULTA = "websearch_to_tsquery('busca_pt', :termos)";
+
+    private static final String RESULTADOS = """
+            SELECT 'DIAGNOSTICO' AS tipo, d.id, d.execucao_id, d.descricao, d.mecanico_id, d.created_at,
+                   ts_rank(d.busca, %1$s) AS relevancia
+              FROM diagnosticos d
+             WHERE d.busca @@ %1$s
+            UNION ALL
+            SELECT 'TAREFA', t.id, t.execucao_id, t.descricao, t.mecanico_id, t.created_at,
+                   ts_rank(t.busca, %1$s)
+              FROM tarefas t
+             WHERE t.busca @@ %1$s""".formatted(CONSULTA);
+
+    static final String BUSCAR = """
+            SELECT r.* FROM (%s) r
+             ORDER BY r.relevancia DESC, r.id
+             LIMIT :limite""".formatted(RESULTADOS);
+
+    static final String BUSCAR_APOS = """
+            SELECT r.* FROM (%s) r
+             WHERE r.relevancia < CAST(:relevancia AS real)
+                OR (r.relevancia = CAST(:relevancia AS real) AND r.id > :id)
+             ORDER BY r.relevancia DESC, r.id
+             LIMIT :limite""".formatted(RESULTADOS);
+
+    private final JdbcClient jdbcClient;
+    private final MecanicoDicionario mecanicos;
+
+    public BuscaTextualJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, MecanicoDicionario mecanicos) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.mecanicos = mecanicos;
+    }
+
+    @Override
+    public List<ResultadoBusca> buscar(String termos, BuscaCursor apos, int limite) {
+        JdbcClient.StatementSpec consulta = jdbcClient.sql(apos == null ? BUSCAR : BUSCAR_APOS)
+                .param("termos", termos)
+                .param("limite", limite);
+        if (apos != null) {
+            consulta = consulta
+                    .param("relevancia", apos.relevancia())
+                    .param("id", apos.id());
+        }
+        return consulta
+                .query((rs, rowNum) -> new ResultadoBusca(
+                        TipoResultadoBusca.valueOf(rs.getString("tipo")),
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("execucao_id", UUID.class),
+                        rs.getString("descricao"),
+                        mecanicos.nomeDe(rs.getInt("mecanico_id")),
+                        rs.getTimestamp("created_at").toInstant(),
+                        rs.getFloat("relevancia")))
+                .list();
+    }
+}
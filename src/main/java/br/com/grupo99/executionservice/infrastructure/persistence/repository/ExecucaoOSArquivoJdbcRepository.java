@@ -0,0 +1,274 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSArquivadaRepository;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Move agregados finalizados de execucoes_os (e filhos) para as tabelas de
+ * arquivo particionadas por mês (migração V7) e gerencia essas partições.
+ *
+ * O arquivo guarda o nome do mecânico, não a chave do dicionário: as tabelas
+ * de arquivo não têm chaves estrangeiras e continuam legíveis sozinhas.
+ *
+ * As execuções arquivadas continuam legíveis por ID e por OS
+ * ({@link ExecucaoOSArquivadaRepository}); os filhos são lidos só na
+ * partição do mês da execução.
+ */
+@Repository
+public class ExecucaoOSArquivoJdbcRepository implements ExecucaoOSArquivadaRepository {
+
+    private static final String SELECIONAR_ARQUIVADA = """
+            SELECT id, os_id, orcamento_id, status, mecanico, data_inicio, data_finalizacao,
+                   observacoes, version, created_at, updated_at
+              FROM execucoes_os_arquivo
+             WHERE\s""";
+
+    /**
+     * Lote das finalizadas mais antigas. Os status finais entram como
+     * literais para que o planner use o índice parcial
+     * idx_execucoes_finalizadas_updated_at (V8); SKIP LOCKED permite que as
+     * réplicas rodem o job ao mesmo tempo sem mover o mesmo agregado.
+     */
+    static final String SELECIONAR_CANDIDATAS = """
+            SELECT id, created_at
+              FROM execucoes_os
+             WHERE status IN (%s)
+               AND updated_at < :antesDe
+             ORDER BY updated_at
+             LIMIT :limite
+               FOR UPDATE SKIP LOCKED""".formatted(Arrays.stream(StatusExecucao.values())
+            .filter(StatusExecucao::isFinal)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", ")));
+
+    private static final String ARQUIVAR_EXECUCOES = """
+            INSERT INTO execucoes_os_arquivo (
+                id, os_id, orcamento_id, status, mecanico, data_inicio, data_finalizacao,
+                observacoes, version, created_at, updated_at, arquivado_em)
+            SELECT e.id, e.os_id, e.orcamento_id, e.status, m.nome, e.data_inicio, e.data_finalizacao,
+                   e.observacoes, e.version, e.created_at, e.updated_at, :agora
+              FROM execucoes_os e
+              JOIN mecanicos m ON m.id = e.mecanico_id
+             WHERE e.id IN (:ids)""";
+
+    private static final String ARQUIVAR_DIAGNOSTICOS = """
+            INSERT INTO diagnosticos_arquivo (
+                id, execucao_id, execucao_created_at, descricao, mecanico,
+                data_diagnostico, observacoes, created_at)
+            SELECT d.id, d.execucao_id, e.created_at, d.descricao, m.nome,
+                   d.data_diagnostico, d.observacoes, d.created_at
+              FROM diagnosticos d
+              JOIN execucoes_os e ON e.id = d.execucao_id
+              JOIN mecanicos m ON m.id = d.mecanico_id
+             WHERE d.execucao_id IN (:ids)""";
+
+    private static final String ARQUIVAR_TAREFAS = """
+            INSERT INTO tarefas_arquivo (
+                id, execucao_id, execucao_created_at, descricao, mecanico,
+                tempo_estimado_minutos, tempo_real_minutos, status, data_inicio,
+                data_finalizacao, created_at)
+            SELECT t.id, t.execucao_id, e.created_at, t.descricao, m.nome,
+                   t.tempo_estimado_minutos, t.tempo_real_minutos, t.status, t.data_inicio,
+                   t.data_finalizacao, t.created_at
+              FROM tarefas t
+              JOIN execucoes_os e ON e.id = t.execucao_id
+              JOIN mecanicos m ON m.id = t.mecanico_id
+             WHERE t.execucao_id IN (:ids)""";
+
+    private static final String ARQUIVAR_USO_PECAS = """
+            INSERT INTO uso_pecas_arquivo (
+                id, execucao_id, execucao_created_at, peca_id, descricao, quantidade,
+                valor_unitario, valor_total, data_uso, created_at)
+            SELECT p.id, p.execucao_id, e.created_at, p.peca_id, p.descricao, p.quantidade,
+                   p.valor_unitario, p.valor_total, p.data_uso, p.created_at
+              FROM uso_pecas p
+              JOIN execucoes_os e ON e.id = p.execucao_id
+             WHERE p.execucao_id IN (:ids)""";
+
+    private final JdbcClient jdbcClient;
+
+    public ExecucaoOSArquivoJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+    }
+
+    private record Candidata(UUID id, Timestamp createdAt) {
+    }
+
+    /**
+     * Move para o arquivo até {@code limite} execuções em estado final cuja
+     * última alteração é anterior a {@code antesDe}, com todos os filhos.
+     * Deve ser chamado dentro de uma transação.
+     *
+     * @param antesDe momento limite da última alteração
+     * @param limite  tamanho máximo do lote
+     * @return quantidade de execuções arquivadas
+     */
+    public int arquivarFinalizadas(Instant antesDe, int limite) {
+        List<Candidata> candidatas = jdbcClient.sql(SELECIONAR_CANDIDATAS)
+                .param("antesDe", Timestamp.from(antesDe))
+                .param("limite", limite)
+                .query(Candidata.class)
+                .list();
+        if (candidatas.isEmpty()) {
+            return 0;
+        }
+
+        candidatas.stream()
+                .map(candidata -> YearMonth.from(candidata.createdAt().toLocalDateTime()))
+                .distinct()
+                .forEach(this::garantirParticoes);
+
+        List<UUID> ids = candidatas.stream().map(Candidata::id).toList();
+        Timestamp agora = Timestamp.from(Instant.now());
+        jdbcClient.sql(ARQUIVAR_EXECUCOES).param("ids", ids).param("agora", agora).update();
+        jdbcClient.sql(ARQUIVAR_DIAGNOSTICOS).param("ids", ids).update();
+        jdbcClient.sql(ARQUIVAR_TAREFAS).param("ids", ids).update();
+        jdbcClient.sql(ARQUIVAR_USO_PECAS).param("ids", ids).update();
+
+        for (String filho : List.of("diagnosticos", "tarefas", "uso_pecas")) {
+            jdbcClient.sql("DELETE FROM " + filho + " WHERE execucao_id IN (:ids)").param("ids", ids).update();
+        }
+        return jdbcClient.sql("DELETE FROM execucoes_os WHERE id IN (:ids)").param("ids", ids).update();
+    }
+
+    @Override
+    public Optional<ExecucaoOS> findById(UUID id) {
+        return buscarArquivada("id = :chave", id);
+    }
+
+    @Override
+    public Optional<ExecucaoOS> findByOsId(UUID osId) {
+        return buscarArquivada("os_id = :chave", osId);
+    }
+
+    private Optional<ExecucaoOS> buscarArquivada(String condicao, UUID chave) {
+        Optional<ExecucaoOS> arquivada = jdbcClient.sql(SELECIONAR_ARQUIVADA + condicao + " ORDER BY arquivado_em DESC LIMIT 1")
+                .param("chave", chave)
+                .query(ExecucaoOSArquivoJdbcRepository::mapearExecucao)
+                .optional();
+        arquivada.ifPresent(this::carregarFilhos);
+        return arquivada;
+    }
+
+    private void carregarFilhos(ExecucaoOS execucao) {
+        Timestamp criadaEm = Timestamp.from(execucao.getCreatedAt());
+        execucao.setDiagnosticos(jdbcClient.sql("""
+                        SELECT id, descricao, mecanico, data_diagnostico, observacoes, created_at
+                          FROM diagnosticos_arquivo
+                         WHERE execucao_id = :id AND execucao_created_at = :criadaEm
+                         ORDER BY created_at, id""")
+                .param("id", execucao.getId())
+                .param("criadaEm", criadaEm)
+                .query((rs, rowNum) -> Diagnostico.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .descricao(rs.getString("descricao"))
+                        .mecanico(rs.getString("mecanico"))
+                        .dataDiagnostico(instant(rs.getTimestamp("data_diagnostico")))
+                        .observacoes(rs.getString("observacoes"))
+                        .createdAt(instant(rs.getTimestamp("created_at")))
+                        .build())
+                .list());
+        execucao.setTarefas(jdbcClient.sql("""
+                        SELECT id, descricao, mecanico, tempo_estimado_minutos, tempo_real_minutos, status,
+                               data_inicio, data_finalizacao, created_at
+                          FROM tarefas_arquivo
+                         WHERE execucao_id = :id AND execucao_created_at = :criadaEm
+                         ORDER BY created_at, id""")
+                .param("id", execucao.getId())
+                .param("criadaEm", criadaEm)
+                .query((rs, rowNum) -> Tarefa.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .descricao(rs.getString("descricao"))
+                        .mecanico(rs.getString("mecanico"))
+                        .tempoEstimadoMinutos(rs.getObject("tempo_estimado_minutos", Integer.class))
+                        .tempoRealMinutos(rs.getObject("tempo_real_minutos", Integer.class))
+                        .status(StatusTarefa.valueOf(rs.getString("status")))
+                        .dataInicio(instant(rs.getTimestamp("data_inicio")))
+                        .dataFinalizacao(instant(rs.getTimestamp("data_finalizacao")))
+                        .createdAt(instant(rs.getTimestamp("created_at")))
+                        .build())
+                .list());
+        execucao.setPecas(jdbcClient.sql("""
+                        SELECT id, peca_id, descricao, quantidade, valor_unitario, valor_total, data_uso, created_at
+                          FROM uso_pecas_arquivo
+                         WHERE execucao_id = :id AND execucao_created_at = :criadaEm
+                         ORDER BY created_at, id""")
+                .param("id", execucao.getId())
+                .param("criadaEm", criadaEm)
+                .query((rs, rowNum) -> UsoPeca.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .pecaId(rs.getObject("peca_id", UUID.class))
+                        .descricao(rs.getString("descricao"))
+                        .quantidade(rs.getInt("quantidade"))
+                        .valorUnitario(rs.getBigDecimal("valor_unitario"))
+                        .valorTotal(rs.getBigDecimal("valor_total"))
+                        .dataUso(instant(rs.getTimestamp("data_uso")))
+                        .createdAt(instant(rs.getTimestamp("created_at")))
+                        .build())
+                .list());
+    }
+
+    private static ExecucaoOS mapearExecucao(ResultSet rs, int rowNum) throws SQLException {
+        return ExecucaoOS.builder()
+                .id(rs.getObject("id", UUID.class))
+                .osId(rs.getObject("os_id", UUID.class))
+                .orcamentoId(rs.getObject("orcamento_id", UUID.class))
+                .status(StatusExecucao.valueOf(rs.getString("status")))
+                .mecanico(rs.getString("mecanico"))
+                .dataInicio(instant(rs.getTimestamp("data_inicio")))
+                .dataFinalizacao(instant(rs.getTimestamp("data_finalizacao")))
+                .observacoes(rs.getString("observacoes"))
+                .version(rs.getLong("version"))
+                .createdAt(instant(rs.getTimestamp("created_at")))
+                .updatedAt(instant(rs.getTimestamp("updated_at")))
+                .build();
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    /**
+     * Cria, se ainda não existirem, as partições de arquivo do mês.
+     *
+     * @param mes mês (UTC) da criação das execuções
+     */
+    public void garantirParticoes(YearMonth mes) {
+        jdbcClient.sql("SELECT garantir_particoes_arquivo(:mes)")
+                .param("mes", mes.atDay(1))
+                .query()
+                .listOfRows();
+    }
+
+    /**
+     * Remove (DROP) as partições de arquivo de meses anteriores ao informado.
+     *
+     * @param mes primeiro mês mantido
+     * @return quantidade de partições removidas
+     */
+    public int removerParticoesAnterioresA(YearMonth mes) {
+        return jdbcClient.sql("SELECT remover_particoes_arquivo_anteriores_a(:mes)")
+                .param("mes", mes.atDay(1))
+                .query(Integer.class)
+                .single();
+    }
+}
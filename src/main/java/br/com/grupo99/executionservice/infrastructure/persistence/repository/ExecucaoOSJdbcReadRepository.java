@@ -0,0 +1,229 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Caminho rápido de leitura das consultas quentes sem Hibernate: o ResultSet
+ * é mapeado direto para o modelo de domínio, sem entidades gerenciadas,
+ * snapshots de dirty checking nem a segunda conversão entidade → domínio.
+ *
+ * O agregado vem em um único statement e é montado em uma única passada:
+ * raiz e filhos são unidos por UNION ALL em colunas comuns, ordenados por
+ * tipo de linha e depois por (created_at, id), a mesma ordem do
+ * {@code @OrderBy} das coleções JPA. Um LEFT JOIN das três tabelas filhas
+ * multiplicaria as linhas (diagnósticos × tarefas × peças). Os status são
+ * convertidos para VARCHAR porque o H2 cria colunas ENUM distintas para
+ * StatusExecucao e StatusTarefa.
+ *
+ * Cada consulta é habilitada individualmente em
+ * execution.persistence.jdbc-reads; desabilitada, o adapter segue pelo JPA.
+ */
+@Repository
+public class ExecucaoOSJdbcReadRepository {
+
+    /**
+     * Consultas que podem ser servidas por este repositório.
+     */
+    public enum Consulta {
+        FIND_BY_ID, FIND_BY_OS_ID, EXISTS_BY_OS_ID
+    }
+
+    private static final int RAIZ = 0;
+    private static final int DIAGNOSTICO = 1;
+    private static final int TAREFA = 2;
+    private static final int PECA = 3;
+
+    private static final String SELECT_AGREGADO = """
+            WITH raiz AS (
+                SELECT id, os_id, orcamento_id, status, mecanico_id, data_inicio, data_finalizacao,
+                       observacoes, version, created_at, updated_at
+                  FROM execucoes_os
+                 WHERE %s = :chave
+            )
+            SELECT 0 AS tipo, r.id, r.os_id AS referencia_id, r.orcamento_id, CAST(r.status AS VARCHAR(30)) AS status,
+                   m.nome AS mecanico,
+                   CAST(NULL AS VARCHAR(200)) AS descricao, r.observacoes, r.data_inicio AS data_evento,
+                   r.data_finalizacao, CAST(NULL AS INTEGER) AS tempo_estimado_minutos,
+                   CAST(NULL AS INTEGER) AS tempo_real_minutos, CAST(NULL AS INTEGER) AS quantidade,
+                   r.version, CAST(NULL AS DECIMAL(10, 2)) AS valor_unitario,
+                   CAST(NULL AS DECIMAL(10, 2)) AS valor_total, r.created_at, r.updated_at
+              FROM raiz r JOIN mecanicos m ON m.id = r.mecanico_id
+            UNION ALL
+            SELECT 1, d.id, NULL, NULL, NULL, m.nome,
+                   d.descricao, d.observacoes, d.data_diagnostico,
+                   NULL, NULL,
+                   NULL, NULL,
+                   NULL, NULL,
+                   NULL, d.created_at, NULL
+              FROM diagnosticos d JOIN raiz r ON d.execucao_id = r.id JOIN mecanicos m ON m.id = d.mecanico_id
+            UNION ALL
+            SELECT 2, t.id, NULL, NULL, CAST(t.status AS VARCHAR(30)), m.nome,
+                   t.descricao, NULL, t.data_inicio,
+                   t.data_finalizacao, t.tempo_estimado_minutos,
+                   t.tempo_real_minutos, NULL,
+                   NULL, NULL,
+                   NULL, t.created_at, NULL
+              FROM tarefas t JOIN raiz r ON t.execucao_id = r.id JOIN mecanicos m ON m.id = t.mecanico_id
+            UNION ALL
+            SELECT 3, p.id, p.peca_id, NULL, NULL, NULL,
+                   p.descricao, NULL, p.data_uso,
+                   NULL, NULL,
+                   NULL, p.quantidade,
+                   NULL, p.valor_unitario,
+                   p.valor_total, p.created_at, NULL
+              FROM uso_pecas p JOIN raiz r ON p.execucao_id = r.id
+             ORDER BY tipo, created_at, id""";
+
+    private static final String SELECT_POR_ID = SELECT_AGREGADO.formatted("id");
+    private static final String SELECT_POR_OS_ID = SELECT_AGREGADO.formatted("os_id");
+
+    private final JdbcClient jdbcClient;
+    private final Set<Consulta> habilitadas;
+
+    public ExecucaoOSJdbcReadRepository(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${execution.persistence.jdbc-reads.find-by-id:false}") boolean findById,
+            @Value("${execution.persistence.jdbc-reads.find-by-os-id:false}") boolean findByOsId,
+            @Value("${execution.persistence.jdbc-reads.exists-by-os-id:false}") boolean existsByOsId) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.habilitadas = EnumSet.noneOf(Consulta.class);
+        if (findById) {
+            habilitadas.add(Consulta.FIND_BY_ID);
+        }
+        if (findByOsId) {
+            habilitadas.add(Consulta.FIND_BY_OS_ID);
+        }
+        if (existsByOsId) {
+            habilitadas.add(Consulta.EXISTS_BY_OS_ID);
+        }
+    }
+
+    /**
+     * Indica se a consulta foi configurada para usar este caminho.
+     */
+    public boolean habilitada(Consulta consulta) {
+        return habilitadas.contains(consulta);
+    }
+
+    public Optional<ExecucaoOS> findById(UUID id) {
+        return buscarAgregado(SELECT_POR_ID, id);
+    }
+
+    public Optional<ExecucaoOS> findByOsId(UUID osId) {
+        return buscarAgregado(SELECT_POR_OS_ID, osId);
+    }
+
+    public boolean existsByOsId(UUID osId) {
+        return jdbcClient.sql("SELECT 1 FROM execucoes_os WHERE os_id = :osId")
+                .param("osId", osId)
+                .query((rs, rowNum) -> rs.getInt(1))
+                .optional()
+                .isPresent();
+    }
+
+    private Optional<ExecucaoOS> buscarAgregado(String sql, UUID chave) {
+        return jdbcClient.sql(sql)
+                .param("chave", chave)
+                .query(ExecucaoOSJdbcReadRepository::mapearAgregado);
+    }
+
+    /**
+     * A primeira linha é sempre a raiz (tipo 0); as demais são os filhos, já
+     * na ordem das coleções.
+     */
+    private static Optional<ExecucaoOS> mapearAgregado(ResultSet rs) throws SQLException {
+        if (!rs.next() || rs.getInt("tipo") != RAIZ) {
+            return Optional.empty();
+        }
+        ExecucaoOS.ExecucaoOSBuilder raiz = mapearRaiz(rs);
+        List<Diagnostico> diagnosticos = new ArrayList<>();
+        List<Tarefa> tarefas = new ArrayList<>();
+        List<UsoPeca> pecas = new ArrayList<>();
+        while (rs.next()) {
+            switch (rs.getInt("tipo")) {
+                case DIAGNOSTICO -> diagnosticos.add(mapearDiagnostico(rs));
+                case TAREFA -> tarefas.add(mapearTarefa(rs));
+                case PECA -> pecas.add(mapearUsoPeca(rs));
+                default -> throw new IllegalStateException("Tipo de linha desconhecido: " + rs.getInt("tipo"));
+            }
+        }
+        return Optional.of(raiz.diagnosticos(diagnosticos).tarefas(tarefas).pecas(pecas).build());
+    }
+
+    private static ExecucaoOS.ExecucaoOSBuilder mapearRaiz(ResultSet rs) throws SQLException {
+        return ExecucaoOS.builder()
+                .id(rs.getObject("id", UUID.class))
+                .osId(rs.getObject("referencia_id", UUID.class))
+                .orcamentoId(rs.getObject("orcamento_id", UUID.class))
+                .status(StatusExecucao.valueOf(rs.getString("status")))
+                .mecanico(rs.getString("mecanico"))
+                .dataInicio(instant(rs.getTimestamp("data_evento")))
+                .dataFinalizacao(instant(rs.getTimestamp("data_finalizacao")))
+                .observacoes(rs.getString("observacoes"))
+                .version(rs.getLong("version"))
+                .createdAt(instant(rs.getTimestamp("created_at")))
+                .updatedAt(instant(rs.getTimestamp("updated_at")));
+    }
+
+    private static Diagnostico mapearDiagnostico(ResultSet rs) throws SQLException {
+        return Diagnostico.builder()
+                .id(rs.getObject("id", UUID.class))
+                .descricao(rs.getString("descricao"))
+                .mecanico(rs.getString("mecanico"))
+                .dataDiagnostico(instant(rs.getTimestamp("data_evento")))
+                .observacoes(rs.getString("observacoes"))
+                .createdAt(instant(rs.getTimestamp("created_at")))
+                .build();
+    }
+
+    private static Tarefa mapearTarefa(ResultSet rs) throws SQLException {
+        return Tarefa.builder()
+                .id(rs.getObject("id", UUID.class))
+                .descricao(rs.getString("descricao"))
+                .mecanico(rs.getString("mecanico"))
+                .tempoEstimadoMinutos(rs.getObject("tempo_estimado_minutos", Integer.class))
+                .tempoRealMinutos(rs.getObject("tempo_real_minutos", Integer.class))
+                .status(StatusTarefa.valueOf(rs.getString("status")))
+                .dataInicio(instant(rs.getTimestamp("data_evento")))
+                .dataFinalizacao(instant(rs.getTimestamp("data_finalizacao")))
+                .createdAt(instant(rs.getTimestamp("created_at")))
+                .build();
+    }
+
+    private static UsoPeca mapearUsoPeca(ResultSet rs) throws SQLException {
+        return UsoPeca.builder()
+                .id(rs.getObject("id", UUID.class))
+                .pecaId(rs.getObject("referencia_id", UUID.class))
+                .descricao(rs.getString("descricao"))
+                .quantidade(rs.getObject("quantidade", Integer.class))
+                .valorUnitario(rs.getBigDecimal("valor_unitario"))
+                .valorTotal(rs.getBigDecimal("valor_total"))
+                .dataUso(instant(rs.getTimestamp("data_evento")))
+                .createdAt(instant(rs.getTimestamp("created_at")))
+                .build();
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
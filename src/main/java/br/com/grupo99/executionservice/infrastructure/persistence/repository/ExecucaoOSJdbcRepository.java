@@ -0,0 +1,387 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.domain.model.TransicaoTarefa;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Operações JDBC sobre execucoes_os que não cabem no modelo de entidades
+ * gerenciadas: escritas condicionais de uma única ida ao banco e operações
+ * em lote (consulta por conjunto de chaves e INSERT em batch JDBC).
+ *
+ * Escrito para PostgreSQL: as escritas condicionais usam
+ * {@code UPDATE ... RETURNING} e o insert condicional usa
+ * {@code INSERT ... ON CONFLICT (os_id) DO NOTHING}, cada um em um único
+ * statement.
+ */
+@Repository
+public class ExecucaoOSJdbcRepository {
+
+    private static final String COLUNAS_INSERT = """
+            id, os_id, orcamento_id, status, mecanico_id, data_inicio,
+            data_finalizacao, observacoes, version, created_at, updated_at""";
+
+    private static final String VALORES_INSERT = """
+            :id, :osId, :orcamentoId, :status, :mecanicoId, :dataInicio,
+            :dataFinalizacao, :observacoes, :version, :createdAt, :updatedAt""";
+
+    /**
+     * INSERT que não faz nada se já houver execução para a OS: o trigger do
+     * registro de OS (V13) descarta a linha de uma OS já registrada, mesmo
+     * com a execução arquivada, e o ON CONFLICT na constraint única de os_id
+     * resolve o que restar, sem exceção. Qualquer outra violação (ID
+     * repetido, por exemplo) continua sendo erro.
+     */
+    private static final String INSERT_SE_AUSENTE =
+            "INSERT INTO execucoes_os (" + COLUNAS_INSERT + ")\nVALUES (" + VALORES_INSERT
+                    + ")\nON CONFLICT (os_id) DO NOTHING";
+
+    private static final String COLUNAS_TAREFA = """
+            id, descricao, mecanico_id, tempo_estimado_minutos, tempo_real_minutos, status,
+            data_inicio, data_finalizacao, created_at""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+    private final MecanicoDicionario mecanicos;
+
+    public ExecucaoOSJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, MecanicoDicionario mecanicos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.mecanicos = mecanicos;
+    }
+
+    /**
+     * Estado mínimo de uma execução, usado para diagnosticar por que uma
+     * escrita condicional não afetou nenhuma linha.
+     */
+    public record EstadoAtual(StatusExecucao status, Long version) {
+    }
+
+    /**
+     * Aplica a transição somente se o status atual estiver entre as origens
+     * permitidas (e, se informada, a versão for a esperada), incrementando a
+     * versão.
+     *
+     * @param id              ID da execução
+     * @param transicao       transição desejada
+     * @param expectedVersion versão esperada; nulo para não verificar
+     * @return resumo pós-transição; vazio se nenhuma linha atendeu às condições
+     */
+    public Optional<ExecucaoOSResumo> transicionarStatus(UUID id, TransicaoStatus transicao, Long expectedVersion) {
+        StringBuilder update = new StringBuilder("""
+                UPDATE execucoes_os
+                   SET status = :destino,
+                       version = version + 1,
+                       updated_at = :momento""");
+        if (transicao.registraFinalizacao()) {
+            update.append(",\n       data_finalizacao = :momento");
+        }
+        if (transicao.alteraObservacoes()) {
+            update.append(",\n       observacoes = :observacoes");
+        }
+        update.append("\n WHERE id = :id AND status IN (:origens)");
+        if (expectedVersion != null) {
+            update.append(" AND version = :version");
+        }
+
+        update.append("\nRETURNING ").append(colunasResumo("execucoes_os"));
+
+        JdbcClient.StatementSpec statement = jdbcClient.sql(update.toString())
+                .param("id", id)
+                .param("destino", transicao.destino().name())
+                .param("momento", Timestamp.from(transicao.momento()))
+                .param("origens", transicao.origens().stream().map(Enum::name).toList());
+        if (transicao.alteraObservacoes()) {
+            statement = statement.param("observacoes", transicao.observacoes(), Types.VARCHAR);
+        }
+        if (expectedVersion != null) {
+            statement = statement.param("version", expectedVersion);
+        }
+        return statement.query(ExecucaoOSJdbcRepository::mapearResumo).optional();
+    }
+
+    /**
+     * Incrementa a versão da execução (e, se informada, somente se a versão
+     * atual for a esperada), sem alterar o status. Usado ao acrescentar um
+     * filho sem carregar o agregado; o UPDATE também serializa acréscimos
+     * concorrentes na mesma execução.
+     *
+     * @param id              ID da execução
+     * @param expectedVersion versão esperada; nulo para não verificar
+     * @param momento         novo updated_at
+     * @return nova versão; vazio se nenhuma linha atendeu às condições
+     */
+    public Optional<Long> incrementarVersao(UUID id, Long expectedVersion, Instant momento) {
+        String update = """
+                UPDATE execucoes_os
+                   SET version = version + 1,
+                       updated_at = :momento
+                 WHERE id = :id""";
+        if (expectedVersion != null) {
+            update += " AND version = :version";
+        }
+
+        update += "\nRETURNING version";
+
+        JdbcClient.StatementSpec statement = jdbcClient.sql(update)
+                .param("id", id)
+                .param("momento", Timestamp.from(momento));
+        if (expectedVersion != null) {
+            statement = statement.param("version", expectedVersion);
+        }
+        return statement.query(Long.class).optional();
+    }
+
+    /**
+     * Aplica a transição somente se a tarefa pertencer à execução e o status
+     * atual dela estiver entre as origens permitidas, em um único statement
+     * sobre a linha da tarefa.
+     *
+     * @param id        ID da execução
+     * @param tarefaId  ID da tarefa
+     * @param transicao transição desejada
+     * @return tarefa pós-transição; vazio se nenhuma linha atendeu às condições
+     */
+    public Optional<Tarefa> transicionarTarefa(UUID id, UUID tarefaId, TransicaoTarefa transicao) {
+        StringBuilder update = new StringBuilder("""
+                UPDATE tarefas
+                   SET status = :destino""");
+        if (transicao.registraFinalizacao()) {
+            update.append(",\n       tempo_real_minutos = :tempoReal,\n       data_finalizacao = :momento");
+        }
+        update.append("\n WHERE id = :tarefaId AND execucao_id = :id AND status IN (:origens)");
+
+        update.append("\nRETURNING ").append(COLUNAS_TAREFA);
+
+        JdbcClient.StatementSpec statement = jdbcClient.sql(update.toString())
+                .param("id", id)
+                .param("tarefaId", tarefaId)
+                .param("destino", transicao.destino().name())
+                .param("origens", transicao.origens().stream().map(Enum::name).toList());
+        if (transicao.registraFinalizacao()) {
+            statement = statement
+                    .param("tempoReal", transicao.tempoRealMinutos(), Types.INTEGER)
+                    .param("momento", Timestamp.from(transicao.momento()));
+        }
+        return statement.query(this::mapearTarefa).optional();
+    }
+
+    /**
+     * Lê apenas o status de uma tarefa da execução.
+     *
+     * @param id       ID da execução
+     * @param tarefaId ID da tarefa
+     * @return status atual; vazio se a tarefa não existir nessa execução
+     */
+    public Optional<StatusTarefa> findStatusTarefa(UUID id, UUID tarefaId) {
+        return jdbcClient.sql("SELECT status FROM tarefas WHERE id = :tarefaId AND execucao_id = :id")
+                .param("id", id)
+                .param("tarefaId", tarefaId)
+                .query((rs, rowNum) -> StatusTarefa.valueOf(rs.getString("status")))
+                .optional();
+    }
+
+    /**
+     * Lê apenas status e versão de uma execução.
+     *
+     * @param id ID da execução
+     * @return estado atual; vazio se a execução não existir
+     */
+    public Optional<EstadoAtual> findEstadoAtual(UUID id) {
+        return jdbcClient.sql("SELECT status, version FROM execucoes_os WHERE id = :id")
+                .param("id", id)
+                .query((rs, rowNum) -> new EstadoAtual(
+                        StatusExecucao.valueOf(rs.getString("status")),
+                        rs.getLong("version")))
+                .optional();
+    }
+
+    /**
+     * Lê apenas ID e versão de uma execução, pela chave primária.
+     *
+     * @param id ID da execução
+     * @return versão atual; vazio se a execução não existir
+     */
+    public Optional<VersaoExecucao> findVersao(UUID id) {
+        return jdbcClient.sql("SELECT id, version FROM execucoes_os WHERE id = :id")
+                .param("id", id)
+                .query(ExecucaoOSJdbcRepository::mapearVersao)
+                .optional();
+    }
+
+    /**
+     * Lê apenas ID e versão da execução de uma OS, pelo índice único de
+     * os_id.
+     *
+     * @param osId ID da OS
+     * @return versão atual; vazio se a OS não tiver execução
+     */
+    public Optional<VersaoExecucao> findVersaoPorOsId(UUID osId) {
+        return jdbcClient.sql("SELECT id, version FROM execucoes_os WHERE os_id = :osId")
+                .param("osId", osId)
+                .query(ExecucaoOSJdbcRepository::mapearVersao)
+                .optional();
+    }
+
+    /**
+     * Resolve, em uma única consulta {@code IN}, quais das OS informadas já
+     * possuem execução. Consulta o registro de OS (V13), que inclui as
+     * execuções já arquivadas.
+     *
+     * @param osIds IDs de OS a verificar
+     * @return subconjunto de {@code osIds} que já tem execução
+     */
+    public Set<UUID> findExistingOsIds(Collection<UUID> osIds) {
+        if (osIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcClient.sql("SELECT os_id FROM execucoes_os_registro WHERE os_id IN (:osIds)")
+                .param("osIds", osIds)
+                .query((rs, rowNum) -> rs.getObject("os_id", UUID.class))
+                .list());
+    }
+
+    /**
+     * Insere a raiz da execução se ainda não houver execução para a mesma OS,
+     * em um único statement. Filhos não são gravados: o método destina-se a
+     * execuções recém-criadas.
+     *
+     * @param execucao execução nova
+     * @return true se a linha foi criada; false se a OS já tinha execução
+     */
+    public boolean inserirSeAusente(ExecucaoOS execucao) {
+        return jdbcTemplate.update(INSERT_SE_AUSENTE, parametrosInsert(execucao)) > 0;
+    }
+
+    /**
+     * Versão em lote de {@link #inserirSeAusente(ExecucaoOS)}: todas as raízes
+     * seguem em um único batch JDBC e as OS que já têm execução são ignoradas.
+     *
+     * Se o driver não informar a contagem de algum statement do batch
+     * ({@link Statement#SUCCESS_NO_INFO}, por exemplo com
+     * {@code reWriteBatchedInserts}), as linhas inseridas são contadas por
+     * uma consulta aos IDs do lote, na mesma transação.
+     *
+     * @param execucoes execuções a inserir
+     * @return quantidade de linhas efetivamente inseridas
+     */
+    public int inserirNovas(List<ExecucaoOS> execucoes) {
+        if (execucoes.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] parametros = execucoes.stream()
+                .map(this::parametrosInsert)
+                .toArray(SqlParameterSource[]::new);
+        int inseridas = 0;
+        for (int linhas : jdbcTemplate.batchUpdate(INSERT_SE_AUSENTE, parametros)) {
+            if (linhas < 0) {
+                return contarInseridas(execucoes);
+            }
+            inseridas += linhas;
+        }
+        return inseridas;
+    }
+
+    private int contarInseridas(List<ExecucaoOS> execucoes) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM execucoes_os WHERE id IN (:ids)")
+                .param("ids", execucoes.stream().map(ExecucaoOS::getId).toList())
+                .query(Integer.class)
+                .single();
+    }
+
+    private SqlParameterSource parametrosInsert(ExecucaoOS execucao) {
+        Instant criacao = execucao.getCreatedAt() != null ? execucao.getCreatedAt() : Instant.now();
+        Instant atualizacao = execucao.getUpdatedAt() != null ? execucao.getUpdatedAt() : criacao;
+        return new MapSqlParameterSource()
+                .addValue("id", execucao.getId())
+                .addValue("osId", execucao.getOsId())
+                .addValue("orcamentoId", execucao.getOrcamentoId(), Types.OTHER)
+                .addValue("status", execucao.getStatus().name())
+                .addValue("mecanicoId", mecanicos.idDe(execucao.getMecanico()))
+                .addValue("dataInicio", timestamp(execucao.getDataInicio()), Types.TIMESTAMP)
+                .addValue("dataFinalizacao", timestamp(execucao.getDataFinalizacao()), Types.TIMESTAMP)
+                .addValue("observacoes", execucao.getObservacoes(), Types.VARCHAR)
+                .addValue("version", execucao.getVersion() != null ? execucao.getVersion() : 0L)
+                .addValue("createdAt", Timestamp.from(criacao))
+                .addValue("updatedAt", Timestamp.from(atualizacao));
+    }
+
+    private static String colunasResumo(String alias) {
+        return """
+                %1$s.id, %1$s.os_id, %1$s.orcamento_id, %1$s.status,
+                (SELECT m.nome FROM mecanicos m WHERE m.id = %1$s.mecanico_id) AS mecanico,
+                %1$s.data_inicio, %1$s.data_finalizacao, %1$s.observacoes, %1$s.version,
+                (SELECT COUNT(*) FROM diagnosticos d WHERE d.execucao_id = %1$s.id) AS total_diagnosticos,
+                (SELECT COUNT(*) FROM tarefas t WHERE t.execucao_id = %1$s.id) AS total_tarefas,
+                (SELECT COUNT(*) FROM uso_pecas p WHERE p.execucao_id = %1$s.id) AS total_pecas,
+                %1$s.created_at, %1$s.updated_at""".formatted(alias);
+    }
+
+    static ExecucaoOSResumo mapearResumo(ResultSet rs, int rowNum) throws SQLException {
+        return new ExecucaoOSResumo(
+                rs.getObject("id", UUID.class),
+                rs.getObject("os_id", UUID.class),
+                rs.getObject("orcamento_id", UUID.class),
+                StatusExecucao.valueOf(rs.getString("status")),
+                rs.getString("mecanico"),
+                instant(rs.getTimestamp("data_inicio")),
+                instant(rs.getTimestamp("data_finalizacao")),
+                rs.getString("observacoes"),
+                rs.getLong("version"),
+                rs.getInt("total_diagnosticos"),
+                rs.getInt("total_tarefas"),
+                rs.getInt("total_pecas"),
+                instant(rs.getTimestamp("created_at")),
+                instant(rs.getTimestamp("updated_at")));
+    }
+
+    private static VersaoExecucao mapearVersao(ResultSet rs, int rowNum) throws SQLException {
+        return new VersaoExecucao(rs.getObject("id", UUID.class), rs.getLong("version"));
+    }
+
+    private Tarefa mapearTarefa(ResultSet rs, int rowNum) throws SQLException {
+        return Tarefa.builder()
+                .id(rs.getObject("id", UUID.class))
+                .descricao(rs.getString("descricao"))
+                .mecanico(mecanicos.nomeDe(rs.getInt("mecanico_id")))
+                .tempoEstimadoMinutos(rs.getObject("tempo_estimado_minutos", Integer.class))
+                .tempoRealMinutos(rs.getObject("tempo_real_minutos", Integer.class))
+                .status(StatusTarefa.valueOf(rs.getString("status")))
+                .dataInicio(instant(rs.getTimestamp("data_inicio")))
+                .dataFinalizacao(instant(rs.getTimestamp("data_finalizacao")))
+                .createdAt(instant(rs.getTimestamp("created_at")))
+                .build();
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
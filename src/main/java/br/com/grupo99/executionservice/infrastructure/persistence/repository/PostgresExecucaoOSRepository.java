@@ -1,12 +1,23 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.repository;
 
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository para ExecucaoOSEntity.
@@ -15,11 +26,83 @@ import java.util.UUID;
 @Repository
 public interface PostgresExecucaoOSRepository extends JpaRepository<ExecucaoOSEntity, UUID> {
 
+    /**
+     * Tamanho de lote usado pelo cursor do servidor na leitura em streaming.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Projeção de resumo: colunas da raiz + contagem de cada coleção filha.
+     * SIZE() é traduzido em subconsultas agregadas correlacionadas, de modo
+     * que o resumo inteiro sai em um único SELECT, sem carregar os filhos. O
+     * nome do mecânico vem do join com o dicionário, pela chave primária.
+     */
+    String SELECT_RESUMO = """
+            SELECT new br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo(
+                e.id, e.osId, e.orcamentoId, e.status, m.nome,
+                e.dataInicio, e.dataFinalizacao, e.observacoes, e.version,
+                SIZE(e.diagnosticos), SIZE(e.tarefas), SIZE(e.pecas),
+                e.createdAt, e.updatedAt)
+            FROM ExecucaoOSEntity e
+            JOIN MecanicoEntity m ON m.id = e.mecanicoId
+            """;
+
+    /**
+     * Carrega o agregado completo em até dois SELECTs: raiz + diagnósticos +
+     * tarefas via entity graph e peças via segundo SELECT.
+     */
+    @Override
+    @EntityGraph(ExecucaoOSEntity.GRAFO_AGREGADO)
+    Optional<ExecucaoOSEntity> findById(UUID id);
+
+    /**
+     * Mesmo plano de carga de {@link #findById(Object)}, pela chave de OS.
+     */
+    @EntityGraph(ExecucaoOSEntity.GRAFO_AGREGADO)
     Optional<ExecucaoOSEntity> findByOsId(UUID osId);
 
-    List<ExecucaoOSEntity> findByStatus(String status);
+    List<ExecucaoOSEntity> findByStatus(StatusExecucao status);
 
-    List<ExecucaoOSEntity> findByMecanico(String mecanico);
+    /**
+     * Filtra pela chave do dicionário (mecanico_id), já resolvida a partir do
+     * nome, assim como {@link #findResumosByMecanicoId(Integer)}.
+     */
+    List<ExecucaoOSEntity> findByMecanicoId(Integer mecanicoId);
 
     boolean existsByOsId(UUID osId);
+
+    @Query(SELECT_RESUMO + "WHERE e.status = :status ORDER BY e.createdAt, e.id")
+    List<ExecucaoOSResumo> findResumosByStatus(@Param("status") StatusExecucao status);
+
+    @Query(SELECT_RESUMO + "WHERE e.mecanicoId = :mecanicoId ORDER BY e.createdAt, e.id")
+    List<ExecucaoOSResumo> findResumosByMecanicoId(@Param("mecanicoId") Integer mecanicoId);
+
+    /**
+     * Primeira página da listagem keyset ordenada por (created_at, id).
+     */
+    @Query(SELECT_RESUMO + "ORDER BY e.createdAt, e.id")
+    List<ExecucaoOSResumo> findFirstPage(Pageable pageable);
+
+    /**
+     * Página seguinte ao cursor (created_at, id), usando o índice
+     * idx_execucoes_created_at_id em vez de OFFSET.
+     */
+    @Query(SELECT_RESUMO + """
+            WHERE e.createdAt > :createdAt
+               OR (e.createdAt = :createdAt AND e.id > :id)
+            ORDER BY e.createdAt, e.id
+            """)
+    List<ExecucaoOSResumo> findPageAfter(
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    /**
+     * Leitura em streaming via cursor do servidor (fetch size > 0 dentro de
+     * transação). Por ser uma projeção, nenhuma entidade entra no contexto
+     * de persistência enquanto o cursor é percorrido.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SELECT_RESUMO + "ORDER BY e.createdAt, e.id")
+    Stream<ExecucaoOSResumo> streamAllResumos();
 }
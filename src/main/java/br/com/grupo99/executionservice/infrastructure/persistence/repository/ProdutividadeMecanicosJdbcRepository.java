@@ -0,0 +1,158 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.ProdutividadeMecanico;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.repository.ProdutividadeMecanicoRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rollup diário de produtividade por mecânico (produtividade_mecanicos).
+ *
+ * Cada tarefa concluída soma, na linha (dia da finalização, mecânico), a
+ * contagem, os tempos estimado e real, seus quadrados e o produto dos dois.
+ * O dia é calculado pelo banco (CAST para DATE), como na reconstrução. O
+ * incremento é um único statement {@code INSERT ... ON CONFLICT DO UPDATE}.
+ *
+ * A reconstrução apaga e recalcula um intervalo de dias a partir de tarefas
+ * e tarefas_arquivo; o arquivo guarda o nome do mecânico, que é registrado
+ * no dicionário se ainda não existir.
+ */
+@Repository
+public class ProdutividadeMecanicosJdbcRepository implements ProdutividadeMecanicoRepository {
+
+    private static final String[] SOMAS = {
+            "tarefas_concluidas", "tarefas_com_tempos", "soma_estimado", "soma_real",
+            "soma_quadrados_estimado", "soma_quadrados_real", "soma_produtos" };
+
+    private static final String COLUNAS = "dia, mecanico_id, " + String.join(", ", SOMAS);
+
+    /**
+     * Tempos de uma tarefa concluída; estimado e real só entram nas somas
+     * quando os dois estão preenchidos.
+     */
+    private static final String TEMPOS = """
+            SELECT CAST(%1$s.data_finalizacao AS DATE) AS dia, %2$s AS mecanico_id,
+                   CASE WHEN %1$s.tempo_real_minutos IS NOT NULL
+                        THEN CAST(%1$s.tempo_estimado_minutos AS BIGINT) END AS estimado,
+                   CASE WHEN %1$s.tempo_estimado_minutos IS NOT NULL
+                        THEN CAST(%1$s.tempo_real_minutos AS BIGINT) END AS tempo_real
+            """;
+
+    /**
+     * Contribuição de uma tarefa, na ordem de {@link #COLUNAS}.
+     */
+    private static final String[] CONTRIBUICAO = {
+            "CAST(:finalizadaEm AS DATE)", "CAST(:mecanicoId AS INTEGER)", "CAST(1 AS BIGINT)",
+            "CAST(:comTempos AS BIGINT)", "CAST(:estimado AS BIGINT)", "CAST(:tempoReal AS BIGINT)",
+            "CAST(:quadradoEstimado AS BIGINT)", "CAST(:quadradoReal AS BIGINT)", "CAST(:produto AS BIGINT)" };
+
+    private static final String REGISTRAR = """
+            INSERT INTO produtividade_mecanicos AS p (%s)
+            VALUES (%s)
+            ON CONFLICT (dia, mecanico_id) DO UPDATE SET %s"""
+            .formatted(COLUNAS, String.join(", ", CONTRIBUICAO), somar("EXCLUDED"));
+
+    private static final String RECONSTRUIR = """
+            INSERT INTO produtividade_mecanicos (%s)
+            SELECT c.dia, c.mecanico_id, COUNT(*), COUNT(c.estimado),
+                   COALESCE(SUM(c.estimado), 0), COALESCE(SUM(c.tempo_real), 0),
+                   COALESCE(SUM(c.estimado * c.estimado), 0), COALESCE(SUM(c.tempo_real * c.tempo_real), 0),
+                   COALESCE(SUM(c.estimado * c.tempo_real), 0)
+              FROM (%s  FROM tarefas t
+                    WHERE t.status = 'CONCLUIDA' AND t.data_finalizacao >= :inicio AND t.data_finalizacao < :fim
+                    UNION ALL
+                    %s  FROM tarefas_arquivo a
+                      JOIN mecanicos m ON m.nome = a.mecanico
+                    WHERE a.status = 'CONCLUIDA' AND a.data_finalizacao >= :inicio AND a.data_finalizacao < :fim) c
+             GROUP BY c.dia, c.mecanico_id"""
+            .formatted(COLUNAS, TEMPOS.formatted("t", "t.mecanico_id"), TEMPOS.formatted("a", "m.id"));
+
+    private static final String SOMAR_PERIODO = """
+            SELECT m.nome AS mecanico, %s
+              FROM produtividade_mecanicos p
+              JOIN mecanicos m ON m.id = p.mecanico_id
+             WHERE p.dia BETWEEN :de AND :ate
+             GROUP BY m.nome
+             ORDER BY m.nome"""
+            .formatted(Arrays.stream(SOMAS).map(soma -> "SUM(p.%1$s) AS %1$s".formatted(soma))
+                    .collect(Collectors.joining(", ")));
+
+    private final JdbcClient jdbcClient;
+    private final MecanicoDicionario mecanicos;
+
+    public ProdutividadeMecanicosJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, MecanicoDicionario mecanicos) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.mecanicos = mecanicos;
+    }
+
+    @Override
+    public void registrarConclusao(Tarefa tarefa) {
+        Integer estimadoMinutos = tarefa.getTempoEstimadoMinutos();
+        Integer realMinutos = tarefa.getTempoRealMinutos();
+        boolean comTempos = estimadoMinutos != null && realMinutos != null;
+        long estimado = comTempos ? estimadoMinutos : 0;
+        long real = comTempos ? realMinutos : 0;
+        jdbcClient.sql(REGISTRAR)
+                .param("finalizadaEm", Timestamp.from(tarefa.getDataFinalizacao()))
+                .param("mecanicoId", mecanicos.idDe(tarefa.getMecanico()))
+                .param("comTempos", comTempos ? 1 : 0)
+                .param("estimado", estimado)
+                .param("tempoReal", real)
+                .param("quadradoEstimado", estimado * estimado)
+                .param("quadradoReal", real * real)
+                .param("produto", estimado * real)
+                .update();
+    }
+
+    @Override
+    public List<ProdutividadeMecanico> somarPorMecanico(LocalDate de, LocalDate ate) {
+        return jdbcClient.sql(SOMAR_PERIODO)
+                .param("de", de)
+                .param("ate", ate)
+                .query((rs, rowNum) -> new ProdutividadeMecanico(
+                        rs.getString("mecanico"),
+                        rs.getLong("tarefas_concluidas"),
+                        rs.getLong("tarefas_com_tempos"),
+                        rs.getLong("soma_estimado"),
+                        rs.getLong("soma_real"),
+                        rs.getLong("soma_quadrados_estimado"),
+                        rs.getLong("soma_quadrados_real"),
+                        rs.getLong("soma_produtos")))
+                .list();
+    }
+
+    @Override
+    public int reconstruir(LocalDate de, LocalDate ate) {
+        jdbcClient.sql("""
+                SELECT DISTINCT mecanico FROM tarefas_arquivo
+                 WHERE status = 'CONCLUIDA' AND data_finalizacao >= :inicio AND data_finalizacao < :fim""")
+                .param("inicio", de.atStartOfDay())
+                .param("fim", ate.atStartOfDay())
+                .query(String.class)
+                .list()
+                .forEach(mecanicos::idDe);
+        jdbcClient.sql("DELETE FROM produtividade_mecanicos WHERE dia >= :de AND dia < :ate")
+                .param("de", de)
+                .param("ate", ate)
+                .update();
+        return jdbcClient.sql(RECONSTRUIR)
+                .param("inicio", de.atStartOfDay())
+                .param("fim", ate.atStartOfDay())
+                .update();
+    }
+
+    private static String somar(String origem) {
+        return Arrays.stream(SOMAS)
+                .map(soma -> "%1$s = p.%1$s + %2$s.%1$s".formatted(soma, origem))
+                .collect(Collectors.joining(", "));
+    }
+}
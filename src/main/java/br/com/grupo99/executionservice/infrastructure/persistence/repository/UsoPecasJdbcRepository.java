@@ -0,0 +1,69 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Leitura sequencial dos usos de peças (tabelas quente e de arquivo) para
+ * reconstruir o ranking em memória.
+ *
+ * As linhas são lidas em blocos de {@value #FETCH_SIZE} (cursor no
+ * PostgreSQL, dentro de uma transação) e entregues uma a uma, sem carregar o
+ * período inteiro em memória.
+ */
+@Repository
+public class UsoPecasJdbcRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String USOS = """
+            SELECT peca_id, quantidade, valor_total, data_uso, created_at FROM %s
+             WHERE data_uso >= :usadosDesde AND created_at < :criadosAntesDe""";
+
+    private static final String USOS_COM_ARQUIVO = USOS.formatted("uso_pecas")
+            + "\nUNION ALL\n" + USOS.formatted("uso_pecas_arquivo");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UsoPecasJdbcRepository(DataSource dataSource) {
+        JdbcTemplate leitura = new JdbcTemplate(dataSource);
+        leitura.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(leitura);
+    }
+
+    /**
+     * Percorre os usos de peças a partir de uma data de uso.
+     *
+     * @param usadosDesde    menor data de uso (inclusive)
+     * @param criadosAntesDe só usos gravados antes deste instante
+     * @param consumidor     recebe cada uso (peça, quantidade, valor total,
+     *                       data de uso e criação)
+     * @return quantidade de usos lidos
+     */
+    public long percorrer(Instant usadosDesde, Instant criadosAntesDe, Consumer<UsoPeca> consumidor) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("usadosDesde", Timestamp.from(usadosDesde))
+                .addValue("criadosAntesDe", Timestamp.from(criadosAntesDe));
+        long[] lidos = { 0 };
+        jdbcTemplate.query(USOS_COM_ARQUIVO, parametros, rs -> {
+            consumidor.accept(UsoPeca.builder()
+                    .pecaId(rs.getObject("peca_id", UUID.class))
+                    .quantidade(rs.getInt("quantidade"))
+                    .valorTotal(rs.getBigDecimal("valor_total"))
+                    .dataUso(rs.getTimestamp("data_uso").toInstant())
+                    .createdAt(rs.getTimestamp("created_at").toInstant())
+                    .build());
+            lidos[0]++;
+        });
+        return lidos[0];
+    }
+}
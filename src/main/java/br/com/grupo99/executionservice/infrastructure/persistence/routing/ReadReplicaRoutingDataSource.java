@@ -0,0 +1,45 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Roteia conexões entre o primário e a réplica de leitura.
+ *
+ * Vai à réplica apenas dentro de transação {@code readOnly = true} e quando o
+ * cliente corrente não está na janela de read-your-writes; todo o resto
+ * (escritas, código fora de transação, Flyway) usa o primário.
+ *
+ * Deve ser envolvido por um LazyConnectionDataSourceProxy: o transaction
+ * manager obtém a conexão antes de marcar a transação como somente-leitura,
+ * e o proxy adia a escolha até o primeiro statement.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Destino {
+        PRIMARIO,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ReadReplicaRoutingDataSource(DataSource primario, DataSource replica,
+                                        ReadYourWritesTracker readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !readYourWrites.escreveuRecentemente()) {
+            return Destino.REPLICA;
+        }
+        return Destino.PRIMARIO;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Janela de read-your-writes por cliente autenticado.
+ *
+ * Registrado como {@link TransactionExecutionListener} no transaction manager:
+ * cada commit de uma transação de escrita marca o cliente corrente, e durante
+ * a janela configurada as leituras desse cliente vão ao primário em vez da
+ * réplica. Escritas sem cliente autenticado (ex.: listeners Kafka) não
+ * marcam ninguém.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final long MAXIMO_DE_CLIENTES = 100_000;
+
+    private final Cache<String, Boolean> escritasRecentes;
+
+    public ReadYourWritesTracker(Duration janela) {
+        this.escritasRecentes = Caffeine.newBuilder()
+                .maximumSize(MAXIMO_DE_CLIENTES)
+                .expireAfterWrite(janela)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable falhaNoCommit) {
+        if (falhaNoCommit != null || !transaction.isNewTransaction() || transaction.isReadOnly()) {
+            return;
+        }
+        clienteAtual().ifPresent(cliente -> escritasRecentes.put(cliente, Boolean.TRUE));
+    }
+
+    /**
+     * @return se o cliente corrente gravou algo dentro da janela
+     */
+    public boolean escreveuRecentemente() {
+        return clienteAtual()
+                .map(cliente -> escritasRecentes.getIfPresent(cliente) != null)
+                .orElse(false);
+    }
+
+    private static Optional<String> clienteAtual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(authentication.getName()).filter(nome -> !nome.isBlank());
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Expõe o atraso de replicação da réplica de leitura, em segundos
+ * (execution.datasource.replica.lag). Réplica sem WAL pendente reporta zero,
+ * mesmo que o primário esteja ocioso há muito tempo.
+ */
+@Slf4j
+public class ReplicaLagMetrics implements MeterBinder {
+
+    static final String METRICA = "execution.datasource.replica.lag";
+
+    private static final String SQL_ATRASO = """
+            SELECT CASE
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final JdbcOperations replica;
+
+    public ReplicaLagMetrics(JdbcOperations replica) {
+        this.replica = replica;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRICA, this, ReplicaLagMetrics::medirAtraso)
+                .description("Atraso de replicação da réplica de leitura")
+                .baseUnit("seconds")
+                .tag("service", "execution-service")
+                .register(registry);
+    }
+
+    double medirAtraso() {
+        try {
+            Double atraso = replica.queryForObject(SQL_ATRASO, Double.class);
+            return atraso != null ? atraso : Double.NaN;
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Não foi possível medir o atraso da réplica: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.grupo99.executionservice.infrastructure.scheduling;
+
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSArquivoJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Jobs de arquivamento das execuções finalizadas:
+ * - move, em lotes (uma transação por lote), os agregados em estado final
+ *   sem alteração há mais de {@code execution.archive.after} para as tabelas
+ *   de arquivo, mantendo as tabelas quentes só com o conjunto ativo;
+ * - cria antecipadamente as partições de arquivo do mês corrente e do
+ *   seguinte e, se configurada uma retenção, remove as mais antigas.
+ *
+ * Seguro com várias réplicas: os lotes usam SKIP LOCKED e o gerenciamento de
+ * partições é serializado no banco. Ligado por padrão; com
+ * {@code execution.archive.enabled=false} nada é arquivado e as partições
+ * deixam de ser criadas e removidas. A leitura por ID e por OS cai no
+ * arquivo e o registro de OS (V13) impede que um OS_CRIADA reprocessado
+ * recrie uma execução arquivada.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "execution.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ArquivamentoExecucoesJob {
+
+    private final ExecucaoOSArquivoJdbcRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration idadeMinima;
+    private final int tamanhoDoLote;
+    private final int mesesDeRetencao;
+
+    public ArquivamentoExecucoesJob(
+            ExecucaoOSArquivoJdbcRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${execution.archive.after:30d}") Duration idadeMinima,
+            @Value("${execution.archive.batch-size:500}") int tamanhoDoLote,
+            @Value("${execution.archive.retention-months:0}") int mesesDeRetencao) {
+        if (tamanhoDoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote de arquivamento deve ser positivo");
+        }
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idadeMinima = idadeMinima;
+        this.tamanhoDoLote = tamanhoDoLote;
+        this.mesesDeRetencao = mesesDeRetencao;
+    }
+
+    @Scheduled(cron = "${execution.archive.cron:0 30 3 * * *}")
+    public void arquivarFinalizadas() {
+        Instant antesDe = Instant.now().minus(idadeMinima);
+        int total = 0;
+        int arquivadas;
+        do {
+            arquivadas = transactionTemplate.execute(status ->
+                    repository.arquivarFinalizadas(antesDe, tamanhoDoLote));
+            total += arquivadas;
+        } while (arquivadas == tamanhoDoLote);
+
+        log.info("🗄️ Arquivamento concluído: {} execuções finalizadas antes de {}", total, antesDe);
+    }
+
+    @Scheduled(cron = "${execution.archive.partition-cron:0 0 3 * * *}")
+    public void gerenciarParticoes() {
+        YearMonth atual = YearMonth.now(ZoneOffset.UTC);
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.garantirParticoes(atual);
+            repository.garantirParticoes(atual.plusMonths(1));
+        });
+
+        if (mesesDeRetencao > 0) {
+            YearMonth primeiroMantido = atual.minusMonths(mesesDeRetencao);
+            Integer removidas = transactionTemplate.execute(status ->
+                    repository.removerParticoesAnterioresA(primeiroMantido));
+            log.info("🗄️ {} partições de arquivo anteriores a {} removidas", removidas, primeiroMantido);
+        }
+    }
+}
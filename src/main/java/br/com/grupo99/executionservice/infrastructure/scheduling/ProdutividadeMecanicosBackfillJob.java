@@ -0,0 +1,63 @@
+package br.com.grupo99.executionservice.infrastructure.scheduling;
+
+import br.com.grupo99.executionservice.domain.repository.ProdutividadeMecanicoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Backfill do rollup de produtividade dos mecânicos: ao subir a aplicação,
+ * recalcula os últimos {@code execution.productivity.backfill.days} dias a
+ * partir do histórico de tarefas, em blocos de dias (uma transação por
+ * bloco).
+ *
+ * O dia corrente fica de fora: ele ainda recebe incrementos de tarefas
+ * concluídas em transações concorrentes, que a reconstrução poderia perder.
+ * Os dias anteriores não mudam mais, então recalculá-los é seguro com a
+ * aplicação no ar. Pensado para execução pontual (habilitar em uma única
+ * instância e desabilitar em seguida).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "execution.productivity.backfill.enabled", havingValue = "true")
+public class ProdutividadeMecanicosBackfillJob {
+
+    private final ProdutividadeMecanicoRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int dias;
+    private final int diasPorBloco;
+
+    public ProdutividadeMecanicosBackfillJob(
+            ProdutividadeMecanicoRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${execution.productivity.backfill.days:365}") int dias,
+            @Value("${execution.productivity.backfill.days-per-batch:31}") int diasPorBloco) {
+        if (dias <= 0 || diasPorBloco <= 0) {
+            throw new IllegalArgumentException("Dias do backfill de produtividade devem ser positivos");
+        }
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dias = dias;
+        this.diasPorBloco = diasPorBloco;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = hoje.minusDays(dias);
+        int linhas = 0;
+        for (LocalDate de = inicio; de.isBefore(hoje); de = de.plusDays(diasPorBloco)) {
+            LocalDate ate = de.plusDays(diasPorBloco).isBefore(hoje) ? de.plusDays(diasPorBloco) : hoje;
+            LocalDate blocoInicio = de;
+            linhas += transactionTemplate.execute(status -> repository.reconstruir(blocoInicio, ate));
+        }
+        log.info("📊 Rollup de produtividade reconstruído de {} a {} (exclusive): {} linhas", inicio, hoje, linhas);
+    }
+}
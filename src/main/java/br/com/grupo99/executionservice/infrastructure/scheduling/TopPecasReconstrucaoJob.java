@@ -0,0 +1,62 @@
+package br.com.grupo99.executionservice.infrastructure.scheduling;
+
+import br.com.grupo99.executionservice.infrastructure.analytics.TopPecasEmMemoria;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.UsoPecasJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * Reconstrói o ranking de consumo de peças em memória a partir de uso_pecas
+ * e uso_pecas_arquivo ao subir a aplicação: sem isso, cada instância só
+ * conheceria os usos que ela mesma gravou desde que subiu, e o ranking
+ * mudaria a cada restart e de uma réplica para outra. A reconstrução
+ * periódica ({@code execution.analytics.top-pecas.rebuild.cron}, fora do
+ * horário de pico), que também traz os usos gravados por outras réplicas, é
+ * opt-in: o cron padrão "-" a desliga.
+ *
+ * Lê só a janela mantida em memória, pelos índices de data_uso (V14), em
+ * uma transação no primário: a réplica de leitura poderia não ter os usos
+ * gravados pouco antes do início da reconstrução, que os eventos de commit
+ * já não trazem.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "execution.analytics.top-pecas.rebuild.enabled", havingValue = "true",
+        matchIfMissing = true)
+public class TopPecasReconstrucaoJob {
+
+    private final TopPecasEmMemoria topPecas;
+    private final UsoPecasJdbcRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TopPecasReconstrucaoJob(TopPecasEmMemoria topPecas, UsoPecasJdbcRepository repository,
+            PlatformTransactionManager transactionManager) {
+        this.topPecas = topPecas;
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${execution.analytics.top-pecas.rebuild.cron:-}")
+    public void reconstruir() {
+        Instant desde = topPecas.inicioDaJanela();
+        Instant criadosAntesDe = topPecas.iniciarReconstrucao();
+        try {
+            Long lidos = transactionTemplate.execute(status ->
+                    repository.percorrer(desde, criadosAntesDe, topPecas::reconstruir));
+            topPecas.concluirReconstrucao();
+            log.info("🔩 Top de peças reconstruído: {} usos desde {}", lidos, desde);
+        } catch (RuntimeException e) {
+            topPecas.cancelarReconstrucao();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+-- Rollup diário de produtividade por mecânico: contagens e somas (simples,
+-- de quadrados e de produtos) dos tempos estimado e real das tarefas
+-- concluídas. Médias, desvios padrão e erro de estimativa de qualquer
+-- período saem da soma das linhas do período, sem varrer tarefas.
+--
+-- Mantido incrementalmente pela aplicação a cada tarefa concluída e
+-- reconstruível em lote pelo job de backfill. As somas de tempos só
+-- consideram tarefas com estimado e real preenchidos (tarefas_com_tempos).
+
+CREATE TABLE produtividade_mecanicos (
+    dia DATE NOT NULL,
+    mecanico_id INTEGER NOT NULL REFERENCES mecanicos(id),
+    tarefas_concluidas BIGINT NOT NULL,
+    tarefas_com_tempos BIGINT NOT NULL,
+    soma_estimado BIGINT NOT NULL,
+    soma_real BIGINT NOT NULL,
+    soma_quadrados_estimado BIGINT NOT NULL,
+    soma_quadrados_real BIGINT NOT NULL,
+    soma_produtos BIGINT NOT NULL,
+    PRIMARY KEY (dia, mecanico_id)
+);
+
+-- Carga inicial a partir do histórico (tabelas quentes e de arquivo). O
+-- arquivo guarda o nome do mecânico, que pode não estar no dicionário.
+INSERT INTO mecanicos (nome)
+SELECT DISTINCT mecanico FROM tarefas_arquivo WHERE status = 'CONCLUIDA'
+ON CONFLICT (nome) DO NOTHING;
+
+INSERT INTO produtividade_mecanicos (dia, mecanico_id, tarefas_concluidas, tarefas_com_tempos,
+                                     soma_estimado, soma_real, soma_quadrados_estimado,
+                                     soma_quadrados_real, soma_produtos)
+SELECT dia, mecanico_id,
+       COUNT(*),
+       COUNT(estimado * tempo_real),
+       COALESCE(SUM(CASE WHEN tempo_real IS NOT NULL THEN estimado END), 0),
+       COALESCE(SUM(CASE WHEN estimado IS NOT NULL THEN tempo_real END), 0),
+       COALESCE(SUM(CASE WHEN tempo_real IS NOT NULL THEN estimado * estimado END), 0),
+       COALESCE(SUM(CASE WHEN estimado IS NOT NULL THEN tempo_real * tempo_real END), 0),
+       COALESCE(SUM(estimado * tempo_real), 0)
+  FROM (SELECT CAST(t.data_finalizacao AS DATE) AS dia, t.mecanico_id,
+               CAST(t.tempo_estimado_minutos AS BIGINT) AS estimado,
+               CAST(t.tempo_real_minutos AS BIGINT) AS tempo_real
+          FROM tarefas t
+         WHERE t.status = 'CONCLUIDA' AND t.data_finalizacao IS NOT NULL
+        UNION ALL
+        SELECT CAST(a.data_finalizacao AS DATE), m.id,
+               CAST(a.tempo_estimado_minutos AS BIGINT),
+               CAST(a.tempo_real_minutos AS BIGINT)
+          FROM tarefas_arquivo a
+          JOIN mecanicos m ON m.nome = a.mecanico
+         WHERE a.status = 'CONCLUIDA' AND a.data_finalizacao IS NOT NULL) concluidas
+ GROUP BY dia, mecanico_id;
+
+COMMENT ON TABLE produtividade_mecanicos IS 'Rollup diário de produtividade por mecânico (tarefas concluídas)';
@@ -0,0 +1,25 @@
+-- Busca textual em diagnósticos e tarefas (BuscaTextualJdbcRepository).
+-- O plano é verificado por PostgresExecucaoOSRepositoryPlanTest.
+
+-- Configuração portuguesa (stemming e stopwords) sem acentos: "suspensão"
+-- e "suspensao" geram o mesmo lexema, nos documentos e nas consultas
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE TEXT SEARCH CONFIGURATION busca_pt (COPY = portuguese);
+ALTER TEXT SEARCH CONFIGURATION busca_pt
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+
+-- Vetores mantidos pelo banco a cada INSERT/UPDATE (coluna gerada); a
+-- descrição pesa mais que as observações no ranking. Reescreve as tabelas.
+ALTER TABLE diagnosticos ADD COLUMN busca tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('busca_pt', descricao), 'A')
+        || setweight(to_tsvector('busca_pt', coalesce(observacoes, '')), 'B')) STORED;
+
+ALTER TABLE tarefas ADD COLUMN busca tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('busca_pt', descricao), 'A')) STORED;
+
+CREATE INDEX idx_diagnosticos_busca ON diagnosticos USING GIN (busca);
+CREATE INDEX idx_tarefas_busca ON tarefas USING GIN (busca);
+
+COMMENT ON COLUMN diagnosticos.busca IS 'tsvector (busca_pt) de descricao e observacoes, para a busca textual';
+COMMENT ON COLUMN tarefas.busca IS 'tsvector (busca_pt) de descricao, para a busca textual';
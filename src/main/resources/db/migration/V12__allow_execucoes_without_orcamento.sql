@@ -0,0 +1,8 @@
+-- A execução é criada em OS_CRIADA, antes da aprovação do orçamento; o ID
+-- do orçamento só é conhecido em ORCAMENTO_APROVADO
+ALTER TABLE execucoes_os ALTER COLUMN orcamento_id DROP NOT NULL;
+
+-- Execuções canceladas antes da aprovação também chegam ao arquivo
+ALTER TABLE execucoes_os_arquivo ALTER COLUMN orcamento_id DROP NOT NULL;
+
+COMMENT ON COLUMN execucoes_os.orcamento_id IS 'ID do orçamento aprovado; nulo até ORCAMENTO_APROVADO';
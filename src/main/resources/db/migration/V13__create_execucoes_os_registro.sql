@@ -0,0 +1,55 @@
+-- Registro das OS que já têm execução, quentes ou arquivadas.
+--
+-- O arquivamento (V7) tira a execução de execucoes_os, e com ela a linha que
+-- a constraint única de os_id usava para barrar um OS_CRIADA reprocessado.
+-- O registro não é arquivado: é ele que resolve, para qualquer caminho de
+-- INSERT em execucoes_os, se a OS já tem execução.
+
+CREATE TABLE execucoes_os_registro (
+    os_id UUID PRIMARY KEY,
+    execucao_id UUID NOT NULL
+);
+
+INSERT INTO execucoes_os_registro (os_id, execucao_id)
+SELECT os_id, id FROM execucoes_os
+UNION ALL
+SELECT os_id, id FROM execucoes_os_arquivo
+ON CONFLICT DO NOTHING;
+
+-- Registra a OS antes do INSERT; se ela já estiver registrada, a linha é
+-- descartada (o INSERT reporta zero linhas, como o ON CONFLICT DO NOTHING).
+-- Dois INSERTs concorrentes da mesma OS se serializam na chave do registro.
+CREATE OR REPLACE FUNCTION registrar_os_da_execucao() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO execucoes_os_registro (os_id, execucao_id)
+    VALUES (NEW.os_id, NEW.id)
+    ON CONFLICT DO NOTHING;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_execucoes_os_registro_insert
+    BEFORE INSERT ON execucoes_os
+    FOR EACH ROW EXECUTE FUNCTION registrar_os_da_execucao();
+
+-- Uma execução excluída libera a OS; uma arquivada (já copiada para o
+-- arquivo na mesma transação) continua registrada
+CREATE OR REPLACE FUNCTION liberar_os_da_execucao() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM execucoes_os_registro r
+     WHERE r.os_id = OLD.os_id
+       AND r.execucao_id = OLD.id
+       AND NOT EXISTS (SELECT 1 FROM execucoes_os_arquivo a
+                        WHERE a.id = OLD.id AND a.created_at = OLD.created_at);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_execucoes_os_registro_delete
+    AFTER DELETE ON execucoes_os
+    FOR EACH ROW EXECUTE FUNCTION liberar_os_da_execucao();
+
+COMMENT ON TABLE execucoes_os_registro IS 'OS com execução, quente ou arquivada; mantido por triggers em execucoes_os';
@@ -0,0 +1,8 @@
+-- Reconstrução do top de peças (UsoPecasJdbcRepository): lê só a janela
+-- em memória, por data_uso, nas tabelas quente e de arquivo. Sem estes
+-- índices a leitura percorre uso_pecas e todas as partições do arquivo.
+-- O plano é verificado por PostgresExecucaoOSRepositoryPlanTest.
+CREATE INDEX idx_uso_pecas_data_uso ON uso_pecas(data_uso);
+
+-- Índice particionado: vale também para as partições criadas depois
+CREATE INDEX idx_uso_pecas_arquivo_data_uso ON uso_pecas_arquivo(data_uso);
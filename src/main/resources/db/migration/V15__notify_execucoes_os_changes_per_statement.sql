@@ -0,0 +1,96 @@
+-- Change feed (V6) por statement: os triggers por linha faziam, a cada
+-- linha escrita, um pg_notify e, nos filhos, um SELECT da execução-pai.
+-- Agora cada statement lê as linhas alteradas da transition table e emite
+-- um pg_notify por bloco de até 40 execuções, com o mesmo estado da raiz
+-- que V6 publicava:
+--   {"op": "UPDATE", "execucoes": [{"id": "...", "os_id": "...",
+--                                   "version": 3, "status": "..."}, ...]}
+-- Alterações em filhos notificam UPDATE da execução dona com o estado atual
+-- dela, lido uma vez por statement: um filho alterado sem incremento da
+-- versão da raiz sai como a versão atual, que quem escuta descarta junto com
+-- as anteriores. O bloco mantém o payload abaixo do limite de 8000 bytes do
+-- NOTIFY.
+
+DROP TRIGGER IF EXISTS trg_execucoes_os_notificar ON execucoes_os;
+DROP TRIGGER IF EXISTS trg_diagnosticos_notificar ON diagnosticos;
+DROP TRIGGER IF EXISTS trg_tarefas_notificar ON tarefas;
+DROP TRIGGER IF EXISTS trg_uso_pecas_notificar ON uso_pecas;
+DROP FUNCTION IF EXISTS notificar_alteracao_execucao_os();
+DROP FUNCTION IF EXISTS notificar_alteracao_filho_execucao_os();
+
+CREATE OR REPLACE FUNCTION notificar_execucoes_os_alteradas() RETURNS trigger AS $$
+DECLARE
+    bloco json;
+BEGIN
+    FOR bloco IN
+        SELECT json_agg(json_build_object('id', a.id, 'os_id', a.os_id, 'version', a.version,
+                                          'status', a.status))
+          FROM (SELECT id, os_id, version, status, (row_number() OVER () - 1) / 40 AS n
+                  FROM alteradas) a
+         GROUP BY a.n
+    LOOP
+        PERFORM pg_notify('execucoes_os_alteradas',
+                json_build_object('op', TG_OP, 'execucoes', bloco)::text);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION notificar_filhos_execucoes_os_alterados() RETURNS trigger AS $$
+DECLARE
+    bloco json;
+BEGIN
+    FOR bloco IN
+        SELECT json_agg(json_build_object('id', a.id, 'os_id', a.os_id, 'version', a.version,
+                                          'status', a.status))
+          FROM (SELECT e.id, e.os_id, e.version, e.status, (row_number() OVER () - 1) / 40 AS n
+                  FROM execucoes_os e
+                 WHERE e.id IN (SELECT execucao_id FROM alteradas)) a
+         GROUP BY a.n
+    LOOP
+        PERFORM pg_notify('execucoes_os_alteradas',
+                json_build_object('op', 'UPDATE', 'execucoes', bloco)::text);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_execucoes_os_notificar_insert
+    AFTER INSERT ON execucoes_os REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_execucoes_os_alteradas();
+CREATE TRIGGER trg_execucoes_os_notificar_update
+    AFTER UPDATE ON execucoes_os REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_execucoes_os_alteradas();
+CREATE TRIGGER trg_execucoes_os_notificar_delete
+    AFTER DELETE ON execucoes_os REFERENCING OLD TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_execucoes_os_alteradas();
+
+CREATE TRIGGER trg_diagnosticos_notificar_insert
+    AFTER INSERT ON diagnosticos REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+CREATE TRIGGER trg_diagnosticos_notificar_update
+    AFTER UPDATE ON diagnosticos REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+CREATE TRIGGER trg_diagnosticos_notificar_delete
+    AFTER DELETE ON diagnosticos REFERENCING OLD TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+
+CREATE TRIGGER trg_tarefas_notificar_insert
+    AFTER INSERT ON tarefas REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+CREATE TRIGGER trg_tarefas_notificar_update
+    AFTER UPDATE ON tarefas REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+CREATE TRIGGER trg_tarefas_notificar_delete
+    AFTER DELETE ON tarefas REFERENCING OLD TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+
+CREATE TRIGGER trg_uso_pecas_notificar_insert
+    AFTER INSERT ON uso_pecas REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+CREATE TRIGGER trg_uso_pecas_notificar_update
+    AFTER UPDATE ON uso_pecas REFERENCING NEW TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
+CREATE TRIGGER trg_uso_pecas_notificar_delete
+    AFTER DELETE ON uso_pecas REFERENCING OLD TABLE AS alteradas
+    FOR EACH STATEMENT EXECUTE FUNCTION notificar_filhos_execucoes_os_alterados();
@@ -0,0 +1,2 @@
+-- Índice para paginação keyset e leitura em streaming ordenada por (created_at, id)
+CREATE INDEX idx_execucoes_created_at_id ON execucoes_os(created_at, id);
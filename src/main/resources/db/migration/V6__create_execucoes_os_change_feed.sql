@@ -0,0 +1,65 @@
+-- Change feed entre réplicas: toda escrita em execucoes_os (ou em um de seus
+-- filhos) emite NOTIFY no canal execucoes_os_alteradas com o estado da raiz.
+-- O NOTIFY só é entregue no commit da transação.
+
+CREATE OR REPLACE FUNCTION notificar_alteracao_execucao_os() RETURNS trigger AS $$
+DECLARE
+    linha execucoes_os;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        linha := OLD;
+    ELSE
+        linha := NEW;
+    END IF;
+
+    PERFORM pg_notify('execucoes_os_alteradas', json_build_object(
+            'op', TG_OP,
+            'id', linha.id,
+            'os_id', linha.os_id,
+            'version', linha.version,
+            'status', linha.status)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Alterações só em filhos não incrementam a versão da raiz; notifica como
+-- UPDATE da execução dona para que as réplicas descartem o agregado
+CREATE OR REPLACE FUNCTION notificar_alteracao_filho_execucao_os() RETURNS trigger AS $$
+DECLARE
+    v_execucao_id UUID;
+    linha execucoes_os;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        v_execucao_id := OLD.execucao_id;
+    ELSE
+        v_execucao_id := NEW.execucao_id;
+    END IF;
+
+    SELECT * INTO linha FROM execucoes_os e WHERE e.id = v_execucao_id;
+    IF FOUND THEN
+        PERFORM pg_notify('execucoes_os_alteradas', json_build_object(
+                'op', 'UPDATE',
+                'id', linha.id,
+                'os_id', linha.os_id,
+                'version', linha.version,
+                'status', linha.status)::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_execucoes_os_notificar
+    AFTER INSERT OR UPDATE OR DELETE ON execucoes_os
+    FOR EACH ROW EXECUTE FUNCTION notificar_alteracao_execucao_os();
+
+CREATE TRIGGER trg_diagnosticos_notificar
+    AFTER INSERT OR UPDATE OR DELETE ON diagnosticos
+    FOR EACH ROW EXECUTE FUNCTION notificar_alteracao_filho_execucao_os();
+
+CREATE TRIGGER trg_tarefas_notificar
+    AFTER INSERT OR UPDATE OR DELETE ON tarefas
+    FOR EACH ROW EXECUTE FUNCTION notificar_alteracao_filho_execucao_os();
+
+CREATE TRIGGER trg_uso_pecas_notificar
+    AFTER INSERT OR UPDATE OR DELETE ON uso_pecas
+    FOR EACH ROW EXECUTE FUNCTION notificar_alteracao_filho_execucao_os();
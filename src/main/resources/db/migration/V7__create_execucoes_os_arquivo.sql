@@ -0,0 +1,126 @@
+-- Arquivo das execuções em estado final (CONCLUIDA, CANCELADA).
+--
+-- As tabelas quentes (execucoes_os e filhos) ficam só com as execuções
+-- ativas e as finalizadas recentemente; o job de arquivamento move os
+-- agregados finalizados antigos para cá. O arquivo é particionado por mês de
+-- created_at da execução (os filhos pelo created_at da execução-pai, para que
+-- um agregado inteiro fique em partições do mesmo mês e possa ser removido
+-- com DROP de partição). Sem chaves estrangeiras: o arquivo só recebe
+-- agregados inteiros, movidos numa única transação, e FKs entre tabelas
+-- particionadas impediriam o DROP das partições.
+
+CREATE TABLE execucoes_os_arquivo (
+    id UUID NOT NULL,
+    os_id UUID NOT NULL,
+    orcamento_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    mecanico VARCHAR(100) NOT NULL,
+    data_inicio TIMESTAMP NOT NULL,
+    data_finalizacao TIMESTAMP,
+    observacoes TEXT,
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    arquivado_em TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_execucoes_arquivo_os_id ON execucoes_os_arquivo(os_id);
+
+CREATE TABLE diagnosticos_arquivo (
+    id UUID NOT NULL,
+    execucao_id UUID NOT NULL,
+    execucao_created_at TIMESTAMP NOT NULL,
+    descricao TEXT NOT NULL,
+    mecanico VARCHAR(100) NOT NULL,
+    data_diagnostico TIMESTAMP NOT NULL,
+    observacoes TEXT,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, execucao_created_at)
+) PARTITION BY RANGE (execucao_created_at);
+
+CREATE INDEX idx_diagnosticos_arquivo_execucao ON diagnosticos_arquivo(execucao_id);
+
+CREATE TABLE tarefas_arquivo (
+    id UUID NOT NULL,
+    execucao_id UUID NOT NULL,
+    execucao_created_at TIMESTAMP NOT NULL,
+    descricao VARCHAR(200) NOT NULL,
+    mecanico VARCHAR(100) NOT NULL,
+    tempo_estimado_minutos INTEGER,
+    tempo_real_minutos INTEGER,
+    status VARCHAR(20) NOT NULL,
+    data_inicio TIMESTAMP NOT NULL,
+    data_finalizacao TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, execucao_created_at)
+) PARTITION BY RANGE (execucao_created_at);
+
+CREATE INDEX idx_tarefas_arquivo_execucao ON tarefas_arquivo(execucao_id);
+
+CREATE TABLE uso_pecas_arquivo (
+    id UUID NOT NULL,
+    execucao_id UUID NOT NULL,
+    execucao_created_at TIMESTAMP NOT NULL,
+    peca_id UUID NOT NULL,
+    descricao VARCHAR(200) NOT NULL,
+    quantidade INTEGER NOT NULL,
+    valor_unitario DECIMAL(10, 2) NOT NULL,
+    valor_total DECIMAL(10, 2) NOT NULL,
+    data_uso TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, execucao_created_at)
+) PARTITION BY RANGE (execucao_created_at);
+
+CREATE INDEX idx_uso_pecas_arquivo_execucao ON uso_pecas_arquivo(execucao_id);
+
+-- Cria, se ainda não existirem, as partições do mês informado nas quatro
+-- tabelas de arquivo (sufixo _AAAA_MM)
+CREATE OR REPLACE FUNCTION garantir_particoes_arquivo(p_mes DATE) RETURNS void AS $$
+DECLARE
+    v_inicio DATE := date_trunc('month', p_mes)::date;
+    v_fim DATE := (date_trunc('month', p_mes) + INTERVAL '1 month')::date;
+    v_tabela TEXT;
+BEGIN
+    -- Serializa réplicas que rodem o gerenciamento ao mesmo tempo
+    PERFORM pg_advisory_xact_lock(hashtext('execucoes_os_arquivo_particoes'));
+    FOREACH v_tabela IN ARRAY ARRAY['execucoes_os_arquivo', 'diagnosticos_arquivo',
+                                    'tarefas_arquivo', 'uso_pecas_arquivo'] LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       v_tabela || '_' || to_char(v_inicio, 'YYYY_MM'), v_tabela, v_inicio, v_fim);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Remove as partições de arquivo de meses anteriores ao informado
+CREATE OR REPLACE FUNCTION remover_particoes_arquivo_anteriores_a(p_mes DATE) RETURNS INTEGER AS $$
+DECLARE
+    v_limite TEXT := to_char(date_trunc('month', p_mes), 'YYYY_MM');
+    v_tabela TEXT;
+    v_particao TEXT;
+    v_removidas INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('execucoes_os_arquivo_particoes'));
+    FOREACH v_tabela IN ARRAY ARRAY['diagnosticos_arquivo', 'tarefas_arquivo',
+                                    'uso_pecas_arquivo', 'execucoes_os_arquivo'] LOOP
+        FOR v_particao IN
+            SELECT c.relname
+              FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+              JOIN pg_class p ON p.oid = i.inhparent
+             WHERE p.relname = v_tabela
+               AND right(c.relname, 7) < v_limite
+        LOOP
+            EXECUTE format('DROP TABLE %I', v_particao);
+            v_removidas := v_removidas + 1;
+        END LOOP;
+    END LOOP;
+    RETURN v_removidas;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT garantir_particoes_arquivo(CURRENT_DATE::date);
+SELECT garantir_particoes_arquivo((CURRENT_DATE + INTERVAL '1 month')::date);
+
+COMMENT ON TABLE execucoes_os_arquivo IS 'Execuções finalizadas arquivadas, particionadas por mês de criação';
+COMMENT ON COLUMN execucoes_os_arquivo.arquivado_em IS 'Momento em que a execução saiu da tabela quente';
@@ -0,0 +1,21 @@
+-- Índices compostos e parciais alinhados aos finders de execucoes_os.
+-- Os planos são verificados por PostgresExecucaoOSRepositoryPlanTest.
+
+-- Duplicado: a constraint UNIQUE de os_id já cria um índice
+DROP INDEX IF EXISTS idx_execucoes_os_id;
+
+-- findByStatus / findResumosByStatus: as filas de trabalho são as execuções
+-- ativas, já na ordem (created_at, id) da listagem, sem sort. O índice
+-- parcial só contém as ativas (uma fração pequena da tabela); listar por
+-- status final devolve a maior parte da tabela e fica com o Seq Scan.
+DROP INDEX IF EXISTS idx_execucoes_status;
+CREATE INDEX idx_execucoes_ativas_status_created_at ON execucoes_os(status, created_at, id)
+    WHERE status IN ('AGUARDANDO_INICIO', 'EM_ANDAMENTO');
+
+-- findByMecanico / findResumosByMecanico: o índice por mecânico é criado
+-- sobre mecanico_id pela V9, que substitui a coluna mecanico
+
+-- Seleção de lote do job de arquivamento: só execuções em estado final,
+-- pela última alteração
+CREATE INDEX idx_execucoes_finalizadas_updated_at ON execucoes_os(updated_at)
+    WHERE status IN ('CONCLUIDA', 'CANCELADA');
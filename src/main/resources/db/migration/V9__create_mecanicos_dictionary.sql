@@ -0,0 +1,51 @@
+-- Dicionário de mecânicos: execucoes_os, diagnosticos e tarefas passam a
+-- referenciar o mecânico por uma chave inteira em vez de repetir o nome
+-- (VARCHAR(100)) em cada linha e em cada índice. O nome só existe aqui; a
+-- aplicação traduz nome ↔ chave com cache em memória (MecanicoDicionario).
+-- As tabelas de arquivo (V7) continuam guardando o nome.
+
+CREATE TABLE mecanicos (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome VARCHAR(100) NOT NULL UNIQUE
+);
+
+INSERT INTO mecanicos (nome)
+SELECT mecanico FROM execucoes_os
+UNION
+SELECT mecanico FROM diagnosticos
+UNION
+SELECT mecanico FROM tarefas
+ORDER BY 1;
+
+-- execucoes_os
+ALTER TABLE execucoes_os ADD COLUMN mecanico_id INTEGER;
+UPDATE execucoes_os e SET mecanico_id = m.id FROM mecanicos m WHERE m.nome = e.mecanico;
+ALTER TABLE execucoes_os
+    ALTER COLUMN mecanico_id SET NOT NULL,
+    ADD CONSTRAINT fk_execucoes_mecanico FOREIGN KEY (mecanico_id) REFERENCES mecanicos(id);
+-- Remove junto idx_execucoes_mecanico (V1)
+ALTER TABLE execucoes_os DROP COLUMN mecanico;
+
+-- findByMecanicoId / findResumosByMecanicoId e listagens por mecânico +
+-- status, no lugar de idx_execucoes_mecanico
+CREATE INDEX idx_execucoes_mecanico_id_status_created_at ON execucoes_os(mecanico_id, status, created_at);
+
+-- diagnosticos
+ALTER TABLE diagnosticos ADD COLUMN mecanico_id INTEGER;
+UPDATE diagnosticos d SET mecanico_id = m.id FROM mecanicos m WHERE m.nome = d.mecanico;
+ALTER TABLE diagnosticos
+    ALTER COLUMN mecanico_id SET NOT NULL,
+    ADD CONSTRAINT fk_diagnosticos_mecanico FOREIGN KEY (mecanico_id) REFERENCES mecanicos(id);
+ALTER TABLE diagnosticos DROP COLUMN mecanico;
+CREATE INDEX idx_diagnosticos_mecanico_id ON diagnosticos(mecanico_id);
+
+-- tarefas
+ALTER TABLE tarefas ADD COLUMN mecanico_id INTEGER;
+UPDATE tarefas t SET mecanico_id = m.id FROM mecanicos m WHERE m.nome = t.mecanico;
+ALTER TABLE tarefas
+    ALTER COLUMN mecanico_id SET NOT NULL,
+    ADD CONSTRAINT fk_tarefas_mecanico FOREIGN KEY (mecanico_id) REFERENCES mecanicos(id);
+ALTER TABLE tarefas DROP COLUMN mecanico;
+CREATE INDEX idx_tarefas_mecanico_id ON tarefas(mecanico_id);
+
+COMMENT ON TABLE mecanicos IS 'Dicionário de mecânicos referenciado por execucoes_os, diagnosticos e tarefas';
@@ -0,0 +1,143 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
+import br.com.grupo99.executionservice.application.mapper.ExecucaoOSMapper;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.repository.ReactiveExecucaoOSRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExecucaoOSReactiveRoutes - Leituras WebFlux")
+class ExecucaoOSReactiveRoutesTest {
+
+    private static final String BASE_URL = ExecucaoOSReactiveRoutes.CAMINHO_BASE;
+
+    @Mock
+    private ReactiveExecucaoOSRepository repository;
+
+    private WebTestClient cliente;
+
+    @BeforeEach
+    void setUp() {
+        cliente = WebTestClient.bindToRouterFunction(
+                new ExecucaoOSReactiveRoutes(repository, new ExecucaoOSMapper()).rotas()).build();
+    }
+
+    @Test
+    @DisplayName("GET /{id} devolve a execução com as contagens dos filhos")
+    void buscarPorId() {
+        ExecucaoOS execucao = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "João");
+        execucao.adicionarTarefa(Tarefa.criar("Troca de óleo", "João", 40));
+        when(repository.findById(execucao.getId())).thenReturn(Mono.just(execucao));
+
+        ExecucaoOSResponseDTO resposta = cliente.get().uri(BASE_URL + "/{id}", execucao.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ExecucaoOSResponseDTO.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(resposta);
+        assertEquals(execucao.getOsId(), resposta.osId());
+        assertEquals(1, resposta.totalTarefas());
+    }
+
+    @Test
+    @DisplayName("GET /{id} inexistente devolve 404; ID malformado devolve 400")
+    void buscarPorIdInexistenteOuInvalido() {
+        when(repository.findById(any())).thenReturn(Mono.empty());
+
+        cliente.get().uri(BASE_URL + "/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+        cliente.get().uri(BASE_URL + "/nao-e-uuid")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /os/{osId} busca pela OS")
+    void buscarPorOsId() {
+        ExecucaoOS execucao = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "Maria");
+        when(repository.findByOsId(execucao.getOsId())).thenReturn(Mono.just(execucao));
+
+        cliente.get().uri(BASE_URL + "/os/{osId}", execucao.getOsId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.mecanico").isEqualTo("Maria");
+    }
+
+    @Test
+    @DisplayName("GET /status/{status} lista os resumos; status desconhecido devolve 400")
+    void buscarPorStatus() {
+        when(repository.findResumosByStatus(StatusExecucao.EM_ANDAMENTO))
+                .thenReturn(Flux.just(resumo("João"), resumo("Maria")));
+
+        cliente.get().uri(BASE_URL + "/status/EM_ANDAMENTO")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ExecucaoOSResponseDTO.class).hasSize(2);
+        cliente.get().uri(BASE_URL + "/status/INEXISTENTE")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /mecanico/{mecanico} e GET / listam os resumos")
+    void buscarPorMecanicoEListarTodas() {
+        when(repository.findResumosByMecanico("João")).thenReturn(Flux.just(resumo("João")));
+        when(repository.findAllResumos()).thenReturn(Flux.just(resumo("João"), resumo("Maria"), resumo("Ana")));
+
+        cliente.get().uri(BASE_URL + "/mecanico/{mecanico}", "João")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ExecucaoOSResponseDTO.class).hasSize(1);
+        cliente.get().uri(BASE_URL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ExecucaoOSResponseDTO.class).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("GET /stream emite um JSON por linha (NDJSON)")
+    void exportarTodas() {
+        when(repository.findAllResumos()).thenReturn(Flux.just(resumo("João"), resumo("Maria")));
+
+        List<ExecucaoOSResponseDTO> linhas = cliente.get().uri(BASE_URL + "/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ExecucaoOSResponseDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("João", "Maria"), linhas.stream().map(ExecucaoOSResponseDTO::mecanico).toList());
+    }
+
+    private static ExecucaoOSResumo resumo(String mecanico) {
+        Instant agora = Instant.now();
+        return new ExecucaoOSResumo(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                StatusExecucao.EM_ANDAMENTO, mecanico, agora, null, null, 0L, 0, 1, 0, agora, agora);
+    }
+}
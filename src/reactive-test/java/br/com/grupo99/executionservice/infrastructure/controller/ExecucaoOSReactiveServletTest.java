@@ -0,0 +1,116 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.infrastructure.security.jwt.JwtUserDetails;
+import br.com.grupo99.executionservice.infrastructure.security.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rotas reativas servidas pelo Tomcat da aplicação: a requisição passa pela
+ * cadeia de filtros do Spring Security (JWT) antes de chegar às rotas, que
+ * leem via R2DBC do PostgreSQL configurado em spring.r2dbc.*.
+ *
+ * Ignorado sem PostgreSQL (ver {@link PostgresDeTeste}).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = { "os-events", "execution-events" })
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("Leituras reativas - Servlet no Tomcat")
+class ExecucaoOSReactiveServletTest {
+
+    private static final UUID EXECUCAO_ID = UUID.randomUUID();
+
+    private static DriverManagerDataSource banco;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.kafka.bootstrap-servers", () -> "${spring.embedded.kafka.brokers}");
+        PostgresDeTeste.registrar(registry, banco());
+        registry.add("spring.r2dbc.url",
+                () -> banco().getUrl().replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""));
+        registry.add("spring.r2dbc.username", () -> banco().getUsername());
+        registry.add("spring.r2dbc.password", () -> banco().getPassword());
+    }
+
+    @BeforeAll
+    static void prepararBanco() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(banco());
+        jdbcTemplate.update("INSERT INTO mecanicos (nome) VALUES ('João')");
+        jdbcTemplate.update("""
+                INSERT INTO execucoes_os (id, os_id, orcamento_id, status, mecanico_id, data_inicio, version,
+                                          created_at, updated_at)
+                VALUES (?, ?, ?, 'EM_ANDAMENTO', 1, now(), 0, now(), now())""",
+                EXECUCAO_ID, UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("GET com token de mecânico lê a execução pelo R2DBC")
+    void leituraAutenticada() throws Exception {
+        HttpResponse<String> resposta = http.send(requisicao("/" + EXECUCAO_ID, "MECANICO").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, resposta.statusCode());
+        assertTrue(resposta.body().contains("\"mecanico\":\"João\""));
+    }
+
+    @Test
+    @DisplayName("o filtro de autorização JWT barra o cliente antes das rotas")
+    void filtroJwtAntesDasRotas() throws Exception {
+        HttpResponse<String> resposta = http.send(
+                requisicao("", "CLIENTE").POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, resposta.statusCode());
+        assertTrue(resposta.body().contains("Clientes só podem consultar execuções"));
+    }
+
+    private HttpRequest.Builder requisicao(String caminho, String perfil) {
+        JwtUserDetails usuario = JwtUserDetails.from("usuario@oficina.com", UUID.randomUUID().toString(),
+                "12345678900", "FISICA", null, perfil);
+        String token = jwtUtil.generateToken(Map.of(
+                "pessoaId", usuario.getPessoaId(),
+                "numeroDocumento", usuario.getNumeroDocumento(),
+                "tipoPessoa", usuario.getTipoPessoa(),
+                "perfil", perfil), usuario);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/api/v1/reativo"
+                        + ExecucaoOSReactiveRoutes.CAMINHO_BASE + caminho))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara o stack servlet (Spring MVC + JPA/Hikari) com o reativo (WebFlux +
+ * R2DBC, no servlet assíncrono do mesmo Tomcat) sob a mesma carga de polling:
+ * N clientes concorrentes fazendo GET /execucoes-os/{id} em IDs aleatórios
+ * de um PostgreSQL real, pelo mesmo tempo, na mesma aplicação.
+ *
+ * Reporta vazão, latências p50/p99 e o pico de threads de plataforma da JVM
+ * (os clientes usam virtual threads, que não entram na contagem). O único
+ * critério de falha é haver respostas diferentes de 200; a comparação em si
+ * é lida no log.
+ *
+ * Opt-in: mvn test -Preactive -Dtest=ExecucaoOSStacksBenchmarkTest -Dbenchmark=true
+ * (requer PostgreSQL, ver PostgresDeTeste).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = { "os-events", "execution-events" })
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Benchmark - Leituras de polling: servlet x reativo")
+class ExecucaoOSStacksBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecucaoOSStacksBenchmarkTest.class);
+
+    private static final int EXECUCOES = 10_000;
+    private static final int CLIENTES = Integer.getInteger("benchmark.clientes", 256);
+    private static final Duration AQUECIMENTO = Duration.ofSeconds(10);
+    private static final Duration MEDICAO = Duration.ofSeconds(Long.getLong("benchmark.segundos", 30));
+
+    private static DriverManagerDataSource banco;
+
+    private static List<UUID> ids;
+
+    @LocalServerPort
+    private int portaServlet;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.kafka.bootstrap-servers", () -> "${spring.embedded.kafka.brokers}");
+        PostgresDeTeste.registrar(registry, banco());
+        registry.add("security.disabled", () -> "true");
+        registry.add("spring.r2dbc.url",
+                () -> banco().getUrl().replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""));
+        registry.add("spring.r2dbc.username", () -> banco().getUsername());
+        registry.add("spring.r2dbc.password", () -> banco().getPassword());
+    }
+
+    @BeforeAll
+    static void prepararBanco() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(banco());
+        jdbcTemplate.execute("""
+                SET session_replication_role = replica;
+
+                INSERT INTO mecanicos (nome)
+                SELECT 'Mecânico ' || g FROM generate_series(1, 50) g;
+
+                INSERT INTO execucoes_os (id, os_id, orcamento_id, status, mecanico_id, data_inicio,
+                                          version, created_at, updated_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), 'EM_ANDAMENTO',
+                       g %% 50 + 1, now(), 0, now() - g * INTERVAL '1 minute', now()
+                  FROM generate_series(1, %d) g;
+
+                INSERT INTO tarefas (id, execucao_id, descricao, mecanico_id, tempo_estimado_minutos,
+                                     status, data_inicio, created_at)
+                SELECT gen_random_uuid(), e.id, 'Tarefa ' || n, e.mecanico_id, 30, 'PENDENTE',
+                       e.data_inicio, e.created_at
+                  FROM execucoes_os e, generate_series(1, 3) n;
+
+                SET session_replication_role = DEFAULT;
+                ANALYZE;
+                """.formatted(EXECUCOES));
+        ids = jdbcTemplate.queryForList("SELECT id FROM execucoes_os", UUID.class);
+    }
+
+    @Test
+    @DisplayName("mesma carga de GET por ID nos dois stacks")
+    void compararStacks() throws Exception {
+        String servlet = "http://localhost:" + portaServlet + "/api/v1/execucoes-os/";
+        String reativo = "http://localhost:" + portaServlet + "/api/v1/reativo"
+                + ExecucaoOSReactiveRoutes.CAMINHO_BASE + "/";
+
+        medir("servlet", servlet, AQUECIMENTO);
+        Resultado resultadoServlet = medir("servlet", servlet, MEDICAO);
+        medir("reativo", reativo, AQUECIMENTO);
+        Resultado resultadoReativo = medir("reativo", reativo, MEDICAO);
+
+        logger.info("""
+
+                Leituras de polling com {} clientes por {}s ({} execuções)
+                {}
+                {}""", CLIENTES, MEDICAO.toSeconds(), EXECUCOES, resultadoServlet, resultadoReativo);
+        assertEquals(0, resultadoServlet.erros());
+        assertEquals(0, resultadoReativo.erros());
+    }
+
+    private static Resultado medir(String stack, String urlBase, Duration duracao) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long fim = System.nanoTime() + duracao.toNanos();
+        List<long[]> latenciasPorCliente = new ArrayList<>();
+        long erros = 0;
+        try (HttpClient http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+                ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Medicao>> medicoes = new ArrayList<>();
+            for (int i = 0; i < CLIENTES; i++) {
+                medicoes.add(clientes.submit(() -> cliente(http, urlBase, fim)));
+            }
+            for (Future<Medicao> medicao : medicoes) {
+                latenciasPorCliente.add(medicao.get().latencias());
+                erros += medicao.get().erros();
+            }
+        }
+        long[] latencias = latenciasPorCliente.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Resultado(stack, latencias.length, erros,
+                latencias.length / (double) duracao.toSeconds(),
+                percentil(latencias, 0.50), percentil(latencias, 0.99),
+                threads.getPeakThreadCount());
+    }
+
+    private static Medicao cliente(HttpClient http, String urlBase, long fim) throws Exception {
+        long[] latencias = new long[1024];
+        int total = 0;
+        long erros = 0;
+        while (System.nanoTime() < fim) {
+            UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(urlBase + id)).GET().build();
+            long inicio = System.nanoTime();
+            HttpResponse<Void> resposta = http.send(request, HttpResponse.BodyHandlers.discarding());
+            if (resposta.statusCode() != 200) {
+                erros++;
+            }
+            if (total == latencias.length) {
+                latencias = Arrays.copyOf(latencias, total * 2);
+            }
+            latencias[total++] = System.nanoTime() - inicio;
+        }
+        return new Medicao(Arrays.copyOf(latencias, total), erros);
+    }
+
+    private static Duration percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(ordenadas[(int) Math.min(ordenadas.length - 1, ordenadas.length * percentil)]);
+    }
+
+    private record Medicao(long[] latencias, long erros) {
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+
+    private record Resultado(String stack, long requisicoes, long erros, double porSegundo,
+            Duration p50, Duration p99, int picoDeThreads) {
+
+        @Override
+        public String toString() {
+            return "%-8s %8d req  %8.0f req/s  p50 %5d ms  p99 %5d ms  erros %d  pico de threads %d".formatted(
+                    stack, requisicoes, porSegundo, p50.toMillis(), p99.toMillis(), erros, picoDeThreads);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa o adapter R2DBC sobre um PostgreSQL real com as migrações
+ * aplicadas, pelo driver r2dbc-postgresql; os dados de cada teste são
+ * gravados por JDBC.
+ *
+ * Ignorado sem PostgreSQL (ver {@link PostgresDeTeste}).
+ */
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("ExecucaoOSR2dbcRepositoryAdapter - Leituras reativas")
+class ExecucaoOSR2dbcRepositoryAdapterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 10, 8, 0);
+
+    private static JdbcTemplate jdbcTemplate;
+    private static ExecucaoOSR2dbcRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void prepararBanco() {
+        DriverManagerDataSource banco = PostgresDeTeste.novoBanco();
+        jdbcTemplate = new JdbcTemplate(banco);
+        jdbcTemplate.update("INSERT INTO mecanicos (nome) VALUES ('João'), ('Maria')");
+        String url = banco.getUrl().replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", "");
+        adapter = new ExecucaoOSR2dbcRepositoryAdapter(DatabaseClient.create(ConnectionFactories.get(
+                ConnectionFactoryOptions.parse(url).mutate()
+                        .option(ConnectionFactoryOptions.USER, banco.getUsername())
+                        .option(ConnectionFactoryOptions.PASSWORD, banco.getPassword())
+                        .build())));
+    }
+
+    @BeforeEach
+    void limpar() {
+        jdbcTemplate.execute("TRUNCATE execucoes_os, diagnosticos, tarefas, uso_pecas, execucoes_os_registro");
+    }
+
+    @Test
+    @DisplayName("findById hidrata raiz, diagnósticos, tarefas e peças")
+    void findByIdHidrataAgregado() {
+        UUID id = inserirExecucao(StatusExecucao.EM_ANDAMENTO, "João", 0);
+        inserirTarefa(id, "Alinhamento", 2);
+        inserirTarefa(id, "Troca de óleo", 1);
+        jdbcTemplate.update("""
+                INSERT INTO diagnosticos (id, execucao_id, descricao, mecanico_id, data_diagnostico, created_at)
+                VALUES (?, ?, 'Ruído no motor', ?, ?, ?)""", UUID.randomUUID(), id, mecanico("João"), BASE, BASE);
+        jdbcTemplate.update("""
+                INSERT INTO uso_pecas (id, execucao_id, peca_id, descricao, quantidade, valor_unitario,
+                                       valor_total, data_uso, created_at)
+                VALUES (?, ?, ?, 'Filtro', 2, 10.50, 21.00, ?, ?)""",
+                UUID.randomUUID(), id, UUID.randomUUID(), BASE, BASE);
+
+        ExecucaoOS execucao = adapter.findById(id).block();
+
+        assertNotNull(execucao);
+        assertEquals(StatusExecucao.EM_ANDAMENTO, execucao.getStatus());
+        assertEquals("João", execucao.getMecanico());
+        assertEquals("João", execucao.getTarefas().get(0).getMecanico());
+        assertEquals(0L, execucao.getVersion());
+        assertNull(execucao.getDataFinalizacao());
+        assertEquals(1, execucao.getDiagnosticos().size());
+        assertEquals(List.of("Troca de óleo", "Alinhamento"),
+                execucao.getTarefas().stream().map(Tarefa::getDescricao).toList());
+        assertEquals(StatusTarefa.PENDENTE, execucao.getTarefas().get(0).getStatus());
+        assertEquals(new BigDecimal("21.00"), execucao.getPecas().get(0).getValorTotal());
+    }
+
+    @Test
+    @DisplayName("findByOsId encontra pela OS; inexistente completa vazio")
+    void findByOsId() {
+        UUID id = inserirExecucao(StatusExecucao.AGUARDANDO_INICIO, "Maria", 0);
+        UUID osId = adapter.findById(id).map(ExecucaoOS::getOsId).block();
+
+        assertEquals(id, adapter.findByOsId(osId).map(ExecucaoOS::getId).block());
+        assertNull(adapter.findByOsId(UUID.randomUUID()).block());
+        assertNull(adapter.findById(UUID.randomUUID()).block());
+    }
+
+    @Test
+    @DisplayName("resumos por status trazem as contagens e seguem (createdAt, id)")
+    void resumosPorStatus() {
+        UUID segunda = inserirExecucao(StatusExecucao.EM_ANDAMENTO, "João", 2);
+        UUID primeira = inserirExecucao(StatusExecucao.EM_ANDAMENTO, "Maria", 1);
+        inserirExecucao(StatusExecucao.CONCLUIDA, "João", 3);
+        inserirTarefa(segunda, "Alinhamento", 1);
+        inserirTarefa(segunda, "Balanceamento", 2);
+
+        List<ExecucaoOSResumo> resumos = adapter.findResumosByStatus(StatusExecucao.EM_ANDAMENTO)
+                .collectList().block();
+
+        assertEquals(List.of(primeira, segunda), resumos.stream().map(ExecucaoOSResumo::id).toList());
+        assertEquals(0, resumos.get(0).totalTarefas());
+        assertEquals(2, resumos.get(1).totalTarefas());
+        assertEquals(0, resumos.get(1).totalPecas());
+    }
+
+    @Test
+    @DisplayName("resumos por mecânico e de todas as execuções")
+    void resumosPorMecanicoETodos() {
+        inserirExecucao(StatusExecucao.EM_ANDAMENTO, "João", 1);
+        inserirExecucao(StatusExecucao.CONCLUIDA, "João", 2);
+        inserirExecucao(StatusExecucao.EM_ANDAMENTO, "Maria", 3);
+
+        assertEquals(2, adapter.findResumosByMecanico("João").count().block());
+        assertEquals(3, adapter.findAllResumos().count().block());
+        assertEquals(1, adapter.findAllResumos().take(1).count().block());
+    }
+
+    private UUID inserirExecucao(StatusExecucao status, String mecanico, int minutos) {
+        UUID id = UUID.randomUUID();
+        LocalDateTime criacao = BASE.plusMinutes(minutos);
+        jdbcTemplate.update("""
+                INSERT INTO execucoes_os (id, os_id, orcamento_id, status, mecanico_id, data_inicio, version,
+                                          created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)""",
+                id, UUID.randomUUID(), UUID.randomUUID(), status.name(), mecanico(mecanico), criacao, criacao,
+                criacao);
+        return id;
+    }
+
+    private void inserirTarefa(UUID execucaoId, String descricao, int minutos) {
+        LocalDateTime criacao = BASE.plusMinutes(minutos);
+        jdbcTemplate.update("""
+                INSERT INTO tarefas (id, execucao_id, descricao, mecanico_id, tempo_estimado_minutos, status,
+                                     data_inicio, created_at)
+                VALUES (?, ?, ?, ?, 30, 'PENDENTE', ?, ?)""",
+                UUID.randomUUID(), execucaoId, descricao, mecanico("João"), criacao, criacao);
+    }
+
+    private static int mecanico(String nome) {
+        return jdbcTemplate.queryForObject("SELECT id FROM mecanicos WHERE nome = ?", Integer.class, nome);
+    }
+}
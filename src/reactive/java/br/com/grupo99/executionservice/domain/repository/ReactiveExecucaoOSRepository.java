@@ -0,0 +1,61 @@
+package br.com.grupo99.executionservice.domain.repository;
+
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Variante reativa (não bloqueante) das leituras de {@link ExecucaoOSRepository}.
+ *
+ * Cobre apenas as consultas do tráfego de polling; as escritas continuam
+ * pelo port bloqueante. Como o port original, não depende de Spring nem de
+ * framework de persistência: usa apenas os tipos Mono/Flux do Reactor.
+ */
+public interface ReactiveExecucaoOSRepository {
+
+    /**
+     * Busca uma execução por ID, com diagnósticos, tarefas e peças.
+     *
+     * @param id ID da execução
+     * @return execução; vazio se não existir
+     */
+    Mono<ExecucaoOS> findById(UUID id);
+
+    /**
+     * Busca a execução de uma OS, com diagnósticos, tarefas e peças.
+     *
+     * @param osId ID da ordem de serviço
+     * @return execução; vazio se não existir
+     */
+    Mono<ExecucaoOS> findByOsId(UUID osId);
+
+    /**
+     * Busca o resumo das execuções com o status informado, ordenado por
+     * (createdAt, id).
+     *
+     * @param status status da execução
+     * @return resumos, emitidos à medida que são lidos
+     */
+    Flux<ExecucaoOSResumo> findResumosByStatus(StatusExecucao status);
+
+    /**
+     * Busca o resumo das execuções de um mecânico, ordenado por
+     * (createdAt, id).
+     *
+     * @param mecanico nome do mecânico
+     * @return resumos, emitidos à medida que são lidos
+     */
+    Flux<ExecucaoOSResumo> findResumosByMecanico(String mecanico);
+
+    /**
+     * Busca o resumo de todas as execuções, ordenado por (createdAt, id).
+     * A leitura respeita a demanda do assinante (backpressure).
+     *
+     * @return resumos, emitidos à medida que são lidos
+     */
+    Flux<ExecucaoOSResumo> findAllResumos();
+}
@@ -0,0 +1,96 @@
+package br.com.grupo99.executionservice.infrastructure.config;
+
+import br.com.grupo99.executionservice.application.mapper.ExecucaoOSMapper;
+import br.com.grupo99.executionservice.domain.repository.ReactiveExecucaoOSRepository;
+import br.com.grupo99.executionservice.infrastructure.controller.ExecucaoOSReactiveRoutes;
+import br.com.grupo99.executionservice.infrastructure.persistence.adapter.ExecucaoOSR2dbcRepositoryAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServletHttpHandlerAdapter;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+/**
+ * Configuração do stack reativo de leituras (build com -Preactive).
+ *
+ * O pool R2DBC é o do auto-configure do Spring Boot (spring.r2dbc.*). Com
+ * uma ConnectionFactory no contexto, o Boot deixa de criar o DataSource JDBC
+ * e registra um segundo gerenciador de transações; por isso o Hikari de
+ * spring.datasource é declarado aqui, como em {@link ReadReplicaDataSourceConfig}
+ * (que o substitui quando a réplica está habilitada), e o gerenciador do JPA
+ * é o primário dos @Transactional.
+ *
+ * As rotas são servidas pelo próprio Tomcat, num servlet assíncrono em
+ * execution.reactive.path: passam pela mesma cadeia de filtros do Spring
+ * Security (JWT) que o ExecucaoOSController e usam o ObjectMapper da
+ * aplicação, com o mesmo JSON do stack servlet.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveReadsConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "execution.datasource.replica.enabled", havingValue = "false",
+            matchIfMissing = true)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public ReactiveExecucaoOSRepository reactiveExecucaoOSRepository(ConnectionFactory connectionFactory) {
+        return new ExecucaoOSR2dbcRepositoryAdapter(DatabaseClient.create(connectionFactory));
+    }
+
+    @Bean
+    public ExecucaoOSReactiveRoutes execucaoOSReactiveRoutes(ReactiveExecucaoOSRepository repository,
+            ExecucaoOSMapper mapper) {
+        return new ExecucaoOSReactiveRoutes(repository, mapper);
+    }
+
+    @Bean
+    public ServletRegistrationBean<ServletHttpHandlerAdapter> reactiveReadsServlet(ExecucaoOSReactiveRoutes rotas,
+            ObjectMapper objectMapper, @Value("${execution.reactive.path:/reativo}") String caminho) {
+        HandlerStrategies estrategias = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        ServletRegistrationBean<ServletHttpHandlerAdapter> registro = new ServletRegistrationBean<>(
+                new ServletHttpHandlerAdapter(RouterFunctions.toHttpHandler(rotas.rotas(), estrategias)),
+                caminho + "/*");
+        registro.setName("reactiveReads");
+        registro.setAsyncSupported(true);
+        registro.setLoadOnStartup(1);
+        return registro;
+    }
+}
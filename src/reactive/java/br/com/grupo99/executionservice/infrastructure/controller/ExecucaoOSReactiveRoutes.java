@@ -0,0 +1,102 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
+import br.com.grupo99.executionservice.application.mapper.ExecucaoOSMapper;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.repository.ReactiveExecucaoOSRepository;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Rotas WebFlux (funcionais) das leituras de Execução de OS, servidas no
+ * Tomcat sob execution.reactive.path (padrão /api/v1/reativo/execucoes-os).
+ *
+ * Espelham os GETs de {@link ExecucaoOSController}, lendo pelo port reativo:
+ * a thread do Tomcat é liberada enquanto a consulta R2DBC está em andamento,
+ * em vez de ficar presa à requisição. Escritas continuam apenas no
+ * controller servlet. A autenticação é a da cadeia de filtros do servlet.
+ */
+public class ExecucaoOSReactiveRoutes {
+
+    static final String CAMINHO_BASE = "/execucoes-os";
+
+    private final ReactiveExecucaoOSRepository repository;
+    private final ExecucaoOSMapper mapper;
+
+    public ExecucaoOSReactiveRoutes(ReactiveExecucaoOSRepository repository, ExecucaoOSMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return rotas de leitura, relativas ao caminho do servlet
+     */
+    public RouterFunction<ServerResponse> rotas() {
+        return RouterFunctions.route()
+                .path(CAMINHO_BASE, rotas -> rotas
+                        .GET("/stream", this::exportarTodas)
+                        .GET("/os/{osId}", this::buscarPorOsId)
+                        .GET("/status/{status}", this::buscarPorStatus)
+                        .GET("/mecanico/{mecanico}", this::buscarPorMecanico)
+                        .GET("/{id}", this::buscarPorId)
+                        .GET("", this::listarTodas))
+                .onError(IllegalArgumentException.class,
+                        (erro, request) -> ServerResponse.badRequest().build())
+                .build();
+    }
+
+    Mono<ServerResponse> buscarPorId(ServerRequest request) {
+        return uuid(request, "id")
+                .flatMap(repository::findById)
+                .map(mapper::toResponseDTO)
+                .flatMap(dto -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(dto))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> buscarPorOsId(ServerRequest request) {
+        return uuid(request, "osId")
+                .flatMap(repository::findByOsId)
+                .map(mapper::toResponseDTO)
+                .flatMap(dto -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(dto))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> listarTodas(ServerRequest request) {
+        return lista(repository.findAllResumos(), MediaType.APPLICATION_JSON);
+    }
+
+    Mono<ServerResponse> exportarTodas(ServerRequest request) {
+        return lista(repository.findAllResumos(), MediaType.APPLICATION_NDJSON);
+    }
+
+    Mono<ServerResponse> buscarPorStatus(ServerRequest request) {
+        return Mono.fromCallable(() -> StatusExecucao.valueOf(request.pathVariable("status")))
+                .flatMap(status -> lista(repository.findResumosByStatus(status), MediaType.APPLICATION_JSON));
+    }
+
+    Mono<ServerResponse> buscarPorMecanico(ServerRequest request) {
+        return lista(repository.findResumosByMecanico(request.pathVariable("mecanico")), MediaType.APPLICATION_JSON);
+    }
+
+    private Mono<ServerResponse> lista(Flux<ExecucaoOSResumo> resumos, MediaType tipo) {
+        return ServerResponse.ok()
+                .contentType(tipo)
+                .body(resumos.map(mapper::toResponseDTO), ExecucaoOSResponseDTO.class);
+    }
+
+    /**
+     * Conversão adiada para o Mono: o erro de parâmetro inválido chega ao
+     * onError das rotas (400) em vez de escapar do handler.
+     */
+    private static Mono<UUID> uuid(ServerRequest request, String variavel) {
+        return Mono.fromCallable(() -> UUID.fromString(request.pathVariable(variavel)));
+    }
+}
@@ -0,0 +1,227 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.repository.ReactiveExecucaoOSRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Implementação R2DBC do port reativo {@link ReactiveExecucaoOSRepository}.
+ *
+ * Usa o DatabaseClient do spring-r2dbc (sem Spring Data): cada leitura obtém
+ * uma conexão do pool, executa SQL com parâmetros nomeados e devolve a
+ * conexão ao término ou cancelamento do assinante. As consultas são as
+ * mesmas formas já cobertas pelos índices do adapter JPA: raiz por id/os_id,
+ * filhos por execucao_id e resumos com contagens em subconsultas
+ * correlacionadas. O nome do mecânico vem do dicionário (mecanicos) por
+ * JOIN na chave inteira.
+ *
+ * As colunas TIMESTAMP são lidas como LocalDateTime no fuso da JVM, mesma
+ * interpretação do driver JDBC usada nas gravações.
+ */
+public class ExecucaoOSR2dbcRepositoryAdapter implements ReactiveExecucaoOSRepository {
+
+    private static final String COLUNAS_RAIZ = """
+            e.id, e.os_id, e.orcamento_id, e.status, m.nome AS mecanico, e.data_inicio,
+            e.data_finalizacao, e.observacoes, e.version, e.created_at, e.updated_at""";
+
+    private static final String FROM_RAIZ = """
+              FROM execucoes_os e
+              JOIN mecanicos m ON m.id = e.mecanico_id
+            """;
+
+    private static final String SELECT_RAIZ = "SELECT " + COLUNAS_RAIZ + "\n" + FROM_RAIZ;
+
+    private static final String SELECT_RESUMO = "SELECT " + COLUNAS_RAIZ + """
+            ,
+                   (SELECT COUNT(*) FROM diagnosticos d WHERE d.execucao_id = e.id) AS total_diagnosticos,
+                   (SELECT COUNT(*) FROM tarefas t WHERE t.execucao_id = e.id) AS total_tarefas,
+                   (SELECT COUNT(*) FROM uso_pecas p WHERE p.execucao_id = e.id) AS total_pecas
+            """ + FROM_RAIZ;
+
+    private static final String ORDEM = "ORDER BY e.created_at, e.id";
+
+    private static final String SELECT_DIAGNOSTICOS = """
+            SELECT d.id, d.descricao, m.nome AS mecanico, d.data_diagnostico, d.observacoes, d.created_at
+              FROM diagnosticos d
+              JOIN mecanicos m ON m.id = d.mecanico_id
+             WHERE d.execucao_id = :execucaoId
+             ORDER BY d.created_at, d.id""";
+
+    private static final String SELECT_TAREFAS = """
+            SELECT t.id, t.descricao, m.nome AS mecanico, t.tempo_estimado_minutos, t.tempo_real_minutos,
+                   t.status, t.data_inicio, t.data_finalizacao, t.created_at
+              FROM tarefas t
+              JOIN mecanicos m ON m.id = t.mecanico_id
+             WHERE t.execucao_id = :execucaoId
+             ORDER BY t.created_at, t.id""";
+
+    private static final String SELECT_PECAS = """
+            SELECT id, peca_id, descricao, quantidade, valor_unitario, valor_total, data_uso, created_at
+              FROM uso_pecas
+             WHERE execucao_id = :execucaoId
+             ORDER BY created_at, id""";
+
+    private final DatabaseClient databaseClient;
+
+    public ExecucaoOSR2dbcRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<ExecucaoOS> findById(UUID id) {
+        return buscarAgregado(databaseClient.sql(SELECT_RAIZ + "WHERE e.id = :id").bind("id", id));
+    }
+
+    @Override
+    public Mono<ExecucaoOS> findByOsId(UUID osId) {
+        return buscarAgregado(databaseClient.sql(SELECT_RAIZ + "WHERE e.os_id = :osId").bind("osId", osId));
+    }
+
+    @Override
+    public Flux<ExecucaoOSResumo> findResumosByStatus(StatusExecucao status) {
+        return databaseClient.sql(SELECT_RESUMO + "WHERE e.status = :status\n" + ORDEM)
+                .bind("status", status.name())
+                .map(ExecucaoOSR2dbcRepositoryAdapter::mapearResumo)
+                .all();
+    }
+
+    @Override
+    public Flux<ExecucaoOSResumo> findResumosByMecanico(String mecanico) {
+        return databaseClient.sql(SELECT_RESUMO + "WHERE m.nome = :mecanico\n" + ORDEM)
+                .bind("mecanico", mecanico)
+                .map(ExecucaoOSR2dbcRepositoryAdapter::mapearResumo)
+                .all();
+    }
+
+    @Override
+    public Flux<ExecucaoOSResumo> findAllResumos() {
+        return databaseClient.sql(SELECT_RESUMO + ORDEM)
+                .map(ExecucaoOSR2dbcRepositoryAdapter::mapearResumo)
+                .all();
+    }
+
+    /**
+     * Raiz primeiro (para saber o ID quando a busca é por OS) e depois os
+     * três filhos, um de cada vez: cada leitura ocupa no máximo uma conexão
+     * do pool por vez.
+     */
+    private Mono<ExecucaoOS> buscarAgregado(DatabaseClient.GenericExecuteSpec selectRaiz) {
+        return selectRaiz.map(ExecucaoOSR2dbcRepositoryAdapter::mapearRaiz).one()
+                .flatMap(raiz -> filhos(SELECT_DIAGNOSTICOS, raiz.getId(),
+                                ExecucaoOSR2dbcRepositoryAdapter::mapearDiagnostico)
+                        .map(diagnosticos -> raiz.toBuilder().diagnosticos(diagnosticos))
+                        .flatMap(agregado -> filhos(SELECT_TAREFAS, raiz.getId(),
+                                ExecucaoOSR2dbcRepositoryAdapter::mapearTarefa).map(agregado::tarefas))
+                        .flatMap(agregado -> filhos(SELECT_PECAS, raiz.getId(),
+                                ExecucaoOSR2dbcRepositoryAdapter::mapearUsoPeca).map(agregado::pecas))
+                        .map(ExecucaoOS.ExecucaoOSBuilder::build));
+    }
+
+    private <T> Mono<List<T>> filhos(String sql, UUID execucaoId, Function<Readable, T> mapeador) {
+        return databaseClient.sql(sql)
+                .bind("execucaoId", execucaoId)
+                .map(mapeador)
+                .all()
+                .collect(ArrayList::new, List::add);
+    }
+
+    private static ExecucaoOS mapearRaiz(Readable row) {
+        return ExecucaoOS.builder()
+                .id(row.get("id", UUID.class))
+                .osId(row.get("os_id", UUID.class))
+                .orcamentoId(row.get("orcamento_id", UUID.class))
+                .status(StatusExecucao.valueOf(row.get("status", String.class)))
+                .mecanico(row.get("mecanico", String.class))
+                .dataInicio(instant(row, "data_inicio"))
+                .dataFinalizacao(instant(row, "data_finalizacao"))
+                .observacoes(row.get("observacoes", String.class))
+                .version(row.get("version", Long.class))
+                .createdAt(instant(row, "created_at"))
+                .updatedAt(instant(row, "updated_at"))
+                .build();
+    }
+
+    private static ExecucaoOSResumo mapearResumo(Readable row) {
+        return new ExecucaoOSResumo(
+                row.get("id", UUID.class),
+                row.get("os_id", UUID.class),
+                row.get("orcamento_id", UUID.class),
+                StatusExecucao.valueOf(row.get("status", String.class)),
+                row.get("mecanico", String.class),
+                instant(row, "data_inicio"),
+                instant(row, "data_finalizacao"),
+                row.get("observacoes", String.class),
+                row.get("version", Long.class),
+                contagem(row, "total_diagnosticos"),
+                contagem(row, "total_tarefas"),
+                contagem(row, "total_pecas"),
+                instant(row, "created_at"),
+                instant(row, "updated_at"));
+    }
+
+    private static Diagnostico mapearDiagnostico(Readable row) {
+        return Diagnostico.builder()
+                .id(row.get("id", UUID.class))
+                .descricao(row.get("descricao", String.class))
+                .mecanico(row.get("mecanico", String.class))
+                .dataDiagnostico(instant(row, "data_diagnostico"))
+                .observacoes(row.get("observacoes", String.class))
+                .createdAt(instant(row, "created_at"))
+                .build();
+    }
+
+    private static Tarefa mapearTarefa(Readable row) {
+        return Tarefa.builder()
+                .id(row.get("id", UUID.class))
+                .descricao(row.get("descricao", String.class))
+                .mecanico(row.get("mecanico", String.class))
+                .tempoEstimadoMinutos(row.get("tempo_estimado_minutos", Integer.class))
+                .tempoRealMinutos(row.get("tempo_real_minutos", Integer.class))
+                .status(StatusTarefa.valueOf(row.get("status", String.class)))
+                .dataInicio(instant(row, "data_inicio"))
+                .dataFinalizacao(instant(row, "data_finalizacao"))
+                .createdAt(instant(row, "created_at"))
+                .build();
+    }
+
+    private static UsoPeca mapearUsoPeca(Readable row) {
+        return UsoPeca.builder()
+                .id(row.get("id", UUID.class))
+                .pecaId(row.get("peca_id", UUID.class))
+                .descricao(row.get("descricao", String.class))
+                .quantidade(row.get("quantidade", Integer.class))
+                .valorUnitario(row.get("valor_unitario", BigDecimal.class))
+                .valorTotal(row.get("valor_total", BigDecimal.class))
+                .dataUso(instant(row, "data_uso"))
+                .createdAt(instant(row, "created_at"))
+                .build();
+    }
+
+    private static Instant instant(Readable row, String coluna) {
+        LocalDateTime valor = row.get(coluna, LocalDateTime.class);
+        return valor == null ? null : valor.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static int contagem(Readable row, String coluna) {
+        Number valor = row.get(coluna, Number.class);
+        return valor == null ? 0 : valor.intValue();
+    }
+}
@@ -62,9 +62,10 @@ class DtosTest {
         ExecucaoOSResponseDTO dto = new ExecucaoOSResponseDTO(
                 id, UUID.randomUUID(), UUID.randomUUID(),
                 StatusExecucao.EM_ANDAMENTO, "Mec", now, null, "obs",
-                2, 3, 1, now, now);
+                2, 3, 1, now, now, 4L);
         assertEquals(id, dto.id());
         assertEquals(2, dto.totalDiagnosticos());
+        assertEquals(4L, dto.version());
     }
 
     // --- TarefaRequestDTO ---
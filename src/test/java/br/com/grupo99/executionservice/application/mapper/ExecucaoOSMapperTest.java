@@ -3,11 +3,13 @@ package br.com.grupo99.executionservice.application.mapper;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSRequestDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,6 +64,31 @@ class ExecucaoOSMapperTest {
     @Test
     @DisplayName("toResponseDTO deve retornar null para domain null")
     void toResponseDTONull() {
-        assertNull(mapper.toResponseDTO(null));
+        assertNull(mapper.toResponseDTO((ExecucaoOS) null));
+    }
+
+    @Test
+    @DisplayName("toResponseDTO deve converter resumo para response com as contagens agregadas")
+    void toResponseDTOFromResumo() {
+        Instant now = Instant.now();
+        ExecucaoOSResumo resumo = new ExecucaoOSResumo(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                StatusExecucao.EM_ANDAMENTO, "Pedro", now, null, "obs", 3L,
+                2, 5, 7, now, now);
+
+        ExecucaoOSResponseDTO dto = mapper.toResponseDTO(resumo);
+
+        assertEquals(resumo.id(), dto.id());
+        assertEquals(resumo.osId(), dto.osId());
+        assertEquals(StatusExecucao.EM_ANDAMENTO, dto.status());
+        assertEquals(2, dto.totalDiagnosticos());
+        assertEquals(5, dto.totalTarefas());
+        assertEquals(7, dto.totalPecas());
+    }
+
+    @Test
+    @DisplayName("toResponseDTO deve retornar null para resumo null")
+    void toResponseDTOResumoNull() {
+        assertNull(mapper.toResponseDTO((ExecucaoOSResumo) null));
     }
 }
@@ -1,26 +1,71 @@
 package br.com.grupo99.executionservice.application.service;
 
+import br.com.grupo99.executionservice.application.dto.DiagnosticoRequestDTO;
+import br.com.grupo99.executionservice.application.dto.DiagnosticoResponseDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSRequestDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ItemLoteResponseDTO;
+import br.com.grupo99.executionservice.application.dto.LoteExecucoesResponseDTO;
+import br.com.grupo99.executionservice.application.dto.PaginaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.RelatorioMecanicosResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ResultadoBuscaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TopPecasResponseDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaResponseDTO;
 import br.com.grupo99.executionservice.application.mapper.ExecucaoOSMapper;
+import br.com.grupo99.executionservice.domain.model.ConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.ProdutividadeMecanico;
+import br.com.grupo99.executionservice.domain.model.RankingPecas;
+import br.com.grupo99.executionservice.domain.model.ResultadoBusca;
+import br.com.grupo99.executionservice.domain.model.TipoResultadoBusca;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.domain.model.TransicaoTarefa;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
+import br.com.grupo99.executionservice.domain.repository.BuscaCursor;
+import br.com.grupo99.executionservice.domain.repository.BuscaTextualRepository;
+import br.com.grupo99.executionservice.domain.repository.ConsumoPecasRepository;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSArquivadaRepository;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSCursor;
 import br.com.grupo99.executionservice.domain.repository.ExecucaoOSRepository;
+import br.com.grupo99.executionservice.domain.repository.ProdutividadeMecanicoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,10 +78,23 @@ class ExecucaoOSApplicationServiceTest {
     @Mock
     private ExecucaoOSMapper mapper;
 
+    @Mock
+    private ProdutividadeMecanicoRepository produtividadeRepository;
+
+    @Mock
+    private ConsumoPecasRepository consumoPecasRepository;
+
+    @Mock
+    private BuscaTextualRepository buscaTextualRepository;
+
+    @Mock
+    private ExecucaoOSArquivadaRepository arquivadaRepository;
+
     @InjectMocks
     private ExecucaoOSApplicationService service;
 
     private ExecucaoOS execucaoOS;
+    private ExecucaoOSResumo resumo;
     private UUID execucaoId;
     private UUID osId;
     private UUID orcamentoId;
@@ -52,6 +110,10 @@ class ExecucaoOSApplicationServiceTest {
         execucaoOS.setId(execucaoId);
 
         responseDTO = ExecucaoOSResponseDTO.fromDomain(execucaoOS);
+        resumo = new ExecucaoOSResumo(
+                execucaoId, osId, orcamentoId, execucaoOS.getStatus(), execucaoOS.getMecanico(),
+                execucaoOS.getDataInicio(), null, null, 0L, 0, 0, 0,
+                execucaoOS.getCreatedAt(), execucaoOS.getUpdatedAt());
     }
 
     @Test
@@ -60,14 +122,92 @@ class ExecucaoOSApplicationServiceTest {
         ExecucaoOSRequestDTO request = new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico");
 
         when(mapper.toDomain(request)).thenReturn(execucaoOS);
-        when(repository.save(execucaoOS)).thenReturn(execucaoOS);
+        when(repository.insertIfAbsent(execucaoOS)).thenReturn(true);
         when(mapper.toResponseDTO(execucaoOS)).thenReturn(responseDTO);
 
         ExecucaoOSResponseDTO result = service.criar(request);
 
         assertThat(result).isNotNull();
         assertThat(result.osId()).isEqualTo(osId);
-        verify(repository).save(execucaoOS);
+        verify(repository).insertIfAbsent(execucaoOS);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar criação quando a OS já tem execução, mesmo arquivada")
+    void deveRecusarCriacaoParaOsComExecucao() {
+        ExecucaoOSRequestDTO request = new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico");
+        when(mapper.toDomain(request)).thenReturn(execucaoOS);
+        when(repository.insertIfAbsent(execucaoOS)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.criar(request))
+                .isInstanceOf(DuplicateKeyException.class)
+                .hasMessageContaining("Já existe execução para a OS");
+        verify(mapper, never()).toResponseDTO(any(ExecucaoOS.class));
+    }
+
+    @Test
+    @DisplayName("Deve criar lote recusando itens inválidos, repetidos e já existentes")
+    void deveCriarLoteComResultadoPorItem() {
+        ExecucaoOSMapper mapperReal = new ExecucaoOSMapper();
+        when(mapper.toDomain(any())).thenAnswer(inv -> mapperReal.toDomain(inv.getArgument(0)));
+        when(mapper.toResponseDTO(any(ExecucaoOS.class)))
+                .thenAnswer(inv -> mapperReal.toResponseDTO(inv.<ExecucaoOS>getArgument(0)));
+        UUID existente = UUID.randomUUID();
+        UUID nova = UUID.randomUUID();
+        when(repository.findExistingOsIds(Set.of(osId, existente, nova))).thenReturn(Set.of(existente));
+        when(repository.insertNew(anyList())).thenAnswer(inv -> inv.<List<?>>getArgument(0).size());
+
+        LoteExecucoesResponseDTO lote = service.criarEmLote(List.of(
+                new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico"),
+                new ExecucaoOSRequestDTO(UUID.randomUUID(), orcamentoId, " "),
+                new ExecucaoOSRequestDTO(existente, orcamentoId, "João Mecânico"),
+                new ExecucaoOSRequestDTO(osId, orcamentoId, "Maria Mecânica"),
+                new ExecucaoOSRequestDTO(nova, orcamentoId, "Maria Mecânica")));
+
+        assertThat(lote.total()).isEqualTo(5);
+        assertThat(lote.criadas()).isEqualTo(2);
+        assertThat(lote.falhas()).isEqualTo(3);
+        assertThat(lote.itens()).extracting(ItemLoteResponseDTO::criado)
+                .containsExactly(true, false, false, false, true);
+        assertThat(lote.itens().get(1).erro()).isEqualTo("Mecânico não pode ser vazio");
+        assertThat(lote.itens().get(2).erro()).contains("Já existe execução");
+        assertThat(lote.itens().get(3).erro()).contains("OS repetida no lote");
+        assertThat(lote.itens().get(4).execucao().osId()).isEqualTo(nova);
+
+        ArgumentCaptor<List<ExecucaoOS>> inseridas = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertNew(inseridas.capture());
+        assertThat(inseridas.getValue()).extracting(ExecucaoOS::getOsId).containsExactly(osId, nova);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve desfazer o lote quando outra requisição cria execução para a mesma OS")
+    void deveFalharLoteQuandoInsercaoConcorrente() {
+        when(mapper.toDomain(any())).thenReturn(execucaoOS);
+        when(repository.findExistingOsIds(Set.of(osId))).thenReturn(Set.of());
+        when(repository.insertNew(List.of(execucaoOS))).thenReturn(0);
+
+        List<ExecucaoOSRequestDTO> lote = List.of(new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico"));
+
+        assertThatThrownBy(() -> service.criarEmLote(lote))
+                .isInstanceOf(DuplicateKeyException.class)
+                .hasMessageContaining("nenhuma execução foi criada");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio ou maior que o limite")
+    void deveRejeitarLoteForaDoLimite() {
+        List<ExecucaoOSRequestDTO> grande = Collections.nCopies(
+                ExecucaoOSApplicationService.TAMANHO_LOTE_MAXIMO + 1,
+                new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico"));
+
+        assertThatThrownBy(() -> service.criarEmLote(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.criarEmLote(grande))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Lote deve ter entre 1 e");
+        verifyNoInteractions(repository);
     }
 
     @Test
@@ -82,6 +222,18 @@ class ExecucaoOSApplicationServiceTest {
         verify(repository).findById(execucaoId);
     }
 
+    @Test
+    @DisplayName("Deve buscar execução arquivada por ID")
+    void deveBuscarArquivadaPorId() {
+        when(repository.findById(execucaoId)).thenReturn(Optional.empty());
+        when(arquivadaRepository.findById(execucaoId)).thenReturn(Optional.of(execucaoOS));
+        when(mapper.toResponseDTO(execucaoOS)).thenReturn(responseDTO);
+
+        ExecucaoOSResponseDTO result = service.buscarPorId(execucaoId);
+
+        assertThat(result).isSameAs(responseDTO);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando execução não encontrada por ID")
     void deveLancarExcecaoQuandoNaoEncontradaPorId() {
@@ -105,6 +257,18 @@ class ExecucaoOSApplicationServiceTest {
         verify(repository).findByOsId(osId);
     }
 
+    @Test
+    @DisplayName("Deve buscar execução arquivada por osId")
+    void deveBuscarArquivadaPorOsId() {
+        when(repository.findByOsId(osId)).thenReturn(Optional.empty());
+        when(arquivadaRepository.findByOsId(osId)).thenReturn(Optional.of(execucaoOS));
+        when(mapper.toResponseDTO(execucaoOS)).thenReturn(responseDTO);
+
+        ExecucaoOSResponseDTO result = service.buscarPorOsId(osId);
+
+        assertThat(result).isSameAs(responseDTO);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando execução não encontrada por osId")
     void deveLancarExcecaoQuandoNaoEncontradaPorOsId() {
@@ -117,21 +281,128 @@ class ExecucaoOSApplicationServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar todas as execuções")
-    void deveListarTodasAsExecucoes() {
-        when(repository.findAll()).thenReturn(List.of(execucaoOS));
-        when(mapper.toResponseDTO(execucaoOS)).thenReturn(responseDTO);
+    @DisplayName("Deve listar primeira página com tamanho padrão e sem próximo cursor")
+    void deveListarPrimeiraPaginaSemProximoCursor() {
+        when(repository.findPage(isNull(), eq(ExecucaoOSApplicationService.TAMANHO_PAGINA_PADRAO)))
+                .thenReturn(List.of(resumo));
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
 
-        List<ExecucaoOSResponseDTO> result = service.listarTodas();
+        PaginaResponseDTO<ExecucaoOSResponseDTO> result = service.listarPagina(null, null);
 
-        assertThat(result).hasSize(1);
+        assertThat(result.itens()).hasSize(1);
+        assertThat(result.tamanho()).isEqualTo(1);
+        assertThat(result.proximoCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor da última execução quando a página está cheia")
+    void deveRetornarProximoCursorQuandoPaginaCheia() {
+        when(repository.findPage(isNull(), eq(1))).thenReturn(List.of(resumo));
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
+
+        PaginaResponseDTO<ExecucaoOSResponseDTO> result = service.listarPagina(null, 1);
+
+        ExecucaoOSCursor cursor = ExecucaoOSCursor.decode(result.proximoCursor());
+        assertThat(cursor.id()).isEqualTo(execucaoId);
+        assertThat(cursor.createdAt()).isEqualTo(execucaoOS.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor informado")
+    void deveContinuarAPartirDoCursor() {
+        ExecucaoOSCursor cursor = new ExecucaoOSCursor(execucaoOS.getCreatedAt(), execucaoId);
+        when(repository.findPage(cursor, 10)).thenReturn(List.of());
+
+        PaginaResponseDTO<ExecucaoOSResponseDTO> result = service.listarPagina(cursor.encode(), 10);
+
+        assertThat(result.itens()).isEmpty();
+        assertThat(result.proximoCursor()).isNull();
+        verify(repository).findPage(cursor, 10);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página fora dos limites")
+    void deveRejeitarTamanhoDePaginaInvalido() {
+        assertThatThrownBy(() -> service.listarPagina(null, ExecucaoOSApplicationService.TAMANHO_PAGINA_MAXIMO + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Tamanho de página");
+        assertThatThrownBy(() -> service.listarPagina(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(repository, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por texto e retornar cursor do último resultado quando a página está cheia")
+    void deveBuscarPorTextoComProximoCursor() {
+        ResultadoBusca resultado = new ResultadoBusca(TipoResultadoBusca.DIAGNOSTICO, UUID.randomUUID(), execucaoId,
+                "Barulho na suspensão dianteira", "João Mecânico", execucaoOS.getCreatedAt(), 0.0759f);
+        when(buscaTextualRepository.buscar("barulho suspensão", null, 1)).thenReturn(List.of(resultado));
+
+        PaginaResponseDTO<ResultadoBuscaResponseDTO> result = service.buscar("barulho suspensão", null, 1);
+
+        assertThat(result.itens()).extracting(ResultadoBuscaResponseDTO::execucaoId).containsExactly(execucaoId);
+        BuscaCursor cursor = BuscaCursor.decode(result.proximoCursor());
+        assertThat(cursor.relevancia()).isEqualTo(0.0759f);
+        assertThat(cursor.id()).isEqualTo(resultado.id());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a busca a partir do cursor informado")
+    void deveContinuarBuscaAPartirDoCursor() {
+        BuscaCursor cursor = new BuscaCursor(0.5f, UUID.randomUUID());
+        when(buscaTextualRepository.buscar("troca de óleo", cursor, ExecucaoOSApplicationService.TAMANHO_PAGINA_PADRAO))
+                .thenReturn(List.of());
+
+        PaginaResponseDTO<ResultadoBuscaResponseDTO> result = service.buscar("troca de óleo", cursor.encode(), null);
+
+        assertThat(result.itens()).isEmpty();
+        assertThat(result.proximoCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar termos de busca vazios ou longos demais")
+    void deveRejeitarTermosDeBuscaInvalidos() {
+        assertThatThrownBy(() -> service.buscar(" ", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Termos da busca");
+        assertThatThrownBy(() -> service.buscar("a".repeat(ExecucaoOSApplicationService.TAMANHO_TERMOS_MAXIMO + 1),
+                null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.buscar("óleo", "inválido", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor inválido");
+        verifyNoInteractions(buscaTextualRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void deveRejeitarCursorInvalido() {
+        assertThatThrownBy(() -> service.listarPagina("não-é-um-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor inválido");
+    }
+
+    @Test
+    @DisplayName("Deve exportar todas as execuções em streaming")
+    @SuppressWarnings("unchecked")
+    void deveExportarTodasEmStreaming() {
+        doAnswer(invocation -> {
+            ((Consumer<ExecucaoOSResumo>) invocation.getArgument(0)).accept(resumo);
+            return null;
+        }).when(repository).streamAll(any());
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
+
+        List<ExecucaoOSResponseDTO> exportados = new ArrayList<>();
+        service.exportarTodas(exportados::add);
+
+        assertThat(exportados).containsExactly(responseDTO);
     }
 
     @Test
     @DisplayName("Deve buscar por status")
     void deveBuscarPorStatus() {
-        when(repository.findByStatus(StatusExecucao.AGUARDANDO_INICIO)).thenReturn(List.of(execucaoOS));
-        when(mapper.toResponseDTO(execucaoOS)).thenReturn(responseDTO);
+        when(repository.findResumosByStatus(StatusExecucao.AGUARDANDO_INICIO)).thenReturn(List.of(resumo));
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
 
         List<ExecucaoOSResponseDTO> result = service.buscarPorStatus(StatusExecucao.AGUARDANDO_INICIO);
 
@@ -141,8 +412,8 @@ class ExecucaoOSApplicationServiceTest {
     @Test
     @DisplayName("Deve buscar por mecânico")
     void deveBuscarPorMecanico() {
-        when(repository.findByMecanico("João Mecânico")).thenReturn(List.of(execucaoOS));
-        when(mapper.toResponseDTO(execucaoOS)).thenReturn(responseDTO);
+        when(repository.findResumosByMecanico("João Mecânico")).thenReturn(List.of(resumo));
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
 
         List<ExecucaoOSResponseDTO> result = service.buscarPorMecanico("João Mecânico");
 
@@ -152,72 +423,187 @@ class ExecucaoOSApplicationServiceTest {
     @Test
     @DisplayName("Deve iniciar execução com sucesso")
     void deveIniciarExecucaoComSucesso() {
-        when(repository.findById(execucaoId)).thenReturn(Optional.of(execucaoOS));
-        when(repository.save(any(ExecucaoOS.class))).thenReturn(execucaoOS);
-        when(mapper.toResponseDTO(any(ExecucaoOS.class))).thenReturn(responseDTO);
+        when(repository.transitionStatus(eq(execucaoId), any(TransicaoStatus.class), isNull()))
+                .thenReturn(resumo);
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
 
-        ExecucaoOSResponseDTO result = service.iniciar(execucaoId);
+        ExecucaoOSResponseDTO result = service.iniciar(execucaoId, null);
 
         assertThat(result).isNotNull();
-        verify(repository).save(any(ExecucaoOS.class));
+        ArgumentCaptor<TransicaoStatus> transicao = ArgumentCaptor.forClass(TransicaoStatus.class);
+        verify(repository).transitionStatus(eq(execucaoId), transicao.capture(), isNull());
+        assertThat(transicao.getValue().destino()).isEqualTo(StatusExecucao.EM_ANDAMENTO);
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve repassar a versão esperada ao iniciar")
+    void deveRepassarVersaoEsperadaAoIniciar() {
+        when(repository.transitionStatus(eq(execucaoId), any(TransicaoStatus.class), eq(4L)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ExecucaoOS.class, execucaoId));
+
+        assertThatThrownBy(() -> service.iniciar(execucaoId, 4L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("Deve buscar só a versão da execução, sem carregar o agregado")
+    void deveBuscarVersaoSemCarregarAgregado() {
+        VersaoExecucao versao = new VersaoExecucao(execucaoId, 7L);
+        when(repository.findVersionById(execucaoId)).thenReturn(Optional.of(versao));
+        when(repository.findVersionByOsId(osId)).thenReturn(Optional.empty());
+
+        assertThat(service.buscarVersao(execucaoId)).contains(versao);
+        assertThat(service.buscarVersaoPorOsId(osId)).isEmpty();
+        verify(repository, never()).findById(any());
+        verify(repository, never()).findByOsId(any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao iniciar execução não encontrada")
     void deveLancarExcecaoAoIniciarExecucaoNaoEncontrada() {
         UUID id = UUID.randomUUID();
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.transitionStatus(eq(id), any(TransicaoStatus.class), isNull()))
+                .thenThrow(new IllegalArgumentException("Execução não encontrada: " + id));
 
-        assertThatThrownBy(() -> service.iniciar(id))
+        assertThatThrownBy(() -> service.iniciar(id, null))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("Deve propagar transição inválida ao iniciar")
+    void devePropagarTransicaoInvalidaAoIniciar() {
+        when(repository.transitionStatus(eq(execucaoId), any(TransicaoStatus.class), isNull()))
+                .thenThrow(new IllegalStateException("Transição inválida de CONCLUIDA para EM_ANDAMENTO"));
+
+        assertThatThrownBy(() -> service.iniciar(execucaoId, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Transição inválida");
+    }
+
     @Test
     @DisplayName("Deve finalizar execução com sucesso")
     void deveFinalizarExecucaoComSucesso() {
-        execucaoOS.iniciar(); // primeiro inicia
+        when(repository.transitionStatus(eq(execucaoId), any(TransicaoStatus.class), isNull()))
+                .thenReturn(resumo);
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
 
-        when(repository.findById(execucaoId)).thenReturn(Optional.of(execucaoOS));
-        when(repository.save(any(ExecucaoOS.class))).thenReturn(execucaoOS);
-        when(mapper.toResponseDTO(any(ExecucaoOS.class))).thenReturn(responseDTO);
-
-        ExecucaoOSResponseDTO result = service.finalizar(execucaoId, "Obs finais");
+        ExecucaoOSResponseDTO result = service.finalizar(execucaoId, "Obs finais", null);
 
         assertThat(result).isNotNull();
+        ArgumentCaptor<TransicaoStatus> transicao = ArgumentCaptor.forClass(TransicaoStatus.class);
+        verify(repository).transitionStatus(eq(execucaoId), transicao.capture(), isNull());
+        assertThat(transicao.getValue().destino()).isEqualTo(StatusExecucao.CONCLUIDA);
+        assertThat(transicao.getValue().observacoes()).isEqualTo("Obs finais");
+        assertThat(transicao.getValue().registraFinalizacao()).isTrue();
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao finalizar execução não encontrada")
     void deveLancarExcecaoAoFinalizarExecucaoNaoEncontrada() {
         UUID id = UUID.randomUUID();
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.transitionStatus(eq(id), any(TransicaoStatus.class), isNull()))
+                .thenThrow(new IllegalArgumentException("Execução não encontrada: " + id));
 
-        assertThatThrownBy(() -> service.finalizar(id, "Obs"))
+        assertThatThrownBy(() -> service.finalizar(id, "Obs", null))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     @DisplayName("Deve cancelar execução com sucesso")
     void deveCancelarExecucaoComSucesso() {
-        when(repository.findById(execucaoId)).thenReturn(Optional.of(execucaoOS));
-        when(repository.save(any(ExecucaoOS.class))).thenReturn(execucaoOS);
-        when(mapper.toResponseDTO(any(ExecucaoOS.class))).thenReturn(responseDTO);
+        when(repository.transitionStatus(eq(execucaoId), any(TransicaoStatus.class), isNull()))
+                .thenReturn(resumo);
+        when(mapper.toResponseDTO(resumo)).thenReturn(responseDTO);
 
-        ExecucaoOSResponseDTO result = service.cancelar(execucaoId, "Motivo cancelamento");
+        ExecucaoOSResponseDTO result = service.cancelar(execucaoId, "Motivo cancelamento", null);
 
         assertThat(result).isNotNull();
+        ArgumentCaptor<TransicaoStatus> transicao = ArgumentCaptor.forClass(TransicaoStatus.class);
+        verify(repository).transitionStatus(eq(execucaoId), transicao.capture(), isNull());
+        assertThat(transicao.getValue().destino()).isEqualTo(StatusExecucao.CANCELADA);
+        assertThat(transicao.getValue().observacoes()).isEqualTo("Motivo cancelamento");
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao cancelar execução não encontrada")
     void deveLancarExcecaoAoCancelarExecucaoNaoEncontrada() {
         UUID id = UUID.randomUUID();
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.transitionStatus(eq(id), any(TransicaoStatus.class), isNull()))
+                .thenThrow(new IllegalArgumentException("Execução não encontrada: " + id));
 
-        assertThatThrownBy(() -> service.cancelar(id, "Motivo"))
+        assertThatThrownBy(() -> service.cancelar(id, "Motivo", null))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("Deve acrescentar tarefa, diagnóstico e peça sem carregar o agregado")
+    void deveAcrescentarFilhosSemCarregarAgregado() {
+        TarefaResponseDTO tarefa = service.adicionarTarefa(execucaoId,
+                new TarefaRequestDTO("Troca de óleo", "João Mecânico", 40), null);
+        DiagnosticoResponseDTO diagnostico = service.adicionarDiagnostico(execucaoId,
+                new DiagnosticoRequestDTO("Ruído no motor", "João Mecânico", null), 3L);
+        UsoPecaResponseDTO peca = service.adicionarUsoPeca(execucaoId,
+                new UsoPecaRequestDTO(UUID.randomUUID(), "Filtro", 2, BigDecimal.TEN), 4L);
+
+        ArgumentCaptor<Tarefa> tarefaGravada = ArgumentCaptor.forClass(Tarefa.class);
+        verify(repository).addTarefa(eq(execucaoId), tarefaGravada.capture(), isNull());
+        assertThat(tarefa.id()).isEqualTo(tarefaGravada.getValue().getId());
+        assertThat(tarefa.status()).isEqualTo(StatusTarefa.PENDENTE);
+        verify(repository).addDiagnostico(eq(execucaoId), any(Diagnostico.class), eq(3L));
+        assertThat(diagnostico.descricao()).isEqualTo("Ruído no motor");
+        verify(repository).addUsoPeca(eq(execucaoId), any(UsoPeca.class), eq(4L));
+        assertThat(peca.valorTotal()).isEqualByComparingTo("20");
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve validar o filho antes de gravar")
+    void deveValidarFilhoAntesDeGravar() {
+        TarefaRequestDTO invalida = new TarefaRequestDTO(" ", "João Mecânico", 40);
+
+        assertThatThrownBy(() -> service.adicionarTarefa(execucaoId, invalida, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Descrição não pode ser vazia");
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve iniciar e finalizar tarefa por transição direta, somando a conclusão ao rollup")
+    void deveTransicionarTarefaSemCarregarAgregado() {
+        UUID tarefaId = UUID.randomUUID();
+        Tarefa concluida = Tarefa.criar("Troca de óleo", "João Mecânico", 40);
+        concluida.iniciar();
+        concluida.finalizar(35);
+        when(repository.transitionTarefa(eq(execucaoId), eq(tarefaId), any(TransicaoTarefa.class), isNull()))
+                .thenReturn(concluida);
+
+        service.iniciarTarefa(execucaoId, tarefaId, null);
+        TarefaResponseDTO result = service.finalizarTarefa(execucaoId, tarefaId, 35, null);
+
+        assertThat(result.status()).isEqualTo(StatusTarefa.CONCLUIDA);
+        ArgumentCaptor<TransicaoTarefa> transicoes = ArgumentCaptor.forClass(TransicaoTarefa.class);
+        verify(repository, times(2)).transitionTarefa(eq(execucaoId), eq(tarefaId), transicoes.capture(), isNull());
+        assertThat(transicoes.getAllValues()).extracting(TransicaoTarefa::destino)
+                .containsExactly(StatusTarefa.EM_ANDAMENTO, StatusTarefa.CONCLUIDA);
+        assertThat(transicoes.getAllValues().get(1).tempoRealMinutos()).isEqualTo(35);
+        verify(produtividadeRepository).registrarConclusao(concluida);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tempo real inválido antes de gravar")
+    void deveRejeitarTempoRealInvalido() {
+        UUID tarefaId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> service.finalizarTarefa(execucaoId, tarefaId, -5, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tempo real deve ser maior que zero");
+        verifyNoInteractions(repository, produtividadeRepository);
+    }
+
     @Test
     @DisplayName("Deve deletar execução com sucesso")
     void deveDeletarExecucaoComSucesso() {
@@ -239,4 +625,80 @@ class ExecucaoOSApplicationServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Execução não encontrada");
     }
+
+    @Test
+    @DisplayName("Deve montar relatório de mecânicos a partir do rollup")
+    void deveMontarRelatorioDeMecanicos() {
+        LocalDate de = LocalDate.of(2026, 1, 1);
+        LocalDate ate = LocalDate.of(2026, 1, 10);
+        when(produtividadeRepository.somarPorMecanico(de, ate)).thenReturn(List.of(
+                new ProdutividadeMecanico("João Mecânico", 20, 2, 90, 90, 4500, 4100, 4200)));
+
+        RelatorioMecanicosResponseDTO relatorio = service.relatorioMecanicos(de, ate);
+
+        assertThat(relatorio.de()).isEqualTo(de);
+        assertThat(relatorio.ate()).isEqualTo(ate);
+        assertThat(relatorio.mecanicos()).singleElement().satisfies(mecanico -> {
+            assertThat(mecanico.mecanico()).isEqualTo("João Mecânico");
+            assertThat(mecanico.tarefasPorDia()).isEqualTo(2.0);
+            assertThat(mecanico.mediaRealMinutos()).isEqualTo(45.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve usar os últimos 30 dias quando o período não é informado")
+    void deveUsarPeriodoPadraoNoRelatorio() {
+        LocalDate hoje = LocalDate.now();
+        when(produtividadeRepository.somarPorMecanico(any(), any())).thenReturn(List.of());
+
+        RelatorioMecanicosResponseDTO relatorio = service.relatorioMecanicos(null, null);
+
+        assertThat(relatorio.ate()).isAfterOrEqualTo(hoje);
+        assertThat(relatorio.de()).isEqualTo(relatorio.ate().minusDays(29));
+        verify(produtividadeRepository).somarPorMecanico(relatorio.de(), relatorio.ate());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período de relatório invertido ou longo demais")
+    void deveRejeitarPeriodoInvalidoNoRelatorio() {
+        LocalDate ate = LocalDate.of(2026, 1, 10);
+
+        assertThatThrownBy(() -> service.relatorioMecanicos(ate.plusDays(1), ate))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.relatorioMecanicos(ate.minusDays(366), ate))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("366");
+        verifyNoInteractions(produtividadeRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar top de peças por quantidade com os valores padrão")
+    void deveMontarTopDePecasComPadroes() {
+        UUID pecaId = UUID.randomUUID();
+        when(consumoPecasRepository.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10)).thenReturn(new RankingPecas(
+                MetricaConsumoPeca.QUANTIDADE, 7, 40, 2, List.of(new ConsumoPeca(pecaId, 12, 2, true))));
+
+        TopPecasResponseDTO top = service.topPecas(null, null, null);
+
+        assertThat(top.total()).isEqualByComparingTo("40");
+        assertThat(top.erroMaximo()).isEqualByComparingTo("2");
+        assertThat(top.pecas()).singleElement().satisfies(peca -> {
+            assertThat(peca.pecaId()).isEqualTo(pecaId);
+            assertThat(peca.estimativa()).isEqualByComparingTo("12");
+            assertThat(peca.minimo()).isEqualByComparingTo("10");
+            assertThat(peca.garantida()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve converter o top de peças por valor de centavos para reais")
+    void deveConverterTopDePecasPorValor() {
+        when(consumoPecasRepository.topPecas(MetricaConsumoPeca.VALOR, 30, 5)).thenReturn(new RankingPecas(
+                MetricaConsumoPeca.VALOR, 30, 123_456, 0, List.of(new ConsumoPeca(UUID.randomUUID(), 9_990, 0, true))));
+
+        TopPecasResponseDTO top = service.topPecas(MetricaConsumoPeca.VALOR, 30, 5);
+
+        assertThat(top.total()).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(top.pecas().get(0).estimativa()).isEqualTo(new BigDecimal("99.90"));
+    }
 }
@@ -0,0 +1,142 @@
+package br.com.grupo99.executionservice.config;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * PostgreSQL real para os testes que dependem do dialeto: SQL nativo,
+ * migrações de db/migration e planos de consulta.
+ *
+ * Usa o servidor indicado em {@code -Dpostgres.url} (credenciais em
+ * {@code -Dpostgres.username} e {@code -Dpostgres.password}, padrão
+ * postgres/postgres) ou, sem ele, um container postgres:16-alpine
+ * compartilhado por toda a execução. Cada {@link #novoBanco()} cria um banco
+ * vazio e aplica as migrações em ordem de versão, para que as classes de
+ * teste não dependam umas das outras. Testes de uma migração param antes
+ * dela com {@link #novoBanco(int)}, gravam o histórico e seguem com
+ * {@link #migrar(DriverManagerDataSource, int)}.
+ *
+ * As classes de teste declaram {@code @EnabledIf(PostgresDeTeste.DISPONIVEL)}:
+ * sem servidor configurado nem Docker, são ignoradas.
+ */
+public final class PostgresDeTeste {
+
+    public static final String DISPONIVEL = "br.com.grupo99.executionservice.config.PostgresDeTeste#disponivel";
+
+    private static final String URL = System.getProperty("postgres.url");
+    private static final String USUARIO = System.getProperty("postgres.username", "postgres");
+    private static final String SENHA = System.getProperty("postgres.password", "postgres");
+
+    private static PostgreSQLContainer<?> container;
+
+    private PostgresDeTeste() {
+    }
+
+    public static boolean disponivel() {
+        return URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    /**
+     * Cria um banco vazio no servidor e aplica as migrações.
+     *
+     * @return conexão com o banco novo
+     */
+    public static DriverManagerDataSource novoBanco() {
+        return novoBanco(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Cria um banco vazio no servidor e aplica as migrações até a versão
+     * informada, inclusive.
+     *
+     * @param ateVersao última migração aplicada
+     * @return conexão com o banco novo
+     */
+    public static synchronized DriverManagerDataSource novoBanco(int ateVersao) {
+        DriverManagerDataSource servidor = servidor();
+        String nome = "teste_" + UUID.randomUUID().toString().replace("-", "");
+        new JdbcTemplate(servidor).execute("CREATE DATABASE " + nome);
+        DriverManagerDataSource banco = new DriverManagerDataSource(
+                comBanco(servidor.getUrl(), nome), servidor.getUsername(), servidor.getPassword());
+        aplicarMigracoes(banco, 0, ateVersao);
+        return banco;
+    }
+
+    /**
+     * Aplica as migrações posteriores à versão informada.
+     *
+     * @param banco      banco criado por {@link #novoBanco(int)}
+     * @param aposVersao última migração já aplicada
+     */
+    public static void migrar(DriverManagerDataSource banco, int aposVersao) {
+        aplicarMigracoes(banco, aposVersao, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Aponta o DataSource e o Hibernate da aplicação para o banco. O schema
+     * vem das migrações e o Hibernate só o valida, como em produção.
+     *
+     * @param registry propriedades do contexto de teste
+     * @param banco    banco criado por {@link #novoBanco()}
+     */
+    public static void registrar(DynamicPropertyRegistry registry, DriverManagerDataSource banco) {
+        registry.add("spring.datasource.url", banco::getUrl);
+        registry.add("spring.datasource.username", banco::getUsername);
+        registry.add("spring.datasource.password", banco::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    private static DriverManagerDataSource servidor() {
+        if (URL != null) {
+            return new DriverManagerDataSource(URL, USUARIO, SENHA);
+        }
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+        }
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    private static String comBanco(String url, String nome) {
+        int inicio = url.indexOf('/', "jdbc:postgresql://".length());
+        int fim = url.indexOf('?', inicio);
+        return url.substring(0, inicio + 1) + nome + (fim < 0 ? "" : url.substring(fim));
+    }
+
+    private static void aplicarMigracoes(DriverManagerDataSource banco, int aposVersao, int ateVersao) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(banco);
+        try {
+            Resource[] migracoes = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:db/migration/V*.sql");
+            Arrays.sort(migracoes, Comparator.comparingInt(PostgresDeTeste::versao));
+            for (Resource migracao : migracoes) {
+                if (versao(migracao) <= aposVersao || versao(migracao) > ateVersao) {
+                    continue;
+                }
+                // O driver divide o script respeitando os corpos $$ ... $$ das funções
+                jdbcTemplate.execute(migracao.getContentAsString(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int versao(Resource migracao) {
+        String nome = migracao.getFilename();
+        return Integer.parseInt(nome.substring(1, nome.indexOf("__")));
+    }
+}
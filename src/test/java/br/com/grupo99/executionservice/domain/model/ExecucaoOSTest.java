@@ -45,6 +45,18 @@ class ExecucaoOSTest {
         assertEquals(StatusExecucao.AGUARDANDO_INICIO, execucao.getStatus());
     }
 
+    @Test
+    @DisplayName("Deve criar execução aguardando orçamento, sem ID de orçamento")
+    void deveCriarExecucaoAguardandoOrcamento() {
+        UUID osId = UUID.randomUUID();
+        ExecucaoOS execucao = ExecucaoOS.criarAguardandoOrcamento(osId, "A definir");
+
+        assertEquals(osId, execucao.getOsId());
+        assertNull(execucao.getOrcamentoId());
+        assertEquals(StatusExecucao.AGUARDANDO_INICIO, execucao.getStatus());
+        assertThrows(IllegalArgumentException.class, () -> ExecucaoOS.criarAguardandoOrcamento(null, "A definir"));
+    }
+
     @Test
     @DisplayName("Deve iniciar execução")
     void deveIniciarExecucao() {
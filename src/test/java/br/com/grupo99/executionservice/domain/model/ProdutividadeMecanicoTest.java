@@ -0,0 +1,40 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProdutividadeMecanico - Testes Unitários")
+class ProdutividadeMecanicoTest {
+
+    @Test
+    @DisplayName("Deve calcular médias, desvios e erro de estimativa a partir das somas")
+    void deveCalcularEstatisticas() {
+        // Tarefas (estimado, real): (30, 40), (60, 50), (30, 60)
+        ProdutividadeMecanico produtividade = new ProdutividadeMecanico("João", 4, 3,
+                120, 150, 30 * 30 + 60 * 60 + 30 * 30, 40 * 40 + 50 * 50 + 60 * 60,
+                30 * 40 + 60 * 50 + 30 * 60);
+
+        assertEquals(40.0, produtividade.mediaEstimado(), 1e-9);
+        assertEquals(50.0, produtividade.mediaReal(), 1e-9);
+        assertEquals(Math.sqrt(200.0 / 3), produtividade.desvioPadraoReal(), 1e-9);
+        // Erros: 10, -10, 30
+        assertEquals(10.0, produtividade.erroMedio(), 1e-9);
+        assertEquals(Math.sqrt(800.0 / 3), produtividade.desvioPadraoErro(), 1e-9);
+        assertEquals(1.25, produtividade.razaoRealEstimado(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Deve devolver nulo sem tarefas com tempos preenchidos")
+    void deveDevolverNuloSemTempos() {
+        ProdutividadeMecanico produtividade = new ProdutividadeMecanico("João", 2, 0, 0, 0, 0, 0, 0);
+
+        assertNull(produtividade.mediaEstimado());
+        assertNull(produtividade.mediaReal());
+        assertNull(produtividade.desvioPadraoReal());
+        assertNull(produtividade.erroMedio());
+        assertNull(produtividade.desvioPadraoErro());
+        assertNull(produtividade.razaoRealEstimado());
+    }
+}
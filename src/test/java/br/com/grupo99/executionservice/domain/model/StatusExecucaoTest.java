@@ -112,4 +112,16 @@ class StatusExecucaoTest {
         assertThat(StatusExecucao.CONCLUIDA.getDescricao()).isEqualTo("Concluída");
         assertThat(StatusExecucao.CANCELADA.getDescricao()).isEqualTo("Cancelada");
     }
+
+    @Test
+    @DisplayName("Origens permitidas espelham podeTransicionarPara")
+    void origensPermitidasEspelhamTransicoes() {
+        assertThat(StatusExecucao.origensPermitidas(StatusExecucao.EM_ANDAMENTO))
+                .containsExactly(StatusExecucao.AGUARDANDO_INICIO);
+        assertThat(StatusExecucao.origensPermitidas(StatusExecucao.CONCLUIDA))
+                .containsExactly(StatusExecucao.EM_ANDAMENTO);
+        assertThat(StatusExecucao.origensPermitidas(StatusExecucao.CANCELADA))
+                .containsExactlyInAnyOrder(StatusExecucao.AGUARDANDO_INICIO, StatusExecucao.EM_ANDAMENTO);
+        assertThat(StatusExecucao.origensPermitidas(StatusExecucao.AGUARDANDO_INICIO)).isEmpty();
+    }
 }
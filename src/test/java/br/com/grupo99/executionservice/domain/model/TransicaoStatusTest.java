@@ -0,0 +1,68 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransicaoStatus - Testes Unitários")
+class TransicaoStatusTest {
+
+    @Test
+    @DisplayName("iniciar altera apenas o status")
+    void iniciar() {
+        TransicaoStatus transicao = TransicaoStatus.iniciar();
+
+        assertThat(transicao.destino()).isEqualTo(StatusExecucao.EM_ANDAMENTO);
+        assertThat(transicao.origens()).containsExactly(StatusExecucao.AGUARDANDO_INICIO);
+        assertThat(transicao.registraFinalizacao()).isFalse();
+        assertThat(transicao.alteraObservacoes()).isFalse();
+    }
+
+    @Test
+    @DisplayName("finalizar registra data de finalização e observações")
+    void finalizar() {
+        TransicaoStatus transicao = TransicaoStatus.finalizar("Tudo certo");
+
+        assertThat(transicao.destino()).isEqualTo(StatusExecucao.CONCLUIDA);
+        assertThat(transicao.origens()).containsExactly(StatusExecucao.EM_ANDAMENTO);
+        assertThat(transicao.registraFinalizacao()).isTrue();
+        assertThat(transicao.alteraObservacoes()).isTrue();
+        assertThat(transicao.observacoes()).isEqualTo("Tudo certo");
+    }
+
+    @Test
+    @DisplayName("cancelar grava o motivo nas observações")
+    void cancelar() {
+        TransicaoStatus transicao = TransicaoStatus.cancelar("Cliente desistiu");
+
+        assertThat(transicao.destino()).isEqualTo(StatusExecucao.CANCELADA);
+        assertThat(transicao.origens())
+                .containsExactlyInAnyOrder(StatusExecucao.AGUARDANDO_INICIO, StatusExecucao.EM_ANDAMENTO);
+        assertThat(transicao.registraFinalizacao()).isFalse();
+        assertThat(transicao.observacoes()).isEqualTo("Cliente desistiu");
+    }
+
+    @Test
+    @DisplayName("transicaoInvalida usa a mesma mensagem do agregado")
+    void transicaoInvalidaMesmaMensagemDoAgregado() {
+        ExecucaoOS execucao = ExecucaoOS.criar(UUID.randomUUID(), "João");
+        execucao.cancelar();
+
+        assertThatThrownBy(execucao::iniciar)
+                .hasMessage(TransicaoStatus.iniciar().transicaoInvalida(StatusExecucao.CANCELADA).getMessage());
+    }
+
+    @Test
+    @DisplayName("destino e momento são obrigatórios")
+    void camposObrigatorios() {
+        assertThatThrownBy(() -> new TransicaoStatus(null, Instant.now(), false, false, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new TransicaoStatus(StatusExecucao.CANCELADA, null, false, false, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
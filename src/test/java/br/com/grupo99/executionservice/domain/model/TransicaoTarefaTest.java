@@ -0,0 +1,74 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransicaoTarefa - Testes Unitários")
+class TransicaoTarefaTest {
+
+    @Test
+    @DisplayName("iniciar altera apenas o status de uma tarefa pendente")
+    void iniciar() {
+        TransicaoTarefa transicao = TransicaoTarefa.iniciar();
+
+        assertThat(transicao.destino()).isEqualTo(StatusTarefa.EM_ANDAMENTO);
+        assertThat(transicao.origens()).containsExactly(StatusTarefa.PENDENTE);
+        assertThat(transicao.registraFinalizacao()).isFalse();
+    }
+
+    @Test
+    @DisplayName("finalizar registra data de finalização e tempo real")
+    void finalizar() {
+        TransicaoTarefa transicao = TransicaoTarefa.finalizar(45);
+
+        assertThat(transicao.destino()).isEqualTo(StatusTarefa.CONCLUIDA);
+        assertThat(transicao.origens()).containsExactly(StatusTarefa.EM_ANDAMENTO);
+        assertThat(transicao.registraFinalizacao()).isTrue();
+        assertThat(transicao.tempoRealMinutos()).isEqualTo(45);
+        assertThat(TransicaoTarefa.finalizar(null).tempoRealMinutos()).isNull();
+    }
+
+    @Test
+    @DisplayName("finalizar rejeita tempo real não positivo, como a tarefa")
+    void finalizarComTempoInvalido() {
+        assertThatThrownBy(() -> TransicaoTarefa.finalizar(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tempo real deve ser maior que zero");
+    }
+
+    @Test
+    @DisplayName("transicaoInvalida usa as mesmas mensagens da tarefa")
+    void transicaoInvalidaMesmaMensagemDaTarefa() {
+        Tarefa emAndamento = Tarefa.criar("Troca de óleo", "João", 30);
+        emAndamento.iniciar();
+        Tarefa concluida = Tarefa.criar("Troca de óleo", "João", 30);
+        concluida.iniciar();
+        concluida.finalizar(30);
+        Tarefa cancelada = Tarefa.criar("Troca de óleo", "João", 30);
+        cancelada.cancelar();
+        Tarefa pendente = Tarefa.criar("Troca de óleo", "João", 30);
+
+        assertThatThrownBy(emAndamento::iniciar).hasMessage(
+                TransicaoTarefa.iniciar().transicaoInvalida(StatusTarefa.EM_ANDAMENTO).getMessage());
+        assertThatThrownBy(concluida::iniciar).hasMessage(
+                TransicaoTarefa.iniciar().transicaoInvalida(StatusTarefa.CONCLUIDA).getMessage());
+        assertThatThrownBy(cancelada::iniciar).hasMessage(
+                TransicaoTarefa.iniciar().transicaoInvalida(StatusTarefa.CANCELADA).getMessage());
+        assertThatThrownBy(() -> pendente.finalizar(30)).hasMessage(
+                TransicaoTarefa.finalizar(30).transicaoInvalida(StatusTarefa.PENDENTE).getMessage());
+    }
+
+    @Test
+    @DisplayName("destino e momento são obrigatórios")
+    void camposObrigatorios() {
+        assertThatThrownBy(() -> new TransicaoTarefa(null, Instant.now(), false, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new TransicaoTarefa(StatusTarefa.CONCLUIDA, null, true, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.grupo99.executionservice.domain.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7 - Testes Unitários")
+class UuidV7Test {
+
+    private static final long AGORA = 1_767_225_600_000L;
+
+    @AfterEach
+    void restaurarGerador() {
+        Identificadores.restaurarPadrao();
+    }
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7, variante RFC, com o instante do relógio")
+    void deveGerarVersao7ComInstante() {
+        UUID uuid = new UuidV7(() -> AGORA).gerar();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(AGORA, UuidV7.instante(uuid));
+    }
+
+    @Test
+    @DisplayName("Deve gerar chaves crescentes no mesmo milissegundo e com o relógio voltando")
+    void deveSerMonotonico() {
+        AtomicLong relogio = new AtomicLong(AGORA);
+        UuidV7 gerador = new UuidV7(relogio::get);
+
+        UUID primeiro = gerador.gerar();
+        UUID segundo = gerador.gerar();
+        relogio.set(AGORA - 1_000);
+        UUID terceiro = gerador.gerar();
+        relogio.set(AGORA + 1);
+        UUID quarto = gerador.gerar();
+
+        assertTrue(primeiro.compareTo(segundo) < 0);
+        assertTrue(segundo.compareTo(terceiro) < 0);
+        assertTrue(terceiro.compareTo(quarto) < 0);
+        assertEquals(AGORA, UuidV7.instante(terceiro));
+        assertEquals(AGORA + 1, UuidV7.instante(quarto));
+    }
+
+    @Test
+    @DisplayName("Deve avançar o instante quando o contador do milissegundo estoura")
+    void deveAvancarInstanteQuandoContadorEstoura() {
+        UuidV7 gerador = new UuidV7(() -> AGORA);
+
+        UUID anterior = gerador.gerar();
+        for (int i = 1; i < 4096; i++) {
+            UUID atual = gerador.gerar();
+            assertTrue(anterior.compareTo(atual) < 0);
+            anterior = atual;
+        }
+        UUID estouro = gerador.gerar();
+
+        assertEquals(AGORA, UuidV7.instante(anterior));
+        assertEquals(AGORA + 1, UuidV7.instante(estouro));
+        assertTrue(anterior.compareTo(estouro) < 0);
+    }
+
+    @Test
+    @DisplayName("Deve gerar chaves únicas e crescentes por thread sob criação concorrente")
+    void deveSerUnicoSobConcorrencia() throws Exception {
+        UuidV7 gerador = new UuidV7();
+        int threads = 8;
+        int porThread = 20_000;
+        List<Future<List<UUID>>> resultados = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                resultados.add(executor.submit(() -> {
+                    List<UUID> gerados = new ArrayList<>(porThread);
+                    for (int i = 0; i < porThread; i++) {
+                        gerados.add(gerador.gerar());
+                    }
+                    return gerados;
+                }));
+            }
+        }
+
+        Set<UUID> todos = new HashSet<>();
+        for (Future<List<UUID>> resultado : resultados) {
+            List<UUID> gerados = resultado.get();
+            for (int i = 1; i < gerados.size(); i++) {
+                assertTrue(gerados.get(i - 1).compareTo(gerados.get(i)) < 0);
+            }
+            todos.addAll(gerados);
+        }
+        assertEquals(threads * porThread, todos.size());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar UUID de outra versão ao extrair o instante")
+    void deveRejeitarOutraVersao() {
+        UUID v4 = UUID.randomUUID();
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.instante(v4));
+    }
+
+    @Test
+    @DisplayName("Factories do domínio devem usar o gerador configurado")
+    void factoriesDevemUsarGeradorConfigurado() {
+        assertEquals(7, ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "João").getId().version());
+        assertEquals(7, Tarefa.criar("Alinhamento", "João", 30).getId().version());
+        assertEquals(7, Diagnostico.criar("Ruído", "João", null).getId().version());
+        assertEquals(7, UsoPeca.criar(UUID.randomUUID(), "Filtro", 1, BigDecimal.TEN).getId().version());
+
+        UUID fixo = UUID.fromString("00000000-0000-4000-8000-000000000001");
+        Identificadores.usar(() -> fixo);
+
+        assertEquals(fixo, ExecucaoOS.criar(UUID.randomUUID(), "João").getId());
+        assertEquals(fixo, new Tarefa("Alinhamento", "João", 30).getId());
+        assertThrows(NullPointerException.class, () -> Identificadores.usar(null));
+    }
+}
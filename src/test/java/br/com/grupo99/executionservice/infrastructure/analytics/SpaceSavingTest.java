@@ -0,0 +1,106 @@
+package br.com.grupo99.executionservice.infrastructure.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceSaving - Top-K aproximado")
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("é exato enquanto há contadores livres")
+    void exatoAbaixoDaCapacidade() {
+        SpaceSaving<String> resumo = new SpaceSaving<>(3);
+        resumo.registrar("filtro", 2);
+        resumo.registrar("vela", 5);
+        resumo.registrar("filtro", 4);
+
+        assertEquals(0, resumo.erroMaximo());
+        assertEquals(11, resumo.total());
+        assertEquals(List.of(new SpaceSaving.Estimativa<>("filtro", 6, 0), new SpaceSaving.Estimativa<>("vela", 5, 0)),
+                resumo.estimativas());
+    }
+
+    @Test
+    @DisplayName("item novo com o resumo cheio herda o menor contador como erro")
+    void substituiMenorContador() {
+        SpaceSaving<String> resumo = new SpaceSaving<>(2);
+        resumo.registrar("filtro", 5);
+        resumo.registrar("vela", 3);
+        resumo.registrar("pastilha", 1);
+
+        assertEquals(List.of(new SpaceSaving.Estimativa<>("filtro", 5, 0), new SpaceSaving.Estimativa<>("pastilha", 4, 3)),
+                resumo.estimativas());
+        assertEquals(4, resumo.erroMaximo());
+    }
+
+    @Test
+    @DisplayName("limites valem para um fluxo enviesado e os itens frequentes ficam no resumo")
+    void limitesEmFluxoEnviesado() {
+        SpaceSaving<Integer> resumo = new SpaceSaving<>(20);
+        Map<Integer, Long> exatos = alimentar(resumo, new Random(42), 50_000);
+
+        assertLimites(resumo.estimativas(), exatos);
+        assertTrue(resumo.erroMaximo() <= resumo.total() / 20);
+        exatos.forEach((item, real) -> {
+            if (real > resumo.total() / 20) {
+                assertTrue(resumo.estimativas().stream().anyMatch(e -> e.item().equals(item)),
+                        "item frequente fora do resumo: " + item);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("combinação de resumos mantém os limites, com erro até N / capacidade")
+    void combinacaoMantemLimites() {
+        SpaceSaving<Integer> primeiro = new SpaceSaving<>(20);
+        SpaceSaving<Integer> segundo = new SpaceSaving<>(20);
+        Map<Integer, Long> exatos = alimentar(primeiro, new Random(1), 20_000);
+        alimentar(segundo, new Random(2), 30_000).forEach((item, real) -> exatos.merge(item, real, Long::sum));
+
+        SpaceSaving.Combinacao<Integer> combinacao = SpaceSaving.combinar(List.of(primeiro, segundo));
+
+        assertEquals(primeiro.total() + segundo.total(), combinacao.total());
+        assertEquals(primeiro.erroMaximo() + segundo.erroMaximo(), combinacao.erroMaximo());
+        assertTrue(combinacao.erroMaximo() <= combinacao.total() / 20);
+        assertLimites(combinacao.estimativas(), exatos);
+        for (int i = 1; i < combinacao.estimativas().size(); i++) {
+            assertTrue(combinacao.estimativas().get(i - 1).valor() >= combinacao.estimativas().get(i).valor());
+        }
+    }
+
+    @Test
+    @DisplayName("rejeita capacidade e peso não positivos")
+    void rejeitaValoresInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSaving<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSaving<String>(1).registrar("vela", 0));
+    }
+
+    /**
+     * Fluxo com poucos itens muito frequentes e uma cauda longa.
+     */
+    private static Map<Integer, Long> alimentar(SpaceSaving<Integer> resumo, Random random, int ocorrencias) {
+        Map<Integer, Long> exatos = new HashMap<>();
+        for (int i = 0; i < ocorrencias; i++) {
+            int item = random.nextInt(4) == 0 ? random.nextInt(5) : random.nextInt(2_000);
+            long peso = 1 + random.nextInt(3);
+            resumo.registrar(item, peso);
+            exatos.merge(item, peso, Long::sum);
+        }
+        return exatos;
+    }
+
+    private static void assertLimites(List<SpaceSaving.Estimativa<Integer>> estimativas, Map<Integer, Long> exatos) {
+        for (SpaceSaving.Estimativa<Integer> estimativa : estimativas) {
+            long real = exatos.getOrDefault(estimativa.item(), 0L);
+            assertTrue(estimativa.valor() >= real, "estimativa abaixo do real: " + estimativa);
+            assertTrue(estimativa.valor() - estimativa.erro() <= real, "mínimo acima do real: " + estimativa);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.grupo99.executionservice.infrastructure.analytics;
+
+import br.com.grupo99.executionservice.domain.model.ConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.RankingPecas;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TopPecasEmMemoria - Ranking de consumo de peças")
+class TopPecasEmMemoriaTest {
+
+    private static final UUID FILTRO = UUID.randomUUID();
+    private static final UUID VELA = UUID.randomUUID();
+    private static final UUID PASTILHA = UUID.randomUUID();
+
+    private final TopPecasEmMemoria topPecas = new TopPecasEmMemoria(10, 7);
+
+    @Test
+    @DisplayName("ordena por quantidade ou por valor, com total exato")
+    void ordenaPorMetrica() {
+        topPecas.registrar(uso(FILTRO, 1, "80.00", 0));
+        topPecas.registrar(uso(VELA, 4, "30.00", 0));
+        topPecas.registrar(uso(FILTRO, 1, "80.00", 1));
+
+        RankingPecas porQuantidade = topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10);
+        RankingPecas porValor = topPecas.topPecas(MetricaConsumoPeca.VALOR, 7, 10);
+
+        assertEquals(List.of(new ConsumoPeca(VELA, 4, 0, true), new ConsumoPeca(FILTRO, 2, 0, true)),
+                porQuantidade.pecas());
+        assertEquals(6, porQuantidade.total());
+        assertEquals(0, porQuantidade.erroMaximo());
+        assertEquals(List.of(FILTRO, VELA), porValor.pecas().stream().map(ConsumoPeca::pecaId).toList());
+        assertEquals(16_000, porValor.pecas().get(0).estimativa());
+        assertEquals(new BigDecimal("190.00"), MetricaConsumoPeca.VALOR.emUnidades(porValor.total()));
+    }
+
+    @Test
+    @DisplayName("considera só os dias da janela pedida e descarta usos fora da mantida")
+    void respeitaJanela() {
+        topPecas.registrar(uso(FILTRO, 5, "10.00", 3));
+        topPecas.registrar(uso(VELA, 1, "10.00", 0));
+        topPecas.registrar(uso(PASTILHA, 9, "10.00", 7));
+
+        assertEquals(List.of(VELA), ids(topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 3, 10)));
+        assertEquals(List.of(FILTRO, VELA), ids(topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10)));
+    }
+
+    @Test
+    @DisplayName("limita a lista e marca como garantidas só as peças certamente no top")
+    void limitaEMarcaGarantidas() {
+        TopPecasEmMemoria pequeno = new TopPecasEmMemoria(2, 7);
+        pequeno.registrar(uso(FILTRO, 50, "1.00", 0));
+        pequeno.registrar(uso(VELA, 3, "1.00", 0));
+        pequeno.registrar(uso(PASTILHA, 2, "1.00", 0));
+
+        RankingPecas ranking = pequeno.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 2);
+
+        assertEquals(new ConsumoPeca(FILTRO, 50, 0, true), ranking.pecas().get(0));
+        assertEquals(new ConsumoPeca(PASTILHA, 5, 3, false), ranking.pecas().get(1));
+        assertEquals(5, ranking.erroMaximo());
+    }
+
+    @Test
+    @DisplayName("reconstrução substitui a janela e preserva usos gravados durante ela")
+    void reconstrucao() {
+        topPecas.registrar(uso(FILTRO, 100, "10.00", 0));
+
+        Instant inicio = topPecas.iniciarReconstrucao();
+        topPecas.reconstruir(uso(VELA, 2, "10.00", 0));
+        UsoPeca durante = uso(PASTILHA, 1, "10.00", 0);
+        durante.setCreatedAt(inicio.plusMillis(1));
+        topPecas.registrar(durante);
+        UsoPeca lidoDoBanco = uso(FILTRO, 1, "10.00", 0);
+        lidoDoBanco.setCreatedAt(inicio.minus(Duration.ofSeconds(1)));
+        topPecas.registrar(lidoDoBanco);
+        assertEquals(101, topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10).pecas().get(0).estimativa());
+        topPecas.concluirReconstrucao();
+
+        assertEquals(List.of(VELA, PASTILHA), ids(topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10)));
+        assertThrows(IllegalStateException.class, () -> topPecas.reconstruir(uso(VELA, 1, "10.00", 0)));
+    }
+
+    @Test
+    @DisplayName("reconstrução cancelada mantém a janela atual")
+    void reconstrucaoCancelada() {
+        topPecas.registrar(uso(FILTRO, 1, "10.00", 0));
+        topPecas.iniciarReconstrucao();
+        topPecas.cancelarReconstrucao();
+
+        assertEquals(List.of(FILTRO), ids(topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10)));
+    }
+
+    @Test
+    @DisplayName("rejeita janela e limite além do mantido em memória")
+    void rejeitaParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 8, 10));
+        assertThrows(IllegalArgumentException.class, () -> topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> topPecas.topPecas(MetricaConsumoPeca.VALOR, 7, 11));
+        assertThrows(IllegalArgumentException.class, () -> new TopPecasEmMemoria(0, 7));
+    }
+
+    private static UsoPeca uso(UUID pecaId, int quantidade, String valorTotal, int diasAtras) {
+        Instant dataUso = Instant.now().minus(diasAtras, ChronoUnit.DAYS);
+        return UsoPeca.builder()
+                .pecaId(pecaId)
+                .quantidade(quantidade)
+                .valorTotal(new BigDecimal(valorTotal))
+                .dataUso(dataUso)
+                .createdAt(dataUso)
+                .build();
+    }
+
+    private static List<UUID> ids(RankingPecas ranking) {
+        return ranking.pecas().stream().map(ConsumoPeca::pecaId).toList();
+    }
+}
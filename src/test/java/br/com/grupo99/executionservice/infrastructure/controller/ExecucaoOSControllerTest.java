@@ -1,9 +1,27 @@
 package br.com.grupo99.executionservice.infrastructure.controller;
 
+import br.com.grupo99.executionservice.application.dto.DiagnosticoRequestDTO;
+import br.com.grupo99.executionservice.application.dto.DiagnosticoResponseDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSRequestDTO;
 import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ItemLoteResponseDTO;
+import br.com.grupo99.executionservice.application.dto.LoteExecucoesResponseDTO;
+import br.com.grupo99.executionservice.application.dto.PaginaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.PecaConsumidaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ProdutividadeMecanicoResponseDTO;
+import br.com.grupo99.executionservice.application.dto.RelatorioMecanicosResponseDTO;
+import br.com.grupo99.executionservice.application.dto.ResultadoBuscaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TopPecasResponseDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaRequestDTO;
+import br.com.grupo99.executionservice.application.dto.UsoPecaResponseDTO;
 import br.com.grupo99.executionservice.application.service.ExecucaoOSApplicationService;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.TipoResultadoBusca;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,16 +30,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -63,7 +93,7 @@ class ExecucaoOSControllerTest {
                                 execucaoId, osId, orcamentoId,
                                 StatusExecucao.AGUARDANDO_INICIO, "João Mecânico",
                                 Instant.now(), null, null,
-                                0, 0, 0, Instant.now(), Instant.now());
+                                0, 0, 0, Instant.now(), Instant.now(), 3L);
         }
 
         @Test
@@ -80,6 +110,58 @@ class ExecucaoOSControllerTest {
                                 .andExpect(jsonPath("$.status").value("AGUARDANDO_INICIO"));
         }
 
+        @Test
+        @DisplayName("POST /lote - Deve retornar 201 quando todas as execuções são criadas")
+        void deveCriarLote() throws Exception {
+                List<ExecucaoOSRequestDTO> requests = List.of(
+                                new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico"));
+                when(applicationService.criarEmLote(requests)).thenReturn(new LoteExecucoesResponseDTO(
+                                1, 1, 0, List.of(ItemLoteResponseDTO.criado(0, responseDTO))));
+
+                mockMvc.perform(post(BASE_URL + "/lote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.criadas").value(1))
+                                .andExpect(jsonPath("$.itens[0].criado").value(true))
+                                .andExpect(jsonPath("$.itens[0].execucao.id").value(execucaoId.toString()));
+        }
+
+        @Test
+        @DisplayName("POST /lote - Deve retornar 207 quando algum item é recusado")
+        void deveRetornarMultiStatusComFalhasNoLote() throws Exception {
+                List<ExecucaoOSRequestDTO> requests = List.of(
+                                new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico"),
+                                new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico"));
+                when(applicationService.criarEmLote(requests)).thenReturn(new LoteExecucoesResponseDTO(
+                                2, 1, 1, List.of(ItemLoteResponseDTO.criado(0, responseDTO),
+                                                ItemLoteResponseDTO.falha(1, osId, "OS repetida no lote: " + osId))));
+
+                mockMvc.perform(post(BASE_URL + "/lote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                                .andExpect(status().isMultiStatus())
+                                .andExpect(jsonPath("$.falhas").value(1))
+                                .andExpect(jsonPath("$.itens[1].osId").value(osId.toString()))
+                                .andExpect(jsonPath("$.itens[1].execucao").value(nullValue()))
+                                .andExpect(jsonPath("$.itens[1].erro").value("OS repetida no lote: " + osId));
+        }
+
+        @Test
+        @DisplayName("POST /lote - Deve retornar 409 quando outra requisição cria execução para uma OS do lote")
+        void deveRetornarConflictComCriacaoConcorrenteNoLote() throws Exception {
+                List<ExecucaoOSRequestDTO> requests = List.of(
+                                new ExecucaoOSRequestDTO(osId, orcamentoId, "João Mecânico"));
+                when(applicationService.criarEmLote(requests)).thenThrow(new DuplicateKeyException(
+                                "Outra requisição criou execução para uma OS do lote; nenhuma execução foi criada"));
+
+                mockMvc.perform(post(BASE_URL + "/lote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                                .andExpect(status().isConflict())
+                                .andExpect(content().string(containsString("nenhuma execução foi criada")));
+        }
+
         @Test
         @DisplayName("GET /{id} - Deve buscar execução por ID")
         void deveBuscarPorId() throws Exception {
@@ -87,6 +169,37 @@ class ExecucaoOSControllerTest {
 
                 mockMvc.perform(get(BASE_URL + "/" + execucaoId))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"" + execucaoId + "-3\""))
+                                .andExpect(jsonPath("$.id").value(execucaoId.toString()))
+                                .andExpect(jsonPath("$.version").value(3));
+        }
+
+        @Test
+        @DisplayName("GET /{id} - Deve responder 304 pela versão, sem carregar a execução")
+        void deveResponderNaoModificadoSemCarregarExecucao() throws Exception {
+                when(applicationService.buscarVersao(execucaoId))
+                                .thenReturn(Optional.of(new VersaoExecucao(execucaoId, 3L)));
+
+                mockMvc.perform(get(BASE_URL + "/" + execucaoId)
+                                .header("If-None-Match", "W/\"" + execucaoId + "-3\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "W/\"" + execucaoId + "-3\""))
+                                .andExpect(content().string(""));
+
+                verify(applicationService, never()).buscarPorId(any());
+        }
+
+        @Test
+        @DisplayName("GET /{id} - Deve responder 200 com o novo ETag quando a versão mudou")
+        void deveResponderComNovaVersaoQuandoETagDesatualizado() throws Exception {
+                when(applicationService.buscarVersao(execucaoId))
+                                .thenReturn(Optional.of(new VersaoExecucao(execucaoId, 3L)));
+                when(applicationService.buscarPorId(execucaoId)).thenReturn(responseDTO);
+
+                mockMvc.perform(get(BASE_URL + "/" + execucaoId)
+                                .header("If-None-Match", "W/\"" + execucaoId + "-2\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"" + execucaoId + "-3\""))
                                 .andExpect(jsonPath("$.id").value(execucaoId.toString()));
         }
 
@@ -101,23 +214,110 @@ class ExecucaoOSControllerTest {
         }
 
         @Test
-        @DisplayName("GET - Deve listar todas as execuções")
-        void deveListarTodas() throws Exception {
-                when(applicationService.listarTodas()).thenReturn(List.of(responseDTO));
+        @DisplayName("GET /{id} com cache de JSON - Deve serializar uma vez e servir os bytes pela versão")
+        void deveServirJsonEmCachePelaVersao() throws Exception {
+                MockMvc comCache = MockMvcBuilders.standaloneSetup(new ExecucaoOSController(applicationService,
+                                objectMapper, Optional.of(new ExecucaoOSJsonCache(DataSize.ofMegabytes(1), false))))
+                                .build();
+                String etag = "W/\"" + execucaoId + "-3\"";
+                when(applicationService.buscarVersao(execucaoId))
+                                .thenReturn(Optional.of(new VersaoExecucao(execucaoId, 3L)));
+                when(applicationService.buscarPorId(execucaoId)).thenReturn(responseDTO);
+                byte[] json = objectMapper.writeValueAsBytes(responseDTO);
+
+                comCache.perform(get(BASE_URL + "/" + execucaoId))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", etag))
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(content().bytes(json));
+                comCache.perform(get(BASE_URL + "/" + execucaoId))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", etag))
+                                .andExpect(content().bytes(json));
+                comCache.perform(get(BASE_URL + "/" + execucaoId).header("If-None-Match", etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                verify(applicationService, times(1)).buscarPorId(execucaoId);
+        }
+
+        @Test
+        @DisplayName("GET /os/{osId} - Deve responder 304 pela versão, sem carregar a execução")
+        void deveResponderNaoModificadoPorOsId() throws Exception {
+                when(applicationService.buscarVersaoPorOsId(osId))
+                                .thenReturn(Optional.of(new VersaoExecucao(execucaoId, 3L)));
+
+                mockMvc.perform(get(BASE_URL + "/os/" + osId)
+                                .header("If-None-Match", "W/\"" + execucaoId + "-3\""))
+                                .andExpect(status().isNotModified());
+
+                verify(applicationService, never()).buscarPorOsId(any());
+        }
+
+        @Test
+        @DisplayName("GET - Deve listar só a primeira página, com o cursor da próxima no header")
+        void deveListarPrimeiraPagina() throws Exception {
+                when(applicationService.listarPagina(null, ExecucaoOSApplicationService.TAMANHO_PAGINA_MAXIMO))
+                                .thenReturn(new PaginaResponseDTO<>(List.of(responseDTO), 1, "abc"));
 
                 mockMvc.perform(get(BASE_URL))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$", hasSize(1)));
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(header().string(ExecucaoOSController.CABECALHO_PROXIMO_CURSOR, "abc"));
         }
 
         @Test
-        @DisplayName("GET - Deve retornar lista vazia quando não há execuções")
+        @DisplayName("GET - Deve retornar lista vazia, sem cursor, quando não há execuções")
         void deveRetornarListaVazia() throws Exception {
-                when(applicationService.listarTodas()).thenReturn(Collections.emptyList());
+                when(applicationService.listarPagina(null, ExecucaoOSApplicationService.TAMANHO_PAGINA_MAXIMO))
+                                .thenReturn(new PaginaResponseDTO<>(Collections.emptyList(), 0, null));
 
                 mockMvc.perform(get(BASE_URL))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$", hasSize(0)));
+                                .andExpect(jsonPath("$", hasSize(0)))
+                                .andExpect(header().doesNotExist(ExecucaoOSController.CABECALHO_PROXIMO_CURSOR));
+        }
+
+        @Test
+        @DisplayName("GET /pagina - Deve listar execuções paginadas por cursor")
+        void deveListarPagina() throws Exception {
+                when(applicationService.listarPagina("abc", 10))
+                                .thenReturn(new PaginaResponseDTO<>(List.of(responseDTO), 1, null));
+
+                mockMvc.perform(get(BASE_URL + "/pagina")
+                                .param("cursor", "abc")
+                                .param("tamanho", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.itens", hasSize(1)))
+                                .andExpect(jsonPath("$.tamanho").value(1))
+                                .andExpect(jsonPath("$.proximoCursor").value(nullValue()));
+        }
+
+        @Test
+        @DisplayName("GET /stream - Deve exportar execuções em NDJSON")
+        @SuppressWarnings("unchecked")
+        void deveExportarEmNdjson() throws Exception {
+                doAnswer(invocation -> {
+                        Consumer<ExecucaoOSResponseDTO> consumer = invocation.getArgument(0);
+                        consumer.accept(responseDTO);
+                        consumer.accept(responseDTO);
+                        return null;
+                }).when(applicationService).exportarTodas(any());
+
+                MvcResult asyncResult = mockMvc.perform(get(BASE_URL + "/stream")
+                                .accept(MediaType.APPLICATION_NDJSON))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                String body = mockMvc.perform(asyncDispatch(asyncResult))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                                .andReturn().getResponse().getContentAsString();
+
+                String[] linhas = body.split("\n");
+                assertThat(linhas).hasSize(2);
+                assertThat(objectMapper.readTree(linhas[0]).get("id").asText())
+                                .isEqualTo(execucaoId.toString());
         }
 
         @Test
@@ -142,21 +342,120 @@ class ExecucaoOSControllerTest {
                                 .andExpect(jsonPath("$", hasSize(1)));
         }
 
+        @Test
+        @DisplayName("GET /busca - Deve buscar diagnósticos e tarefas por texto")
+        void deveBuscarPorTexto() throws Exception {
+                when(applicationService.buscar("barulho suspensão", null, 20)).thenReturn(new PaginaResponseDTO<>(
+                                List.of(new ResultadoBuscaResponseDTO(TipoResultadoBusca.TAREFA, UUID.randomUUID(),
+                                                execucaoId, "Revisar barulho na suspensão", "João Mecânico",
+                                                Instant.now(), 0.09f)),
+                                1, null));
+
+                mockMvc.perform(get(BASE_URL + "/busca")
+                                .param("q", "barulho suspensão")
+                                .param("tamanho", "20"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.itens", hasSize(1)))
+                                .andExpect(jsonPath("$.itens[0].tipo").value("TAREFA"))
+                                .andExpect(jsonPath("$.itens[0].execucaoId").value(execucaoId.toString()))
+                                .andExpect(jsonPath("$.proximoCursor").value(nullValue()));
+        }
+
+        @Test
+        @DisplayName("GET /relatorios/mecanicos - Deve retornar relatório do período")
+        void deveRetornarRelatorioDeMecanicos() throws Exception {
+                LocalDate de = LocalDate.of(2026, 1, 1);
+                LocalDate ate = LocalDate.of(2026, 1, 10);
+                when(applicationService.relatorioMecanicos(de, ate)).thenReturn(new RelatorioMecanicosResponseDTO(
+                                de, ate, List.of(new ProdutividadeMecanicoResponseDTO(
+                                                "João Mecânico", 20, 2.0, 2, 45.0, 45.0, 5.0, 0.0, 3.2, 1.0))));
+
+                mockMvc.perform(get(BASE_URL + "/relatorios/mecanicos")
+                                .param("de", "2026-01-01")
+                                .param("ate", "2026-01-10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.de").value("2026-01-01"))
+                                .andExpect(jsonPath("$.mecanicos", hasSize(1)))
+                                .andExpect(jsonPath("$.mecanicos[0].mecanico").value("João Mecânico"));
+        }
+
+        @Test
+        @DisplayName("GET /relatorios/pecas/top - Deve retornar top de peças")
+        void deveRetornarTopDePecas() throws Exception {
+                UUID pecaId = UUID.randomUUID();
+                when(applicationService.topPecas(MetricaConsumoPeca.VALOR, 30, 5)).thenReturn(new TopPecasResponseDTO(
+                                MetricaConsumoPeca.VALOR, 30, new BigDecimal("1234.56"), new BigDecimal("1.00"),
+                                List.of(new PecaConsumidaResponseDTO(pecaId, new BigDecimal("99.90"),
+                                                new BigDecimal("98.90"), true))));
+
+                mockMvc.perform(get(BASE_URL + "/relatorios/pecas/top")
+                                .param("metrica", "VALOR")
+                                .param("dias", "30")
+                                .param("limite", "5"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.metrica").value("VALOR"))
+                                .andExpect(jsonPath("$.pecas", hasSize(1)))
+                                .andExpect(jsonPath("$.pecas[0].pecaId").value(pecaId.toString()))
+                                .andExpect(jsonPath("$.pecas[0].garantida").value(true));
+        }
+
         @Test
         @DisplayName("PUT /{id}/iniciar - Deve iniciar execução")
         void deveIniciarExecucao() throws Exception {
-                when(applicationService.iniciar(execucaoId)).thenReturn(responseDTO);
+                when(applicationService.iniciar(execucaoId, null)).thenReturn(responseDTO);
 
                 mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/iniciar"))
                                 .andExpect(status().isOk());
 
-                verify(applicationService).iniciar(execucaoId);
+                verify(applicationService).iniciar(execucaoId, null);
+        }
+
+        @Test
+        @DisplayName("PUT /{id}/iniciar - Deve repassar a versão do If-Match e devolver o novo ETag")
+        void deveIniciarExecucaoComIfMatch() throws Exception {
+                when(applicationService.iniciar(execucaoId, 2L)).thenReturn(responseDTO);
+
+                mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/iniciar")
+                                .header("If-Match", "W/\"" + execucaoId + "-2\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"" + execucaoId + "-3\""));
+        }
+
+        @Test
+        @DisplayName("PUT /{id}/iniciar - Deve responder 412 quando a versão do If-Match não é a atual")
+        void deveResponderPreconditionFailedComVersaoDesatualizada() throws Exception {
+                when(applicationService.iniciar(execucaoId, 2L))
+                                .thenThrow(new ObjectOptimisticLockingFailureException("ExecucaoOSEntity", execucaoId));
+
+                mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/iniciar")
+                                .header("If-Match", "W/\"" + execucaoId + "-2\""))
+                                .andExpect(status().isPreconditionFailed());
+        }
+
+        @Test
+        @DisplayName("PUT /{id}/iniciar - Deve responder 409 para conflito de versão sem If-Match")
+        void deveResponderConflictComVersaoDesatualizadaSemPrecondicao() throws Exception {
+                when(applicationService.iniciar(execucaoId, null))
+                                .thenThrow(new ObjectOptimisticLockingFailureException("ExecucaoOSEntity", execucaoId));
+
+                mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/iniciar"))
+                                .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("PUT /{id}/cancelar - Deve responder 412 para If-Match de outra execução")
+        void deveResponderPreconditionFailedComETagDeOutraExecucao() throws Exception {
+                mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/cancelar")
+                                .header("If-Match", "W/\"" + UUID.randomUUID() + "-2\""))
+                                .andExpect(status().isPreconditionFailed());
+
+                verifyNoInteractions(applicationService);
         }
 
         @Test
         @DisplayName("PUT /{id}/finalizar - Deve finalizar execução")
         void deveFinalizarExecucao() throws Exception {
-                when(applicationService.finalizar(eq(execucaoId), any())).thenReturn(responseDTO);
+                when(applicationService.finalizar(eq(execucaoId), any(), isNull())).thenReturn(responseDTO);
 
                 mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/finalizar")
                                 .param("observacoes", "Tudo OK"))
@@ -166,13 +465,134 @@ class ExecucaoOSControllerTest {
         @Test
         @DisplayName("PUT /{id}/cancelar - Deve cancelar execução")
         void deveCancelarExecucao() throws Exception {
-                when(applicationService.cancelar(eq(execucaoId), any())).thenReturn(responseDTO);
+                when(applicationService.cancelar(eq(execucaoId), any(), isNull())).thenReturn(responseDTO);
 
                 mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/cancelar")
                                 .param("motivo", "Cliente desistiu"))
                                 .andExpect(status().isOk());
         }
 
+        @Test
+        @DisplayName("PUT /{id}/tarefas/{tarefaId}/iniciar - Deve iniciar tarefa")
+        void deveIniciarTarefa() throws Exception {
+                UUID tarefaId = UUID.randomUUID();
+                when(applicationService.iniciarTarefa(execucaoId, tarefaId, null)).thenReturn(new TarefaResponseDTO(
+                                tarefaId, "Troca de óleo", "João Mecânico", 40, null, StatusTarefa.EM_ANDAMENTO,
+                                Instant.now(), null));
+
+                mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/tarefas/" + tarefaId + "/iniciar"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value("EM_ANDAMENTO"));
+        }
+
+        @Test
+        @DisplayName("PUT /{id}/tarefas/{tarefaId}/iniciar - Deve repassar a versão do If-Match")
+        void deveIniciarTarefaComIfMatch() throws Exception {
+                UUID tarefaId = UUID.randomUUID();
+                when(applicationService.iniciarTarefa(execucaoId, tarefaId, 5L)).thenReturn(new TarefaResponseDTO(
+                                tarefaId, "Troca de óleo", "João Mecânico", 40, null, StatusTarefa.EM_ANDAMENTO,
+                                Instant.now(), null));
+
+                mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/tarefas/" + tarefaId + "/iniciar")
+                                .header("If-Match", "\"" + execucaoId + "-5\""))
+                                .andExpect(status().isOk());
+
+                verify(applicationService).iniciarTarefa(execucaoId, tarefaId, 5L);
+        }
+
+        @Test
+        @DisplayName("PUT /{id}/tarefas/{tarefaId}/finalizar - Deve finalizar tarefa com tempo real")
+        void deveFinalizarTarefa() throws Exception {
+                UUID tarefaId = UUID.randomUUID();
+                when(applicationService.finalizarTarefa(execucaoId, tarefaId, 35, null)).thenReturn(new TarefaResponseDTO(
+                                tarefaId, "Troca de óleo", "João Mecânico", 40, 35, StatusTarefa.CONCLUIDA,
+                                Instant.now(), Instant.now()));
+
+                mockMvc.perform(put(BASE_URL + "/" + execucaoId + "/tarefas/" + tarefaId + "/finalizar")
+                                .param("tempoRealMinutos", "35"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value("CONCLUIDA"))
+                                .andExpect(jsonPath("$.tempoRealMinutos").value(35));
+        }
+
+        @Test
+        @DisplayName("POST /{id}/tarefas - Deve adicionar tarefa")
+        void deveAdicionarTarefa() throws Exception {
+                TarefaRequestDTO request = new TarefaRequestDTO("Troca de óleo", "João Mecânico", 40);
+                UUID tarefaId = UUID.randomUUID();
+                when(applicationService.adicionarTarefa(execucaoId, request, null)).thenReturn(new TarefaResponseDTO(
+                                tarefaId, "Troca de óleo", "João Mecânico", 40, null, StatusTarefa.PENDENTE,
+                                Instant.now(), null));
+
+                mockMvc.perform(post(BASE_URL + "/" + execucaoId + "/tarefas")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.id").value(tarefaId.toString()))
+                                .andExpect(jsonPath("$.status").value("PENDENTE"));
+        }
+
+        @Test
+        @DisplayName("POST /{id}/diagnosticos - Deve adicionar diagnóstico")
+        void deveAdicionarDiagnostico() throws Exception {
+                DiagnosticoRequestDTO request = new DiagnosticoRequestDTO("Ruído no motor", "João Mecânico", null);
+                when(applicationService.adicionarDiagnostico(execucaoId, request, null)).thenReturn(
+                                new DiagnosticoResponseDTO(UUID.randomUUID(), "Ruído no motor", "João Mecânico",
+                                                Instant.now(), null));
+
+                mockMvc.perform(post(BASE_URL + "/" + execucaoId + "/diagnosticos")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.descricao").value("Ruído no motor"));
+        }
+
+        @Test
+        @DisplayName("POST /{id}/pecas - Deve adicionar uso de peça")
+        void deveAdicionarUsoPeca() throws Exception {
+                UsoPecaRequestDTO request = new UsoPecaRequestDTO(UUID.randomUUID(), "Filtro", 2, BigDecimal.TEN);
+                when(applicationService.adicionarUsoPeca(execucaoId, request, null)).thenReturn(new UsoPecaResponseDTO(
+                                UUID.randomUUID(), request.pecaId(), "Filtro", 2, BigDecimal.TEN,
+                                new BigDecimal("20"), Instant.now()));
+
+                mockMvc.perform(post(BASE_URL + "/" + execucaoId + "/pecas")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.valorTotal").value(20));
+        }
+
+        @Test
+        @DisplayName("POST /{id}/pecas - Deve repassar a versão do If-Match")
+        void deveAdicionarUsoPecaComIfMatch() throws Exception {
+                UsoPecaRequestDTO request = new UsoPecaRequestDTO(UUID.randomUUID(), "Filtro", 2, BigDecimal.TEN);
+                when(applicationService.adicionarUsoPeca(execucaoId, request, 5L)).thenReturn(new UsoPecaResponseDTO(
+                                UUID.randomUUID(), request.pecaId(), "Filtro", 2, BigDecimal.TEN,
+                                new BigDecimal("20"), Instant.now()));
+
+                mockMvc.perform(post(BASE_URL + "/" + execucaoId + "/pecas")
+                                .header("If-Match", "W/\"" + execucaoId + "-5\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated());
+
+                verify(applicationService).adicionarUsoPeca(execucaoId, request, 5L);
+        }
+
+        @Test
+        @DisplayName("POST /{id}/tarefas - Deve responder 412 quando o If-Match está desatualizado")
+        void deveResponderPreconditionFailedAoAdicionarComVersaoDesatualizada() throws Exception {
+                TarefaRequestDTO request = new TarefaRequestDTO("Troca de óleo", "João Mecânico", 40);
+                when(applicationService.adicionarTarefa(execucaoId, request, 2L))
+                                .thenThrow(new ObjectOptimisticLockingFailureException("ExecucaoOSEntity", execucaoId));
+
+                mockMvc.perform(post(BASE_URL + "/" + execucaoId + "/tarefas")
+                                .header("If-Match", "W/\"" + execucaoId + "-2\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isPreconditionFailed());
+        }
+
         @Test
         @DisplayName("DELETE /{id} - Deve deletar execução")
         void deveDeletarExecucao() throws Exception {
@@ -0,0 +1,123 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import br.com.grupo99.executionservice.domain.events.ExecucaoOSAlteradaEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExecucaoOSJsonCache - Testes Unitários")
+class ExecucaoOSJsonCacheTest {
+
+    private ExecucaoOSJsonCache cache;
+    private SimpleMeterRegistry registry;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExecucaoOSJsonCache(DataSize.ofMegabytes(1), false);
+        registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        id = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("devolve os bytes só para a versão armazenada")
+    void devolveSoAVersaoArmazenada() {
+        cache.armazenar(id, 3, json("{\"version\":3}"));
+
+        assertEquals("{\"version\":3}", texto(cache.buscar(id, 3).orElseThrow()));
+        assertTrue(cache.buscar(id, 2).isEmpty());
+        assertTrue(cache.buscar(id, 4).isEmpty());
+        assertTrue(cache.buscar(UUID.randomUUID(), 3).isEmpty());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", ExecucaoOSJsonCache.CACHE)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(3.0, registry.get("cache.gets").tag("cache", ExecucaoOSJsonCache.CACHE)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("cada leitura recebe um buffer independente, somente leitura")
+    void buffersIndependentes() {
+        cache.armazenar(id, 1, json("{}"));
+
+        ByteBuffer primeiro = cache.buscar(id, 1).orElseThrow();
+        primeiro.get(new byte[primeiro.remaining()]);
+
+        assertTrue(primeiro.isReadOnly());
+        assertEquals("{}", texto(cache.buscar(id, 1).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("versão mais antiga não substitui a mais recente")
+    void versaoAntigaNaoSubstitui() {
+        cache.armazenar(id, 5, json("{\"version\":5}"));
+        cache.armazenar(id, 4, json("{\"version\":4}"));
+
+        assertTrue(cache.buscar(id, 4).isEmpty());
+        assertEquals("{\"version\":5}", texto(cache.buscar(id, 5).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("off-heap guarda os bytes em buffer direto")
+    void foraDoHeap() {
+        ExecucaoOSJsonCache direto = new ExecucaoOSJsonCache(DataSize.ofMegabytes(1), true);
+        direto.armazenar(id, 1, json("{\"id\":1}"));
+
+        ByteBuffer bytes = direto.buscar(id, 1).orElseThrow();
+        assertTrue(bytes.isDirect());
+        assertEquals("{\"id\":1}", texto(bytes));
+    }
+
+    @Test
+    @DisplayName("change feed descarta a entrada até a versão alterada, inclusive")
+    void changeFeedDescartaVersoesAteAAlterada() {
+        cache.armazenar(id, 3, json("{}"));
+
+        cache.aoAlterarExecucao(alteracao(ExecucaoOSAlteradaEvent.UPDATE, 2L));
+        assertTrue(cache.buscar(id, 3).isPresent());
+
+        cache.aoAlterarExecucao(alteracao(ExecucaoOSAlteradaEvent.UPDATE, 3L));
+        assertTrue(cache.buscar(id, 3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("DELETE descarta a execução e RESYNC esvazia o cache")
+    void deleteEResync() {
+        UUID outra = UUID.randomUUID();
+        cache.armazenar(id, 3, json("{}"));
+        cache.armazenar(outra, 1, json("{}"));
+
+        cache.aoAlterarExecucao(alteracao(ExecucaoOSAlteradaEvent.DELETE, null));
+        assertTrue(cache.buscar(id, 3).isEmpty());
+        assertTrue(cache.buscar(outra, 1).isPresent());
+
+        cache.aoAlterarExecucao(ExecucaoOSAlteradaEvent.resync());
+        assertTrue(cache.buscar(outra, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("rejeita tamanho máximo não positivo")
+    void rejeitaTamanhoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new ExecucaoOSJsonCache(DataSize.ofBytes(0), false));
+    }
+
+    private ExecucaoOSAlteradaEvent alteracao(String operacao, Long versao) {
+        return ExecucaoOSAlteradaEvent.builder().operacao(operacao).execucaoId(id).version(versao).build();
+    }
+
+    private static byte[] json(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String texto(ByteBuffer bytes) {
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.grupo99.executionservice.infrastructure.controller;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara a criação de execuções uma a uma (POST /execucoes-os) com a
+ * criação em lote (POST /execucoes-os/lote) em um PostgreSQL real: N
+ * clientes concorrentes criam a mesma quantidade de execuções por cada
+ * endpoint.
+ *
+ * Reporta a vazão em execuções criadas por segundo e o tempo total. O
+ * critério de falha é a quantidade de linhas gravadas; a comparação em si é
+ * lida no log.
+ *
+ * Opt-in: mvn test -Dtest=ExecucaoOSLoteBenchmarkTest -Dbenchmark=true
+ * (requer PostgreSQL, ver PostgresDeTeste).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = { "os-events", "execution-events" })
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Benchmark - Criação de execuções: uma a uma x em lote")
+class ExecucaoOSLoteBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecucaoOSLoteBenchmarkTest.class);
+
+    private static final int EXECUCOES = Integer.getInteger("benchmark.execucoes", 20_000);
+    private static final int CLIENTES = Integer.getInteger("benchmark.clientes", 16);
+    private static final int LOTE = Integer.getInteger("benchmark.lote", 200);
+
+    private static DriverManagerDataSource banco;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int porta;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.kafka.bootstrap-servers", () -> "${spring.embedded.kafka.brokers}");
+        PostgresDeTeste.registrar(registry, banco());
+        registry.add("security.disabled", () -> "true");
+    }
+
+    @BeforeAll
+    static void prepararBanco() {
+        jdbcTemplate = new JdbcTemplate(banco());
+    }
+
+    @Test
+    @DisplayName("mesma quantidade de execuções pelos dois endpoints")
+    void compararEndpoints() throws Exception {
+        String url = "http://localhost:" + porta + "/api/v1/execucoes-os";
+
+        medir("aquecimento", url, 1, EXECUCOES / 10);
+        medir("aquecimento", url + "/lote", LOTE, EXECUCOES / 10);
+        jdbcTemplate.execute("TRUNCATE execucoes_os CASCADE");
+
+        Resultado umaAUma = medir("uma a uma", url, 1, EXECUCOES);
+        Resultado emLote = medir("lote de " + LOTE, url + "/lote", LOTE, EXECUCOES);
+
+        logger.info("""
+
+                Criação de {} execuções com {} clientes
+                {}
+                {}""", EXECUCOES, CLIENTES, umaAUma, emLote);
+        assertEquals(0, umaAUma.erros() + emLote.erros());
+        assertEquals(umaAUma.execucoes() + emLote.execucoes(), jdbcTemplate.queryForObject("SELECT count(*) FROM execucoes_os", Long.class));
+    }
+
+    private static Resultado medir(String modo, String url, int porRequisicao, int execucoes) throws Exception {
+        int porCliente = execucoes / CLIENTES;
+        long inicio = System.nanoTime();
+        long erros = 0;
+        try (HttpClient http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+                ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> medicoes = new ArrayList<>();
+            for (int i = 0; i < CLIENTES; i++) {
+                medicoes.add(clientes.submit(() -> cliente(http, url, porRequisicao, porCliente)));
+            }
+            for (Future<Long> medicao : medicoes) {
+                erros += medicao.get();
+            }
+        }
+        Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+        long criadas = (long) porCliente * CLIENTES;
+        return new Resultado(modo, criadas, erros, criadas * 1_000.0 / Math.max(1, duracao.toMillis()), duracao);
+    }
+
+    private static long cliente(HttpClient http, String url, int porRequisicao, int execucoes) throws Exception {
+        long erros = 0;
+        for (int enviadas = 0; enviadas < execucoes; enviadas += porRequisicao) {
+            int quantidade = Math.min(porRequisicao, execucoes - enviadas);
+            String corpo = porRequisicao == 1 ? item() : lote(quantidade);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                    .build();
+            if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 201) {
+                erros++;
+            }
+        }
+        return erros;
+    }
+
+    private static String lote(int quantidade) {
+        StringJoiner itens = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < quantidade; i++) {
+            itens.add(item());
+        }
+        return itens.toString();
+    }
+
+    private static String item() {
+        return """
+                {"osId":"%s","orcamentoId":"%s","mecanico":"Mecânico %d"}""".formatted(
+                UUID.randomUUID(), UUID.randomUUID(), (int) (Math.random() * 50));
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+
+    private record Resultado(String modo, long execucoes, long erros, double porSegundo, Duration duracao) {
+
+        @Override
+        public String toString() {
+            return "%-12s %8d execuções  %8.0f exec/s  %6d ms  erros %d".formatted(
+                    modo, execucoes, porSegundo, duracao.toMillis(), erros);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package br.com.grupo99.executionservice.infrastructure.messaging;
+
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaExecutionEventListener - Consumo do os-events")
+class KafkaExecutionEventListenerTest {
+
+    @Mock
+    private ExecucaoOSRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private Counter duplicadas;
+
+    private KafkaExecutionEventListener listener;
+
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        duplicadas = new SimpleMeterRegistry().counter("kafka.consumer.events.duplicated");
+        listener = new KafkaExecutionEventListener(repository, transactionManager, duplicadas);
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("OS_CRIADA do lote são resolvidas com uma consulta IN e um INSERT em batch")
+    @SuppressWarnings("unchecked")
+    void criaExecucoesEmLote() {
+        UUID nova1 = UUID.randomUUID();
+        UUID nova2 = UUID.randomUUID();
+        UUID existente = UUID.randomUUID();
+        when(repository.findExistingOsIds(any())).thenReturn(Set.of(existente));
+        when(repository.insertNew(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        listener.consumeOSEventsBatch(List.of(
+                evento("OS_CRIADA", nova1),
+                evento("OS_CRIADA", existente),
+                evento("OS_CRIADA", nova2),
+                evento("OS_CRIADA", nova1)), acknowledgment);
+
+        ArgumentCaptor<Collection<UUID>> consultados = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).findExistingOsIds(consultados.capture());
+        assertEquals(Set.of(nova1, nova2, existente), Set.copyOf(consultados.getValue()));
+
+        ArgumentCaptor<List<ExecucaoOS>> inseridas = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertNew(inseridas.capture());
+        assertEquals(List.of(nova1, nova2), inseridas.getValue().stream().map(ExecucaoOS::getOsId).toList());
+        inseridas.getValue().forEach(e -> {
+            assertEquals(StatusExecucao.AGUARDANDO_INICIO, e.getStatus());
+            assertNull(e.getOrcamentoId());
+        });
+
+        verify(repository, never()).save(any());
+        verify(repository, never()).findByOsId(any());
+        verify(transactionManager).commit(any());
+        verify(acknowledgment).acknowledge();
+        assertEquals(2.0, duplicadas.count());
+    }
+
+    @Test
+    @DisplayName("OS_CRIADA registro a registro: INSERT condicional, sem consulta prévia")
+    void criaExecucaoComInsertCondicional() {
+        UUID osId = UUID.randomUUID();
+        when(repository.insertIfAbsent(any())).thenReturn(true);
+        ConsumerRecord<String, Object> record = evento("OS_CRIADA", osId);
+
+        listener.consumeOSEvents(record, acknowledgment, record.partition(), record.offset());
+
+        ArgumentCaptor<ExecucaoOS> criada = ArgumentCaptor.forClass(ExecucaoOS.class);
+        verify(repository).insertIfAbsent(criada.capture());
+        assertEquals(osId, criada.getValue().getOsId());
+        assertNull(criada.getValue().getOrcamentoId());
+        verify(repository, never()).findByOsId(any());
+        verify(repository, never()).save(any());
+        verify(acknowledgment).acknowledge();
+        assertEquals(0.0, duplicadas.count());
+    }
+
+    @Test
+    @DisplayName("OS_CRIADA duplicada é contada e confirmada, sem passar pelo retry")
+    void duplicadaContadaSemExcecao() {
+        when(repository.insertIfAbsent(any())).thenReturn(false);
+        ConsumerRecord<String, Object> record = evento("OS_CRIADA", UUID.randomUUID());
+
+        listener.consumeOSEvents(record, acknowledgment, record.partition(), record.offset());
+
+        verify(acknowledgment).acknowledge();
+        assertEquals(1.0, duplicadas.count());
+    }
+
+    @Test
+    @DisplayName("lote: OS criadas por outro consumidor entre a consulta e o INSERT contam como duplicadas")
+    void loteContaDuplicadasDoInsert() {
+        when(repository.findExistingOsIds(any())).thenReturn(Set.of());
+        when(repository.insertNew(anyList())).thenReturn(1);
+
+        listener.consumeOSEventsBatch(List.of(
+                evento("OS_CRIADA", UUID.randomUUID()),
+                evento("OS_CRIADA", UUID.randomUUID())), acknowledgment);
+
+        assertEquals(1.0, duplicadas.count());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("pendentes são gravados antes de um OS_CANCELADA, preservando a ordem por chave")
+    void preservaOrdemAntesDeCancelamento() {
+        UUID osId = UUID.randomUUID();
+        when(repository.findExistingOsIds(any())).thenReturn(Set.of());
+        when(repository.insertNew(anyList())).thenReturn(1);
+        ExecucaoOS criada = ExecucaoOS.criar(osId, "A definir");
+        when(repository.findByOsId(osId)).thenReturn(Optional.of(criada));
+
+        listener.consumeOSEventsBatch(List.of(
+                evento("OS_CRIADA", osId),
+                evento("OS_CANCELADA", osId)), acknowledgment);
+
+        InOrder ordem = inOrder(repository);
+        ordem.verify(repository).insertNew(anyList());
+        ordem.verify(repository).findByOsId(osId);
+        ordem.verify(repository).save(criada);
+        assertEquals(StatusExecucao.CANCELADA, criada.getStatus());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("registro inválido: prefixo regravado e BatchListenerFailedException com o índice")
+    void registroInvalidoIndicaIndice() {
+        UUID osId = UUID.randomUUID();
+        when(repository.findExistingOsIds(any())).thenReturn(Set.of());
+        when(repository.insertNew(anyList())).thenReturn(1);
+        ConsumerRecord<String, Object> invalido = evento("OS_CRIADA", "não-é-uuid");
+
+        BatchListenerFailedException ex = assertThrows(BatchListenerFailedException.class,
+                () -> listener.consumeOSEventsBatch(List.of(
+                        evento("OS_CRIADA", osId),
+                        evento("STATUS_MUDADO", osId),
+                        invalido,
+                        evento("OS_CRIADA", UUID.randomUUID())), acknowledgment));
+
+        assertEquals(2, ex.getIndex());
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(repository, times(1)).insertNew(anyList());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("falha no INSERT em batch: lote refeito registro a registro e falha atribuída à OS que a provocou")
+    void falhaNoInsertIndicaRegistroQueFalhou() {
+        UUID problematica = UUID.randomUUID();
+        when(repository.findExistingOsIds(any())).thenReturn(Set.of());
+        when(repository.insertNew(anyList())).thenAnswer(inv -> {
+            List<ExecucaoOS> novas = inv.getArgument(0);
+            if (novas.size() > 1 || novas.get(0).getOsId().equals(problematica)) {
+                throw new DataIntegrityViolationException("duplicada");
+            }
+            return 1;
+        });
+
+        BatchListenerFailedException ex = assertThrows(BatchListenerFailedException.class,
+                () -> listener.consumeOSEventsBatch(List.of(
+                        evento("STATUS_MUDADO", UUID.randomUUID()),
+                        evento("OS_CRIADA", UUID.randomUUID()),
+                        evento("OS_CRIADA", problematica),
+                        evento("OS_CRIADA", UUID.randomUUID())), acknowledgment));
+
+        assertEquals(2, ex.getIndex());
+        assertInstanceOf(DataIntegrityViolationException.class, ex.getCause());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("falha passageira no INSERT em batch: lote gravado registro a registro e confirmado")
+    void falhaPassageiraNoInsertEmBatch() {
+        when(repository.findExistingOsIds(any())).thenReturn(Set.of());
+        when(repository.insertNew(anyList()))
+                .thenThrow(new DataIntegrityViolationException("falha"))
+                .thenReturn(1);
+
+        listener.consumeOSEventsBatch(List.of(
+                evento("OS_CRIADA", UUID.randomUUID()),
+                evento("OS_CRIADA", UUID.randomUUID())), acknowledgment);
+
+        verify(repository, times(3)).insertNew(anyList());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("lote sem OS_CRIADA não consulta nem insere")
+    void loteSemCriacao() {
+        listener.consumeOSEventsBatch(List.of(
+                evento("STATUS_MUDADO", UUID.randomUUID()),
+                evento("DESCONHECIDO", UUID.randomUUID())), acknowledgment);
+
+        verifyNoInteractions(repository);
+        verify(acknowledgment).acknowledge();
+    }
+
+    private ConsumerRecord<String, Object> evento(String tipo, Object osId) {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(
+                "os-events", 0, offset++, osId.toString(), Map.of("osId", osId.toString()));
+        record.headers().add("eventType", tipo.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.grupo99.executionservice.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("VirtualThreadPinningMonitor - Diagnóstico de pinning")
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(Duration.ofMillis(10), registry);
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("bloqueio dentro de synchronized em virtual thread é reportado")
+    void reportaPinning() throws Exception {
+        monitor.start();
+        Object trava = new Object();
+
+        Thread.ofVirtual().start(() -> {
+            synchronized (trava) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        await().atMost(Duration.ofSeconds(10)).until(() ->
+                registry.get("jvm.threads.virtual.pinned").counter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("start e stop controlam o streaming JFR")
+    void ciclodeVida() {
+        monitor.start();
+        assertTrue(monitor.isRunning());
+
+        monitor.stop();
+        assertFalse(monitor.isRunning());
+    }
+}
@@ -0,0 +1,495 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.executionservice.application.dto.ExecucaoOSRequestDTO;
+import br.com.grupo99.executionservice.application.dto.ExecucaoOSResponseDTO;
+import br.com.grupo99.executionservice.application.dto.LoteExecucoesResponseDTO;
+import br.com.grupo99.executionservice.application.dto.TarefaResponseDTO;
+import br.com.grupo99.executionservice.application.mapper.ExecucaoOSMapper;
+import br.com.grupo99.executionservice.application.service.ExecucaoOSApplicationService;
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.Diagnostico;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ProdutividadeMecanico;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.domain.model.VersaoExecucao;
+import br.com.grupo99.executionservice.infrastructure.analytics.TopPecasEmMemoria;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.ExecucaoOSNearCache;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.listener.TopPecasListener;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.DiagnosticoEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.ExecucaoOSEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.TarefaEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.UsoPecaEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.BuscaTextualJdbcRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSArquivoJdbcRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcReadRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ProdutividadeMecanicosJdbcRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conta os statements emitidos por cada operação do serviço sobre o
+ * adapter real (PostgreSQL), garantindo que o save aplique apenas as diferenças
+ * sobre a entidade gerenciada.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({
+        ExecucaoOSApplicationService.class,
+        ExecucaoOSMapper.class,
+        ExecucaoOSRepositoryAdapter.class,
+        ExecucaoOSJdbcRepository.class,
+        ExecucaoOSArquivoJdbcRepository.class,
+        ExecucaoOSJdbcReadRepository.class,
+        ExecucaoOSNearCache.class,
+        MecanicoDicionario.class,
+        ProdutividadeMecanicosJdbcRepository.class,
+        TopPecasEmMemoria.class,
+        TopPecasListener.class,
+        BuscaTextualJdbcRepository.class,
+        ExecucaoOSEntityMapper.class,
+        DiagnosticoEntityMapper.class,
+        TarefaEntityMapper.class,
+        UsoPecaEntityMapper.class
+})
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("ExecucaoOSRepositoryAdapter - Statements por operação")
+class ExecucaoOSRepositoryAdapterJpaTest {
+
+    private static DriverManagerDataSource banco;
+
+    @Autowired
+    private ExecucaoOSApplicationService service;
+
+    @Autowired
+    private ExecucaoOSRepositoryAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProdutividadeMecanicosJdbcRepository produtividade;
+
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        PostgresDeTeste.registrar(registry, banco());
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @DisplayName("criar: um INSERT condicional via JDBC, sem passar pelo EntityManager; OS repetida é duplicidade")
+    void criar() {
+        UUID osId = UUID.randomUUID();
+        iniciarMedicao();
+
+        ExecucaoOSResponseDTO response = service.criar(new ExecucaoOSRequestDTO(osId, UUID.randomUUID(), "João"));
+        entityManager.flush();
+
+        assertNotNull(response.id());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(response.id(), adapter.findByOsId(osId).orElseThrow().getId());
+        assertThrows(DuplicateKeyException.class,
+                () -> service.criar(new ExecucaoOSRequestDTO(osId, UUID.randomUUID(), "Maria")));
+    }
+
+    @Test
+    @DisplayName("criarEmLote: grava as novas pelo batch JDBC e recusa a OS já existente")
+    void criarEmLote() {
+        UUID existente = UUID.randomUUID();
+        service.criar(new ExecucaoOSRequestDTO(existente, UUID.randomUUID(), "João"));
+        entityManager.flush();
+        iniciarMedicao();
+
+        LoteExecucoesResponseDTO lote = service.criarEmLote(List.of(
+                new ExecucaoOSRequestDTO(UUID.randomUUID(), UUID.randomUUID(), "João"),
+                new ExecucaoOSRequestDTO(existente, UUID.randomUUID(), "João"),
+                new ExecucaoOSRequestDTO(UUID.randomUUID(), UUID.randomUUID(), "Maria")));
+
+        assertEquals(2, lote.criadas());
+        assertFalse(lote.itens().get(1).criado());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertTrue(adapter.existsByOsId(lote.itens().get(0).osId()));
+        assertTrue(adapter.existsByOsId(lote.itens().get(2).osId()));
+        assertEquals("Maria", adapter.findByOsId(lote.itens().get(2).osId()).orElseThrow().getMecanico());
+    }
+
+    @Test
+    @DisplayName("buscarPorId: dois SELECTs")
+    void buscarPorId() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        service.buscarPorId(execucao.getId());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("buscarVersao: só ID e versão da raiz, sem hidratar o agregado; acompanha cada escrita")
+    void buscarVersao() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        VersaoExecucao porId = service.buscarVersao(execucao.getId()).orElseThrow();
+        VersaoExecucao porOsId = service.buscarVersaoPorOsId(execucao.getOsId()).orElseThrow();
+
+        assertEquals(new VersaoExecucao(execucao.getId(), execucao.getVersion()), porId);
+        assertEquals(porId, porOsId);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertTrue(service.buscarVersao(UUID.randomUUID()).isEmpty());
+        assertTrue(service.buscarVersaoPorOsId(UUID.randomUUID()).isEmpty());
+
+        ExecucaoOSResponseDTO iniciada = service.iniciar(execucao.getId(), execucao.getVersion());
+        assertEquals(iniciada.version(), service.buscarVersao(execucao.getId()).orElseThrow().version());
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> service.cancelar(execucao.getId(), "atrasado", execucao.getVersion()));
+    }
+
+    @Test
+    @DisplayName("iniciar: um UPDATE condicional via JDBC, sem hidratar o agregado")
+    void iniciar() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        ExecucaoOSResponseDTO response = service.iniciar(execucao.getId(), null);
+        entityManager.flush();
+
+        assertEquals(StatusExecucao.EM_ANDAMENTO, response.status());
+        assertEquals(1, response.totalTarefas());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    @DisplayName("finalizar: um UPDATE condicional via JDBC, sem hidratar o agregado")
+    void finalizar() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        iniciarMedicao();
+
+        ExecucaoOSResponseDTO response = service.finalizar(execucao.getId(), "ok", null);
+
+        assertEquals(StatusExecucao.CONCLUIDA, response.status());
+        assertEquals("ok", response.observacoes());
+        assertNotNull(response.dataFinalizacao());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("cancelar: um UPDATE condicional via JDBC, sem hidratar o agregado")
+    void cancelar() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        ExecucaoOSResponseDTO response = service.cancelar(execucao.getId(), "desistência", null);
+
+        assertEquals(StatusExecucao.CANCELADA, response.status());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("transição inválida é reportada com a mensagem do domínio")
+    void transicaoInvalida() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.CONCLUIDA);
+        iniciarMedicao();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> service.cancelar(execucao.getId(), "tarde demais", null));
+        assertEquals("Transição inválida de CONCLUIDA para CANCELADA", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("transitionStatus com versão desatualizada lança conflito otimista")
+    void transicaoComVersaoDesatualizada() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> adapter.transitionStatus(execucao.getId(), TransicaoStatus.iniciar(),
+                        execucao.getVersion() + 1));
+        assertEquals(execucao.getVersion() + 1,
+                adapter.transitionStatus(execucao.getId(), TransicaoStatus.iniciar(), execucao.getVersion())
+                        .version());
+    }
+
+    @Test
+    @DisplayName("addUsoPeca: INSERT só da peça, sem carregar o agregado; a 50ª custa o mesmo que a 1ª")
+    void addUsoPeca() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        iniciarMedicao();
+
+        long versao = adapter.addUsoPeca(execucao.getId(),
+                UsoPeca.criar(UUID.randomUUID(), "Pastilha", 2, BigDecimal.ONE), null);
+
+        assertEquals(execucao.getVersion() + 1, versao);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+
+        for (int i = 0; i < 48; i++) {
+            adapter.addUsoPeca(execucao.getId(), UsoPeca.criar(UUID.randomUUID(), "Pastilha", 1, BigDecimal.ONE), null);
+        }
+        iniciarMedicao();
+
+        versao = adapter.addUsoPeca(execucao.getId(),
+                UsoPeca.criar(UUID.randomUUID(), "Pastilha", 1, BigDecimal.ONE), versao + 48);
+
+        assertEquals(execucao.getVersion() + 50, versao);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+
+        entityManager.clear();
+        ExecucaoOS recarregada = adapter.findById(execucao.getId()).orElseThrow();
+        assertEquals(51, recarregada.getPecas().size());
+        assertEquals(versao, recarregada.getVersion());
+    }
+
+    @Test
+    @DisplayName("addTarefa e addDiagnostico: gravam o filho e incrementam a versão")
+    void addTarefaEDiagnostico() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        iniciarMedicao();
+
+        adapter.addTarefa(execucao.getId(), Tarefa.criar("Alinhamento", "Maria", 30), null);
+        long versao = adapter.addDiagnostico(execucao.getId(),
+                Diagnostico.criar("Pneu gasto", "Maria", "Dianteiro esquerdo"), null);
+
+        assertEquals(execucao.getVersion() + 2, versao);
+        assertEquals(2, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        entityManager.clear();
+        ExecucaoOS recarregada = adapter.findById(execucao.getId()).orElseThrow();
+        assertEquals(2, recarregada.getTarefas().size());
+        assertEquals(2, recarregada.getDiagnosticos().size());
+    }
+
+    @Test
+    @DisplayName("add com versão desatualizada lança conflito otimista; execução inexistente, IllegalArgumentException")
+    void addComFalha() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        Tarefa tarefa = Tarefa.criar("Alinhamento", "Maria", 30);
+        UUID inexistente = UUID.randomUUID();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> adapter.addTarefa(execucao.getId(), tarefa, execucao.getVersion() + 1));
+        assertThrows(IllegalArgumentException.class, () -> adapter.addTarefa(inexistente, tarefa, null));
+    }
+
+    @Test
+    @DisplayName("transitionTarefa: UPDATEs condicionais via JDBC, sem hidratar o agregado, e soma ao rollup")
+    void transitionTarefa() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        UUID tarefaId = execucao.getTarefas().get(0).getId();
+        iniciarMedicao();
+
+        TarefaResponseDTO iniciada = service.iniciarTarefa(execucao.getId(), tarefaId, null);
+        TarefaResponseDTO finalizada = service.finalizarTarefa(execucao.getId(), tarefaId, 35, null);
+
+        assertEquals(StatusTarefa.EM_ANDAMENTO, iniciada.status());
+        assertEquals(StatusTarefa.CONCLUIDA, finalizada.status());
+        assertEquals(35, finalizada.tempoRealMinutos());
+        assertEquals(40, finalizada.tempoEstimadoMinutos());
+        assertEquals("João", finalizada.mecanico());
+        assertNotNull(finalizada.dataFinalizacao());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        LocalDate hoje = LocalDate.now();
+        ProdutividadeMecanico joao = produtividade.somarPorMecanico(hoje.minusDays(1), hoje.plusDays(1)).stream()
+                .filter(p -> p.mecanico().equals("João"))
+                .findFirst().orElseThrow();
+        assertEquals(1, joao.tarefasConcluidas());
+        assertEquals(35, joao.somaReal());
+        ExecucaoOS recarregada = adapter.findById(execucao.getId()).orElseThrow();
+        assertEquals(execucao.getVersion() + 2, recarregada.getVersion());
+        assertEquals(StatusTarefa.CONCLUIDA, recarregada.getTarefas().get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("transitionTarefa: regras da tarefa e tarefa de outra execução")
+    void transitionTarefaInvalida() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        ExecucaoOS outra = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        UUID tarefaId = execucao.getTarefas().get(0).getId();
+        UUID execucaoId = execucao.getId();
+
+        IllegalStateException naoIniciada = assertThrows(IllegalStateException.class,
+                () -> service.finalizarTarefa(execucaoId, tarefaId, 30, null));
+        assertEquals("Tarefa não está em andamento", naoIniciada.getMessage());
+        service.iniciarTarefa(execucaoId, tarefaId, null);
+        IllegalStateException jaIniciada = assertThrows(IllegalStateException.class,
+                () -> service.iniciarTarefa(execucaoId, tarefaId, null));
+        assertEquals("Tarefa já está em andamento", jaIniciada.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> service.iniciarTarefa(outra.getId(), tarefaId, null));
+    }
+
+    @Test
+    @DisplayName("save com nova tarefa: INSERT só da tarefa + UPDATE da raiz")
+    void saveComNovaTarefa() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        iniciarMedicao();
+
+        ExecucaoOS carregada = adapter.findById(execucao.getId()).orElseThrow();
+        carregada.adicionarTarefa(Tarefa.criar("Alinhamento", "João", 30));
+        ExecucaoOS salva = adapter.save(carregada);
+        entityManager.flush();
+
+        assertEquals(2, salva.getTarefas().size());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("save com tarefa alterada: UPDATE só da tarefa")
+    void saveComTarefaAlterada() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        iniciarMedicao();
+
+        ExecucaoOS carregada = adapter.findById(execucao.getId()).orElseThrow();
+        carregada.getTarefas().get(0).iniciar();
+        adapter.save(carregada);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("save com filho removido: DELETE só do filho")
+    void saveComFilhoRemovido() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        iniciarMedicao();
+
+        ExecucaoOS carregada = adapter.findById(execucao.getId()).orElseThrow();
+        carregada.getPecas().clear();
+        adapter.save(carregada);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    @DisplayName("save sem alterações não emite UPDATE")
+    void saveSemAlteracoes() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.EM_ANDAMENTO);
+        iniciarMedicao();
+
+        ExecucaoOS carregada = adapter.findById(execucao.getId()).orElseThrow();
+        adapter.save(carregada);
+        entityManager.flush();
+
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("save fora do contexto (ex.: listener Kafka): dois SELECTs + um UPDATE")
+    void saveForaDoContexto() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        ExecucaoOS carregada = adapter.findById(execucao.getId()).orElseThrow();
+        entityManager.clear();
+        carregada.iniciar();
+        adapter.save(carregada);
+
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("save com versão desatualizada lança conflito otimista")
+    void saveComVersaoDesatualizada() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        ExecucaoOS carregada = adapter.findById(execucao.getId()).orElseThrow();
+        carregada.setVersion(carregada.getVersion() - 1);
+        carregada.iniciar();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> adapter.save(carregada));
+    }
+
+    @Test
+    @DisplayName("save devolve a versão já incrementada")
+    void saveDevolveVersaoIncrementada() {
+        ExecucaoOS execucao = persistirComFilhos(StatusExecucao.AGUARDANDO_INICIO);
+        iniciarMedicao();
+
+        ExecucaoOS carregada = adapter.findById(execucao.getId()).orElseThrow();
+        long versaoAnterior = carregada.getVersion();
+        carregada.iniciar();
+
+        assertEquals(versaoAnterior + 1, adapter.save(carregada).getVersion());
+    }
+
+    private void iniciarMedicao() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private ExecucaoOS persistirComFilhos(StatusExecucao status) {
+        ExecucaoOS execucao = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "João");
+        execucao.setStatus(status);
+        execucao.adicionarDiagnostico(Diagnostico.criar("Ruído no motor", "João", null));
+        execucao.adicionarTarefa(Tarefa.criar("Troca de óleo", "João", 40));
+        execucao.adicionarUsoPeca(UsoPeca.criar(UUID.randomUUID(), "Filtro", 1, BigDecimal.TEN));
+        return adapter.save(execucao);
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+}
@@ -1,26 +1,46 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.adapter;
 
 import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
 import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.domain.repository.ExecucaoOSCursor;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.ExecucaoOSNearCache;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
 import br.com.grupo99.executionservice.infrastructure.persistence.mapper.ExecucaoOSEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcReadRepository;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcReadRepository.Consulta;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcRepository;
 import br.com.grupo99.executionservice.infrastructure.persistence.repository.PostgresExecucaoOSRepository;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +53,21 @@ class ExecucaoOSRepositoryAdapterTest {
     @Mock
     private ExecucaoOSEntityMapper mapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ExecucaoOSJdbcRepository jdbcRepository;
+
+    @Mock
+    private ExecucaoOSJdbcReadRepository leituraJdbc;
+
+    @Mock
+    private MecanicoDicionario mecanicos;
+
+    @Spy
+    private ExecucaoOSNearCache cache = new ExecucaoOSNearCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private ExecucaoOSRepositoryAdapter adapter;
 
@@ -67,11 +102,11 @@ class ExecucaoOSRepositoryAdapterTest {
                 .osId(osId)
                 .orcamentoId(domain.getOrcamentoId())
                 .status(StatusExecucao.AGUARDANDO_INICIO)
-                .mecanico("João")
+                .mecanicoId(1)
                 .dataInicio(now)
-                .diagnosticos(new ArrayList<>())
-                .tarefas(new ArrayList<>())
-                .pecas(new ArrayList<>())
+                .diagnosticos(new LinkedHashSet<>())
+                .tarefas(new LinkedHashSet<>())
+                .pecas(new LinkedHashSet<>())
                 .version(0L)
                 .createdAt(now)
                 .updatedAt(now)
@@ -79,19 +114,105 @@ class ExecucaoOSRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("save deve converter, salvar e retornar domain")
-    void saveShouldWork() {
+    @DisplayName("save de agregado novo deve converter e fazer persist")
+    void saveNovoDevePersistir() {
+        stubGrafoAgregado();
+        when(entityManager.find(eq(ExecucaoOSEntity.class), eq(id), anyMap())).thenReturn(null);
         when(mapper.toEntity(domain)).thenReturn(entity);
-        when(postgresRepository.save(entity)).thenReturn(entity);
         when(mapper.toDomain(entity)).thenReturn(domain);
 
         ExecucaoOS result = adapter.save(domain);
 
         assertNotNull(result);
         assertEquals(id, result.getId());
-        verify(mapper).toEntity(domain);
-        verify(postgresRepository).save(entity);
-        verify(mapper).toDomain(entity);
+        verify(entityManager).persist(entity);
+        verify(entityManager).flush();
+        verify(mapper, never()).atualizarEntity(any(), any());
+        verify(postgresRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("save de agregado existente deve aplicar o diff na entidade gerenciada")
+    void saveExistenteDeveAplicarDiff() {
+        stubGrafoAgregado();
+        when(entityManager.find(eq(ExecucaoOSEntity.class), eq(id), anyMap())).thenReturn(entity);
+        when(mapper.toDomain(entity)).thenReturn(domain);
+
+        ExecucaoOS result = adapter.save(domain);
+
+        assertEquals(id, result.getId());
+        verify(mapper).atualizarEntity(domain, entity);
+        verify(mapper, never()).toEntity(any());
+        verify(entityManager, never()).persist(any());
+        verify(entityManager).flush();
+        verify(postgresRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("save com versão divergente deve lançar conflito otimista")
+    void saveVersaoDivergenteDeveFalhar() {
+        stubGrafoAgregado();
+        entity.setVersion(3L);
+        when(entityManager.find(eq(ExecucaoOSEntity.class), eq(id), anyMap())).thenReturn(entity);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> adapter.save(domain));
+
+        verify(mapper, never()).atualizarEntity(any(), any());
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    @DisplayName("transitionStatus deve devolver o resumo da escrita condicional")
+    void transitionStatusSucesso() {
+        TransicaoStatus transicao = TransicaoStatus.iniciar();
+        ExecucaoOSResumo resumo = resumo();
+        when(jdbcRepository.transicionarStatus(id, transicao, null)).thenReturn(Optional.of(resumo));
+
+        assertSame(resumo, adapter.transitionStatus(id, transicao, null));
+        verify(jdbcRepository, never()).findEstadoAtual(any());
+        verify(cache).registrarEscrita(id, resumo.version());
+        verifyNoInteractions(postgresRepository, mapper, entityManager);
+    }
+
+    @Test
+    @DisplayName("transitionStatus deve lançar IllegalArgumentException se a execução não existe")
+    void transitionStatusNaoEncontrada() {
+        TransicaoStatus transicao = TransicaoStatus.iniciar();
+        when(jdbcRepository.transicionarStatus(id, transicao, null)).thenReturn(Optional.empty());
+        when(jdbcRepository.findEstadoAtual(id)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> adapter.transitionStatus(id, transicao, null));
+    }
+
+    @Test
+    @DisplayName("transitionStatus deve lançar IllegalStateException para transição inválida")
+    void transitionStatusInvalida() {
+        TransicaoStatus transicao = TransicaoStatus.iniciar();
+        when(jdbcRepository.transicionarStatus(id, transicao, null)).thenReturn(Optional.empty());
+        when(jdbcRepository.findEstadoAtual(id)).thenReturn(
+                Optional.of(new ExecucaoOSJdbcRepository.EstadoAtual(StatusExecucao.CONCLUIDA, 2L)));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> adapter.transitionStatus(id, transicao, null));
+        assertEquals("Transição inválida de CONCLUIDA para EM_ANDAMENTO", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("transitionStatus deve lançar conflito otimista para versão desatualizada")
+    void transitionStatusVersaoDesatualizada() {
+        TransicaoStatus transicao = TransicaoStatus.iniciar();
+        when(jdbcRepository.transicionarStatus(id, transicao, 1L)).thenReturn(Optional.empty());
+        when(jdbcRepository.findEstadoAtual(id)).thenReturn(
+                Optional.of(new ExecucaoOSJdbcRepository.EstadoAtual(StatusExecucao.AGUARDANDO_INICIO, 2L)));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> adapter.transitionStatus(id, transicao, 1L));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void stubGrafoAgregado() {
+        EntityGraph grafo = mock(EntityGraph.class);
+        when(entityManager.getEntityGraph(ExecucaoOSEntity.GRAFO_AGREGADO)).thenReturn(grafo);
     }
 
     @Test
@@ -107,6 +228,39 @@ class ExecucaoOSRepositoryAdapterTest {
         verify(postgresRepository).findById(id);
     }
 
+    @Test
+    @DisplayName("findById repetido deve ser servido pelo near-cache com cópia independente")
+    void findByIdServidoPeloCache() {
+        when(postgresRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(domain);
+
+        adapter.findById(id).orElseThrow().setMecanico("Alterado por quem leu");
+        ExecucaoOS doCache = adapter.findById(id).orElseThrow();
+
+        assertEquals("João", doCache.getMecanico());
+        assertEquals(id, adapter.findByOsId(osId).orElseThrow().getId());
+        verify(postgresRepository, times(1)).findById(id);
+        verify(postgresRepository, never()).findByOsId(any());
+    }
+
+    @Test
+    @DisplayName("save deve descartar a entrada em cache da versão anterior")
+    void saveDescartaVersaoAnteriorDoCache() {
+        when(postgresRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(domain);
+        adapter.findById(id);
+
+        stubGrafoAgregado();
+        when(entityManager.find(eq(ExecucaoOSEntity.class), eq(id), anyMap())).thenReturn(entity);
+        ExecucaoOS salva = domain.toBuilder().version(1L).build();
+        when(mapper.toDomain(entity)).thenReturn(salva);
+        adapter.save(domain);
+
+        assertEquals(1L, adapter.findById(id).orElseThrow().getVersion());
+        verify(postgresRepository, times(2)).findById(id);
+        verify(cache).registrarEscrita(id, 1L);
+    }
+
     @Test
     @DisplayName("findById deve retornar Optional vazio quando não encontrado")
     void findByIdNotFound() {
@@ -142,7 +296,7 @@ class ExecucaoOSRepositoryAdapterTest {
     @Test
     @DisplayName("findByStatus deve retornar lista de domains")
     void findByStatus() {
-        when(postgresRepository.findByStatus("AGUARDANDO_INICIO")).thenReturn(List.of(entity));
+        when(postgresRepository.findByStatus(StatusExecucao.AGUARDANDO_INICIO)).thenReturn(List.of(entity));
         when(mapper.toDomain(entity)).thenReturn(domain);
 
         List<ExecucaoOS> result = adapter.findByStatus(StatusExecucao.AGUARDANDO_INICIO);
@@ -154,7 +308,7 @@ class ExecucaoOSRepositoryAdapterTest {
     @Test
     @DisplayName("findByStatus deve retornar lista vazia quando não há resultados")
     void findByStatusEmpty() {
-        when(postgresRepository.findByStatus("EM_ANDAMENTO")).thenReturn(List.of());
+        when(postgresRepository.findByStatus(StatusExecucao.EM_ANDAMENTO)).thenReturn(List.of());
 
         List<ExecucaoOS> result = adapter.findByStatus(StatusExecucao.EM_ANDAMENTO);
 
@@ -164,7 +318,8 @@ class ExecucaoOSRepositoryAdapterTest {
     @Test
     @DisplayName("findByMecanico deve retornar lista de domains")
     void findByMecanico() {
-        when(postgresRepository.findByMecanico("João")).thenReturn(List.of(entity));
+        when(mecanicos.buscarId("João")).thenReturn(Optional.of(1));
+        when(postgresRepository.findByMecanicoId(1)).thenReturn(List.of(entity));
         when(mapper.toDomain(entity)).thenReturn(domain);
 
         List<ExecucaoOS> result = adapter.findByMecanico("João");
@@ -175,13 +330,24 @@ class ExecucaoOSRepositoryAdapterTest {
     @Test
     @DisplayName("findByMecanico deve retornar lista vazia")
     void findByMecanicoEmpty() {
-        when(postgresRepository.findByMecanico("Inexistente")).thenReturn(List.of());
+        when(mecanicos.buscarId("Maria")).thenReturn(Optional.of(2));
+        when(postgresRepository.findByMecanicoId(2)).thenReturn(List.of());
 
-        List<ExecucaoOS> result = adapter.findByMecanico("Inexistente");
+        List<ExecucaoOS> result = adapter.findByMecanico("Maria");
 
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("findByMecanico não consulta o banco para mecânico fora do dicionário")
+    void findByMecanicoDesconhecido() {
+        when(mecanicos.buscarId("Inexistente")).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findByMecanico("Inexistente").isEmpty());
+        assertTrue(adapter.findResumosByMecanico("Inexistente").isEmpty());
+        verifyNoInteractions(postgresRepository);
+    }
+
     @Test
     @DisplayName("findAll deve retornar lista de todos os domains")
     void findAll() {
@@ -203,6 +369,72 @@ class ExecucaoOSRepositoryAdapterTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("findResumosByStatus deve delegar para a projeção de resumo")
+    void findResumosByStatus() {
+        when(postgresRepository.findResumosByStatus(StatusExecucao.AGUARDANDO_INICIO)).thenReturn(List.of(resumo()));
+
+        List<ExecucaoOSResumo> result = adapter.findResumosByStatus(StatusExecucao.AGUARDANDO_INICIO);
+
+        assertEquals(1, result.size());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("findResumosByMecanico deve delegar para a projeção de resumo")
+    void findResumosByMecanico() {
+        when(mecanicos.buscarId("João")).thenReturn(Optional.of(1));
+        when(postgresRepository.findResumosByMecanicoId(1)).thenReturn(List.of(resumo()));
+
+        List<ExecucaoOSResumo> result = adapter.findResumosByMecanico("João");
+
+        assertEquals(1, result.size());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("findPage sem cursor deve buscar a primeira página")
+    void findPageFirst() {
+        when(postgresRepository.findFirstPage(PageRequest.ofSize(10))).thenReturn(List.of(resumo()));
+
+        List<ExecucaoOSResumo> result = adapter.findPage(null, 10);
+
+        assertEquals(1, result.size());
+        verify(postgresRepository, never()).findPageAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("findPage com cursor deve continuar após (createdAt, id)")
+    void findPageAfterCursor() {
+        ExecucaoOSCursor cursor = new ExecucaoOSCursor(entity.getCreatedAt(), id);
+        when(postgresRepository.findPageAfter(entity.getCreatedAt(), id, PageRequest.ofSize(5)))
+                .thenReturn(List.of());
+
+        List<ExecucaoOSResumo> result = adapter.findPage(cursor, 5);
+
+        assertTrue(result.isEmpty());
+        verify(postgresRepository, never()).findFirstPage(any());
+    }
+
+    @Test
+    @DisplayName("streamAll deve entregar cada resumo lido do cursor")
+    void streamAllShouldDeliverEachResumo() {
+        ExecucaoOSResumo resumo = resumo();
+        when(postgresRepository.streamAllResumos()).thenReturn(Stream.of(resumo));
+
+        List<ExecucaoOSResumo> recebidos = new ArrayList<>();
+        adapter.streamAll(recebidos::add);
+
+        assertEquals(List.of(resumo), recebidos);
+    }
+
+    private ExecucaoOSResumo resumo() {
+        return new ExecucaoOSResumo(
+                id, osId, domain.getOrcamentoId(), StatusExecucao.AGUARDANDO_INICIO, "João",
+                domain.getDataInicio(), null, null, 0L, 1, 2, 3,
+                domain.getCreatedAt(), domain.getUpdatedAt());
+    }
+
     @Test
     @DisplayName("deleteById deve delegar para repository")
     void deleteById() {
@@ -211,6 +443,7 @@ class ExecucaoOSRepositoryAdapterTest {
         adapter.deleteById(id);
 
         verify(postgresRepository).deleteById(id);
+        verify(cache).registrarRemocao(id);
     }
 
     @Test
@@ -229,6 +462,43 @@ class ExecucaoOSRepositoryAdapterTest {
         assertFalse(adapter.existsByOsId(osId));
     }
 
+    @Test
+    @DisplayName("consultas habilitadas em jdbc-reads não passam pelo Hibernate")
+    void leiturasJdbcHabilitadas() {
+        when(leituraJdbc.habilitada(any())).thenReturn(true);
+        when(leituraJdbc.findById(id)).thenReturn(Optional.of(domain));
+        when(leituraJdbc.findByOsId(osId)).thenReturn(Optional.of(domain));
+        when(leituraJdbc.existsByOsId(osId)).thenReturn(true);
+
+        assertEquals(id, adapter.findById(id).orElseThrow().getId());
+        cache.invalidar(id);
+        assertEquals(id, adapter.findByOsId(osId).orElseThrow().getId());
+        assertTrue(adapter.existsByOsId(osId));
+
+        verifyNoInteractions(postgresRepository, mapper);
+    }
+
+    @Test
+    @DisplayName("dentro de transação de escrita as leituras seguem pelo JPA mesmo habilitadas")
+    void leiturasJdbcIgnoradasEmTransacaoDeEscrita() {
+        when(leituraJdbc.habilitada(Consulta.FIND_BY_ID)).thenReturn(true);
+        when(leituraJdbc.habilitada(Consulta.EXISTS_BY_OS_ID)).thenReturn(true);
+        when(postgresRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(domain);
+        when(postgresRepository.existsByOsId(osId)).thenReturn(true);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertTrue(adapter.findById(id).isPresent());
+            assertTrue(adapter.existsByOsId(osId));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(leituraJdbc, never()).findById(any());
+        verify(leituraJdbc, never()).existsByOsId(any());
+    }
+
     @Test
     @DisplayName("existsById deve retornar true quando existe")
     void existsByIdTrue() {
@@ -244,4 +514,31 @@ class ExecucaoOSRepositoryAdapterTest {
 
         assertFalse(adapter.existsById(id));
     }
+
+    @Test
+    @DisplayName("findExistingOsIds deve delegar ao repositório JDBC")
+    void findExistingOsIds() {
+        when(jdbcRepository.findExistingOsIds(List.of(osId))).thenReturn(Set.of(osId));
+
+        assertEquals(Set.of(osId), adapter.findExistingOsIds(List.of(osId)));
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent deve reportar criação ou duplicidade sem passar pelo EntityManager")
+    void insertIfAbsent() {
+        when(jdbcRepository.inserirSeAusente(domain)).thenReturn(true, false);
+
+        assertTrue(adapter.insertIfAbsent(domain));
+        assertFalse(adapter.insertIfAbsent(domain));
+        verifyNoInteractions(entityManager, postgresRepository);
+    }
+
+    @Test
+    @DisplayName("insertNew deve inserir em batch JDBC sem passar pelo EntityManager")
+    void insertNew() {
+        when(jdbcRepository.inserirNovas(List.of(domain))).thenReturn(1);
+
+        assertEquals(1, adapter.insertNew(List.of(domain)));
+        verifyNoInteractions(entityManager, postgresRepository);
+    }
 }
@@ -0,0 +1,241 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.cache;
+
+import br.com.grupo99.executionservice.domain.events.ExecucaoOSAlteradaEvent;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExecucaoOSNearCache - Testes Unitários")
+class ExecucaoOSNearCacheTest {
+
+    private ExecucaoOSNearCache cache;
+    private SimpleMeterRegistry registry;
+    private ExecucaoOS execucao;
+    private AtomicInteger cargas;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExecucaoOSNearCache(100, Duration.ofMinutes(1));
+        registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        execucao = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "João");
+        execucao.adicionarTarefa(Tarefa.criar("Troca de óleo", "João", 40));
+        cargas = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("miss carrega do banco uma vez; leituras seguintes são hits")
+    void missDepoisHit() {
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(1, cargas.get());
+        assertEquals(2.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+        assertNotNull(registry.find("cache.evictions")
+                .tag("cache", ExecucaoOSNearCache.CACHE_POR_ID).functionCounter());
+    }
+
+    @Test
+    @DisplayName("cópias devolvidas são independentes da entrada em cache")
+    void devolveCopiasIndependentes() {
+        ExecucaoOS carregada = cache.buscarPorId(execucao.getId(), carregar(execucao)).orElseThrow();
+        carregada.getTarefas().get(0).iniciar();
+        carregada.getTarefas().clear();
+
+        ExecucaoOS primeira = cache.buscarPorId(execucao.getId(), carregar(execucao)).orElseThrow();
+        primeira.setMecanico("Outro");
+        ExecucaoOS segunda = cache.buscarPorId(execucao.getId(), carregar(execucao)).orElseThrow();
+
+        assertEquals(1, segunda.getTarefas().size());
+        assertEquals("João", segunda.getMecanico());
+        assertNotSame(primeira.getTarefas().get(0), segunda.getTarefas().get(0));
+    }
+
+    @Test
+    @DisplayName("buscarPorOsId aproveita a entrada carregada por ID")
+    void buscarPorOsIdUsaMesmaEntrada() {
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        Optional<ExecucaoOS> porOs = cache.buscarPorOsId(execucao.getOsId(), osId -> {
+            throw new AssertionError("não deveria ir ao banco");
+        });
+
+        assertEquals(execucao.getId(), porOs.orElseThrow().getId());
+    }
+
+    @Test
+    @DisplayName("escrita descarta a versão anterior e rejeita cargas atrasadas dela")
+    void escritaRejeitaVersaoAnterior() {
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        cache.registrarEscrita(execucao.getId(), 1L);
+        // carga concorrente que ainda leu a versão 0
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(3, cargas.get());
+
+        ExecucaoOS nova = execucao.toBuilder().version(1L).build();
+        cache.buscarPorId(execucao.getId(), carregar(nova));
+        assertEquals(1L, cache.buscarPorId(execucao.getId(), carregar(nova)).orElseThrow().getVersion());
+        assertEquals(4, cargas.get());
+    }
+
+    @Test
+    @DisplayName("escrita só nos filhos (mesma versão) também descarta a entrada")
+    void escritaNaMesmaVersaoDescarta() {
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        cache.registrarEscrita(execucao.getId(), 0L);
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    @DisplayName("alteração recebida pelo change feed descarta a entrada")
+    void changeFeedDescartaEntrada() {
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        cache.aoAlterarExecucao(ExecucaoOSAlteradaEvent.builder()
+                .operacao(ExecucaoOSAlteradaEvent.UPDATE)
+                .execucaoId(execucao.getId())
+                .version(1L)
+                .build());
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    @DisplayName("DELETE pelo change feed impede que o ID volte ao cache")
+    void changeFeedDelete() {
+        cache.aoAlterarExecucao(ExecucaoOSAlteradaEvent.builder()
+                .operacao(ExecucaoOSAlteradaEvent.DELETE)
+                .execucaoId(execucao.getId())
+                .version(0L)
+                .build());
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    @DisplayName("RESYNC esvazia o cache")
+    void resyncEsvazia() {
+        ExecucaoOS outra = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "Maria");
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(outra.getId(), carregar(outra));
+
+        cache.aoAlterarExecucao(ExecucaoOSAlteradaEvent.resync());
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(outra.getId(), carregar(outra));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(4, cargas.get());
+    }
+
+    @Test
+    @DisplayName("remoção impede que o ID volte ao cache")
+    void remocao() {
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        cache.registrarRemocao(execucao.getId());
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(3, cargas.get());
+    }
+
+    @Test
+    @DisplayName("em transação de escrita o cache é ignorado e a escrita só vale após o commit")
+    void transacaoDeEscrita() {
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        iniciarTransacao(false);
+
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        assertEquals(2, cargas.get());
+
+        cache.registrarEscrita(execucao.getId(), 1L);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        assertEquals(2, cargas.get());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        assertEquals(3, cargas.get());
+    }
+
+    @Test
+    @DisplayName("em transação somente-leitura o cache é usado")
+    void transacaoSomenteLeitura() {
+        iniciarTransacao(true);
+
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+        cache.buscarPorId(execucao.getId(), carregar(execucao));
+
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    @DisplayName("execução inexistente não é cacheada")
+    void inexistenteNaoCacheada() {
+        Function<UUID, Optional<ExecucaoOS>> vazio = id -> {
+            cargas.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertTrue(cache.buscarPorId(execucao.getId(), vazio).isEmpty());
+        assertTrue(cache.buscarPorId(execucao.getId(), vazio).isEmpty());
+
+        assertEquals(2, cargas.get());
+    }
+
+    private Function<UUID, Optional<ExecucaoOS>> carregar(ExecucaoOS resultado) {
+        return chave -> {
+            cargas.incrementAndGet();
+            return Optional.of(resultado.toBuilder().build());
+        };
+    }
+
+    private void iniciarTransacao(boolean somenteLeitura) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(somenteLeitura);
+    }
+
+    private double gets(String resultado) {
+        return registry.get("cache.gets")
+                .tag("cache", ExecucaoOSNearCache.CACHE_POR_ID)
+                .tag("result", resultado)
+                .functionCounter()
+                .count();
+    }
+}
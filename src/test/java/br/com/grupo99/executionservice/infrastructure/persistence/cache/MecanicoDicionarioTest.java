@@ -0,0 +1,92 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.cache;
+
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MecanicoDicionario.class)
+@DisplayName("MecanicoDicionario - Dicionário de mecânicos")
+class MecanicoDicionarioTest {
+
+    @Autowired
+    private MecanicoDicionario dicionario;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("idDe registra o nome uma única vez e devolve sempre a mesma chave")
+    void idDeEstavel() {
+        Integer id = dicionario.idDe("Carlos");
+
+        assertNotNull(id);
+        assertEquals(id, dicionario.idDe("Carlos"));
+        assertEquals(1, contar("Carlos"));
+        assertEquals("Carlos", dicionario.nomeDe(id));
+        assertNotEquals(id, dicionario.idDe("Ana"));
+    }
+
+    @Test
+    @DisplayName("buscarId não insere nomes desconhecidos")
+    void buscarIdNaoInsere() {
+        assertTrue(dicionario.buscarId("Desconhecido").isEmpty());
+        assertEquals(0, contar("Desconhecido"));
+
+        Integer id = dicionario.idDe("Desconhecido");
+        assertEquals(id, dicionario.buscarId("Desconhecido").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("nomeDe falha para chave inexistente")
+    void nomeDeChaveInexistente() {
+        assertThrows(IllegalStateException.class, () -> dicionario.nomeDe(-1));
+        assertNull(dicionario.nomeDe(null));
+        assertNull(dicionario.idDe(null));
+    }
+
+    @Test
+    @DisplayName("a entidade grava a chave inteira e o dicionário devolve o nome")
+    void conversaoNaEntidade() {
+        Instant agora = Instant.now();
+        ExecucaoOSEntity execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(StatusExecucao.AGUARDANDO_INICIO)
+                .mecanicoId(dicionario.idDe("Beatriz"))
+                .dataInicio(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .build();
+        entityManager.persist(execucao);
+        entityManager.flush();
+        entityManager.clear();
+
+        Integer mecanicoId = jdbcTemplate.queryForObject(
+                "SELECT mecanico_id FROM execucoes_os WHERE id = ?", Integer.class, execucao.getId());
+        assertEquals(dicionario.buscarId("Beatriz").orElseThrow(), mecanicoId);
+        assertEquals("Beatriz", dicionario.nomeDe(
+                entityManager.find(ExecucaoOSEntity.class, execucao.getId()).getMecanicoId()));
+    }
+
+    private int contar(String nome) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mecanicos WHERE nome = ?", Integer.class, nome);
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.changefeed;
+
+import br.com.grupo99.executionservice.domain.events.ExecucaoOSAlteradaEvent;
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExecucaoOSChangeFeed - LISTEN/NOTIFY")
+class ExecucaoOSChangeFeedTest {
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private Connection conexao;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private Statement statement;
+
+    private SimpleMeterRegistry registry;
+
+    private ExecucaoOSChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (feed != null) {
+            feed.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("cada execução da notificação vira um ExecucaoOSAlteradaEvent")
+    void publicaNotificacaoValida() {
+        feed = criarFeed(() -> conexao);
+        UUID id = UUID.randomUUID();
+        UUID osId = UUID.randomUUID();
+        UUID outra = UUID.randomUUID();
+
+        feed.receber("{\"op\":\"UPDATE\",\"execucoes\":[{\"id\":\"" + id + "\",\"os_id\":\"" + osId
+                + "\",\"version\":3,\"status\":\"EM_ANDAMENTO\"},{\"id\":\"" + outra + "\",\"os_id\":\""
+                + UUID.randomUUID() + "\",\"version\":1,\"status\":\"CONCLUIDA\"}]}");
+
+        ArgumentCaptor<ExecucaoOSAlteradaEvent> evento = ArgumentCaptor.forClass(ExecucaoOSAlteradaEvent.class);
+        verify(publisher, times(2)).publishEvent(evento.capture());
+        assertEquals(ExecucaoOSAlteradaEvent.UPDATE, evento.getAllValues().get(0).getOperacao());
+        assertEquals(id, evento.getAllValues().get(0).getExecucaoId());
+        assertEquals(osId, evento.getAllValues().get(0).getOsId());
+        assertEquals(3L, evento.getAllValues().get(0).getVersion());
+        assertEquals(StatusExecucao.EM_ANDAMENTO, evento.getAllValues().get(0).getStatus());
+        assertEquals(outra, evento.getAllValues().get(1).getExecucaoId());
+        assertEquals(1L, evento.getAllValues().get(1).getVersion());
+        assertEquals(StatusExecucao.CONCLUIDA, evento.getAllValues().get(1).getStatus());
+        assertEquals(1.0, registry.get("execucoes_os.change_feed.notifications").counter().count());
+    }
+
+    @Test
+    @DisplayName("notificação inválida é descartada sem publicar")
+    void descartaNotificacaoInvalida() {
+        feed = criarFeed(() -> conexao);
+
+        feed.receber("não é json");
+        feed.receber("{\"op\":\"UPDATE\",\"execucoes\":[{\"id\":\"x\"}]}");
+
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("escuta o canal e publica as notificações recebidas")
+    void escutaCanal() throws Exception {
+        prepararConexao();
+        UUID id = UUID.randomUUID();
+        PGNotification notificacao = mock(PGNotification.class);
+        when(notificacao.getParameter()).thenReturn(
+                "{\"op\":\"DELETE\",\"execucoes\":[{\"id\":\"" + id + "\",\"os_id\":\"" + UUID.randomUUID()
+                        + "\",\"version\":0,\"status\":\"CANCELADA\"}]}");
+        when(pgConnection.getNotifications(anyInt()))
+                .thenReturn(new PGNotification[]{notificacao})
+                .thenReturn(null);
+        feed = criarFeed(() -> conexao);
+
+        feed.start();
+
+        verify(publisher, timeout(2000)).publishEvent(any(ExecucaoOSAlteradaEvent.class));
+        verify(statement).execute("LISTEN " + ExecucaoOSChangeFeed.CANAL);
+        assertTrue(feed.isRunning());
+    }
+
+    @Test
+    @DisplayName("após reconectar publica RESYNC")
+    void reconexaoPublicaResync() throws Exception {
+        prepararConexao();
+        when(pgConnection.getNotifications(anyInt())).thenReturn(null);
+        AtomicInteger tentativas = new AtomicInteger();
+        feed = criarFeed(() -> {
+            if (tentativas.getAndIncrement() == 0) {
+                throw new SQLException("conexão recusada");
+            }
+            return conexao;
+        });
+
+        feed.start();
+
+        ArgumentCaptor<ExecucaoOSAlteradaEvent> evento = ArgumentCaptor.forClass(ExecucaoOSAlteradaEvent.class);
+        verify(publisher, timeout(2000)).publishEvent(evento.capture());
+        assertTrue(evento.getValue().isResync());
+        await().atMost(Duration.ofSeconds(2)).until(() -> tentativas.get() == 2);
+    }
+
+    @Test
+    @DisplayName("stop encerra a escuta e fecha a conexão")
+    void stopFechaConexao() throws Exception {
+        prepararConexao();
+        when(pgConnection.getNotifications(anyInt())).thenReturn(null);
+        feed = criarFeed(() -> conexao);
+
+        feed.start();
+        verify(pgConnection, timeout(2000).atLeastOnce()).getNotifications(anyInt());
+        feed.stop();
+
+        assertFalse(feed.isRunning());
+        verify(conexao, timeout(2000)).close();
+    }
+
+    @Test
+    @EnabledIf(PostgresDeTeste.DISPONIVEL)
+    @DisplayName("triggers notificam por statement, em blocos de até 40 execuções")
+    void triggersNotificamPorStatement() {
+        DriverManagerDataSource banco = PostgresDeTeste.novoBanco();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(banco);
+        feed = criarFeed(banco::getConnection);
+        feed.start();
+        await().atMost(Duration.ofSeconds(5)).until(() -> jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_stat_activity
+                 WHERE datname = current_database() AND query = 'LISTEN %s'""".formatted(ExecucaoOSChangeFeed.CANAL),
+                Long.class) > 0);
+
+        jdbcTemplate.execute("""
+                INSERT INTO mecanicos (nome) VALUES ('João');
+                INSERT INTO execucoes_os (id, os_id, status, mecanico_id, data_inicio, version,
+                                          created_at, updated_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), 'EM_ANDAMENTO', m.id, now(), 0, now(), now()
+                  FROM mecanicos m, generate_series(1, 150)""");
+        UUID execucaoId = jdbcTemplate.queryForObject("SELECT id FROM execucoes_os LIMIT 1", UUID.class);
+        jdbcTemplate.update("""
+                INSERT INTO diagnosticos (id, execucao_id, descricao, mecanico_id, data_diagnostico, created_at)
+                SELECT gen_random_uuid(), id, 'Diagnóstico ' || n, mecanico_id, now(), now()
+                  FROM execucoes_os, generate_series(1, 3) n
+                 WHERE id = ?""", execucaoId);
+
+        ArgumentCaptor<ExecucaoOSAlteradaEvent> eventos = ArgumentCaptor.forClass(ExecucaoOSAlteradaEvent.class);
+        verify(publisher, timeout(5000).times(151)).publishEvent(eventos.capture());
+        List<ExecucaoOSAlteradaEvent> recebidos = eventos.getAllValues();
+        assertTrue(recebidos.subList(0, 150).stream().allMatch(evento ->
+                ExecucaoOSAlteradaEvent.INSERT.equals(evento.getOperacao()) && evento.getVersion() == 0L
+                        && evento.getOsId() != null && evento.getStatus() == StatusExecucao.EM_ANDAMENTO));
+        assertEquals(ExecucaoOSAlteradaEvent.UPDATE, recebidos.get(150).getOperacao());
+        assertEquals(execucaoId, recebidos.get(150).getExecucaoId());
+        assertEquals(0L, recebidos.get(150).getVersion());
+        assertEquals(StatusExecucao.EM_ANDAMENTO, recebidos.get(150).getStatus());
+        // 150 execuções em quatro blocos e os três diagnósticos em um
+        assertEquals(5.0, registry.get("execucoes_os.change_feed.notifications").counter().count());
+    }
+
+    private void prepararConexao() throws SQLException {
+        when(conexao.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(conexao.createStatement()).thenReturn(statement);
+    }
+
+    private ExecucaoOSChangeFeed criarFeed(ExecucaoOSChangeFeed.FabricaDeConexao fabrica) {
+        return new ExecucaoOSChangeFeed(fabrica, publisher, new ObjectMapper(), registry,
+                Duration.ofMillis(20), Duration.ofMillis(20));
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LimitedConcurrencyDataSource - Limite de conexões concorrentes")
+class LimitedConcurrencyDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection conexao;
+
+    private LimitedConcurrencyDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(pool.getConnection()).thenReturn(conexao);
+        dataSource = new LimitedConcurrencyDataSource("primary", pool, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("além do limite a espera esgota com SQLTransientConnectionException")
+    void esgotaEsperaAlemDoLimite() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.getEmUso());
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("close devolve a permissão uma única vez")
+    void closeDevolvePermissao() throws SQLException {
+        Connection primeira = dataSource.getConnection();
+        dataSource.getConnection();
+
+        primeira.close();
+        primeira.close();
+
+        assertEquals(1, dataSource.getEmUso());
+        assertNotNull(dataSource.getConnection());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(conexao, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("falha do pool devolve a permissão")
+    void falhaDoPoolDevolvePermissao() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool indisponível"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(0, dataSource.getEmUso());
+    }
+
+    @Test
+    @DisplayName("virtual threads aguardam na fila e seguem quando uma conexão é devolvida")
+    void virtualThreadsAguardamNaFila() throws Exception {
+        LimitedConcurrencyDataSource limitado =
+                new LimitedConcurrencyDataSource("primary", pool, 1, Duration.ofSeconds(5));
+        Connection ocupada = limitado.getConnection();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Connection> aguardando = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return limitado.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+
+            await().atMost(Duration.ofSeconds(2)).until(() -> limitado.getAguardando() == 1);
+            ocupada.close();
+
+            assertNotNull(aguardando.get(2, TimeUnit.SECONDS));
+            assertEquals(0, limitado.getAguardando());
+        }
+    }
+
+    @Test
+    @DisplayName("limite não positivo é rejeitado")
+    void limiteInvalido() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LimitedConcurrencyDataSource("primary", pool, 0, Duration.ofSeconds(1)));
+    }
+}
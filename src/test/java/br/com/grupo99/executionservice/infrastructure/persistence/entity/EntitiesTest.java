@@ -7,7 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,7 +30,7 @@ class EntitiesTest {
                 .osId(osId)
                 .orcamentoId(orcId)
                 .status(StatusExecucao.EM_ANDAMENTO)
-                .mecanico("João")
+                .mecanicoId(1)
                 .dataInicio(now)
                 .dataFinalizacao(now)
                 .observacoes("obs")
@@ -43,7 +43,7 @@ class EntitiesTest {
         assertEquals(osId, entity.getOsId());
         assertEquals(orcId, entity.getOrcamentoId());
         assertEquals(StatusExecucao.EM_ANDAMENTO, entity.getStatus());
-        assertEquals("João", entity.getMecanico());
+        assertEquals(1, entity.getMecanicoId());
         assertEquals(now, entity.getDataInicio());
         assertEquals(now, entity.getDataFinalizacao());
         assertEquals("obs", entity.getObservacoes());
@@ -71,11 +71,11 @@ class EntitiesTest {
         ExecucaoOSEntity entity = new ExecucaoOSEntity();
         UUID id = UUID.randomUUID();
         entity.setId(id);
-        entity.setMecanico("Pedro");
+        entity.setMecanicoId(2);
         entity.setStatus(StatusExecucao.CONCLUIDA);
         entity.setObservacoes("Concluído");
         assertEquals(id, entity.getId());
-        assertEquals("Pedro", entity.getMecanico());
+        assertEquals(2, entity.getMecanicoId());
         assertEquals(StatusExecucao.CONCLUIDA, entity.getStatus());
         assertEquals("Concluído", entity.getObservacoes());
     }
@@ -103,7 +103,7 @@ class EntitiesTest {
                 .id(id)
                 .execucaoOSEntity(exec)
                 .descricao("Motor")
-                .mecanico("João")
+                .mecanicoId(1)
                 .dataDiagnostico(now)
                 .observacoes("obs")
                 .createdAt(now)
@@ -112,7 +112,7 @@ class EntitiesTest {
         assertEquals(id, entity.getId());
         assertEquals(exec, entity.getExecucaoOSEntity());
         assertEquals("Motor", entity.getDescricao());
-        assertEquals("João", entity.getMecanico());
+        assertEquals(1, entity.getMecanicoId());
         assertEquals(now, entity.getDataDiagnostico());
         assertEquals("obs", entity.getObservacoes());
         assertEquals(now, entity.getCreatedAt());
@@ -139,7 +139,7 @@ class EntitiesTest {
                 .id(id)
                 .execucaoOSEntity(exec)
                 .descricao("Troca de óleo")
-                .mecanico("Pedro")
+                .mecanicoId(2)
                 .tempoEstimadoMinutos(60)
                 .tempoRealMinutos(55)
                 .status(StatusTarefa.CONCLUIDA)
@@ -151,7 +151,7 @@ class EntitiesTest {
         assertEquals(id, entity.getId());
         assertEquals(exec, entity.getExecucaoOSEntity());
         assertEquals("Troca de óleo", entity.getDescricao());
-        assertEquals("Pedro", entity.getMecanico());
+        assertEquals(2, entity.getMecanicoId());
         assertEquals(60, entity.getTempoEstimadoMinutos());
         assertEquals(55, entity.getTempoRealMinutos());
         assertEquals(StatusTarefa.CONCLUIDA, entity.getStatus());
@@ -170,10 +170,10 @@ class EntitiesTest {
     void tarefaEntitySetters() {
         TarefaEntity entity = new TarefaEntity();
         entity.setDescricao("Alinhamento");
-        entity.setMecanico("Ana");
+        entity.setMecanicoId(3);
         entity.setTempoEstimadoMinutos(30);
         assertEquals("Alinhamento", entity.getDescricao());
-        assertEquals("Ana", entity.getMecanico());
+        assertEquals(3, entity.getMecanicoId());
         assertEquals(30, entity.getTempoEstimadoMinutos());
     }
 
@@ -228,8 +228,8 @@ class EntitiesTest {
         Instant now = Instant.now();
         ExecucaoOSEntity entity = new ExecucaoOSEntity(
                 id, UUID.randomUUID(), UUID.randomUUID(), StatusExecucao.AGUARDANDO_INICIO,
-                "Mec", now, null, null, 0L,
-                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), now, now);
+                1, now, null, null, 0L,
+                new LinkedHashSet<>(), new LinkedHashSet<>(), new LinkedHashSet<>(), now, now);
         assertEquals(id, entity.getId());
     }
 
@@ -239,7 +239,7 @@ class EntitiesTest {
         UUID id = UUID.randomUUID();
         Instant now = Instant.now();
         DiagnosticoEntity entity = new DiagnosticoEntity(
-                id, null, "Desc", "Mec", now, "obs", now);
+                id, null, "Desc", 1, now, "obs", now);
         assertEquals(id, entity.getId());
     }
 
@@ -249,7 +249,7 @@ class EntitiesTest {
         UUID id = UUID.randomUUID();
         Instant now = Instant.now();
         TarefaEntity entity = new TarefaEntity(
-                id, null, "Desc", "Mec", 30, null, StatusTarefa.PENDENTE, now, null, now);
+                id, null, "Desc", 1, 30, null, StatusTarefa.PENDENTE, now, null, now);
         assertEquals(id, entity.getId());
     }
 
@@ -0,0 +1,101 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.listener;
+
+import br.com.grupo99.executionservice.domain.model.ConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.infrastructure.analytics.TopPecasEmMemoria;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ TopPecasEmMemoria.class, TopPecasListener.class, MecanicoDicionario.class })
+@DisplayName("TopPecasListener - Alimentação do top de peças")
+class TopPecasListenerTest {
+
+    @Autowired
+    private TopPecasEmMemoria topPecas;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM uso_pecas");
+        jdbcTemplate.update("DELETE FROM execucoes_os");
+    }
+
+    @Test
+    @DisplayName("registra o uso de peça após o commit e ignora transações desfeitas")
+    void registraSoAposCommit() {
+        UUID filtro = UUID.randomUUID();
+        UUID vela = UUID.randomUUID();
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+
+        transacao.executeWithoutResult(status -> persistir(filtro, 3));
+        transacao.executeWithoutResult(status -> {
+            persistir(vela, 7);
+            status.setRollbackOnly();
+        });
+
+        List<ConsumoPeca> pecas = topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 1, 10).pecas();
+        assertEquals(List.of(new ConsumoPeca(filtro, 3, 0, true)), pecas);
+    }
+
+    private void persistir(UUID pecaId, int quantidade) {
+        Instant agora = Instant.now();
+        ExecucaoOSEntity execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(StatusExecucao.EM_ANDAMENTO)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .build();
+        execucao.getPecas().add(UsoPecaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .pecaId(pecaId)
+                .descricao("Peça")
+                .quantidade(quantidade)
+                .valorUnitario(BigDecimal.ONE)
+                .valorTotal(BigDecimal.valueOf(quantidade))
+                .dataUso(agora)
+                .createdAt(agora)
+                .build());
+        entityManager.persist(execucao);
+    }
+}
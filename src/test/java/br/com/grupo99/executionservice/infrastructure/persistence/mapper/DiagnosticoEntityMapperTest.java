@@ -1,5 +1,6 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.mapper;
 
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
 import br.com.grupo99.executionservice.domain.model.Diagnostico;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.DiagnosticoEntity;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,8 @@ import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @DisplayName("DiagnosticoEntityMapper - Testes Unitários")
 class DiagnosticoEntityMapperTest {
@@ -18,7 +21,12 @@ class DiagnosticoEntityMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new DiagnosticoEntityMapper();
+        MecanicoDicionario mecanicos = mock(MecanicoDicionario.class);
+        when(mecanicos.idDe("João")).thenReturn(1);
+        when(mecanicos.idDe("Pedro")).thenReturn(2);
+        when(mecanicos.nomeDe(1)).thenReturn("João");
+        when(mecanicos.nomeDe(2)).thenReturn("Pedro");
+        mapper = new DiagnosticoEntityMapper(mecanicos);
     }
 
     @Test
@@ -29,7 +37,7 @@ class DiagnosticoEntityMapperTest {
         DiagnosticoEntity entity = DiagnosticoEntity.builder()
                 .id(id)
                 .descricao("Motor falhando")
-                .mecanico("João")
+                .mecanicoId(1)
                 .dataDiagnostico(now)
                 .observacoes("Verificar cilindros")
                 .createdAt(now)
@@ -71,7 +79,7 @@ class DiagnosticoEntityMapperTest {
         assertNotNull(entity);
         assertEquals(id, entity.getId());
         assertEquals("Barulho no freio", entity.getDescricao());
-        assertEquals("Pedro", entity.getMecanico());
+        assertEquals(2, entity.getMecanicoId());
         assertEquals(now, entity.getDataDiagnostico());
         assertEquals("Checar pastilhas", entity.getObservacoes());
         assertEquals(now, entity.getCreatedAt());
@@ -1,5 +1,6 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.mapper;
 
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
 import br.com.grupo99.executionservice.domain.model.*;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,11 +9,13 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @DisplayName("ExecucaoOSEntityMapper - Testes Unitários")
 class ExecucaoOSEntityMapperTest {
@@ -21,10 +24,16 @@ class ExecucaoOSEntityMapperTest {
 
     @BeforeEach
     void setUp() {
-        TarefaEntityMapper tarefaMapper = new TarefaEntityMapper();
-        DiagnosticoEntityMapper diagnosticoMapper = new DiagnosticoEntityMapper();
+        MecanicoDicionario mecanicos = mock(MecanicoDicionario.class);
+        when(mecanicos.idDe("João")).thenReturn(1);
+        when(mecanicos.idDe("Pedro")).thenReturn(2);
+        when(mecanicos.nomeDe(1)).thenReturn("João");
+        when(mecanicos.nomeDe(2)).thenReturn("Pedro");
+        when(mecanicos.nomeDe(3)).thenReturn("Mec");
+        TarefaEntityMapper tarefaMapper = new TarefaEntityMapper(mecanicos);
+        DiagnosticoEntityMapper diagnosticoMapper = new DiagnosticoEntityMapper(mecanicos);
         UsoPecaEntityMapper usoPecaMapper = new UsoPecaEntityMapper();
-        mapper = new ExecucaoOSEntityMapper(tarefaMapper, diagnosticoMapper, usoPecaMapper);
+        mapper = new ExecucaoOSEntityMapper(tarefaMapper, diagnosticoMapper, usoPecaMapper, mecanicos);
     }
 
     @Test
@@ -38,7 +47,7 @@ class ExecucaoOSEntityMapperTest {
         DiagnosticoEntity diagEntity = DiagnosticoEntity.builder()
                 .id(UUID.randomUUID())
                 .descricao("Motor OK")
-                .mecanico("João")
+                .mecanicoId(1)
                 .dataDiagnostico(now)
                 .createdAt(now)
                 .build();
@@ -46,7 +55,7 @@ class ExecucaoOSEntityMapperTest {
         TarefaEntity tarefaEntity = TarefaEntity.builder()
                 .id(UUID.randomUUID())
                 .descricao("Troca de óleo")
-                .mecanico("João")
+                .mecanicoId(1)
                 .tempoEstimadoMinutos(60)
                 .status(StatusTarefa.PENDENTE)
                 .dataInicio(now)
@@ -69,14 +78,14 @@ class ExecucaoOSEntityMapperTest {
                 .osId(osId)
                 .orcamentoId(orcId)
                 .status(StatusExecucao.EM_ANDAMENTO)
-                .mecanico("João")
+                .mecanicoId(1)
                 .dataInicio(now)
                 .dataFinalizacao(null)
                 .observacoes("obs")
                 .version(1L)
-                .diagnosticos(new ArrayList<>(List.of(diagEntity)))
-                .tarefas(new ArrayList<>(List.of(tarefaEntity)))
-                .pecas(new ArrayList<>(List.of(pecaEntity)))
+                .diagnosticos(new LinkedHashSet<>(Set.of(diagEntity)))
+                .tarefas(new LinkedHashSet<>(Set.of(tarefaEntity)))
+                .pecas(new LinkedHashSet<>(Set.of(pecaEntity)))
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
@@ -114,11 +123,11 @@ class ExecucaoOSEntityMapperTest {
                 .osId(UUID.randomUUID())
                 .orcamentoId(UUID.randomUUID())
                 .status(StatusExecucao.AGUARDANDO_INICIO)
-                .mecanico("Mec")
+                .mecanicoId(3)
                 .dataInicio(Instant.now())
-                .diagnosticos(new ArrayList<>())
-                .tarefas(new ArrayList<>())
-                .pecas(new ArrayList<>())
+                .diagnosticos(new LinkedHashSet<>())
+                .tarefas(new LinkedHashSet<>())
+                .pecas(new LinkedHashSet<>())
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
                 .build();
@@ -145,7 +154,7 @@ class ExecucaoOSEntityMapperTest {
         assertEquals(domain.getOsId(), entity.getOsId());
         assertEquals(domain.getOrcamentoId(), entity.getOrcamentoId());
         assertEquals(StatusExecucao.AGUARDANDO_INICIO, entity.getStatus());
-        assertEquals("Pedro", entity.getMecanico());
+        assertEquals(2, entity.getMecanicoId());
         assertEquals(1, entity.getDiagnosticos().size());
         assertEquals(1, entity.getTarefas().size());
         assertEquals(1, entity.getPecas().size());
@@ -168,4 +177,58 @@ class ExecucaoOSEntityMapperTest {
         assertTrue(entity.getTarefas().isEmpty());
         assertTrue(entity.getPecas().isEmpty());
     }
+
+    @Test
+    @DisplayName("toEntity deve preencher a referência dos filhos para a raiz")
+    void toEntityPreencheReferenciaDosFilhos() {
+        ExecucaoOS domain = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "Pedro");
+        domain.adicionarDiagnostico(Diagnostico.criar("Diagnóstico 1", "Pedro", null));
+        domain.adicionarTarefa(Tarefa.criar("Tarefa 1", "Pedro", 30));
+        domain.adicionarUsoPeca(UsoPeca.criar(UUID.randomUUID(), "Peça 1", 1, BigDecimal.TEN));
+
+        ExecucaoOSEntity entity = mapper.toEntity(domain);
+
+        assertSame(entity, entity.getDiagnosticos().iterator().next().getExecucaoOSEntity());
+        assertSame(entity, entity.getTarefas().iterator().next().getExecucaoOSEntity());
+        assertSame(entity, entity.getPecas().iterator().next().getExecucaoOSEntity());
+    }
+
+    @Test
+    @DisplayName("atualizarEntity deve copiar campos da raiz sem trocar as instâncias dos filhos")
+    void atualizarEntityMantemInstancias() {
+        ExecucaoOS domain = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "Pedro");
+        domain.adicionarTarefa(Tarefa.criar("Tarefa 1", "Pedro", 30));
+        ExecucaoOSEntity entity = mapper.toEntity(domain);
+        TarefaEntity tarefaGerenciada = entity.getTarefas().iterator().next();
+
+        domain.iniciar();
+        domain.getTarefas().get(0).iniciar();
+        mapper.atualizarEntity(domain, entity);
+
+        assertEquals(StatusExecucao.EM_ANDAMENTO, entity.getStatus());
+        assertEquals(1, entity.getTarefas().size());
+        assertSame(tarefaGerenciada, entity.getTarefas().iterator().next());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, tarefaGerenciada.getStatus());
+    }
+
+    @Test
+    @DisplayName("atualizarEntity deve adicionar filhos novos e remover os ausentes")
+    void atualizarEntityAdicionaERemoveFilhos() {
+        ExecucaoOS domain = ExecucaoOS.criar(UUID.randomUUID(), UUID.randomUUID(), "Pedro");
+        domain.adicionarDiagnostico(Diagnostico.criar("Antigo", "Pedro", null));
+        ExecucaoOSEntity entity = mapper.toEntity(domain);
+
+        domain.getDiagnosticos().clear();
+        Diagnostico novo = Diagnostico.criar("Novo", "Pedro", null);
+        domain.adicionarDiagnostico(novo);
+        domain.adicionarUsoPeca(UsoPeca.criar(UUID.randomUUID(), "Peça 1", 2, BigDecimal.ONE));
+        mapper.atualizarEntity(domain, entity);
+
+        assertEquals(1, entity.getDiagnosticos().size());
+        DiagnosticoEntity diagnostico = entity.getDiagnosticos().iterator().next();
+        assertEquals(novo.getId(), diagnostico.getId());
+        assertSame(entity, diagnostico.getExecucaoOSEntity());
+        assertEquals(1, entity.getPecas().size());
+        assertSame(entity, entity.getPecas().iterator().next().getExecucaoOSEntity());
+    }
 }
@@ -1,5 +1,6 @@
 package br.com.grupo99.executionservice.infrastructure.persistence.mapper;
 
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
 import br.com.grupo99.executionservice.domain.model.StatusTarefa;
 import br.com.grupo99.executionservice.domain.model.Tarefa;
 import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
@@ -11,6 +12,8 @@ import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @DisplayName("TarefaEntityMapper - Testes Unitários")
 class TarefaEntityMapperTest {
@@ -19,7 +22,12 @@ class TarefaEntityMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new TarefaEntityMapper();
+        MecanicoDicionario mecanicos = mock(MecanicoDicionario.class);
+        when(mecanicos.idDe("João")).thenReturn(1);
+        when(mecanicos.idDe("Pedro")).thenReturn(2);
+        when(mecanicos.nomeDe(1)).thenReturn("João");
+        when(mecanicos.nomeDe(2)).thenReturn("Pedro");
+        mapper = new TarefaEntityMapper(mecanicos);
     }
 
     @Test
@@ -30,7 +38,7 @@ class TarefaEntityMapperTest {
         TarefaEntity entity = TarefaEntity.builder()
                 .id(id)
                 .descricao("Troca de óleo")
-                .mecanico("João")
+                .mecanicoId(1)
                 .tempoEstimadoMinutos(60)
                 .tempoRealMinutos(55)
                 .status(StatusTarefa.CONCLUIDA)
@@ -80,7 +88,7 @@ class TarefaEntityMapperTest {
         assertNotNull(entity);
         assertEquals(id, entity.getId());
         assertEquals("Alinhamento", entity.getDescricao());
-        assertEquals("Pedro", entity.getMecanico());
+        assertEquals(2, entity.getMecanicoId());
         assertEquals(45, entity.getTempoEstimadoMinutos());
         assertNull(entity.getTempoRealMinutos());
         assertEquals(StatusTarefa.PENDENTE, entity.getStatus());
@@ -91,4 +99,29 @@ class TarefaEntityMapperTest {
     void toEntityNull() {
         assertNull(mapper.toEntity(null));
     }
+
+    @Test
+    @DisplayName("atualizarEntity deve copiar campos mutáveis mantendo id e criação")
+    void atualizarEntity() {
+        Instant criacao = Instant.now();
+        UUID id = UUID.randomUUID();
+        TarefaEntity entity = TarefaEntity.builder()
+                .id(id)
+                .descricao("Troca de óleo")
+                .mecanicoId(1)
+                .status(StatusTarefa.EM_ANDAMENTO)
+                .dataInicio(criacao)
+                .createdAt(criacao)
+                .build();
+        Tarefa domain = mapper.toDomain(entity);
+        domain.finalizar(45);
+
+        mapper.atualizarEntity(domain, entity);
+
+        assertEquals(id, entity.getId());
+        assertEquals(criacao, entity.getCreatedAt());
+        assertEquals(StatusTarefa.CONCLUIDA, entity.getStatus());
+        assertEquals(45, entity.getTempoRealMinutos());
+        assertNotNull(entity.getDataFinalizacao());
+    }
 }
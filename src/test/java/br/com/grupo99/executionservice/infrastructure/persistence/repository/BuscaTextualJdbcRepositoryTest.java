@@ -0,0 +1,142 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.ResultadoBusca;
+import br.com.grupo99.executionservice.domain.model.TipoResultadoBusca;
+import br.com.grupo99.executionservice.domain.repository.BuscaCursor;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Busca textual sobre um PostgreSQL real com as migrações aplicadas
+ * (colunas tsvector geradas e configuração busca_pt).
+ *
+ * A conexão envia os parâmetros em texto (binaryTransfer=false): é assim
+ * que o driver manda um float como FLOAT8, o caso que o cursor precisa
+ * comparar na precisão de ts_rank.
+ *
+ * Ignorado sem PostgreSQL (ver {@link PostgresDeTeste}).
+ */
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("BuscaTextualJdbcRepository - Busca textual")
+class BuscaTextualJdbcRepositoryTest {
+
+    private static final UUID SUSPENSAO_DIANTEIRA = UUID.randomUUID();
+    private static final UUID BARULHO_NO_MOTOR = UUID.randomUUID();
+    private static final UUID TROCA_DE_OLEO = UUID.randomUUID();
+    private static final UUID REVISAR_SUSPENSAO = UUID.randomUUID();
+
+    private static JdbcTemplate jdbcTemplate;
+    private static BuscaTextualJdbcRepository repository;
+
+    @BeforeAll
+    static void prepararBanco() {
+        DriverManagerDataSource banco = PostgresDeTeste.novoBanco();
+        DataSource dataSource = new DriverManagerDataSource(
+                banco.getUrl() + (banco.getUrl().contains("?") ? "&" : "?") + "binaryTransfer=false",
+                banco.getUsername(), banco.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        repository = new BuscaTextualJdbcRepository(namedJdbcTemplate,
+                new MecanicoDicionario(namedJdbcTemplate));
+
+        UUID execucaoId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO mecanicos (nome) VALUES ('João')");
+        jdbcTemplate.update("""
+                INSERT INTO execucoes_os (id, os_id, orcamento_id, status, mecanico_id, data_inicio, version,
+                                          created_at, updated_at)
+                VALUES (?, ?, ?, 'EM_ANDAMENTO', 1, now(), 0, now(), now())""",
+                execucaoId, UUID.randomUUID(), UUID.randomUUID());
+        diagnostico(SUSPENSAO_DIANTEIRA, execucaoId, "Barulho na suspensão dianteira ao passar em lombadas", null);
+        diagnostico(BARULHO_NO_MOTOR, execucaoId, "Cliente relata barulho no motor", "Suspensão traseira sem folga");
+        tarefa(TROCA_DE_OLEO, execucaoId, "Troca de óleo e filtro");
+        tarefa(REVISAR_SUSPENSAO, execucaoId, "Revisar suspensão");
+        for (int i = 0; i < 3; i++) {
+            tarefa(UUID.randomUUID(), execucaoId, "Alinhamento e balanceamento");
+        }
+    }
+
+    @Test
+    @DisplayName("exige todos os termos e ordena a descrição acima das observações")
+    void ordenaPorRelevancia() {
+        List<ResultadoBusca> resultados = repository.buscar("barulho suspensão", null, 10);
+
+        assertEquals(List.of(SUSPENSAO_DIANTEIRA, BARULHO_NO_MOTOR), ids(resultados));
+        assertTrue(resultados.get(0).relevancia() > resultados.get(1).relevancia());
+        assertEquals(TipoResultadoBusca.DIAGNOSTICO, resultados.get(0).tipo());
+        assertEquals("João", resultados.get(0).mecanico());
+    }
+
+    @Test
+    @DisplayName("ignora acentos, flexões e stopwords")
+    void normalizaTermos() {
+        assertEquals(List.of(TROCA_DE_OLEO), ids(repository.buscar("trocas de oleo", null, 10)));
+        assertEquals(3, repository.buscar("SUSPENSAO", null, 10).size());
+        assertEquals(List.of(BARULHO_NO_MOTOR), ids(repository.buscar("barulho -lombadas", null, 10)));
+    }
+
+    @Test
+    @DisplayName("pagina por cursor sem repetir nem pular resultados")
+    void paginaPorCursor() {
+        assertEquals(ids(repository.buscar("suspensão", null, 10)), paginar("suspensão"));
+    }
+
+    @Test
+    @DisplayName("desempata pelo id resultados de mesma relevância ao paginar")
+    void paginaEmpatesPorId() {
+        List<ResultadoBusca> empatados = repository.buscar("alinhamento", null, 10);
+
+        assertEquals(3, empatados.size());
+        assertEquals(1, empatados.stream().map(ResultadoBusca::relevancia).distinct().count());
+        assertEquals(ids(empatados), paginar("alinhamento"));
+    }
+
+    /**
+     * Percorre a busca uma linha por página, passando o cursor pelo token
+     * como o cliente faz.
+     */
+    private static List<UUID> paginar(String termos) {
+        List<UUID> paginados = new ArrayList<>();
+        BuscaCursor cursor = null;
+        for (int pagina = 0; pagina < 10; pagina++) {
+            List<ResultadoBusca> resultados = repository.buscar(termos, cursor, 1);
+            if (resultados.isEmpty()) {
+                break;
+            }
+            paginados.addAll(ids(resultados));
+            ResultadoBusca ultimo = resultados.get(0);
+            cursor = BuscaCursor.decode(new BuscaCursor(ultimo.relevancia(), ultimo.id()).encode());
+        }
+        return paginados;
+    }
+
+    private static List<UUID> ids(List<ResultadoBusca> resultados) {
+        return resultados.stream().map(ResultadoBusca::id).toList();
+    }
+
+    private static void diagnostico(UUID id, UUID execucaoId, String descricao, String observacoes) {
+        jdbcTemplate.update("""
+                INSERT INTO diagnosticos (id, execucao_id, descricao, mecanico_id, data_diagnostico, observacoes,
+                                          created_at)
+                VALUES (?, ?, ?, 1, now(), ?, now())""", id, execucaoId, descricao, observacoes);
+    }
+
+    private static void tarefa(UUID id, UUID execucaoId, String descricao) {
+        jdbcTemplate.update("""
+                INSERT INTO tarefas (id, execucao_id, descricao, mecanico_id, status, data_inicio, created_at)
+                VALUES (?, ?, ?, 1, 'PENDENTE', now(), now())""", id, execucaoId, descricao);
+    }
+}
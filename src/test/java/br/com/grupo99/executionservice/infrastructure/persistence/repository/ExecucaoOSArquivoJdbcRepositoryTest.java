@@ -0,0 +1,228 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.DiagnosticoEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ ExecucaoOSArquivoJdbcRepository.class, ExecucaoOSJdbcRepository.class, MecanicoDicionario.class })
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("ExecucaoOSArquivoJdbcRepository - Arquivamento de execuções finalizadas")
+class ExecucaoOSArquivoJdbcRepositoryTest {
+
+    private static final Instant HA_UM_ANO = Instant.now().minus(Duration.ofDays(365));
+
+    private static DriverManagerDataSource banco;
+
+    @Autowired
+    private ExecucaoOSArquivoJdbcRepository repository;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private ExecucaoOSJdbcRepository execucoes;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        PostgresDeTeste.registrar(registry, banco());
+    }
+
+    @Test
+    @DisplayName("move a execução finalizada antiga com todos os filhos")
+    void arquivaAgregadoCompleto() {
+        ExecucaoOSEntity antiga = persistir(StatusExecucao.CONCLUIDA, HA_UM_ANO);
+
+        int arquivadas = repository.arquivarFinalizadas(Instant.now().minus(Duration.ofDays(30)), 100);
+
+        assertEquals(1, arquivadas);
+        assertEquals(0, contar("execucoes_os", "id", antiga.getId()));
+        assertEquals(0, contar("tarefas", "execucao_id", antiga.getId()));
+        assertEquals(1, contar("execucoes_os_arquivo", "id", antiga.getId()));
+        assertEquals(1, contar("diagnosticos_arquivo", "execucao_id", antiga.getId()));
+        assertEquals(1, contar("tarefas_arquivo", "execucao_id", antiga.getId()));
+        assertEquals(1, contar("uso_pecas_arquivo", "execucao_id", antiga.getId()));
+        assertEquals(StatusExecucao.CONCLUIDA.name(), jdbcTemplate.queryForObject(
+                "SELECT status FROM execucoes_os_arquivo WHERE id = ?", String.class, antiga.getId()));
+    }
+
+    @Test
+    @DisplayName("mantém execuções ativas e finalizadas recentes")
+    void mantemAtivasERecentes() {
+        ExecucaoOSEntity ativa = persistir(StatusExecucao.EM_ANDAMENTO, HA_UM_ANO);
+        ExecucaoOSEntity recente = persistir(StatusExecucao.CANCELADA, Instant.now());
+
+        repository.arquivarFinalizadas(Instant.now().minus(Duration.ofDays(30)), 100);
+
+        assertEquals(1, contar("execucoes_os", "id", ativa.getId()));
+        assertEquals(1, contar("execucoes_os", "id", recente.getId()));
+        assertEquals(0, contar("execucoes_os_arquivo", "id", ativa.getId()));
+    }
+
+    @Test
+    @DisplayName("respeita o tamanho do lote")
+    void respeitaLimite() {
+        persistir(StatusExecucao.CONCLUIDA, HA_UM_ANO);
+        persistir(StatusExecucao.CONCLUIDA, HA_UM_ANO);
+        persistir(StatusExecucao.CANCELADA, HA_UM_ANO);
+        Instant antesDe = Instant.now().minus(Duration.ofDays(30));
+
+        assertEquals(2, repository.arquivarFinalizadas(antesDe, 2));
+        assertEquals(1, repository.arquivarFinalizadas(antesDe, 2));
+        assertEquals(0, repository.arquivarFinalizadas(antesDe, 2));
+    }
+
+    @Test
+    @DisplayName("lê a execução arquivada por ID e por OS, com os filhos")
+    void leArquivada() {
+        ExecucaoOSEntity antiga = persistir(StatusExecucao.CONCLUIDA, HA_UM_ANO);
+        repository.arquivarFinalizadas(Instant.now().minus(Duration.ofDays(30)), 100);
+
+        ExecucaoOS arquivada = repository.findById(antiga.getId()).orElseThrow();
+
+        assertEquals(antiga.getOsId(), arquivada.getOsId());
+        assertEquals(StatusExecucao.CONCLUIDA, arquivada.getStatus());
+        assertEquals("João", arquivada.getMecanico());
+        assertEquals(1, arquivada.getDiagnosticos().size());
+        assertEquals(StatusTarefa.CONCLUIDA, arquivada.getTarefas().get(0).getStatus());
+        assertEquals(0, BigDecimal.TEN.compareTo(arquivada.getPecas().get(0).getValorTotal()));
+        assertEquals(antiga.getId(), repository.findByOsId(antiga.getOsId()).orElseThrow().getId());
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("OS_CRIADA reprocessado não recria a execução arquivada")
+    void replayNaoRecriaArquivada() {
+        ExecucaoOSEntity antiga = persistir(StatusExecucao.CONCLUIDA, HA_UM_ANO);
+        repository.arquivarFinalizadas(Instant.now().minus(Duration.ofDays(30)), 100);
+
+        assertEquals(Set.of(antiga.getOsId()), execucoes.findExistingOsIds(List.of(antiga.getOsId())));
+        assertFalse(execucoes.inserirSeAusente(ExecucaoOS.criarAguardandoOrcamento(antiga.getOsId(), "João")));
+        assertEquals(0, execucoes.inserirNovas(List.of(
+                ExecucaoOS.criarAguardandoOrcamento(antiga.getOsId(), "João"))));
+        assertEquals(0, contar("execucoes_os", "os_id", antiga.getOsId()));
+    }
+
+    @Test
+    @DisplayName("excluir uma execução ativa libera a OS")
+    void exclusaoLiberaOs() {
+        ExecucaoOSEntity ativa = persistir(StatusExecucao.EM_ANDAMENTO, Instant.now());
+        jdbcTemplate.update("DELETE FROM execucoes_os WHERE id = ?", ativa.getId());
+
+        assertTrue(execucoes.findExistingOsIds(List.of(ativa.getOsId())).isEmpty());
+        assertTrue(execucoes.inserirSeAusente(ExecucaoOS.criarAguardandoOrcamento(ativa.getOsId(), "João")));
+    }
+
+    @Test
+    @DisplayName("cria e remove as partições de arquivo do mês")
+    void gerenciaParticoes() {
+        YearMonth antigo = YearMonth.now().minusYears(2);
+        String sufixo = "_%d_%02d".formatted(antigo.getYear(), antigo.getMonthValue());
+
+        repository.garantirParticoes(antigo);
+        repository.garantirParticoes(antigo);
+
+        assertEquals(1, contarTabelas("execucoes_os_arquivo" + sufixo));
+        assertEquals(1, contarTabelas("uso_pecas_arquivo" + sufixo));
+        assertEquals(4, repository.removerParticoesAnterioresA(antigo.plusMonths(1)));
+        assertEquals(0, contarTabelas("execucoes_os_arquivo" + sufixo));
+    }
+
+    private long contarTabelas(String nome) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_class WHERE relname = ?", Long.class, nome);
+    }
+
+    private long contar(String tabela, String coluna, UUID id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + tabela + " WHERE " + coluna + " = ?", Long.class, id);
+    }
+
+    private ExecucaoOSEntity persistir(StatusExecucao status, Instant momento) {
+        ExecucaoOSEntity execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(status)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(momento)
+                .createdAt(momento)
+                .updatedAt(momento)
+                .build();
+        execucao.getDiagnosticos().add(DiagnosticoEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Ruído no motor")
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataDiagnostico(momento)
+                .createdAt(momento)
+                .build());
+        execucao.getTarefas().add(TarefaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Troca de óleo")
+                .mecanicoId(mecanicos.idDe("João"))
+                .status(StatusTarefa.CONCLUIDA)
+                .dataInicio(momento)
+                .createdAt(momento)
+                .build());
+        execucao.getPecas().add(UsoPecaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .pecaId(UUID.randomUUID())
+                .descricao("Filtro")
+                .quantidade(1)
+                .valorUnitario(BigDecimal.TEN)
+                .valorTotal(BigDecimal.TEN)
+                .dataUso(momento)
+                .createdAt(momento)
+                .build());
+        entityManager.persist(execucao);
+        entityManager.flush();
+        entityManager.clear();
+        return execucao;
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+}
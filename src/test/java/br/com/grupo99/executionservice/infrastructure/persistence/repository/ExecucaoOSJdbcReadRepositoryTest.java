@@ -0,0 +1,187 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.DiagnosticoEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.DiagnosticoEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.ExecucaoOSEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.TarefaEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.UsoPecaEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSJdbcReadRepository.Consulta;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "execution.persistence.jdbc-reads.find-by-id=true",
+        "execution.persistence.jdbc-reads.exists-by-os-id=true"
+})
+@Import({
+        ExecucaoOSJdbcReadRepository.class,
+        MecanicoDicionario.class,
+        ExecucaoOSEntityMapper.class,
+        DiagnosticoEntityMapper.class,
+        TarefaEntityMapper.class,
+        UsoPecaEntityMapper.class
+})
+@DisplayName("ExecucaoOSJdbcReadRepository - Leituras sem Hibernate")
+class ExecucaoOSJdbcReadRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-10T08:00:00Z");
+
+    @Autowired
+    private ExecucaoOSJdbcReadRepository repository;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private PostgresExecucaoOSRepository postgresRepository;
+
+    @Autowired
+    private ExecucaoOSEntityMapper mapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("findById monta o mesmo agregado que o caminho JPA, na ordem das coleções")
+    void findByIdEquivaleAoJpa() {
+        ExecucaoOSEntity execucao = persistir();
+
+        ExecucaoOS jdbc = repository.findById(execucao.getId()).orElseThrow();
+        ExecucaoOS jpa = mapper.toDomain(postgresRepository.findById(execucao.getId()).orElseThrow());
+
+        assertEquals(jpa, jdbc);
+        assertEquals(List.of("Troca de óleo", "Alinhamento"),
+                jdbc.getTarefas().stream().map(Tarefa::getDescricao).toList());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, jdbc.getTarefas().get(1).getStatus());
+        assertEquals(1, jdbc.getDiagnosticos().size());
+        assertEquals(new BigDecimal("21.00"), jdbc.getPecas().get(0).getValorTotal());
+        assertEquals(2, jdbc.getPecas().get(0).getQuantidade());
+    }
+
+    @Test
+    @DisplayName("findByOsId encontra pela OS; execução sem filhos vem com coleções vazias")
+    void findByOsId() {
+        ExecucaoOSEntity execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(StatusExecucao.AGUARDANDO_INICIO)
+                .mecanicoId(mecanicos.idDe("Maria"))
+                .dataInicio(BASE)
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+        entityManager.persist(execucao);
+        entityManager.flush();
+        entityManager.clear();
+
+        ExecucaoOS encontrada = repository.findByOsId(execucao.getOsId()).orElseThrow();
+
+        assertEquals(execucao.getId(), encontrada.getId());
+        assertEquals(StatusExecucao.AGUARDANDO_INICIO, encontrada.getStatus());
+        assertTrue(encontrada.getTarefas().isEmpty());
+        assertTrue(encontrada.getDiagnosticos().isEmpty());
+        assertTrue(encontrada.getPecas().isEmpty());
+        assertTrue(repository.findByOsId(UUID.randomUUID()).isEmpty());
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("existsByOsId")
+    void existsByOsId() {
+        ExecucaoOSEntity execucao = persistir();
+
+        assertTrue(repository.existsByOsId(execucao.getOsId()));
+        assertFalse(repository.existsByOsId(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("cada consulta é habilitada individualmente")
+    void consultasHabilitadas() {
+        assertTrue(repository.habilitada(Consulta.FIND_BY_ID));
+        assertFalse(repository.habilitada(Consulta.FIND_BY_OS_ID));
+        assertTrue(repository.habilitada(Consulta.EXISTS_BY_OS_ID));
+    }
+
+    private ExecucaoOSEntity persistir() {
+        ExecucaoOSEntity execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(StatusExecucao.EM_ANDAMENTO)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(BASE)
+                .observacoes("Cliente aguarda")
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+        execucao.getTarefas().add(TarefaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Alinhamento")
+                .mecanicoId(mecanicos.idDe("João"))
+                .tempoEstimadoMinutos(30)
+                .tempoRealMinutos(25)
+                .status(StatusTarefa.EM_ANDAMENTO)
+                .dataInicio(BASE)
+                .createdAt(BASE.plus(2, ChronoUnit.MINUTES))
+                .build());
+        execucao.getTarefas().add(TarefaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Troca de óleo")
+                .mecanicoId(mecanicos.idDe("João"))
+                .tempoEstimadoMinutos(40)
+                .status(StatusTarefa.PENDENTE)
+                .dataInicio(BASE)
+                .createdAt(BASE.plus(1, ChronoUnit.MINUTES))
+                .build());
+        execucao.getDiagnosticos().add(DiagnosticoEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Ruído no motor")
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataDiagnostico(BASE)
+                .createdAt(BASE)
+                .build());
+        execucao.getPecas().add(UsoPecaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .pecaId(UUID.randomUUID())
+                .descricao("Filtro")
+                .quantidade(2)
+                .valorUnitario(new BigDecimal("10.50"))
+                .valorTotal(new BigDecimal("21.00"))
+                .dataUso(BASE)
+                .createdAt(BASE)
+                .build());
+        entityManager.persist(execucao);
+        entityManager.flush();
+        entityManager.clear();
+        return execucao;
+    }
+}
@@ -0,0 +1,276 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOS;
+import br.com.grupo99.executionservice.domain.model.ExecucaoOSResumo;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.TransicaoStatus;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ ExecucaoOSJdbcRepository.class, MecanicoDicionario.class })
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("ExecucaoOSJdbcRepository - Escritas condicionais e operações em lote")
+class ExecucaoOSJdbcRepositoryTest {
+
+    private static DriverManagerDataSource banco;
+
+    @Autowired
+    private ExecucaoOSJdbcRepository repository;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        PostgresDeTeste.registrar(registry, banco());
+    }
+
+    @Test
+    @DisplayName("transicionarStatus aplica a transição e devolve o resumo com a nova versão")
+    void transicionaEDevolveResumo() {
+        ExecucaoOSEntity execucao = persistir(StatusExecucao.AGUARDANDO_INICIO);
+
+        ExecucaoOSResumo resumo = repository
+                .transicionarStatus(execucao.getId(), TransicaoStatus.iniciar(), null)
+                .orElseThrow();
+
+        assertEquals(execucao.getId(), resumo.id());
+        assertEquals(StatusExecucao.EM_ANDAMENTO, resumo.status());
+        assertEquals(1L, resumo.version());
+        assertEquals(1, resumo.totalTarefas());
+        assertEquals(0, resumo.totalDiagnosticos());
+        assertNull(resumo.dataFinalizacao());
+    }
+
+    @Test
+    @DisplayName("finalizar grava data de finalização e observações")
+    void finalizarGravaDataEObservacoes() {
+        ExecucaoOSEntity execucao = persistir(StatusExecucao.EM_ANDAMENTO);
+
+        ExecucaoOSResumo resumo = repository
+                .transicionarStatus(execucao.getId(), TransicaoStatus.finalizar("ok"), 0L)
+                .orElseThrow();
+
+        assertEquals(StatusExecucao.CONCLUIDA, resumo.status());
+        assertEquals("ok", resumo.observacoes());
+        assertNotNull(resumo.dataFinalizacao());
+    }
+
+    @Test
+    @DisplayName("cancelar aceita motivo nulo")
+    void cancelarComMotivoNulo() {
+        ExecucaoOSEntity execucao = persistir(StatusExecucao.AGUARDANDO_INICIO);
+
+        ExecucaoOSResumo resumo = repository
+                .transicionarStatus(execucao.getId(), TransicaoStatus.cancelar(null), null)
+                .orElseThrow();
+
+        assertEquals(StatusExecucao.CANCELADA, resumo.status());
+        assertNull(resumo.observacoes());
+    }
+
+    @Test
+    @DisplayName("não altera nada quando o status atual não é origem válida")
+    void naoTransicionaDeOrigemInvalida() {
+        ExecucaoOSEntity execucao = persistir(StatusExecucao.CONCLUIDA);
+
+        Optional<ExecucaoOSResumo> resumo = repository
+                .transicionarStatus(execucao.getId(), TransicaoStatus.iniciar(), null);
+
+        assertTrue(resumo.isEmpty());
+        assertEquals(StatusExecucao.CONCLUIDA, repository.findEstadoAtual(execucao.getId()).orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("não altera nada quando a versão esperada está desatualizada")
+    void naoTransicionaComVersaoDesatualizada() {
+        ExecucaoOSEntity execucao = persistir(StatusExecucao.AGUARDANDO_INICIO);
+
+        Optional<ExecucaoOSResumo> resumo = repository
+                .transicionarStatus(execucao.getId(), TransicaoStatus.iniciar(), 7L);
+
+        assertTrue(resumo.isEmpty());
+        ExecucaoOSJdbcRepository.EstadoAtual atual = repository.findEstadoAtual(execucao.getId()).orElseThrow();
+        assertEquals(StatusExecucao.AGUARDANDO_INICIO, atual.status());
+        assertEquals(0L, atual.version());
+    }
+
+    @Test
+    @DisplayName("findEstadoAtual retorna vazio para execução inexistente")
+    void estadoAtualInexistente() {
+        assertTrue(repository.findEstadoAtual(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findExistingOsIds devolve apenas as OS que já têm execução")
+    void findExistingOsIds() {
+        ExecucaoOSEntity existente = persistir(StatusExecucao.AGUARDANDO_INICIO);
+        UUID inexistente = UUID.randomUUID();
+
+        Set<UUID> encontrados = repository.findExistingOsIds(List.of(existente.getOsId(), inexistente));
+
+        assertEquals(Set.of(existente.getOsId()), encontrados);
+        assertTrue(repository.findExistingOsIds(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("inserirNovas grava as raízes em batch")
+    void inserirNovas() {
+        ExecucaoOS primeira = ExecucaoOS.criar(UUID.randomUUID(), "A definir");
+        ExecucaoOS segunda = ExecucaoOS.criar(UUID.randomUUID(), "A definir");
+
+        int inseridas = repository.inserirNovas(List.of(primeira, segunda));
+
+        assertEquals(2, inseridas);
+        assertEquals(Set.of(primeira.getOsId(), segunda.getOsId()),
+                repository.findExistingOsIds(List.of(primeira.getOsId(), segunda.getOsId())));
+        ExecucaoOSEntity gravada = entityManager.find(ExecucaoOSEntity.class, primeira.getId());
+        assertEquals(StatusExecucao.AGUARDANDO_INICIO, gravada.getStatus());
+        assertEquals(primeira.getOrcamentoId(), gravada.getOrcamentoId());
+        assertEquals(0L, gravada.getVersion());
+        assertTrue(gravada.getTarefas().isEmpty());
+    }
+
+    @Test
+    @DisplayName("inserirNovas ignora OS que já têm execução e conta só as inseridas")
+    void inserirNovasIgnoraExistentes() {
+        ExecucaoOSEntity existente = persistir(StatusExecucao.EM_ANDAMENTO);
+        ExecucaoOS nova = ExecucaoOS.criar(UUID.randomUUID(), "A definir");
+
+        int inseridas = repository.inserirNovas(List.of(
+                ExecucaoOS.criar(existente.getOsId(), "A definir"), nova));
+
+        assertEquals(1, inseridas);
+        assertEquals(StatusExecucao.EM_ANDAMENTO,
+                repository.findEstadoAtual(existente.getId()).orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("inserirNovas conta pelo banco quando o driver não informa as linhas do batch")
+    void inserirNovasSemContagemDoDriver() {
+        // Com reWriteBatchedInserts o driver agrupa os INSERTs e devolve SUCCESS_NO_INFO
+        String url = banco().getUrl();
+        DriverManagerDataSource reescrito = new DriverManagerDataSource(
+                url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                banco().getUsername(), banco().getPassword());
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(reescrito);
+        ExecucaoOSJdbcRepository semContagem =
+                new ExecucaoOSJdbcRepository(jdbcTemplate, new MecanicoDicionario(jdbcTemplate));
+        UUID osExistente = UUID.randomUUID();
+        semContagem.inserirNovas(List.of(ExecucaoOS.criar(osExistente, "A definir")));
+
+        int inseridas = semContagem.inserirNovas(List.of(
+                ExecucaoOS.criar(osExistente, "A definir"),
+                ExecucaoOS.criar(UUID.randomUUID(), "A definir"),
+                ExecucaoOS.criar(UUID.randomUUID(), "A definir")));
+
+        assertEquals(2, inseridas);
+    }
+
+    @Test
+    @DisplayName("inserirSeAusente cria na primeira vez e reporta duplicada na segunda")
+    void inserirSeAusente() {
+        UUID osId = UUID.randomUUID();
+        ExecucaoOS primeira = ExecucaoOS.criar(osId, "A definir");
+        ExecucaoOS segunda = ExecucaoOS.criar(osId, "A definir");
+
+        assertTrue(repository.inserirSeAusente(primeira));
+        assertFalse(repository.inserirSeAusente(segunda));
+
+        assertTrue(repository.findEstadoAtual(primeira.getId()).isPresent());
+        assertTrue(repository.findEstadoAtual(segunda.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("inserirSeAusente só ignora o conflito de os_id; ID repetido em outra OS é erro")
+    void inserirSeAusenteComIdRepetido() {
+        ExecucaoOS primeira = ExecucaoOS.criar(UUID.randomUUID(), "A definir");
+        ExecucaoOS mesmoId = ExecucaoOS.criar(UUID.randomUUID(), "A definir").toBuilder()
+                .id(primeira.getId())
+                .build();
+
+        assertTrue(repository.inserirSeAusente(primeira));
+        assertThrows(DuplicateKeyException.class, () -> repository.inserirSeAusente(mesmoId));
+    }
+
+    @Test
+    @DisplayName("inserirSeAusente grava execução ainda sem orçamento")
+    void inserirSemOrcamento() {
+        ExecucaoOS execucao = ExecucaoOS.criarAguardandoOrcamento(UUID.randomUUID(), "A definir");
+
+        assertTrue(repository.inserirSeAusente(execucao));
+
+        assertNull(entityManager.find(ExecucaoOSEntity.class, execucao.getId()).getOrcamentoId());
+    }
+
+    @Test
+    @DisplayName("inserirNovas com lista vazia não acessa o banco")
+    void inserirNovasVazio() {
+        assertEquals(0, repository.inserirNovas(List.of()));
+    }
+
+    private ExecucaoOSEntity persistir(StatusExecucao status) {
+        Instant agora = Instant.now();
+        ExecucaoOSEntity execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(status)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .build();
+        execucao.getTarefas().add(TarefaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Troca de óleo")
+                .mecanicoId(mecanicos.idDe("João"))
+                .status(StatusTarefa.PENDENTE)
+                .dataInicio(agora)
+                .createdAt(agora)
+                .build());
+        entityManager.persist(execucao);
+        entityManager.flush();
+        entityManager.clear();
+        return execucao;
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+}
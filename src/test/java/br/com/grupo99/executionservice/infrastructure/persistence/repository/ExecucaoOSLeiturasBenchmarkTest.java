@@ -0,0 +1,228 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.DiagnosticoEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.DiagnosticoEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.ExecucaoOSEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.TarefaEntityMapper;
+import br.com.grupo99.executionservice.infrastructure.persistence.mapper.UsoPecaEntityMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara, por consulta, o caminho JPA (Spring Data + entity graph +
+ * conversão entidade → domínio) com o {@link ExecucaoOSJdbcReadRepository}.
+ *
+ * Para cada lookup mede a latência (p50/p99) e os bytes alocados pela
+ * thread (com.sun.management.ThreadMXBean). Cada lookup roda na sua própria
+ * transação readOnly, como no serviço: o caminho JPA abre um contexto de
+ * persistência novo a cada leitura. Roda sobre o H2 dos testes; os números
+ * absolutos servem só para comparar os dois caminhos entre si.
+ *
+ * Opt-in: mvn test -Dtest=ExecucaoOSLeiturasBenchmarkTest -Dbenchmark=true
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        ExecucaoOSJdbcReadRepository.class,
+        MecanicoDicionario.class,
+        ExecucaoOSEntityMapper.class,
+        DiagnosticoEntityMapper.class,
+        TarefaEntityMapper.class,
+        UsoPecaEntityMapper.class
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Benchmark - Lookups quentes: JPA x JDBC")
+class ExecucaoOSLeiturasBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecucaoOSLeiturasBenchmarkTest.class);
+
+    private static final int EXECUCOES = 1_000;
+    private static final int AQUECIMENTO = 5_000;
+    private static final int MEDICOES = Integer.getInteger("benchmark.lookups", 20_000);
+
+    @Autowired
+    private ExecucaoOSJdbcReadRepository jdbc;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private PostgresExecucaoOSRepository jpa;
+
+    @Autowired
+    private ExecucaoOSEntityMapper mapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> ids = new ArrayList<>();
+    private final List<UUID> osIds = new ArrayList<>();
+
+    @BeforeEach
+    void popular() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Instant agora = Instant.now();
+            for (int i = 0; i < EXECUCOES; i++) {
+                ExecucaoOSEntity execucao = execucao(agora);
+                entityManager.persist(execucao);
+                ids.add(execucao.getId());
+                osIds.add(execucao.getOsId());
+            }
+        });
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM uso_pecas");
+        jdbcTemplate.update("DELETE FROM tarefas");
+        jdbcTemplate.update("DELETE FROM diagnosticos");
+        jdbcTemplate.update("DELETE FROM execucoes_os");
+    }
+
+    @Test
+    @DisplayName("findById, findByOsId e existsByOsId nos dois caminhos")
+    void compararCaminhos() {
+        List<Resultado> resultados = List.of(
+                medir("findById", "JPA", ids, id -> jpa.findById(id).map(mapper::toDomain).isPresent()),
+                medir("findById", "JDBC", ids, id -> jdbc.findById(id).isPresent()),
+                medir("findByOsId", "JPA", osIds, osId -> jpa.findByOsId(osId).map(mapper::toDomain).isPresent()),
+                medir("findByOsId", "JDBC", osIds, osId -> jdbc.findByOsId(osId).isPresent()),
+                medir("existsByOsId", "JPA", osIds, jpa::existsByOsId),
+                medir("existsByOsId", "JDBC", osIds, jdbc::existsByOsId));
+
+        StringBuilder relatorio = new StringBuilder();
+        resultados.forEach(resultado -> relatorio.append('\n').append(resultado));
+        logger.info("\nLookups quentes ({} medições por caminho, {} execuções){}", MEDICOES, EXECUCOES, relatorio);
+        resultados.forEach(resultado -> assertEquals(0, resultado.ausentes()));
+    }
+
+    private Resultado medir(String consulta, String caminho, List<UUID> chaves, Predicate<UUID> lookup) {
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        Predicate<UUID> transacional = chave -> Boolean.TRUE.equals(leitura.execute(status -> lookup.test(chave)));
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            transacional.test(aleatoria(chaves));
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] latencias = new long[MEDICOES];
+        long ausentes = 0;
+        long alocadoAntes = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEDICOES; i++) {
+            UUID chave = aleatoria(chaves);
+            long inicio = System.nanoTime();
+            if (!transacional.test(chave)) {
+                ausentes++;
+            }
+            latencias[i] = System.nanoTime() - inicio;
+        }
+        long alocado = threads.getCurrentThreadAllocatedBytes() - alocadoAntes;
+        Arrays.sort(latencias);
+        return new Resultado(consulta, caminho, ausentes,
+                Duration.ofNanos(latencias[MEDICOES / 2]),
+                Duration.ofNanos(latencias[(int) (MEDICOES * 0.99)]),
+                alocado / MEDICOES);
+    }
+
+    private static UUID aleatoria(List<UUID> chaves) {
+        return chaves.get(ThreadLocalRandom.current().nextInt(chaves.size()));
+    }
+
+    private ExecucaoOSEntity execucao(Instant agora) {
+        ExecucaoOSEntity execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(StatusExecucao.EM_ANDAMENTO)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .build();
+        for (int t = 0; t < 3; t++) {
+            execucao.getTarefas().add(TarefaEntity.builder()
+                    .id(UUID.randomUUID())
+                    .execucaoOSEntity(execucao)
+                    .descricao("Tarefa " + t)
+                    .mecanicoId(mecanicos.idDe("João"))
+                    .tempoEstimadoMinutos(30)
+                    .status(StatusTarefa.PENDENTE)
+                    .dataInicio(agora)
+                    .createdAt(agora)
+                    .build());
+        }
+        execucao.getDiagnosticos().add(DiagnosticoEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Ruído no motor")
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataDiagnostico(agora)
+                .createdAt(agora)
+                .build());
+        for (int p = 0; p < 2; p++) {
+            execucao.getPecas().add(UsoPecaEntity.builder()
+                    .id(UUID.randomUUID())
+                    .execucaoOSEntity(execucao)
+                    .pecaId(UUID.randomUUID())
+                    .descricao("Peça " + p)
+                    .quantidade(1)
+                    .valorUnitario(new BigDecimal("10.00"))
+                    .valorTotal(new BigDecimal("10.00"))
+                    .dataUso(agora)
+                    .createdAt(agora)
+                    .build());
+        }
+        return execucao;
+    }
+
+    private record Resultado(String consulta, String caminho, long ausentes,
+            Duration p50, Duration p99, long bytesPorLookup) {
+
+        @Override
+        public String toString() {
+            return "%-13s %-5s p50 %6d us  p99 %6d us  %8d bytes/lookup".formatted(
+                    consulta, caminho, p50.toNanos() / 1_000, p99.toNanos() / 1_000, bytesPorLookup);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.GeradorDeIdentificador;
+import br.com.grupo99.executionservice.domain.model.UuidV7;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara a inserção de execuções (com 3 tarefas cada) usando chaves UUID v4
+ * aleatórias e UUIDv7 ordenadas no tempo, em um PostgreSQL real com as
+ * migrações aplicadas.
+ *
+ * N threads inserem em lotes, cada lote em uma transação. Para cada
+ * gerador reporta a vazão, o tamanho dos índices de chave primária e do
+ * índice de FK tarefas.execucao_id e o volume de WAL gerado. As tabelas são
+ * truncadas entre as rodadas; o único critério de falha é a contagem de
+ * linhas, a comparação em si é lida no log.
+ *
+ * Opt-in: mvn test -Dtest=IdentificadoresInsercaoBenchmarkTest -Dbenchmark=true
+ * (requer PostgreSQL, ver PostgresDeTeste).
+ */
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Benchmark - Inserção com UUID v4 x UUIDv7")
+class IdentificadoresInsercaoBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdentificadoresInsercaoBenchmarkTest.class);
+
+    private static final int EXECUCOES = Integer.getInteger("benchmark.execucoes", 200_000);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int LOTE = 100;
+    private static final int TAREFAS_POR_EXECUCAO = 3;
+
+    private static final String INSERT_EXECUCAO = """
+            INSERT INTO execucoes_os (id, os_id, orcamento_id, status, mecanico_id, data_inicio,
+                                      version, created_at, updated_at)
+            VALUES (?, ?, ?, 'EM_ANDAMENTO', 1, ?, 0, ?, ?)""";
+
+    private static final String INSERT_TAREFA = """
+            INSERT INTO tarefas (id, execucao_id, descricao, mecanico_id, tempo_estimado_minutos,
+                                 status, data_inicio, created_at)
+            VALUES (?, ?, ?, 1, 30, 'PENDENTE', ?, ?)""";
+
+    private static final String TAMANHOS = """
+            SELECT pg_relation_size('execucoes_os_pkey'), pg_relation_size('tarefas_pkey'),
+                   pg_relation_size('idx_tarefas_execucao')""";
+
+    private static DriverManagerDataSource banco;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void prepararBanco() {
+        banco = PostgresDeTeste.novoBanco();
+        jdbcTemplate = new JdbcTemplate(banco);
+        jdbcTemplate.update("INSERT INTO mecanicos (nome) VALUES ('Mecânico 1')");
+    }
+
+    @Test
+    @DisplayName("mesma carga de inserção com os dois geradores")
+    void compararGeradores() throws Exception {
+        List<Resultado> resultados = List.of(
+                medir("UUID v4", UUID::randomUUID),
+                medir("UUIDv7", new UuidV7()));
+
+        StringBuilder relatorio = new StringBuilder();
+        resultados.forEach(resultado -> relatorio.append('\n').append(resultado));
+        logger.info("\nInserção de {} execuções + {} tarefas com {} threads{}",
+                EXECUCOES, EXECUCOES * TAREFAS_POR_EXECUCAO, THREADS, relatorio);
+    }
+
+    private static Resultado medir(String nome, GeradorDeIdentificador gerador) throws Exception {
+        jdbcTemplate.execute("TRUNCATE execucoes_os CASCADE");
+        jdbcTemplate.execute("CHECKPOINT");
+        String walAntes = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<Void>> tarefas = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int quantidade = EXECUCOES / THREADS + (t < EXECUCOES % THREADS ? 1 : 0);
+                tarefas.add(executor.submit(() -> inserir(gerador, quantidade)));
+            }
+            for (Future<Void> tarefa : tarefas) {
+                tarefa.get();
+            }
+        }
+        Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+
+        long wal = jdbcTemplate.queryForObject(
+                "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), ?::pg_lsn)::bigint", Long.class, walAntes);
+        assertEquals(EXECUCOES, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM execucoes_os", Integer.class));
+        return jdbcTemplate.queryForObject(TAMANHOS, (rs, rowNum) -> new Resultado(nome,
+                EXECUCOES / (duracao.toNanos() / 1e9), rs.getLong(1), rs.getLong(2), rs.getLong(3), wal));
+    }
+
+    private static Void inserir(GeradorDeIdentificador gerador, int quantidade) throws Exception {
+        try (Connection conexao = banco.getConnection();
+                PreparedStatement execucoes = conexao.prepareStatement(INSERT_EXECUCAO);
+                PreparedStatement tarefas = conexao.prepareStatement(INSERT_TAREFA)) {
+            conexao.setAutoCommit(false);
+            for (int i = 0; i < quantidade; i++) {
+                Timestamp agora = Timestamp.from(Instant.now());
+                UUID execucaoId = gerador.gerar();
+                execucoes.setObject(1, execucaoId);
+                execucoes.setObject(2, UUID.randomUUID());
+                execucoes.setObject(3, UUID.randomUUID());
+                execucoes.setTimestamp(4, agora);
+                execucoes.setTimestamp(5, agora);
+                execucoes.setTimestamp(6, agora);
+                execucoes.addBatch();
+                for (int n = 0; n < TAREFAS_POR_EXECUCAO; n++) {
+                    tarefas.setObject(1, gerador.gerar());
+                    tarefas.setObject(2, execucaoId);
+                    tarefas.setString(3, "Tarefa " + n);
+                    tarefas.setTimestamp(4, agora);
+                    tarefas.setTimestamp(5, agora);
+                    tarefas.addBatch();
+                }
+                if ((i + 1) % LOTE == 0 || i == quantidade - 1) {
+                    execucoes.executeBatch();
+                    tarefas.executeBatch();
+                    conexao.commit();
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Resultado(String gerador, double execucoesPorSegundo, long pkExecucoes,
+            long pkTarefas, long fkTarefas, long wal) {
+
+        @Override
+        public String toString() {
+            return "%-8s %8.0f execuções/s  PK execucoes_os %6d kB  PK tarefas %6d kB  FK tarefas %6d kB  WAL %7d kB"
+                    .formatted(gerador, execucoesPorSegundo, pkExecucoes / 1024, pkTarefas / 1024,
+                            fkTarefas / 1024, wal / 1024);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Regressão de planos das consultas de PostgresExecucaoOSRepository (e da
+ * seleção do job de arquivamento, da busca textual e da reconstrução do top
+ * de peças) sobre um PostgreSQL real com as migrações aplicadas e volume
+ * realista.
+ *
+ * Cada finder é chamado de verdade; o DataSource grava os SELECTs que o
+ * Hibernate (ou o repositório JDBC) emitiu, com os parâmetros, e cada um é
+ * repetido com EXPLAIN (ANALYZE, BUFFERS). O teste falha se algum plano tiver
+ * Seq Scan em uma das tabelas quentes. Leituras completas sem filtro nem
+ * LIMIT (findAll, streamAllResumos) e listagens por status
+ * final (a maior parte da tabela) ficam de fora: para elas o Seq Scan é o
+ * plano correto.
+ *
+ * Ignorado sem PostgreSQL (ver {@link PostgresDeTeste}).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({
+        MecanicoDicionario.class,
+        BuscaTextualJdbcRepository.class,
+        ExecucaoOSArquivoJdbcRepository.class,
+        UsoPecasJdbcRepository.class,
+        PostgresExecucaoOSRepositoryPlanTest.Gravacao.class
+})
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("PostgresExecucaoOSRepository - Regressão de planos de consulta")
+class PostgresExecucaoOSRepositoryPlanTest {
+
+    private static final int EXECUCOES = 50_000;
+    private static final int MECANICOS = 50;
+
+    private static final Set<String> TABELAS_QUENTES =
+            Set.of("execucoes_os", "diagnosticos", "tarefas", "uso_pecas");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final ConsultasGravadas CONSULTAS = new ConsultasGravadas();
+
+    private static DriverManagerDataSource banco;
+    private static Map<String, Object> amostra;
+
+    @Autowired
+    private PostgresExecucaoOSRepository repository;
+
+    @Autowired
+    private BuscaTextualJdbcRepository buscaTextual;
+
+    @Autowired
+    private ExecucaoOSArquivoJdbcRepository arquivo;
+
+    @Autowired
+    private UsoPecasJdbcRepository usoPecas;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        PostgresDeTeste.registrar(registry, banco());
+    }
+
+    @BeforeAll
+    static void prepararBanco() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(banco());
+        popular(jdbcTemplate);
+        amostra = jdbcTemplate.queryForMap("""
+                SELECT e.id, e.os_id, e.created_at, e.mecanico_id
+                  FROM execucoes_os e
+                 WHERE e.status = 'EM_ANDAMENTO'
+                 ORDER BY e.created_at
+                 OFFSET %d LIMIT 1""".formatted(EXECUCOES / 40));
+    }
+
+    static Stream<Arguments> finders() {
+        return Stream.of(
+                finder("findById", teste -> teste.repository.findById(id())),
+                finder("findByOsId", teste -> teste.repository.findByOsId((UUID) amostra.get("os_id"))),
+                finder("existsByOsId", teste -> teste.repository.existsByOsId((UUID) amostra.get("os_id"))),
+                finder("findByStatus (ativas)",
+                        teste -> teste.repository.findByStatus(StatusExecucao.EM_ANDAMENTO)),
+                finder("findByMecanicoId", teste -> teste.repository.findByMecanicoId(mecanicoId())),
+                finder("findResumosByStatus (ativas)",
+                        teste -> teste.repository.findResumosByStatus(StatusExecucao.AGUARDANDO_INICIO)),
+                finder("findResumosByMecanicoId", teste -> teste.repository.findResumosByMecanicoId(mecanicoId())),
+                finder("findFirstPage", teste -> teste.repository.findFirstPage(PageRequest.of(0, 20))),
+                finder("findPageAfter", teste -> teste.repository.findPageAfter(
+                        ((Timestamp) amostra.get("created_at")).toInstant(), id(), PageRequest.of(0, 20))),
+                finder("arquivarFinalizadas (seleção do lote)",
+                        teste -> teste.arquivo.arquivarFinalizadas(Instant.now().minusSeconds(30L * 86_400), 500)),
+                finder("busca textual", teste -> teste.buscaTextual.buscar("barulho suspensão", null, 20)),
+                finder("reconstrução do top de peças", teste -> teste.usoPecas.percorrer(
+                        Instant.now().minus(Duration.ofDays(7)), Instant.now(), uso -> { })));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    @DisplayName("plano sem Seq Scan nas tabelas quentes")
+    void planoSemSeqScan(String finder, Consumer<PostgresExecucaoOSRepositoryPlanTest> chamada) throws Exception {
+        CONSULTAS.limpar();
+        chamada.accept(this);
+
+        List<ConsultaGravada> selects = CONSULTAS.selects();
+        assertFalse(selects.isEmpty(), () -> finder + " não emitiu nenhum SELECT");
+        for (ConsultaGravada consulta : selects) {
+            String plano = explicar(consulta);
+            List<String> seqScans = new ArrayList<>();
+            coletarSeqScans(OBJECT_MAPPER.readTree(plano).get(0).get("Plan"), seqScans);
+
+            assertTrue(seqScans.isEmpty(), () -> finder + " regrediu para Seq Scan em " + seqScans + ":\n"
+                    + consulta.sql() + "\n" + plano);
+        }
+    }
+
+    private static Arguments finder(String nome, Consumer<PostgresExecucaoOSRepositoryPlanTest> chamada) {
+        return Arguments.of(nome, chamada);
+    }
+
+    private static UUID id() {
+        return (UUID) amostra.get("id");
+    }
+
+    private static Integer mecanicoId() {
+        return (Integer) amostra.get("mecanico_id");
+    }
+
+    /**
+     * Repete o SELECT gravado com EXPLAIN, em outra conexão, com os mesmos
+     * parâmetros.
+     */
+    private static String explicar(ConsultaGravada consulta) throws Exception {
+        try (Connection conexao = banco().getConnection();
+             PreparedStatement explain = conexao.prepareStatement(
+                     "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + consulta.sql())) {
+            for (ParametroGravado parametro : consulta.parametros()) {
+                parametro.metodo().invoke(explain, parametro.argumentos());
+            }
+            try (ResultSet plano = explain.executeQuery()) {
+                plano.next();
+                return plano.getString(1);
+            }
+        }
+    }
+
+    private static void coletarSeqScans(JsonNode no, List<String> seqScans) {
+        if ("Seq Scan".equals(no.path("Node Type").asText())
+                && TABELAS_QUENTES.contains(no.path("Relation Name").asText())) {
+            seqScans.add(no.path("Relation Name").asText());
+        }
+        for (JsonNode filho : no.path("Plans")) {
+            coletarSeqScans(filho, seqScans);
+        }
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+
+    private static void popular(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                -- Sem triggers de change feed durante a carga
+                SET session_replication_role = replica;
+
+                INSERT INTO mecanicos (nome)
+                SELECT 'Mecânico ' || g FROM generate_series(1, %2$d) g;
+
+                -- 5%% aguardando, 5%% em andamento, 5%% canceladas, 85%% concluídas
+                INSERT INTO execucoes_os (id, os_id, orcamento_id, status, mecanico_id, data_inicio,
+                                          data_finalizacao, version, created_at, updated_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), gen_random_uuid(),
+                       CASE g %% 20 WHEN 0 THEN 'AGUARDANDO_INICIO'
+                                    WHEN 1 THEN 'EM_ANDAMENTO'
+                                    WHEN 2 THEN 'CANCELADA'
+                                    ELSE 'CONCLUIDA' END,
+                       g %% %2$d + 1,
+                       now() - g * INTERVAL '10 minutes',
+                       CASE WHEN g %% 20 >= 2 THEN now() - g * INTERVAL '5 minutes' END,
+                       0,
+                       now() - g * INTERVAL '10 minutes',
+                       now() - g * INTERVAL '5 minutes'
+                  FROM generate_series(1, %1$d) g;
+
+                INSERT INTO diagnosticos (id, execucao_id, descricao, mecanico_id, data_diagnostico, created_at)
+                SELECT gen_random_uuid(), id, 'Diagnóstico', mecanico_id, data_inicio, created_at
+                  FROM execucoes_os;
+
+                INSERT INTO tarefas (id, execucao_id, descricao, mecanico_id, tempo_estimado_minutos,
+                                     status, data_inicio, created_at)
+                SELECT gen_random_uuid(), e.id, 'Tarefa ' || n, e.mecanico_id, 30, 'PENDENTE',
+                       e.data_inicio, e.created_at
+                  FROM execucoes_os e, generate_series(1, 3) n;
+
+                INSERT INTO uso_pecas (id, execucao_id, peca_id, descricao, quantidade,
+                                       valor_unitario, valor_total, data_uso, created_at)
+                SELECT gen_random_uuid(), id, gen_random_uuid(), 'Peça', 2, 10.00, 20.00,
+                       data_inicio, created_at
+                  FROM execucoes_os;
+
+                SET session_replication_role = DEFAULT;
+                ANALYZE;
+                """.formatted(EXECUCOES, MECANICOS));
+    }
+
+    /**
+     * Envolve o DataSource da aplicação para gravar os statements emitidos.
+     */
+    @TestConfiguration
+    static class Gravacao {
+
+        @Bean
+        static BeanPostProcessor gravarConsultas() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? CONSULTAS.envolver(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    record ParametroGravado(Method metodo, Object[] argumentos) {
+    }
+
+    record ConsultaGravada(String sql, List<ParametroGravado> parametros) {
+    }
+
+    /**
+     * Proxies JDBC que guardam o SQL de cada PreparedStatement executado e os
+     * set* de parâmetros feitos sobre ele.
+     */
+    static final class ConsultasGravadas {
+
+        private final List<ConsultaGravada> consultas = new CopyOnWriteArrayList<>();
+
+        void limpar() {
+            consultas.clear();
+        }
+
+        /**
+         * SELECTs sobre as tabelas quentes; as demais consultas (dicionário,
+         * funções de partição) e as escritas não são repetidas.
+         */
+        List<ConsultaGravada> selects() {
+            return consultas.stream()
+                    .filter(consulta -> consulta.sql().stripLeading().regionMatches(true, 0, "select", 0, 6))
+                    .filter(consulta -> TABELAS_QUENTES.stream().anyMatch(tabela -> consulta.sql()
+                            .matches("(?is).*\\b(from|join)\\s+" + tabela + "\\b.*")))
+                    .toList();
+        }
+
+        DataSource envolver(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (metodo, resultado, argumentos) ->
+                    resultado instanceof Connection conexao ? envolver(conexao) : resultado);
+        }
+
+        private Connection envolver(Connection conexao) {
+            return proxy(Connection.class, conexao, (metodo, resultado, argumentos) ->
+                    metodo.getName().equals("prepareStatement") && resultado instanceof PreparedStatement statement
+                            ? envolver(statement, (String) argumentos[0])
+                            : resultado);
+        }
+
+        private PreparedStatement envolver(PreparedStatement statement, String sql) {
+            List<ParametroGravado> parametros = new ArrayList<>();
+            return proxy(PreparedStatement.class, statement, (metodo, resultado, argumentos) -> {
+                if (metodo.getName().startsWith("set") && argumentos != null && argumentos.length > 1
+                        && argumentos[0] instanceof Integer) {
+                    parametros.add(new ParametroGravado(metodo, argumentos.clone()));
+                } else if (metodo.getName().equals("clearParameters")) {
+                    parametros.clear();
+                } else if (metodo.getName().startsWith("execute")) {
+                    consultas.add(new ConsultaGravada(sql, List.copyOf(parametros)));
+                }
+                return resultado;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> tipo, T alvo, AposChamada aposChamada) {
+            return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo },
+                    (instancia, metodo, argumentos) -> {
+                        try {
+                            return aposChamada.aplicar(metodo, metodo.invoke(alvo, argumentos), argumentos);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        @FunctionalInterface
+        private interface AposChamada {
+            Object aplicar(Method metodo, Object resultado, Object[] argumentos);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.DiagnosticoEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica o plano de carga do agregado contando os statements emitidos
+ * pelo Hibernate (estatísticas da SessionFactory).
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MecanicoDicionario.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("PostgresExecucaoOSRepository - Carga do agregado")
+class PostgresExecucaoOSRepositoryTest {
+
+    @Autowired
+    private PostgresExecucaoOSRepository repository;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @DisplayName("findById carrega raiz e três coleções em dois SELECTs")
+    void findByIdCarregaAgregadoEmDoisSelects() {
+        ExecucaoOSEntity salvo = persistirAgregado(StatusExecucao.EM_ANDAMENTO, 2, 3, 2);
+        limparContexto();
+
+        ExecucaoOSEntity carregado = repository.findById(salvo.getId()).orElseThrow();
+        tocarColecoes(carregado);
+
+        assertEquals(2, carregado.getDiagnosticos().size());
+        assertEquals(3, carregado.getTarefas().size());
+        assertEquals(2, carregado.getPecas().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("coleções são devolvidas na ordem de criação")
+    void colecoesOrdenadasPorCriacao() {
+        ExecucaoOSEntity salvo = persistirAgregado(StatusExecucao.EM_ANDAMENTO, 3, 3, 0);
+        limparContexto();
+
+        ExecucaoOSEntity carregado = repository.findById(salvo.getId()).orElseThrow();
+
+        assertEquals(List.of("Diagnóstico 2", "Diagnóstico 1", "Diagnóstico 0"),
+                carregado.getDiagnosticos().stream().map(DiagnosticoEntity::getDescricao).toList());
+        assertEquals(List.of("Tarefa 0", "Tarefa 1", "Tarefa 2"),
+                carregado.getTarefas().stream().map(TarefaEntity::getDescricao).toList());
+    }
+
+    @Test
+    @DisplayName("findByOsId carrega raiz e três coleções em dois SELECTs")
+    void findByOsIdCarregaAgregadoEmDoisSelects() {
+        ExecucaoOSEntity salvo = persistirAgregado(StatusExecucao.EM_ANDAMENTO, 3, 2, 4);
+        limparContexto();
+
+        ExecucaoOSEntity carregado = repository.findByOsId(salvo.getOsId()).orElseThrow();
+        tocarColecoes(carregado);
+
+        assertEquals(3, carregado.getDiagnosticos().size());
+        assertEquals(2, carregado.getTarefas().size());
+        assertEquals(4, carregado.getPecas().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findById sem filhos continua em dois SELECTs")
+    void findByIdSemFilhos() {
+        ExecucaoOSEntity salvo = persistirAgregado(StatusExecucao.AGUARDANDO_INICIO, 0, 0, 0);
+        limparContexto();
+
+        ExecucaoOSEntity carregado = repository.findById(salvo.getId()).orElseThrow();
+        tocarColecoes(carregado);
+
+        assertTrue(carregado.getDiagnosticos().isEmpty());
+        assertTrue(carregado.getTarefas().isEmpty());
+        assertTrue(carregado.getPecas().isEmpty());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findAll carrega N agregados em quatro SELECTs, independente de N")
+    void findAllCarregaNAgregadosEmQuatroSelects() {
+        for (int i = 0; i < 5; i++) {
+            persistirAgregado(StatusExecucao.EM_ANDAMENTO, 1, 2, 3);
+        }
+        limparContexto();
+
+        List<ExecucaoOSEntity> carregados = repository.findAll();
+        carregados.forEach(this::tocarColecoes);
+
+        assertEquals(5, carregados.size());
+        carregados.forEach(e -> {
+            assertEquals(1, e.getDiagnosticos().size());
+            assertEquals(2, e.getTarefas().size());
+            assertEquals(3, e.getPecas().size());
+        });
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findByStatus usa SUBSELECT e não dispara um SELECT por raiz")
+    void findByStatusUsaSubselect() {
+        for (int i = 0; i < 4; i++) {
+            persistirAgregado(StatusExecucao.EM_ANDAMENTO, 2, 1, 1);
+        }
+        persistirAgregado(StatusExecucao.CANCELADA, 5, 5, 5);
+        limparContexto();
+
+        List<ExecucaoOSEntity> carregados = repository.findByStatus(StatusExecucao.EM_ANDAMENTO);
+        carregados.forEach(this::tocarColecoes);
+
+        assertEquals(4, carregados.size());
+        carregados.forEach(e -> assertEquals(2, e.getDiagnosticos().size()));
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    private void limparContexto() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void tocarColecoes(ExecucaoOSEntity entity) {
+        entity.getDiagnosticos().size();
+        entity.getTarefas().size();
+        entity.getPecas().size();
+    }
+
+    private ExecucaoOSEntity persistirAgregado(StatusExecucao status, int diagnosticos, int tarefas, int pecas) {
+        Instant agora = Instant.now();
+        ExecucaoOSEntity raiz = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(status)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .build();
+
+        for (int i = 0; i < diagnosticos; i++) {
+            raiz.getDiagnosticos().add(DiagnosticoEntity.builder()
+                    .id(UUID.randomUUID())
+                    .execucaoOSEntity(raiz)
+                    .descricao("Diagnóstico " + i)
+                    .mecanicoId(mecanicos.idDe("João"))
+                    .dataDiagnostico(agora)
+                    .createdAt(agora.plusMillis(diagnosticos - i))
+                    .build());
+        }
+        for (int i = 0; i < tarefas; i++) {
+            raiz.getTarefas().add(TarefaEntity.builder()
+                    .id(UUID.randomUUID())
+                    .execucaoOSEntity(raiz)
+                    .descricao("Tarefa " + i)
+                    .mecanicoId(mecanicos.idDe("João"))
+                    .status(StatusTarefa.PENDENTE)
+                    .dataInicio(agora)
+                    .createdAt(agora.plusMillis(i))
+                    .build());
+        }
+        for (int i = 0; i < pecas; i++) {
+            raiz.getPecas().add(UsoPecaEntity.builder()
+                    .id(UUID.randomUUID())
+                    .execucaoOSEntity(raiz)
+                    .pecaId(UUID.randomUUID())
+                    .descricao("Peça " + i)
+                    .quantidade(1)
+                    .valorUnitario(BigDecimal.TEN)
+                    .valorTotal(BigDecimal.TEN)
+                    .dataUso(agora)
+                    .createdAt(agora.plusMillis(i))
+                    .build());
+        }
+
+        entityManager.persist(raiz);
+        return raiz;
+    }
+}
@@ -0,0 +1,268 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.config.PostgresDeTeste;
+import br.com.grupo99.executionservice.domain.model.ProdutividadeMecanico;
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.StatusTarefa;
+import br.com.grupo99.executionservice.domain.model.Tarefa;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.TarefaEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ ProdutividadeMecanicosJdbcRepository.class, MecanicoDicionario.class })
+@EnabledIf(PostgresDeTeste.DISPONIVEL)
+@DisplayName("ProdutividadeMecanicosJdbcRepository - Rollup de produtividade")
+class ProdutividadeMecanicosJdbcRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-10T12:00:00Z");
+    private static final LocalDate DIA = LocalDate.ofInstant(BASE, ZoneId.systemDefault());
+
+    private static DriverManagerDataSource banco;
+
+    @Autowired
+    private ProdutividadeMecanicosJdbcRepository repository;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecucaoOSEntity execucao;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        PostgresDeTeste.registrar(registry, banco());
+    }
+
+    @BeforeEach
+    void setUp() {
+        execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(StatusExecucao.EM_ANDAMENTO)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(BASE)
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+        entityManager.persist(execucao);
+    }
+
+    @Test
+    @DisplayName("cada conclusão registrada soma à linha do dia da finalização")
+    void registrarConclusaoSomaNoDia() {
+        assertTrue(repository.somarPorMecanico(DIA, DIA).isEmpty());
+
+        repository.registrarConclusao(concluida("João", 30, 45, BASE));
+        repository.registrarConclusao(concluida("João", 20, 15, BASE.plus(1, ChronoUnit.HOURS)));
+
+        ProdutividadeMecanico joao = unico(repository.somarPorMecanico(DIA, DIA));
+        assertEquals("João", joao.mecanico());
+        assertEquals(2, joao.tarefasConcluidas());
+        assertEquals(2, joao.tarefasComTempos());
+        assertEquals(50, joao.somaEstimado());
+        assertEquals(60, joao.somaReal());
+        assertEquals(30 * 45 + 20 * 15, joao.somaProdutos());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM produtividade_mecanicos", Integer.class));
+    }
+
+    @Test
+    @DisplayName("soma por mecânico no período; tarefas sem tempo real só entram na contagem")
+    void somaPorMecanicoNoPeriodo() {
+        tarefa("João", StatusTarefa.CONCLUIDA, 30, 40, BASE);
+        tarefa("João", StatusTarefa.CONCLUIDA, 60, 50, BASE.plus(1, ChronoUnit.DAYS));
+        tarefa("João", StatusTarefa.CONCLUIDA, 20, null, BASE);
+        tarefa("Maria", StatusTarefa.CONCLUIDA, 10, 10, BASE);
+        tarefa("Maria", StatusTarefa.CONCLUIDA, 10, 10, BASE.plus(5, ChronoUnit.DAYS));
+        tarefa("Maria", StatusTarefa.PENDENTE, 10, null, null);
+        entityManager.flush();
+
+        List<ProdutividadeMecanico> periodo = repository.somarPorMecanico(DIA, DIA.plusDays(1));
+
+        assertEquals(List.of("João", "Maria"), periodo.stream().map(ProdutividadeMecanico::mecanico).toList());
+        ProdutividadeMecanico joao = periodo.get(0);
+        assertEquals(3, joao.tarefasConcluidas());
+        assertEquals(2, joao.tarefasComTempos());
+        assertEquals(90, joao.somaEstimado());
+        assertEquals(90, joao.somaReal());
+        assertEquals(45.0, joao.mediaReal());
+        assertEquals(1, periodo.get(1).tarefasConcluidas());
+    }
+
+    @Test
+    @DisplayName("reconstrução a partir de tarefas e do arquivo equivale ao incremental")
+    void reconstrucaoEquivaleAoIncremental() {
+        tarefa("João", StatusTarefa.CONCLUIDA, 30, 40, BASE);
+        tarefa("João", StatusTarefa.CONCLUIDA, 60, 50, BASE);
+        tarefa("Maria", StatusTarefa.CONCLUIDA, 10, 15, BASE);
+        entityManager.flush();
+        List<ProdutividadeMecanico> incremental = repository.somarPorMecanico(DIA, DIA);
+        jdbcTemplate.update("DELETE FROM produtividade_mecanicos");
+        arquivada("Carlos", 20, 25, BASE);
+
+        int linhas = repository.reconstruir(DIA, DIA.plusDays(1));
+
+        assertEquals(3, linhas);
+        List<ProdutividadeMecanico> reconstruido = repository.somarPorMecanico(DIA, DIA);
+        assertEquals(new ProdutividadeMecanico("Carlos", 1, 1, 20, 25, 400, 625, 500), reconstruido.get(0));
+        assertEquals(incremental, reconstruido.subList(1, 3));
+    }
+
+    @Test
+    @DisplayName("reconstrução só substitui os dias do intervalo")
+    void reconstrucaoRespeitaIntervalo() {
+        tarefa("João", StatusTarefa.CONCLUIDA, 30, 40, BASE);
+        tarefa("João", StatusTarefa.CONCLUIDA, 30, 40, BASE.plus(1, ChronoUnit.DAYS));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE produtividade_mecanicos SET tarefas_concluidas = 99");
+
+        repository.reconstruir(DIA, DIA.plusDays(1));
+
+        assertEquals(1, unico(repository.somarPorMecanico(DIA, DIA)).tarefasConcluidas());
+        assertEquals(99, unico(repository.somarPorMecanico(DIA.plusDays(1), DIA.plusDays(1))).tarefasConcluidas());
+    }
+
+    @Test
+    @DisplayName("V10 carrega o rollup do histórico de tarefas e do arquivo, como a reconstrução")
+    void migracaoCarregaHistorico() {
+        DriverManagerDataSource historico = PostgresDeTeste.novoBanco(9);
+        JdbcTemplate jdbc = new JdbcTemplate(historico);
+        jdbc.update("INSERT INTO mecanicos (nome) VALUES ('João')");
+        UUID execucaoId = UUID.randomUUID();
+        jdbc.update("""
+                INSERT INTO execucoes_os (id, os_id, orcamento_id, status, mecanico_id, data_inicio, version,
+                                          created_at, updated_at)
+                SELECT ?, ?, ?, 'EM_ANDAMENTO', id, ?, 0, ?, ? FROM mecanicos WHERE nome = 'João'""",
+                execucaoId, UUID.randomUUID(), UUID.randomUUID(),
+                Timestamp.from(BASE), Timestamp.from(BASE), Timestamp.from(BASE));
+        quente(jdbc, execucaoId, StatusTarefa.CONCLUIDA, 30, 40, BASE);
+        quente(jdbc, execucaoId, StatusTarefa.CONCLUIDA, 60, null, BASE);
+        quente(jdbc, execucaoId, StatusTarefa.PENDENTE, 10, null, null);
+        arquivada(jdbc, "Carlos", 20, 25, BASE);
+
+        PostgresDeTeste.migrar(historico, 9);
+
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(historico);
+        ProdutividadeMecanicosJdbcRepository migrado =
+                new ProdutividadeMecanicosJdbcRepository(named, new MecanicoDicionario(named));
+        List<ProdutividadeMecanico> carga = migrado.somarPorMecanico(DIA, DIA);
+        assertEquals(List.of(
+                new ProdutividadeMecanico("Carlos", 1, 1, 20, 25, 400, 625, 500),
+                new ProdutividadeMecanico("João", 2, 1, 30, 40, 900, 1600, 1200)), carga);
+
+        migrado.reconstruir(DIA, DIA.plusDays(1));
+        assertEquals(carga, migrado.somarPorMecanico(DIA, DIA));
+    }
+
+    /**
+     * Persiste a tarefa e, se concluída, soma ao rollup como o serviço faz
+     * ao finalizá-la.
+     */
+    private TarefaEntity tarefa(String mecanico, StatusTarefa status, Integer estimado, Integer real,
+            Instant finalizadaEm) {
+        TarefaEntity tarefa = TarefaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .descricao("Alinhamento")
+                .mecanicoId(mecanicos.idDe(mecanico))
+                .tempoEstimadoMinutos(estimado)
+                .tempoRealMinutos(real)
+                .status(status)
+                .dataInicio(BASE)
+                .dataFinalizacao(finalizadaEm)
+                .createdAt(BASE)
+                .build();
+        execucao.getTarefas().add(tarefa);
+        entityManager.persist(tarefa);
+        if (status == StatusTarefa.CONCLUIDA) {
+            repository.registrarConclusao(concluida(mecanico, estimado, real, finalizadaEm));
+        }
+        return tarefa;
+    }
+
+    private static Tarefa concluida(String mecanico, Integer estimado, Integer real, Instant finalizadaEm) {
+        return Tarefa.builder()
+                .id(UUID.randomUUID())
+                .descricao("Alinhamento")
+                .mecanico(mecanico)
+                .tempoEstimadoMinutos(estimado)
+                .tempoRealMinutos(real)
+                .status(StatusTarefa.CONCLUIDA)
+                .dataInicio(BASE)
+                .dataFinalizacao(finalizadaEm)
+                .createdAt(BASE)
+                .build();
+    }
+
+    private static void quente(JdbcTemplate jdbc, UUID execucaoId, StatusTarefa status, Integer estimado,
+            Integer real, Instant finalizadaEm) {
+        jdbc.update("""
+                INSERT INTO tarefas (id, execucao_id, descricao, mecanico_id, tempo_estimado_minutos,
+                                     tempo_real_minutos, status, data_inicio, data_finalizacao, created_at)
+                SELECT ?, e.id, 'Alinhamento', e.mecanico_id, ?, ?, ?, ?, ?, ?
+                  FROM execucoes_os e WHERE e.id = ?""",
+                UUID.randomUUID(), estimado, real, status.name(), Timestamp.from(BASE),
+                finalizadaEm == null ? null : Timestamp.from(finalizadaEm), Timestamp.from(BASE), execucaoId);
+    }
+
+    private void arquivada(String mecanico, int estimado, int real, Instant finalizadaEm) {
+        arquivada(jdbcTemplate, mecanico, estimado, real, finalizadaEm);
+    }
+
+    private static void arquivada(JdbcTemplate jdbcTemplate, String mecanico, int estimado, int real,
+            Instant finalizadaEm) {
+        jdbcTemplate.queryForList("SELECT garantir_particoes_arquivo(?)", DIA);
+        jdbcTemplate.update("""
+                INSERT INTO tarefas_arquivo (id, execucao_id, execucao_created_at, descricao, mecanico,
+                                             tempo_estimado_minutos, tempo_real_minutos, status,
+                                             data_inicio, data_finalizacao, created_at)
+                VALUES (?, ?, ?, 'Arquivada', ?, ?, ?, 'CONCLUIDA', ?, ?, ?)""",
+                UUID.randomUUID(), UUID.randomUUID(), Timestamp.from(BASE), mecanico, estimado, real,
+                Timestamp.from(BASE), Timestamp.from(finalizadaEm), Timestamp.from(BASE));
+    }
+
+    private static ProdutividadeMecanico unico(List<ProdutividadeMecanico> produtividades) {
+        assertEquals(1, produtividades.size());
+        return produtividades.get(0);
+    }
+
+    private static synchronized DriverManagerDataSource banco() {
+        if (banco == null) {
+            banco = PostgresDeTeste.novoBanco();
+        }
+        return banco;
+    }
+}
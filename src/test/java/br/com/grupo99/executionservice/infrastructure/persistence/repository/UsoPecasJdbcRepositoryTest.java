@@ -0,0 +1,119 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.executionservice.domain.model.StatusExecucao;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.infrastructure.persistence.cache.MecanicoDicionario;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.ExecucaoOSEntity;
+import br.com.grupo99.executionservice.infrastructure.persistence.entity.UsoPecaEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ UsoPecasJdbcRepository.class, MecanicoDicionario.class })
+@DisplayName("UsoPecasJdbcRepository - Leitura para o top de peças")
+class UsoPecasJdbcRepositoryTest {
+
+    private static final Instant AGORA = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Autowired
+    private UsoPecasJdbcRepository repository;
+
+    @Autowired
+    private MecanicoDicionario mecanicos;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecucaoOSEntity execucao;
+
+    @BeforeEach
+    void setUp() {
+        // No H2 o arquivo é uma tabela comum; o particionamento é da migração V7
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS uso_pecas_arquivo (
+                    id UUID, execucao_id UUID, execucao_created_at TIMESTAMP, peca_id UUID,
+                    descricao VARCHAR(200), quantidade INTEGER, valor_unitario DECIMAL(10, 2),
+                    valor_total DECIMAL(10, 2), data_uso TIMESTAMP, created_at TIMESTAMP)""");
+        execucao = ExecucaoOSEntity.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .orcamentoId(UUID.randomUUID())
+                .status(StatusExecucao.EM_ANDAMENTO)
+                .mecanicoId(mecanicos.idDe("João"))
+                .dataInicio(AGORA)
+                .createdAt(AGORA)
+                .updatedAt(AGORA)
+                .build();
+        entityManager.persist(execucao);
+    }
+
+    @Test
+    @DisplayName("percorre usos da janela nas tabelas quente e de arquivo, criados antes do corte")
+    void percorreJanela() {
+        UUID filtro = UUID.randomUUID();
+        UUID vela = UUID.randomUUID();
+        uso(filtro, 2, AGORA.minus(1, ChronoUnit.DAYS), AGORA.minus(1, ChronoUnit.DAYS));
+        uso(vela, 1, AGORA.minus(40, ChronoUnit.DAYS), AGORA.minus(40, ChronoUnit.DAYS));
+        uso(vela, 3, AGORA, AGORA.plusSeconds(5));
+        entityManager.flush();
+        UUID pastilha = UUID.randomUUID();
+        arquivado(pastilha, 4, AGORA.minus(2, ChronoUnit.DAYS));
+
+        List<UsoPeca> usos = new ArrayList<>();
+        long lidos = repository.percorrer(AGORA.minus(30, ChronoUnit.DAYS), AGORA.plusSeconds(1), usos::add);
+
+        assertEquals(2, lidos);
+        UsoPeca primeiro = usos.stream().filter(uso -> uso.getPecaId().equals(filtro)).findFirst().orElseThrow();
+        assertEquals(2, primeiro.getQuantidade());
+        assertEquals(0, new BigDecimal("20.00").compareTo(primeiro.getValorTotal()));
+        assertEquals(AGORA.minus(1, ChronoUnit.DAYS), primeiro.getDataUso());
+        assertTrue(usos.stream().anyMatch(uso -> uso.getPecaId().equals(pastilha) && uso.getQuantidade() == 4));
+    }
+
+    private void uso(UUID pecaId, int quantidade, Instant dataUso, Instant createdAt) {
+        UsoPecaEntity uso = UsoPecaEntity.builder()
+                .id(UUID.randomUUID())
+                .execucaoOSEntity(execucao)
+                .pecaId(pecaId)
+                .descricao("Peça")
+                .quantidade(quantidade)
+                .valorUnitario(BigDecimal.TEN)
+                .valorTotal(BigDecimal.TEN.multiply(BigDecimal.valueOf(quantidade)))
+                .dataUso(dataUso)
+                .createdAt(createdAt)
+                .build();
+        execucao.getPecas().add(uso);
+        entityManager.persist(uso);
+    }
+
+    private void arquivado(UUID pecaId, int quantidade, Instant dataUso) {
+        jdbcTemplate.update("""
+                INSERT INTO uso_pecas_arquivo (id, execucao_id, execucao_created_at, peca_id, descricao, quantidade,
+                                               valor_unitario, valor_total, data_uso, created_at)
+                VALUES (?, ?, ?, ?, 'Arquivada', ?, 10, ?, ?, ?)""",
+                UUID.randomUUID(), UUID.randomUUID(), Timestamp.from(dataUso), pecaId, quantidade,
+                BigDecimal.TEN.multiply(BigDecimal.valueOf(quantidade)), Timestamp.from(dataUso),
+                Timestamp.from(dataUso));
+    }
+}
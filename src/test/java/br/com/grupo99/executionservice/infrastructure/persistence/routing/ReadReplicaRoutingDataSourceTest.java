@@ -0,0 +1,105 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Roteamento de ponta a ponta sobre dois bancos H2 em memória, com o mesmo
+ * arranjo da configuração: proxy lazy + roteador + listener de
+ * read-your-writes no transaction manager.
+ */
+@DisplayName("ReadReplicaRoutingDataSource - Roteamento primário/réplica")
+class ReadReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void setUp() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(banco("primario"), banco("replica"), tracker));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.setTransactionExecutionListeners(List.of(tracker));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("transação readOnly vai à réplica")
+    void leituraVaiParaReplica() {
+        assertEquals("replica", leitura.execute(status -> nomeDoBanco()));
+    }
+
+    @Test
+    @DisplayName("transação de escrita e código fora de transação vão ao primário")
+    void escritaVaiParaPrimario() {
+        assertEquals("primario", escrita.execute(status -> nomeDoBanco()));
+        assertEquals("primario", nomeDoBanco());
+    }
+
+    @Test
+    @DisplayName("cliente que acabou de gravar lê do primário; os demais seguem na réplica")
+    void readYourWrites() {
+        autenticar("mecanico-1");
+        escrita.executeWithoutResult(status -> nomeDoBanco());
+
+        assertEquals("primario", leitura.execute(status -> nomeDoBanco()));
+
+        autenticar("mecanico-2");
+        assertEquals("replica", leitura.execute(status -> nomeDoBanco()));
+    }
+
+    @Test
+    @DisplayName("escrita revertida não abre a janela de read-your-writes")
+    void rollbackNaoAbreJanela() {
+        autenticar("mecanico-1");
+        escrita.executeWithoutResult(status -> {
+            nomeDoBanco();
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", leitura.execute(status -> nomeDoBanco()));
+    }
+
+    private String nomeDoBanco() {
+        return jdbcTemplate.queryForObject("SELECT LOWER(DATABASE())", String.class)
+                .replaceFirst("-.*", "");
+    }
+
+    private static DataSource banco(String nome) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nome + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(usuario, null, List.of()));
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.grupo99.executionservice.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaLagMetrics - Atraso da réplica")
+class ReplicaLagMetricsTest {
+
+    @Mock
+    private JdbcOperations replica;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        new ReplicaLagMetrics(replica).bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("gauge reporta o atraso medido na réplica")
+    void reportaAtraso() {
+        when(replica.queryForObject(anyString(), eq(Double.class))).thenReturn(1.5);
+
+        assertEquals(1.5, registry.get(ReplicaLagMetrics.METRICA).tag("service", "execution-service").gauge().value());
+    }
+
+    @Test
+    @DisplayName("réplica indisponível reporta NaN")
+    void replicaIndisponivel() {
+        when(replica.queryForObject(anyString(), eq(Double.class)))
+                .thenThrow(new DataAccessResourceFailureException("sem conexão"));
+
+        assertTrue(Double.isNaN(registry.get(ReplicaLagMetrics.METRICA).gauge().value()));
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.grupo99.executionservice.infrastructure.scheduling;
+
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.ExecucaoOSArquivoJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArquivamentoExecucoesJob - Testes Unitários")
+class ArquivamentoExecucoesJobTest {
+
+    @Mock
+    private ExecucaoOSArquivoJdbcRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("arquiva em lotes até um lote vir incompleto, um commit por lote")
+    void arquivaEmLotes() {
+        when(repository.arquivarFinalizadas(any(), eq(2))).thenReturn(2, 2, 1);
+
+        job(0).arquivarFinalizadas();
+
+        verify(repository, times(3)).arquivarFinalizadas(any(), eq(2));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("cria partições do mês corrente e do seguinte; sem retenção não remove nada")
+    void criaParticoesSemRetencao() {
+        YearMonth atual = YearMonth.now(ZoneOffset.UTC);
+
+        job(0).gerenciarParticoes();
+
+        verify(repository).garantirParticoes(atual);
+        verify(repository).garantirParticoes(atual.plusMonths(1));
+        verify(repository, never()).removerParticoesAnterioresA(any());
+    }
+
+    @Test
+    @DisplayName("com retenção remove as partições anteriores ao primeiro mês mantido")
+    void removeParticoesForaDaRetencao() {
+        YearMonth atual = YearMonth.now(ZoneOffset.UTC);
+        when(repository.removerParticoesAnterioresA(any())).thenReturn(4);
+
+        job(24).gerenciarParticoes();
+
+        verify(repository).removerParticoesAnterioresA(atual.minusMonths(24));
+    }
+
+    @Test
+    @DisplayName("lote não positivo é rejeitado")
+    void loteInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new ArquivamentoExecucoesJob(
+                repository, transactionManager, Duration.ofDays(30), 0, 0));
+    }
+
+    private ArquivamentoExecucoesJob job(int mesesDeRetencao) {
+        return new ArquivamentoExecucoesJob(repository, transactionManager, Duration.ofDays(30), 2, mesesDeRetencao);
+    }
+}
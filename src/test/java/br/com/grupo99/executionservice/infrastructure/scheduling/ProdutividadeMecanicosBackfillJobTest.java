@@ -0,0 +1,57 @@
+package br.com.grupo99.executionservice.infrastructure.scheduling;
+
+import br.com.grupo99.executionservice.domain.repository.ProdutividadeMecanicoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProdutividadeMecanicosBackfillJob - Testes Unitários")
+class ProdutividadeMecanicosBackfillJobTest {
+
+    @Mock
+    private ProdutividadeMecanicoRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("reconstrói os dias anteriores a hoje em blocos, um commit por bloco")
+    void reconstroiEmBlocos() {
+        LocalDate hoje = LocalDate.now();
+        when(repository.reconstruir(any(), any())).thenReturn(3);
+
+        new ProdutividadeMecanicosBackfillJob(repository, transactionManager, 10, 4).reconstruir();
+
+        verify(repository).reconstruir(hoje.minusDays(10), hoje.minusDays(6));
+        verify(repository).reconstruir(hoje.minusDays(6), hoje.minusDays(2));
+        verify(repository).reconstruir(hoje.minusDays(2), hoje);
+        verify(transactionManager, times(3)).commit(any());
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("rejeita quantidade de dias não positiva")
+    void rejeitaDiasInvalidos() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProdutividadeMecanicosBackfillJob(repository, transactionManager, 0, 31));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProdutividadeMecanicosBackfillJob(repository, transactionManager, 30, 0));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.grupo99.executionservice.infrastructure.scheduling;
+
+import br.com.grupo99.executionservice.domain.model.MetricaConsumoPeca;
+import br.com.grupo99.executionservice.domain.model.UsoPeca;
+import br.com.grupo99.executionservice.infrastructure.analytics.TopPecasEmMemoria;
+import br.com.grupo99.executionservice.infrastructure.persistence.repository.UsoPecasJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopPecasReconstrucaoJob - Reconstrução do top de peças")
+class TopPecasReconstrucaoJobTest {
+
+    @Mock
+    private UsoPecasJdbcRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final TopPecasEmMemoria topPecas = new TopPecasEmMemoria(10, 7);
+
+    @Test
+    @DisplayName("substitui a janela pelos usos lidos do banco, em uma transação")
+    @SuppressWarnings("unchecked")
+    void reconstroiAPartirDoBanco() {
+        UUID filtro = UUID.randomUUID();
+        topPecas.registrar(uso(UUID.randomUUID(), 100));
+        when(repository.percorrer(eq(topPecas.inicioDaJanela()), any(Instant.class), any())).thenAnswer(invocacao -> {
+            invocacao.<Consumer<UsoPeca>>getArgument(2).accept(uso(filtro, 2));
+            return 1L;
+        });
+
+        new TopPecasReconstrucaoJob(topPecas, repository, transactionManager).reconstruir();
+
+        assertEquals(filtro, topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10).pecas().get(0).pecaId());
+        assertEquals(1, topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10).pecas().size());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("mantém a janela atual se a leitura falhar")
+    void mantemJanelaEmFalha() {
+        UUID filtro = UUID.randomUUID();
+        topPecas.registrar(uso(filtro, 1));
+        when(repository.percorrer(any(), any(), any())).thenThrow(new QueryTimeoutException("timeout"));
+        TopPecasReconstrucaoJob job = new TopPecasReconstrucaoJob(topPecas, repository, transactionManager);
+
+        assertThrows(QueryTimeoutException.class, job::reconstruir);
+
+        assertEquals(filtro, topPecas.topPecas(MetricaConsumoPeca.QUANTIDADE, 7, 10).pecas().get(0).pecaId());
+        assertThrows(IllegalStateException.class, () -> topPecas.reconstruir(uso(filtro, 1)));
+    }
+
+    private static UsoPeca uso(UUID pecaId, int quantidade) {
+        return UsoPeca.builder()
+                .pecaId(pecaId)
+                .quantidade(quantidade)
+                .valorTotal(BigDecimal.TEN)
+                .dataUso(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+    }
+}